@@ -72,6 +72,10 @@ public class ConfigurationKeys {
   public static final String STATE_STORE_ENABLED = "state.store.enabled";
   public static final String STATE_STORE_COMPRESSED_VALUES_KEY = "state.store.compressedValues";
   public static final boolean DEFAULT_STATE_STORE_COMPRESSED_VALUES = true;
+  // Codec for serialized state store values: none, gzip or compact. When unset, the codec is derived from
+  // state.store.compressedValues (gzip or none). Readers detect every codec, but binaries older than the compact
+  // codec cannot read values written with it, so only enable it once all readers are upgraded.
+  public static final String STATE_STORE_VALUE_CODEC_KEY = "state.store.valueCodec";
   // DB state store configuration
   public static final String STATE_STORE_DB_JDBC_DRIVER_KEY = "state.store.db.jdbc.driver";
   public static final String DEFAULT_STATE_STORE_DB_JDBC_DRIVER = "com.mysql.cj.jdbc.Driver";
@@ -236,12 +240,25 @@ public class ConfigurationKeys {
   /** Only applicable if {@link #PARALLELIZE_DATASET_COMMIT} is true. */
   public static final String DATASET_COMMIT_THREADS = "job.commit.parallelCommits";
   public static final int DEFAULT_DATASET_COMMIT_THREADS = 20;
+  /**
+   * Number of dataset states written to the dataset state store in one batch during job commit. With the default of 1,
+   * each dataset commit persists its own state; larger values hand the states off to background writers so that
+   * publishing the next datasets overlaps with persisting the previous ones.
+   */
+  public static final String DATASET_STATE_PERSIST_BATCH_SIZE = "job.commit.datasetStatePersistBatchSize";
+  public static final int DEFAULT_DATASET_STATE_PERSIST_BATCH_SIZE = 1;
+  /** Only applicable if {@link #DATASET_STATE_PERSIST_BATCH_SIZE} is greater than 1. */
+  public static final String DATASET_STATE_PERSIST_THREADS = "job.commit.datasetStatePersistThreads";
+  public static final int DEFAULT_DATASET_STATE_PERSIST_THREADS = 1;
 
   public static final String WORK_UNIT_RETRY_POLICY_KEY = "workunit.retry.policy";
   public static final String WORK_UNIT_RETRY_ENABLED_KEY = "workunit.retry.enabled";
   public static final String WORK_UNIT_CREATION_TIME_IN_MILLIS = "workunit.creation.time.in.millis";
   public static final String WORK_UNIT_CREATION_AND_RUN_INTERVAL = "workunit.creation.and.run.interval";
   public static final String WORK_UNIT_ENABLE_TRACKING_LOGS = "workunit.enableTrackingLogs";
+  /** Share properties with identical values across all work units of a job, see {@link StateUtils#shareCommonProperties} */
+  public static final String WORK_UNIT_SHARE_COMMON_PROPERTIES = "workunit.shareCommonProperties";
+  public static final boolean DEFAULT_WORK_UNIT_SHARE_COMMON_PROPERTIES = false;
 
   public static final String JOB_DEPENDENCIES = "job.dependencies";
   public static final String JOB_FORK_ON_CONCAT = "job.forkOnConcat";
@@ -439,6 +456,18 @@ public class ConfigurationKeys {
   public static final long DEFAULT_FORK_RECORD_QUEUE_TIMEOUT = 1000;
   public static final String FORK_RECORD_QUEUE_TIMEOUT_UNIT_KEY = "fork.record.queue.timeout.unit";
   public static final String DEFAULT_FORK_RECORD_QUEUE_TIMEOUT_UNIT = TimeUnit.MILLISECONDS.name();
+  // Either BLOCKING (lock based, supports any number of producers and consumers) or SPSC_RING_BUFFER (lock-free)
+  public static final String FORK_RECORD_QUEUE_TYPE_KEY = "fork.record.queue.type";
+  public static final String DEFAULT_FORK_RECORD_QUEUE_TYPE = "BLOCKING";
+  // Wait strategy of the SPSC_RING_BUFFER queue: SPIN, YIELD or PARK
+  public static final String FORK_RECORD_QUEUE_WAIT_STRATEGY_KEY = "fork.record.queue.waitStrategy";
+  public static final String DEFAULT_FORK_RECORD_QUEUE_WAIT_STRATEGY = "PARK";
+  // Queue statistics are only updated once every this many puts/gets
+  public static final String FORK_RECORD_QUEUE_STATS_SAMPLE_INTERVAL_KEY = "fork.record.queue.stats.sampleInterval";
+  public static final int DEFAULT_FORK_RECORD_QUEUE_STATS_SAMPLE_INTERVAL = 1;
+  // Maximum number of records a fork takes off its record queue at once
+  public static final String FORK_RECORD_QUEUE_MAX_DRAIN_SIZE_KEY = "fork.record.queue.maxDrainSize";
+  public static final int DEFAULT_FORK_RECORD_QUEUE_MAX_DRAIN_SIZE = 1;
   public static final String FORK_MAX_WAIT_MININUTES = "fork.max.wait.minutes";
   public static final long DEFAULT_FORK_MAX_WAIT_MININUTES = 60;
   public static final String FORK_FINISHED_CHECK_INTERVAL = "fork.finished.check.interval";
@@ -774,6 +803,11 @@ public class ConfigurationKeys {
    */
   public static final String TASK_STATE_COLLECTOR_INTERVAL_SECONDS = "task.state.collector.interval.secs";
   public static final int DEFAULT_TASK_STATE_COLLECTOR_INTERVAL_SECONDS = 60;
+  // Collect task states reported by tasks running in the same JVM as soon as they are persisted
+  public static final String TASK_STATE_COLLECTOR_PUSH_ENABLED = "task.state.collector.push.enabled";
+  public static final boolean DEFAULT_TASK_STATE_COLLECTOR_PUSH_ENABLED = false;
+  public static final String TASK_STATE_COLLECTOR_PUSH_CHECK_INTERVAL_MILLIS = "task.state.collector.push.checkIntervalMillis";
+  public static final long DEFAULT_TASK_STATE_COLLECTOR_PUSH_CHECK_INTERVAL_MILLIS = 1000;
   public static final String TASK_STATE_COLLECTOR_HANDLER_CLASS = "task.state.collector.handler.class";
   public static final String REPORT_JOB_PROGRESS = "report.job.progress";
   public static final boolean DEFAULT_REPORT_JOB_PROGRESS = false;
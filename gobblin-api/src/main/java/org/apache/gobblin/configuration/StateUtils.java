@@ -18,8 +18,12 @@
 package org.apache.gobblin.configuration;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
 
 import com.google.common.collect.Lists;
 
@@ -45,4 +49,47 @@ public class StateUtils {
     }
     return state;
   }
+
+  /**
+   * Moves the properties that have the same value in all of the given {@link State}s into a single {@link Properties}
+   * instance that becomes the common properties of every {@link State}, leaving only the differing properties as
+   * specific properties. Keys of the specific properties are interned since the same keys are typically repeated
+   * across all the {@link State}s.
+   *
+   * <p>
+   *   The properties visible through each {@link State} do not change. Since {@link State} never modifies its common
+   *   properties in place, the shared instance is safe to use for any number of {@link State}s. This is meant to
+   *   reduce the memory footprint of large numbers of {@link org.apache.gobblin.source.workunit.WorkUnit}s
+   *   carrying the same job-level properties.
+   * </p>
+   *
+   * @return the number of properties that are now shared
+   */
+  public static int shareCommonProperties(Collection<? extends State> states) {
+    if (states.size() < 2) {
+      return 0;
+    }
+
+    Iterator<? extends State> iterator = states.iterator();
+    Properties sharedProperties = iterator.next().getProperties();
+    while (iterator.hasNext() && !sharedProperties.isEmpty()) {
+      State state = iterator.next();
+      sharedProperties.entrySet().removeIf(
+          entry -> !Objects.equals(entry.getValue(), state.getProp((String) entry.getKey())));
+    }
+    if (sharedProperties.isEmpty()) {
+      return 0;
+    }
+
+    for (State state : states) {
+      Properties specProperties = new Properties();
+      for (String key : state.getPropertyNames()) {
+        if (!sharedProperties.containsKey(key)) {
+          specProperties.setProperty(key.intern(), state.getProp(key));
+        }
+      }
+      state.setProps(sharedProperties, specProperties);
+    }
+    return sharedProperties.size();
+  }
 }
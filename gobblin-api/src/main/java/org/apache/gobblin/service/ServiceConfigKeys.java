@@ -165,6 +165,16 @@ public class ServiceConfigKeys {
   public static final String NUM_DAG_PROC_THREADS_KEY = GOBBLIN_SERVICE_DAG_PROCESSING_ENGINE_PREFIX + "numThreads";
   public static final String DAG_PROC_ENGINE_NON_RETRYABLE_EXCEPTIONS_KEY = GOBBLIN_SERVICE_DAG_PROCESSING_ENGINE_PREFIX + "nonRetryableExceptions";
   public static final Integer DEFAULT_NUM_DAG_PROC_THREADS = 3;
+  // Number of per-flow shards dag tasks are processed on; 0 processes each task on the thread that leased it
+  public static final String DAG_PROC_ENGINE_NUM_SHARDS_KEY = GOBBLIN_SERVICE_DAG_PROCESSING_ENGINE_PREFIX + "numShards";
+  public static final Integer DEFAULT_DAG_PROC_ENGINE_NUM_SHARDS = 0;
+  // Leased dag tasks a shard may hold before the threads handing tasks to it stop leasing new ones
+  public static final String DAG_PROC_ENGINE_SHARD_QUEUE_CAPACITY_KEY = GOBBLIN_SERVICE_DAG_PROCESSING_ENGINE_PREFIX + "shardQueueCapacity";
+  public static final Integer DEFAULT_DAG_PROC_ENGINE_SHARD_QUEUE_CAPACITY = 8;
+  // Maximum number of queued dag actions to attempt the leases of at once; leases obtained in a batch start lingering
+  // right away, so it should stay small relative to how fast the leased dag tasks get processed
+  public static final String DAG_PROC_ENGINE_LEASE_BATCH_SIZE_KEY = GOBBLIN_SERVICE_DAG_PROCESSING_ENGINE_PREFIX + "leaseBatchSize";
+  public static final Integer DEFAULT_DAG_PROC_ENGINE_LEASE_BATCH_SIZE = 1;
   public static final String NUM_SPEC_CATALOG_LISTENER_THREADS_KEY = GOBBLIN_SERVICE_PREFIX + "specCatalogListener.numThreads";
   public static final int DEFAULT_NUM_SPEC_CATALOG_LISTENER_THREADS = 3;
   public static final long DEFAULT_FLOW_FINISH_DEADLINE_MILLIS = TimeUnit.HOURS.toMillis(24);
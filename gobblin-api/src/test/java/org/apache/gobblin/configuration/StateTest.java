@@ -16,6 +16,8 @@
  */
 package org.apache.gobblin.configuration;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -24,6 +26,8 @@ import org.apache.commons.lang.exception.ExceptionUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import com.google.common.collect.Sets;
+
 public class StateTest {
   private LinkedBlockingQueue<Throwable> exceptions = new LinkedBlockingQueue<>();
 
@@ -93,4 +97,33 @@ public class StateTest {
     state.removePropsWithPrefix(prefix);
     Assert.assertTrue(state.getPropertyNames().size() == 0);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testShareCommonProperties() {
+    List<State> states = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      State state = new State();
+      state.setProp("job.name", "testJob");
+      state.setProp("dataset", "dataset" + i);
+      states.add(state);
+    }
+    states.get(2).setProp("extra", "value");
+
+    Assert.assertEquals(StateUtils.shareCommonProperties(states), 1);
+    for (int i = 0; i < 3; i++) {
+      State state = states.get(i);
+      Assert.assertSame(state.getCommonProperties(), states.get(0).getCommonProperties());
+      Assert.assertEquals(state.getProp("job.name"), "testJob");
+      Assert.assertEquals(state.getProp("dataset"), "dataset" + i);
+      Assert.assertFalse(state.getSpecProperties().containsKey("job.name"));
+    }
+    Assert.assertEquals(states.get(2).getPropertyNames(), Sets.newHashSet("job.name", "dataset", "extra"));
+
+    // Changing a shared property only affects the state it is changed on
+    states.get(0).setProp("job.name", "otherJob");
+    states.get(1).removeProp("job.name");
+    Assert.assertEquals(states.get(0).getProp("job.name"), "otherJob");
+    Assert.assertFalse(states.get(1).contains("job.name"));
+    Assert.assertEquals(states.get(2).getProp("job.name"), "testJob");
+  }
+}
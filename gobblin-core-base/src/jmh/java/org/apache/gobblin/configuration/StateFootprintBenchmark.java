@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.gobblin.source.workunit.WorkUnit;
+
+
+/**
+ * Compares the plain {@link WorkUnit} layout, where each work unit holds its own copy of the job-level properties,
+ * with the layout produced by {@link StateUtils#shareCommonProperties}.
+ *
+ * <p>
+ *   Besides the time to build (and optionally compact) the work units, the retained heap of each layout is logged
+ *   at the end of every iteration. Run with {@code -prof gc} to also compare allocation rates.
+ * </p>
+ */
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@org.openjdk.jmh.annotations.Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@BenchmarkMode(value = Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StateFootprintBenchmark {
+
+  private static final Logger LOG = LoggerFactory.getLogger(StateFootprintBenchmark.class);
+
+  @State(value = Scope.Thread)
+  public static class WorkUnitsState {
+    @Param({"100000"})
+    public int numWorkUnits;
+
+    @Param({"200"})
+    public int numJobProperties;
+
+    @Param({"false", "true"})
+    public boolean shareCommonProperties;
+
+    private List<WorkUnit> workUnits;
+    private long usedHeapBeforeIteration;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+      this.workUnits = null;
+      this.usedHeapBeforeIteration = usedHeap();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+      long retainedBytes = usedHeap() - this.usedHeapBeforeIteration;
+      LOG.info("shareCommonProperties={}: {} work units retain {} MB", this.shareCommonProperties,
+          this.workUnits.size(), retainedBytes >> 20);
+      this.workUnits = null;
+    }
+
+    private static long usedHeap() {
+      for (int i = 0; i < 3; i++) {
+        System.gc();
+      }
+      Runtime runtime = Runtime.getRuntime();
+      return runtime.totalMemory() - runtime.freeMemory();
+    }
+  }
+
+  @Benchmark
+  public void buildWorkUnits(WorkUnitsState state, Blackhole blackhole) {
+    List<WorkUnit> workUnits = new ArrayList<>(state.numWorkUnits);
+    for (int i = 0; i < state.numWorkUnits; i++) {
+      WorkUnit workUnit = WorkUnit.createEmpty();
+      for (int j = 0; j < state.numJobProperties; j++) {
+        // Keys and values built at runtime, as they are when copied from job configuration
+        workUnit.setProp("job.property." + j, "job.value." + j);
+      }
+      workUnit.setProp("workunit.file", "/data/dataset/file-" + i);
+      workUnit.setProp("workunit.size", i);
+      workUnits.add(workUnit);
+    }
+    if (state.shareCommonProperties) {
+      blackhole.consume(StateUtils.shareCommonProperties(workUnits));
+    }
+    state.workUnits = workUnits;
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.configuration;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.gobblin.util.io.StateCodec;
+
+
+/**
+ * Encode/decode throughput of {@link org.apache.gobblin.configuration.State}s the way state stores write them, with
+ * each {@link StateCodec} (the legacy uncompressed and gzip formats versus {@link StateCodec#COMPACT}), and with and
+ * without a buffer between the (de)serializer and the underlying stream.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@org.openjdk.jmh.annotations.Fork(value = 1)
+@BenchmarkMode(value = Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StateSerializationBenchmark {
+
+  @State(value = Scope.Thread)
+  public static class SerializedState {
+    @Param({"300"})
+    public int numProperties;
+
+    @Param({"NONE", "GZIP", "COMPACT"})
+    public StateCodec codec;
+
+    @Param({"false", "true"})
+    public boolean buffered;
+
+    private WorkUnitState state;
+    private byte[] serialized;
+
+    @Setup
+    public void setup() throws IOException {
+      this.state = new WorkUnitState();
+      for (int i = 0; i < this.numProperties; i++) {
+        this.state.setProp("task.property.key." + i, "/data/tracking/SomeEvent/hourly/2024/01/01/00/part-" + i + ".avro");
+      }
+      this.serialized = new StateSerializationBenchmark().encode(this);
+    }
+  }
+
+  @Benchmark
+  public byte[] encode(SerializedState serializedState) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    OutputStream os = serializedState.codec.encode(bytes);
+    if (serializedState.buffered) {
+      os = new BufferedOutputStream(os, 64 * 1024);
+    }
+    try (DataOutputStream dataOutput = new DataOutputStream(os)) {
+      serializedState.state.write(dataOutput);
+    }
+    return bytes.toByteArray();
+  }
+
+  @Benchmark
+  public WorkUnitState decode(SerializedState serializedState) throws IOException {
+    InputStream is = StateCodec.decode(new ByteArrayInputStream(serializedState.serialized));
+    if (serializedState.buffered) {
+      is = new BufferedInputStream(is, 64 * 1024);
+    }
+    WorkUnitState state = new WorkUnitState();
+    try (DataInputStream dataInput = new DataInputStream(is)) {
+      state.readFields(dataInput);
+    }
+    return state;
+  }
+}
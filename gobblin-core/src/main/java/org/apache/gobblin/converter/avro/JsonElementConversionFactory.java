@@ -17,6 +17,7 @@
 
 package org.apache.gobblin.converter.avro;
 
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -31,7 +32,6 @@ import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.util.Utf8;
 import org.apache.gobblin.configuration.ConfigurationKeys;
-import org.apache.gobblin.configuration.State;
 import org.apache.gobblin.configuration.WorkUnitState;
 import org.apache.gobblin.converter.EmptyIterable;
 import org.apache.gobblin.converter.json.JsonSchema;
@@ -43,7 +43,13 @@ import org.slf4j.LoggerFactory;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.internal.LazilyParsedNumber;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 
 import lombok.extern.java.Log;
@@ -216,6 +222,8 @@ public class JsonElementConversionFactory {
    *
    */
   public static abstract class JsonElementConverter {
+    private static final JsonParser JSON_PARSER = new JsonParser();
+
     private final JsonSchema jsonSchema;
 
     public JsonElementConverter(JsonSchema jsonSchema) {
@@ -287,6 +295,57 @@ public class JsonElementConversionFactory {
      */
     abstract Object convertField(JsonElement value);
 
+    /**
+     * Convert the next value of a {@link JsonReader}, consuming it. Only the value itself is materialized: primitives are
+     * read straight into a {@link JsonPrimitive}, and complex converters that support streaming read their children
+     * one at a time, so conversion follows the same rules as {@link #convert(JsonElement)}.
+     * @param reader positioned before the value to convert
+     * @return Avro safe type
+     */
+    public Object convert(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return convert(JsonNull.INSTANCE);
+      }
+      return convertField(reader);
+    }
+
+    /**
+     * Convert the next (non-null) value of a {@link JsonReader} to Avro type. Objects and arrays are parsed into a
+     * {@link JsonElement} unless a subclass can stream them.
+     */
+    Object convertField(JsonReader reader) throws IOException {
+      switch (reader.peek()) {
+        case STRING:
+          return convertField(new JsonPrimitive(reader.nextString()));
+        case NUMBER:
+          // Same lazy representation Gson uses when parsing a number into a JsonElement
+          return convertField(new JsonPrimitive(new LazilyParsedNumber(reader.nextString())));
+        case BOOLEAN:
+          return convertField(new JsonPrimitive(reader.nextBoolean()));
+        default:
+          return convertField(JSON_PARSER.parse(reader));
+      }
+    }
+
+    /**
+     * Skip the remaining values of the array or object <code>reader</code> is in, and its end, so that a value whose
+     * conversion failed midway is still consumed and the enclosing converter resumes at its next sibling.
+     */
+    static void skipRemaining(JsonReader reader, boolean inObject) throws IOException {
+      while (reader.hasNext()) {
+        if (inObject) {
+          reader.nextName();
+        }
+        reader.skipValue();
+      }
+      if (inObject) {
+        reader.endObject();
+      } else {
+        reader.endArray();
+      }
+    }
+
     /**
      * Avro data type after conversion
      * @return
@@ -417,40 +476,31 @@ public class JsonElementConversionFactory {
   }
 
   public static class DateConverter extends JsonElementConverter {
-    private String inputPatterns;
-    private DateTimeZone timeZone;
-    private WorkUnitState state;
+    private final List<DateTimeFormatter> formatters = new ArrayList<>();
+    private final boolean epochTimeInSeconds;
 
     public DateConverter(JsonSchema schema, String pattern, DateTimeZone zone, WorkUnitState state) {
       super(schema);
-      this.inputPatterns = pattern;
-      this.timeZone = zone;
-      this.state = state;
+      // Formatters are immutable and thread-safe, so build them once rather than for every value
+      for (String inputPattern : pattern.split(",")) {
+        this.formatters.add(DateTimeFormat.forPattern(inputPattern).withZone(zone));
+      }
+      this.epochTimeInSeconds = Boolean.valueOf(state.getProp(ConfigurationKeys.CONVERTER_IS_EPOCH_TIME_IN_SECONDS));
     }
 
     @Override
     Object convertField(JsonElement value) {
-      List<String> patterns = Arrays.asList(this.inputPatterns.split(","));
-      int patternFailCount = 0;
-      Object formattedDate = null;
-      for (String pattern : patterns) {
-        DateTimeFormatter dtf = DateTimeFormat.forPattern(pattern).withZone(this.timeZone);
+      String dateString = value.getAsString();
+      for (DateTimeFormatter dtf : this.formatters) {
+        long millis;
         try {
-          formattedDate = dtf.parseDateTime(value.getAsString()).withZone(DateTimeZone.forID("UTC")).getMillis();
-          if (Boolean.valueOf(this.state.getProp(ConfigurationKeys.CONVERTER_IS_EPOCH_TIME_IN_SECONDS))) {
-            formattedDate = (Long) formattedDate / 1000;
-          }
-          break;
+          millis = dtf.parseMillis(dateString);
         } catch (Exception e) {
-          patternFailCount++;
+          continue;
         }
+        return this.epochTimeInSeconds ? millis / 1000 : millis;
       }
-
-      if (patternFailCount == patterns.size()) {
-        throw new RuntimeException("Failed to parse the date");
-      }
-
-      return formattedDate;
+      throw new RuntimeException("Failed to parse the date");
     }
 
     @Override
@@ -515,6 +565,7 @@ public class JsonElementConversionFactory {
   }
 
   public static class ArrayConverter extends ComplexConverter {
+    private Schema arraySchema;
 
     public ArrayConverter(JsonSchema schema, WorkUnitState state, String namespace)
         throws UnsupportedDateTypeException {
@@ -536,10 +587,34 @@ public class JsonElementConversionFactory {
       return new GenericData.Array<>(arraySchema(), list);
     }
 
+    @Override
+    Object convertField(JsonReader reader) throws IOException {
+      if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+        return super.convertField(reader);
+      }
+      List<Object> list = new ArrayList<>();
+
+      reader.beginArray();
+      try {
+        while (reader.hasNext()) {
+          list.add(getElementConverter().convert(reader));
+        }
+      } catch (RuntimeException e) {
+        skipRemaining(reader, false);
+        throw e;
+      }
+      reader.endArray();
+
+      return new GenericData.Array<>(arraySchema(), list);
+    }
+
     private Schema arraySchema() {
-      Schema schema = Schema.createArray(getElementConverter().schema());
-      schema.addProp(SOURCE_TYPE, ARRAY.toString().toLowerCase());
-      return schema;
+      if (this.arraySchema == null) {
+        Schema schema = Schema.createArray(getElementConverter().schema());
+        schema.addProp(SOURCE_TYPE, ARRAY.toString().toLowerCase());
+        this.arraySchema = schema;
+      }
+      return this.arraySchema;
     }
 
     @Override
@@ -572,6 +647,28 @@ public class JsonElementConversionFactory {
       return map;
     }
 
+    @Override
+    Object convertField(JsonReader reader) throws IOException {
+      if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+        return super.convertField(reader);
+      }
+      Map<String, Object> map = new HashMap<>();
+
+      reader.beginObject();
+      try {
+        while (reader.hasNext()) {
+          String key = reader.nextName();
+          map.put(key, getElementConverter().convert(reader));
+        }
+      } catch (RuntimeException e) {
+        skipRemaining(reader, true);
+        throw e;
+      }
+      reader.endObject();
+
+      return map;
+    }
+
     @Override
     public org.apache.avro.Schema.Type getTargetType() {
       return Schema.Type.MAP;
@@ -591,12 +688,13 @@ public class JsonElementConversionFactory {
     private HashMap<String, JsonElementConverter> converters = new HashMap<>();
     private Schema _schema;
     private long numFailedConversion = 0;
-    private State workUnit;
+    private final long maxFailedConversions;
 
     public RecordConverter(JsonSchema schema, WorkUnitState state, String namespace)
         throws UnsupportedDateTypeException {
       super(schema);
-      workUnit = state;
+      this.maxFailedConversions = state.getPropAsLong(ConfigurationKeys.CONVERTER_AVRO_MAX_CONVERSION_FAILURES,
+          ConfigurationKeys.DEFAULT_CONVERTER_AVRO_MAX_CONVERSION_FAILURES);
       String name = schema.isRoot() ? schema.getColumnName() : schema.getName();
       _schema = buildRecordSchema(schema.getValuesWithinDataType(), state, name, namespace);
     }
@@ -634,14 +732,12 @@ public class JsonElementConversionFactory {
     @Override
     Object convertField(JsonElement value) {
       GenericRecord avroRecord = new GenericData.Record(_schema);
-      long maxFailedConversions = this.workUnit.getPropAsLong(ConfigurationKeys.CONVERTER_AVRO_MAX_CONVERSION_FAILURES,
-          ConfigurationKeys.DEFAULT_CONVERTER_AVRO_MAX_CONVERSION_FAILURES);
       for (Map.Entry<String, JsonElement> entry : ((JsonObject) value).entrySet()) {
         try {
           avroRecord.put(entry.getKey(), this.converters.get(entry.getKey()).convert(entry.getValue()));
         } catch (Exception e) {
           this.numFailedConversion++;
-          if (this.numFailedConversion < maxFailedConversions) {
+          if (this.numFailedConversion < this.maxFailedConversions) {
             LOG.error("Dropping record " + value + " because it cannot be converted to Avro", e);
             return new EmptyIterable<>();
           }
@@ -653,6 +749,45 @@ public class JsonElementConversionFactory {
       return avroRecord;
     }
 
+    /**
+     * Streaming counterpart of {@link #convertField(JsonElement)}. Unlike it, fields that are not in the schema are skipped
+     * rather than failing the record, as {@link org.apache.gobblin.converter.json.JsonStringToJsonIntermediateConverter}
+     * drops them before {@link JsonIntermediateToAvroConverter} sees the record. Since the record is never materialized,
+     * failures are reported with the field name only.
+     */
+    @Override
+    Object convertField(JsonReader reader) throws IOException {
+      if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+        return super.convertField(reader);
+      }
+      GenericRecord avroRecord = new GenericData.Record(_schema);
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String fieldName = reader.nextName();
+        JsonElementConverter converter = this.converters.get(fieldName);
+        if (converter == null) {
+          reader.skipValue();
+          continue;
+        }
+        try {
+          avroRecord.put(fieldName, converter.convert(reader));
+        } catch (Exception e) {
+          // Consume the rest of this object, or an enclosing record would read its remaining fields as its own
+          skipRemaining(reader, true);
+          this.numFailedConversion++;
+          if (this.numFailedConversion < this.maxFailedConversions) {
+            LOG.error("Dropping record of schema " + _schema.getFullName() + " because field " + fieldName
+                + " cannot be converted to Avro", e);
+            return new EmptyIterable<>();
+          }
+          throw new RuntimeException(
+              "Unable to convert field:" + fieldName + " for record of schema " + _schema.getFullName(), e);
+        }
+      }
+      reader.endObject();
+      return avroRecord;
+    }
+
     @Override
     public org.apache.avro.Schema.Type getTargetType() {
       return Schema.Type.RECORD;
@@ -82,7 +82,7 @@ public class JsonIntermediateToAvroConverter extends ToAvroConverterBase<JsonArr
     if (record instanceof EmptyIterable) {
       return (EmptyIterable<GenericRecord>) record;
     }
-    return new SingleRecordIterable<>((GenericRecord) recordConverter.convert(inputRecord));
+    return new SingleRecordIterable<>((GenericRecord) record);
   }
 
   /**
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.gobblin.converter.avro;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.gobblin.configuration.WorkUnitState;
+import org.apache.gobblin.converter.DataConversionException;
+import org.apache.gobblin.converter.SchemaConversionException;
+import org.apache.gobblin.converter.SingleRecordIterable;
+import org.apache.gobblin.converter.ToAvroConverterBase;
+import org.apache.gobblin.converter.avro.JsonElementConversionFactory.RecordConverter;
+import org.apache.gobblin.converter.json.JsonSchema;
+import org.apache.gobblin.util.EmptyIterable;
+
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+
+
+/**
+ * Converts json strings straight to avro, in place of a {@link org.apache.gobblin.converter.json.JsonStringToJsonIntermediateConverter}
+ * followed by a {@link JsonIntermediateToAvroConverter}.
+ *
+ * <p>
+ *   The input schema is the same JSON array as {@link org.apache.gobblin.converter.json.JsonStringToJsonIntermediateConverter}
+ *   takes, and values are converted by the same {@link JsonElementConversionFactory} converters. Records are however read
+ *   from a {@link JsonReader} token stream rather than parsed into a {@link com.google.gson.JsonObject} first, so only
+ *   union values, which may need to be converted twice, are materialized. Fields that are not in the schema are skipped,
+ *   and fields missing from a record are left unset.
+ * </p>
+ */
+public class JsonStringToAvroConverter extends ToAvroConverterBase<String, String> {
+
+  private RecordConverter recordConverter;
+
+  @Override
+  public Schema convertSchema(String inputSchema, WorkUnitState workUnit)
+      throws SchemaConversionException {
+    try {
+      JsonSchema jsonSchema = new JsonSchema(new JsonParser().parse(inputSchema).getAsJsonArray());
+      jsonSchema.setColumnName(workUnit.getExtract().getTable());
+      this.recordConverter = new RecordConverter(jsonSchema, workUnit, workUnit.getExtract().getNamespace());
+    } catch (UnsupportedDateTypeException e) {
+      throw new SchemaConversionException(e);
+    }
+    return this.recordConverter.schema();
+  }
+
+  @Override
+  public Iterable<GenericRecord> convertRecord(Schema outputSchema, String inputRecord, WorkUnitState workUnit)
+      throws DataConversionException {
+    Object record;
+    try (JsonReader reader = new JsonReader(new StringReader(inputRecord))) {
+      // JsonParser, which this replaces, parses leniently
+      reader.setLenient(true);
+      record = this.recordConverter.convert(reader);
+    } catch (IOException e) {
+      throw new DataConversionException("Unable to parse record " + inputRecord, e);
+    }
+    if (record instanceof EmptyIterable) {
+      return (EmptyIterable<GenericRecord>) record;
+    }
+    return new SingleRecordIterable<>((GenericRecord) record);
+  }
+}
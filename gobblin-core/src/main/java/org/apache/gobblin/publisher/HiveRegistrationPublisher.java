@@ -20,6 +20,7 @@ package org.apache.gobblin.publisher;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletionService;
@@ -34,6 +35,7 @@ import org.apache.hadoop.fs.Path;
 import com.codahale.metrics.Timer;
 import com.google.common.base.Optional;
 import com.google.common.base.Splitter;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.google.common.io.Closer;
 
@@ -192,17 +194,28 @@ public class HiveRegistrationPublisher extends DataPublisher {
         new ExecutorCompletionService<>(this.hivePolicyExecutor);
 
     int toRegisterPathCount = computeSpecs(states, completionService);
+    // A batching HiveRegister gets all the specs at once so that it can batch the partitions of a table, otherwise
+    // each spec is registered as soon as it is computed
+    boolean batchRegistrations = this.hiveRegister.isBatchingRegistrations();
+    List<HiveSpec> specsToRegister = Lists.newArrayList();
     for (int i = 0; i < toRegisterPathCount; i++) {
       try {
         for (HiveSpec spec : completionService.take().get()) {
           allRegisteredPartitions.add(spec);
-          this.hiveRegister.register(spec);
+          if (batchRegistrations) {
+            specsToRegister.add(spec);
+          } else {
+            this.hiveRegister.register(spec);
+          }
         }
       } catch (InterruptedException | ExecutionException e) {
         log.info("Failed to generate HiveSpec", e);
         throw new IOException(e);
       }
     }
+    if (batchRegistrations) {
+      this.hiveRegister.register(specsToRegister);
+    }
     log.info("Finished registering all HiveSpecs");
   }
 
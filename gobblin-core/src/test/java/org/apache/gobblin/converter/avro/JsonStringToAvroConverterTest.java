@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.gobblin.converter.avro;
+
+import java.io.InputStreamReader;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.gobblin.configuration.ConfigurationKeys;
+import org.apache.gobblin.configuration.SourceState;
+import org.apache.gobblin.configuration.WorkUnitState;
+import org.apache.gobblin.source.workunit.Extract;
+import org.apache.gobblin.source.workunit.WorkUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+
+/**
+ * Unit test for {@link JsonStringToAvroConverter}, checking it converts records the same way as
+ * {@link JsonIntermediateToAvroConverter}.
+ */
+@Test(groups = {"gobblin.converter"})
+public class JsonStringToAvroConverterTest {
+
+  private WorkUnitState createState() {
+    WorkUnit workUnit = new WorkUnit(new SourceState(),
+        new Extract(new SourceState(), Extract.TableType.SNAPSHOT_ONLY, "namespace", "dummy_table"));
+    WorkUnitState state = new WorkUnitState(workUnit);
+    state.setProp(ConfigurationKeys.CONVERTER_AVRO_TIME_FORMAT, "HH:mm:ss");
+    state.setProp(ConfigurationKeys.CONVERTER_AVRO_DATE_TIMEZONE, "PST");
+    return state;
+  }
+
+  private void assertSameAsIntermediateConverter(String resourceFilePath)
+      throws Exception {
+    JsonObject testData = new JsonParser().parse(
+        new InputStreamReader(this.getClass().getResourceAsStream(resourceFilePath))).getAsJsonObject();
+    JsonObject jsonRecord = testData.get("record").getAsJsonObject();
+
+    WorkUnitState state = createState();
+    JsonIntermediateToAvroConverter intermediateConverter = new JsonIntermediateToAvroConverter();
+    Schema expectedSchema = intermediateConverter.convertSchema(testData.get("schema").getAsJsonArray(), state);
+    GenericRecord expectedRecord =
+        intermediateConverter.convertRecord(expectedSchema, jsonRecord, state).iterator().next();
+
+    JsonStringToAvroConverter converter = new JsonStringToAvroConverter();
+    Schema avroSchema = converter.convertSchema(testData.get("schema").toString(), state);
+    GenericRecord record = converter.convertRecord(avroSchema, jsonRecord.toString(), state).iterator().next();
+
+    Assert.assertEquals(avroSchema, expectedSchema);
+    Assert.assertEquals(record.toString(), expectedRecord.toString());
+  }
+
+  @Test
+  public void testComplexSchemas()
+      throws Exception {
+    assertSameAsIntermediateConverter("/converter/complex1.json");
+    assertSameAsIntermediateConverter("/converter/complex2.json");
+    assertSameAsIntermediateConverter("/converter/complex3.json");
+  }
+
+  @Test
+  public void testUnknownFieldsAreSkipped()
+      throws Exception {
+    String schema = "[{\"columnName\":\"id\",\"dataType\":{\"type\":\"long\"}},"
+        + "{\"columnName\":\"tags\",\"dataType\":{\"type\":\"array\",\"items\":\"string\"}}]";
+    WorkUnitState state = createState();
+    JsonStringToAvroConverter converter = new JsonStringToAvroConverter();
+    Schema avroSchema = converter.convertSchema(schema, state);
+
+    GenericRecord record = converter.convertRecord(avroSchema,
+        "{\"id\":\"42\",\"extra\":{\"nested\":[1,2,3]},\"tags\":[\"a\",\"b\"]}", state).iterator().next();
+
+    Assert.assertEquals(record.get("id"), 42L);
+    Assert.assertEquals(record.get("tags").toString(), "[a, b]");
+  }
+
+  @Test
+  public void testRecordDroppedOnConversionFailure()
+      throws Exception {
+    String schema = "[{\"columnName\":\"id\",\"dataType\":{\"type\":\"long\"}}]";
+    WorkUnitState state = createState();
+    state.setProp(ConfigurationKeys.CONVERTER_AVRO_MAX_CONVERSION_FAILURES, 5);
+    JsonStringToAvroConverter converter = new JsonStringToAvroConverter();
+    Schema avroSchema = converter.convertSchema(schema, state);
+
+    Assert.assertFalse(converter.convertRecord(avroSchema, "{\"id\":\"not a number\"}", state).iterator().hasNext());
+  }
+
+  @Test
+  public void testFailedNestedRecordDoesNotLeakFieldsIntoOuterRecord()
+      throws Exception {
+    String schema = "[{\"columnName\":\"nested\",\"dataType\":{\"type\":\"record\",\"values\":["
+        + "{\"columnName\":\"id\",\"dataType\":{\"type\":\"long\"}},"
+        + "{\"columnName\":\"name\",\"dataType\":{\"type\":\"string\"}}]}},"
+        + "{\"columnName\":\"id\",\"dataType\":{\"type\":\"long\"}},"
+        + "{\"columnName\":\"name\",\"dataType\":{\"type\":\"string\"}}]";
+    WorkUnitState state = createState();
+    state.setProp(ConfigurationKeys.CONVERTER_AVRO_MAX_CONVERSION_FAILURES, 5);
+    JsonStringToAvroConverter converter = new JsonStringToAvroConverter();
+    Schema avroSchema = converter.convertSchema(schema, state);
+
+    GenericRecord record = converter.convertRecord(avroSchema,
+        "{\"nested\":{\"id\":\"not a number\",\"name\":\"inner\",\"extra\":[1,2]},\"id\":\"7\",\"name\":\"outer\"}",
+        state).iterator().next();
+
+    Assert.assertEquals(record.get("id"), 7L);
+    Assert.assertEquals(record.get("name").toString(), "outer");
+  }
+
+  @Test
+  public void testRecordsAreParsedLeniently()
+      throws Exception {
+    String schema = "[{\"columnName\":\"id\",\"dataType\":{\"type\":\"long\"}},"
+        + "{\"columnName\":\"score\",\"dataType\":{\"type\":\"double\"}}]";
+    WorkUnitState state = createState();
+    JsonStringToAvroConverter converter = new JsonStringToAvroConverter();
+    Schema avroSchema = converter.convertSchema(schema, state);
+
+    GenericRecord record = converter.convertRecord(avroSchema, "{id: 42, 'score': NaN}", state).iterator().next();
+
+    Assert.assertEquals(record.get("id"), 42L);
+    Assert.assertTrue(Double.isNaN((Double) record.get("score")));
+  }
+}
@@ -62,6 +62,15 @@ public class CopyConfiguration {
    */
   public static final String INCLUDE_EMPTY_DIRECTORIES = COPY_PREFIX + ".includeEmptyDirectories";
   public static final String APPLY_FILTER_TO_DIRECTORIES = COPY_PREFIX + ".applyFilterToDirectories";
+  /**
+   * Number of threads listing the directories of a dataset, 1 lists them sequentially
+   */
+  public static final String LISTING_PARALLELISM = COPY_PREFIX + ".listing.parallelism";
+  public static final int DEFAULT_LISTING_PARALLELISM = 1;
+  /**
+   * List all files of a dataset with a single recursive listing when empty directories and directory filters are not used
+   */
+  public static final String LISTING_USE_RECURSIVE_LISTING = COPY_PREFIX + ".listing.useRecursiveListing";
 
   public static final String ENFORCE_FILE_LENGTH_MATCH = COPY_PREFIX + "enforce.fileLength.match";
   public static final String DEFAULT_ENFORCE_FILE_LENGTH_MATCH = "true";
@@ -70,6 +79,14 @@ public class CopyConfiguration {
 
   public static final String BINPACKING_MAX_PER_BUCKET_PREFIX = COPY_PREFIX + ".binPacking.maxPerBucket";
   public static final String BUFFER_SIZE = COPY_PREFIX + ".bufferSize";
+  /**
+   * {@link org.apache.gobblin.util.io.StreamCopier.CopyStrategy} used to copy files, and the size up to which
+   * {@link org.apache.gobblin.util.io.StreamCopier.CopyStrategy#HIGH_THROUGHPUT} may grow the copy buffers. The data
+   * writer copies from throttled Hadoop file system streams, so it always uses the double buffered copy: the
+   * {@link java.nio.channels.FileChannel#transferTo} path only applies to local file streams given to the copier.
+   */
+  public static final String COPIER_STRATEGY = COPY_PREFIX + ".copierStrategy";
+  public static final String MAX_BUFFER_SIZE = COPY_PREFIX + ".maxBufferSize";
 
   public static final String ABORT_ON_SINGLE_DATASET_FAILURE = COPY_PREFIX + ".abortOnSingleDatasetFailure";
 
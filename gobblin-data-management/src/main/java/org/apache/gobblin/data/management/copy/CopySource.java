@@ -21,13 +21,17 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
@@ -35,6 +39,7 @@ import org.apache.hadoop.fs.FileSystem;
 import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.base.Predicates;
+import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -42,6 +47,7 @@ import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimaps;
 import com.google.common.collect.SetMultimap;
+import com.google.common.util.concurrent.Uninterruptibles;
 
 import javax.annotation.Nullable;
 import lombok.AllArgsConstructor;
@@ -77,11 +83,14 @@ import org.apache.gobblin.metrics.Tag;
 import org.apache.gobblin.metrics.event.EventSubmitter;
 import org.apache.gobblin.metrics.event.lineage.LineageInfo;
 import org.apache.gobblin.metrics.event.sla.SlaEventKeys;
+import org.apache.gobblin.source.WorkUnitStreamSource;
 import org.apache.gobblin.source.extractor.Extractor;
 import org.apache.gobblin.source.extractor.WatermarkInterval;
 import org.apache.gobblin.source.extractor.extract.AbstractSource;
+import org.apache.gobblin.source.workunit.BasicWorkUnitStream;
 import org.apache.gobblin.source.workunit.Extract;
 import org.apache.gobblin.source.workunit.WorkUnit;
+import org.apache.gobblin.source.workunit.WorkUnitStream;
 import org.apache.gobblin.source.workunit.WorkUnitWeighter;
 import org.apache.gobblin.util.ClassAliasResolver;
 import org.apache.gobblin.util.ExecutorsUtils;
@@ -108,7 +117,8 @@ import org.apache.gobblin.service.ServiceConfigKeys;
  *
  */
 @Slf4j
-public class CopySource extends AbstractSource<String, FileAwareInputStream> {
+public class CopySource extends AbstractSource<String, FileAwareInputStream>
+    implements WorkUnitStreamSource<String, FileAwareInputStream> {
 
   public static final String DEFAULT_DATASET_PROFILE_CLASS_KEY = CopyableGlobDatasetFinder.class.getCanonicalName();
   public static final String SERIALIZED_COPYABLE_FILE = CopyConfiguration.COPY_PREFIX + ".serialized.copyable.file";
@@ -132,6 +142,14 @@ public class CopySource extends AbstractSource<String, FileAwareInputStream> {
   public static final String FILESET_NAME = "fileset.name";
   public static final String FILESET_TOTAL_ENTITIES = "fileset.total.entities";
   public static final String FILESET_TOTAL_SIZE_IN_BYTES = "fileset.total.size";
+  /**
+   * Stream work units from {@link #getWorkunitStream(SourceState)} as they are generated instead of materializing them
+   */
+  public static final String STREAM_WORK_UNITS = CopyConfiguration.COPY_PREFIX + ".streamWorkUnits";
+  public static final boolean DEFAULT_STREAM_WORK_UNITS = false;
+  public static final String STREAM_WORK_UNITS_MAX_BUFFERED_FILE_SETS =
+      CopyConfiguration.COPY_PREFIX + ".streamWorkUnits.maxBufferedFileSets";
+  public static final int DEFAULT_STREAM_WORK_UNITS_MAX_BUFFERED_FILE_SETS = 20;
   public static final String SCHEMA_CHECK_ENABLED = "shcema.check.enabled";
   public final static boolean DEFAULT_SCHEMA_CHECK_ENABLED = false;
 
@@ -167,74 +185,23 @@ public class CopySource extends AbstractSource<String, FileAwareInputStream> {
     this.lineageInfo = LineageInfo.getLineageInfo(state.getBroker());
 
     try {
-
-      DeprecationUtils
-          .renameDeprecatedKeys(state, CopyConfiguration.MAX_COPY_PREFIX + "." + CopyResourcePool.ENTITIES_KEY,
-              Lists.newArrayList(MAX_FILES_COPIED_KEY));
-
-      final FileSystem sourceFs = HadoopUtils.getSourceFileSystem(state);
-      final FileSystem targetFs = HadoopUtils.getWriterFileSystem(state, 1, 0);
-      state.setProp(SlaEventKeys.SOURCE_URI, sourceFs.getUri());
-      state.setProp(SlaEventKeys.DESTINATION_URI, targetFs.getUri());
-
-      log.info("Identified source file system at {} and target file system at {}.", sourceFs.getUri(),
-          targetFs.getUri());
-
-      long maxSizePerBin = state.getPropAsLong(MAX_SIZE_MULTI_WORKUNITS, 0);
-      long maxWorkUnitsPerMultiWorkUnit = state.getPropAsLong(MAX_WORK_UNITS_PER_BIN, 50);
-      final long minWorkUnitWeight = Math.max(1, maxSizePerBin / maxWorkUnitsPerMultiWorkUnit);
-      final Optional<CopyableFileWatermarkGenerator> watermarkGenerator =
-          CopyableFileWatermarkHelper.getCopyableFileWatermarkGenerator(state);
-      int maxThreads = state.getPropAsInt(MAX_CONCURRENT_LISTING_SERVICES, DEFAULT_MAX_CONCURRENT_LISTING_SERVICES);
-
-      final CopyConfiguration copyConfiguration = CopyConfiguration.builder(targetFs, state.getProperties()).build();
-
-      this.eventSubmitter = new EventSubmitter.Builder(this.metricContext, CopyConfiguration.COPY_PREFIX).build();
-      DatasetsFinder<CopyableDatasetBase> datasetFinder = DatasetUtils
-          .instantiateDatasetFinder(state.getProperties(), sourceFs, DEFAULT_DATASET_PROFILE_CLASS_KEY,
-              this.eventSubmitter, state);
-
-      IterableDatasetFinder<CopyableDatasetBase> iterableDatasetFinder =
-          datasetFinder instanceof IterableDatasetFinder ? (IterableDatasetFinder<CopyableDatasetBase>) datasetFinder
-              : new IterableDatasetFinderImpl<>(datasetFinder);
-
-      Iterator<CopyableDatasetRequestor> requestorIteratorWithNulls = Iterators
-          .transform(iterableDatasetFinder.getDatasetsIterator(),
-              new CopyableDatasetRequestor.Factory(targetFs, copyConfiguration, log));
-      Iterator<CopyableDatasetRequestor> requestorIterator =
-          Iterators.filter(requestorIteratorWithNulls, Predicates.<CopyableDatasetRequestor>notNull());
+      final WorkUnitGenerationPlan plan = planWorkUnitGeneration(state);
 
       final SetMultimap<FileSet<CopyEntity>, WorkUnit> workUnitsMap =
           Multimaps.<FileSet<CopyEntity>, WorkUnit>synchronizedSetMultimap(
               HashMultimap.<FileSet<CopyEntity>, WorkUnit>create());
 
-      RequestAllocator<FileSet<CopyEntity>> allocator = createRequestAllocator(copyConfiguration, maxThreads);
-      Iterator<FileSet<CopyEntity>> prioritizedFileSets =
-          allocator.allocateRequests(requestorIterator, copyConfiguration.getMaxToCopy());
-
-      //Submit alertable events for unfulfilled requests and fail if all of the allocated requests were rejected due to size
-      submitUnfulfilledRequestEvents(allocator);
-      failJobIfAllRequestsRejected(allocator, prioritizedFileSets);
-
-      String filesetWuGeneratorAlias = state.getProp(ConfigurationKeys.COPY_SOURCE_FILESET_WU_GENERATOR_CLASS, FileSetWorkUnitGenerator.class.getName());
-      boolean shouldWuGeneratorFailureBeFatal = state.getPropAsBoolean(ConfigurationKeys.WORK_UNIT_GENERATOR_FAILURE_IS_FATAL, ConfigurationKeys.DEFAULT_WORK_UNIT_FAST_FAIL_ENABLED);
       Iterator<Callable<Void>> callableIterator =
-          Iterators.transform(prioritizedFileSets, new Function<FileSet<CopyEntity>, Callable<Void>>() {
+          Iterators.transform(plan.prioritizedFileSets, new Function<FileSet<CopyEntity>, Callable<Void>>() {
             @Nullable
             @Override
             public Callable<Void> apply(FileSet<CopyEntity> input) {
-              try {
-                return GobblinConstructorUtils.<FileSetWorkUnitGenerator>invokeLongestConstructor(
-                    new ClassAliasResolver(FileSetWorkUnitGenerator.class).resolveClass(filesetWuGeneratorAlias),
-                    input.getDataset(), input, state, targetFs, workUnitsMap, watermarkGenerator, minWorkUnitWeight, lineageInfo);
-              } catch (Exception e) {
-                throw new RuntimeException("Cannot create workunits generator", e);
-              }
+              return plan.createWorkUnitGenerator(input, workUnitsMap);
             }
           });
 
       try {
-        List<Future<Void>> futures = new IteratorExecutor<>(callableIterator, maxThreads,
+        List<Future<Void>> futures = new IteratorExecutor<>(callableIterator, plan.maxThreads,
             ExecutorsUtils.newDaemonThreadFactory(Optional.of(log), Optional.of("Copy-file-listing-pool-%d")))
             .execute();
 
@@ -243,7 +210,7 @@ public class CopySource extends AbstractSource<String, FileAwareInputStream> {
             future.get();
           } catch (ExecutionException exc) {
             log.error("Failed to get work units for dataset.", exc.getCause());
-            if (shouldWuGeneratorFailureBeFatal) {
+            if (plan.shouldWuGeneratorFailureBeFatal) {
               throw new RuntimeException("Failed to get work units for dataset.", exc.getCause());
             }
           }
@@ -255,7 +222,7 @@ public class CopySource extends AbstractSource<String, FileAwareInputStream> {
 
       log.info(String.format("Created %s workunits ", workUnitsMap.size()));
 
-      copyConfiguration.getCopyContext().logCacheStatistics();
+      plan.copyConfiguration.getCopyContext().logCacheStatistics();
 
       if (state.contains(SIMULATE) && state.getPropAsBoolean(SIMULATE)) {
         log.info("Simulate mode enabled. Will not execute the copy.");
@@ -274,18 +241,226 @@ public class CopySource extends AbstractSource<String, FileAwareInputStream> {
         return Lists.newArrayList();
       }
 
-      List<? extends WorkUnit> workUnits = new WorstFitDecreasingBinPacking(maxSizePerBin)
-          .pack(Lists.newArrayList(workUnitsMap.values()), this.weighter);
+      List<? extends WorkUnit> workUnits = plan.pack(Lists.newArrayList(workUnitsMap.values()));
       log.info(String.format(
           "Bin packed work units. Initial work units: %d, packed work units: %d, max weight per bin: %d, "
-              + "max work units per bin: %d.", workUnitsMap.size(), workUnits.size(), maxSizePerBin,
-          maxWorkUnitsPerMultiWorkUnit));
+              + "max work units per bin: %d.", workUnitsMap.size(), workUnits.size(), plan.maxSizePerBin,
+          plan.maxWorkUnitsPerMultiWorkUnit));
       return ImmutableList.copyOf(workUnits);
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
   }
 
+  /**
+   * Same as {@link #getWorkunits(SourceState)} if {@link #STREAM_WORK_UNITS} is not set, or in simulate mode.
+   *
+   * <p>
+   *   Otherwise, the work units of each {@link FileSet} are bin packed and streamed as soon as they are generated, so
+   *   that the job launcher may start processing them while work units of other {@link FileSet}s are still being
+   *   generated. At most {@link #STREAM_WORK_UNITS_MAX_BUFFERED_FILE_SETS} {@link FileSet}s worth of work units wait
+   *   to be consumed. Note the {@link FileSet}s are still allocated up front, since {@link RequestAllocator}s need all
+   *   of them to enforce the copy limits and priorities.
+   * </p>
+   */
+  @Override
+  public WorkUnitStream getWorkunitStream(SourceState state) {
+    if (!state.getPropAsBoolean(STREAM_WORK_UNITS, DEFAULT_STREAM_WORK_UNITS) || state.getPropAsBoolean(SIMULATE,
+        false)) {
+      return new BasicWorkUnitStream.Builder(getWorkunits(state)).build();
+    }
+
+    this.metricContext = Instrumented.getMetricContext(state, CopySource.class);
+    this.lineageInfo = LineageInfo.getLineageInfo(state.getBroker());
+
+    try {
+      WorkUnitGenerationPlan plan = planWorkUnitGeneration(state);
+      int maxBufferedFileSets =
+          state.getPropAsInt(STREAM_WORK_UNITS_MAX_BUFFERED_FILE_SETS, DEFAULT_STREAM_WORK_UNITS_MAX_BUFFERED_FILE_SETS);
+      return new BasicWorkUnitStream.Builder(new StreamedWorkUnitIterator(plan, maxBufferedFileSets)).build();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Find and allocate the {@link FileSet}s to copy.
+   */
+  private WorkUnitGenerationPlan planWorkUnitGeneration(SourceState state) throws IOException {
+    DeprecationUtils
+        .renameDeprecatedKeys(state, CopyConfiguration.MAX_COPY_PREFIX + "." + CopyResourcePool.ENTITIES_KEY,
+            Lists.newArrayList(MAX_FILES_COPIED_KEY));
+
+    final FileSystem sourceFs = HadoopUtils.getSourceFileSystem(state);
+    final FileSystem targetFs = HadoopUtils.getWriterFileSystem(state, 1, 0);
+    state.setProp(SlaEventKeys.SOURCE_URI, sourceFs.getUri());
+    state.setProp(SlaEventKeys.DESTINATION_URI, targetFs.getUri());
+
+    log.info("Identified source file system at {} and target file system at {}.", sourceFs.getUri(),
+        targetFs.getUri());
+
+    long maxSizePerBin = state.getPropAsLong(MAX_SIZE_MULTI_WORKUNITS, 0);
+    long maxWorkUnitsPerMultiWorkUnit = state.getPropAsLong(MAX_WORK_UNITS_PER_BIN, 50);
+    final long minWorkUnitWeight = Math.max(1, maxSizePerBin / maxWorkUnitsPerMultiWorkUnit);
+    final Optional<CopyableFileWatermarkGenerator> watermarkGenerator =
+        CopyableFileWatermarkHelper.getCopyableFileWatermarkGenerator(state);
+    int maxThreads = state.getPropAsInt(MAX_CONCURRENT_LISTING_SERVICES, DEFAULT_MAX_CONCURRENT_LISTING_SERVICES);
+
+    final CopyConfiguration copyConfiguration = CopyConfiguration.builder(targetFs, state.getProperties()).build();
+
+    this.eventSubmitter = new EventSubmitter.Builder(this.metricContext, CopyConfiguration.COPY_PREFIX).build();
+    DatasetsFinder<CopyableDatasetBase> datasetFinder = DatasetUtils
+        .instantiateDatasetFinder(state.getProperties(), sourceFs, DEFAULT_DATASET_PROFILE_CLASS_KEY,
+            this.eventSubmitter, state);
+
+    IterableDatasetFinder<CopyableDatasetBase> iterableDatasetFinder =
+        datasetFinder instanceof IterableDatasetFinder ? (IterableDatasetFinder<CopyableDatasetBase>) datasetFinder
+            : new IterableDatasetFinderImpl<>(datasetFinder);
+
+    Iterator<CopyableDatasetRequestor> requestorIteratorWithNulls = Iterators
+        .transform(iterableDatasetFinder.getDatasetsIterator(),
+            new CopyableDatasetRequestor.Factory(targetFs, copyConfiguration, log));
+    Iterator<CopyableDatasetRequestor> requestorIterator =
+        Iterators.filter(requestorIteratorWithNulls, Predicates.<CopyableDatasetRequestor>notNull());
+
+    RequestAllocator<FileSet<CopyEntity>> allocator = createRequestAllocator(copyConfiguration, maxThreads);
+    Iterator<FileSet<CopyEntity>> prioritizedFileSets =
+        allocator.allocateRequests(requestorIterator, copyConfiguration.getMaxToCopy());
+
+    //Submit alertable events for unfulfilled requests and fail if all of the allocated requests were rejected due to size
+    submitUnfulfilledRequestEvents(allocator);
+    failJobIfAllRequestsRejected(allocator, prioritizedFileSets);
+
+    String filesetWuGeneratorAlias = state.getProp(ConfigurationKeys.COPY_SOURCE_FILESET_WU_GENERATOR_CLASS, FileSetWorkUnitGenerator.class.getName());
+    boolean shouldWuGeneratorFailureBeFatal = state.getPropAsBoolean(ConfigurationKeys.WORK_UNIT_GENERATOR_FAILURE_IS_FATAL, ConfigurationKeys.DEFAULT_WORK_UNIT_FAST_FAIL_ENABLED);
+
+    return new WorkUnitGenerationPlan(state, targetFs, copyConfiguration, prioritizedFileSets, filesetWuGeneratorAlias,
+        shouldWuGeneratorFailureBeFatal, watermarkGenerator, minWorkUnitWeight, maxSizePerBin,
+        maxWorkUnitsPerMultiWorkUnit, maxThreads);
+  }
+
+  /**
+   * The allocated {@link FileSet}s of a job, and what is needed to generate their work units.
+   */
+  @AllArgsConstructor
+  private class WorkUnitGenerationPlan {
+    private final SourceState state;
+    private final FileSystem targetFs;
+    private final CopyConfiguration copyConfiguration;
+    private final Iterator<FileSet<CopyEntity>> prioritizedFileSets;
+    private final String filesetWuGeneratorAlias;
+    private final boolean shouldWuGeneratorFailureBeFatal;
+    private final Optional<CopyableFileWatermarkGenerator> watermarkGenerator;
+    private final long minWorkUnitWeight;
+    private final long maxSizePerBin;
+    private final long maxWorkUnitsPerMultiWorkUnit;
+    private final int maxThreads;
+
+    private Callable<Void> createWorkUnitGenerator(FileSet<CopyEntity> fileSet,
+        SetMultimap<FileSet<CopyEntity>, WorkUnit> workUnitsMap) {
+      try {
+        return GobblinConstructorUtils.<FileSetWorkUnitGenerator>invokeLongestConstructor(
+            new ClassAliasResolver(FileSetWorkUnitGenerator.class).resolveClass(this.filesetWuGeneratorAlias),
+            fileSet.getDataset(), fileSet, this.state, this.targetFs, workUnitsMap, this.watermarkGenerator,
+            this.minWorkUnitWeight, lineageInfo);
+      } catch (Exception e) {
+        throw new RuntimeException("Cannot create workunits generator", e);
+      }
+    }
+
+    private List<? extends WorkUnit> pack(List<WorkUnit> workUnits) {
+      return new WorstFitDecreasingBinPacking(this.maxSizePerBin).pack(workUnits, weighter);
+    }
+  }
+
+  /**
+   * Generates the work units of the allocated {@link FileSet}s in the background, and iterates over them as soon as
+   * all work units of a {@link FileSet} are generated. Generation blocks while
+   * {@link #STREAM_WORK_UNITS_MAX_BUFFERED_FILE_SETS} {@link FileSet}s worth of work units wait to be consumed.
+   */
+  private static class StreamedWorkUnitIterator extends AbstractIterator<WorkUnit> {
+    private static final List<WorkUnit> END_OF_STREAM = Lists.newArrayList();
+
+    private final BlockingQueue<List<WorkUnit>> fileSetWorkUnits;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private Iterator<WorkUnit> currentFileSetWorkUnits = Collections.emptyIterator();
+    private int numFileSets = 0;
+    private int numWorkUnits = 0;
+
+    private StreamedWorkUnitIterator(WorkUnitGenerationPlan plan, int maxBufferedFileSets) {
+      this.fileSetWorkUnits = new LinkedBlockingQueue<>(Math.max(maxBufferedFileSets, 1));
+      Thread generationThread = ExecutorsUtils.newDaemonThreadFactory(Optional.of(log),
+          Optional.of("Copy-work-unit-streaming-%d")).newThread(() -> generateWorkUnits(plan));
+      generationThread.start();
+    }
+
+    private void generateWorkUnits(WorkUnitGenerationPlan plan) {
+      Iterator<Callable<Void>> callableIterator =
+          Iterators.<FileSet<CopyEntity>, Callable<Void>>transform(plan.prioritizedFileSets, fileSet -> {
+            SetMultimap<FileSet<CopyEntity>, WorkUnit> workUnitsMap =
+                Multimaps.synchronizedSetMultimap(HashMultimap.<FileSet<CopyEntity>, WorkUnit>create());
+            Callable<Void> generator = plan.createWorkUnitGenerator(fileSet, workUnitsMap);
+            return () -> {
+              generator.call();
+              this.fileSetWorkUnits.put(Lists.newArrayList(plan.pack(Lists.newArrayList(workUnitsMap.values()))));
+              return null;
+            };
+          });
+
+      try {
+        List<Future<Void>> futures = new IteratorExecutor<>(callableIterator, plan.maxThreads,
+            ExecutorsUtils.newDaemonThreadFactory(Optional.of(log), Optional.of("Copy-file-listing-pool-%d")))
+            .execute();
+
+        for (Future<Void> future : futures) {
+          try {
+            future.get();
+          } catch (ExecutionException exc) {
+            log.error("Failed to get work units for dataset.", exc.getCause());
+            if (plan.shouldWuGeneratorFailureBeFatal) {
+              this.failure.compareAndSet(null, exc.getCause());
+            }
+          }
+        }
+        plan.copyConfiguration.getCopyContext().logCacheStatistics();
+      } catch (InterruptedException ie) {
+        log.error("Retrieval of work units was interrupted. Aborting.");
+        // a partial stream must not look complete to the consumer
+        this.failure.compareAndSet(null, ie);
+        Thread.currentThread().interrupt();
+      } catch (RuntimeException | Error e) {
+        this.failure.compareAndSet(null, e);
+      } finally {
+        // the consumer blocks until it sees the end of the stream, so it must be enqueued even if interrupted
+        Uninterruptibles.putUninterruptibly(this.fileSetWorkUnits, END_OF_STREAM);
+      }
+    }
+
+    @Override
+    protected WorkUnit computeNext() {
+      while (!this.currentFileSetWorkUnits.hasNext()) {
+        List<WorkUnit> workUnits;
+        try {
+          workUnits = this.fileSetWorkUnits.take();
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          throw new RuntimeException("Interrupted while waiting for work units.", ie);
+        }
+        if (workUnits == END_OF_STREAM) {
+          if (this.failure.get() != null) {
+            throw new RuntimeException("Failed to get work units for dataset.", this.failure.get());
+          }
+          log.info(String.format("Streamed %d packed work units of %d file sets", this.numWorkUnits, this.numFileSets));
+          return endOfData();
+        }
+        this.numFileSets++;
+        this.currentFileSetWorkUnits = workUnits.iterator();
+      }
+      this.numWorkUnits++;
+      return this.currentFileSetWorkUnits.next();
+    }
+  }
+
   private void submitUnfulfilledRequestEventsHelper(List<FileSet<CopyEntity>> fileSetList, String eventName) {
     for (FileSet<CopyEntity> fileSet : fileSetList) {
       GobblinTrackingEvent event =
@@ -85,6 +85,9 @@ public class RecursiveCopyableDataset implements CopyableDataset, FileSystemData
   private final boolean applyFilterToDirectories;
   // Use new preserve logic which recurses down and walks the parent links up for preservation of permissions, user, and group.
   private final boolean useNewPreserveLogic;
+  // Number of threads listing directories, and whether to list with a single recursive listing
+  private final int listingParallelism;
+  private final boolean useRecursiveListing;
 
   private final Properties properties;
 
@@ -102,6 +105,9 @@ public class RecursiveCopyableDataset implements CopyableDataset, FileSystemData
     this.applyFilterToDirectories =
         Boolean.parseBoolean(properties.getProperty(CopyConfiguration.APPLY_FILTER_TO_DIRECTORIES, "false"));
     this.useNewPreserveLogic = Boolean.parseBoolean(properties.getProperty(USE_NEW_PRESERVE_LOGIC_KEY));
+    this.listingParallelism = Integer.parseInt(properties.getProperty(CopyConfiguration.LISTING_PARALLELISM,
+        Integer.toString(CopyConfiguration.DEFAULT_LISTING_PARALLELISM)));
+    this.useRecursiveListing = Boolean.parseBoolean(properties.getProperty(CopyConfiguration.LISTING_USE_RECURSIVE_LISTING));
     this.properties = properties;
     this.nonGlobSearchPath = PathUtils.deepestNonGlobPath(glob);
   }
@@ -215,7 +221,8 @@ public class RecursiveCopyableDataset implements CopyableDataset, FileSystemData
       throws IOException {
     try {
       return FileListUtils
-          .listFilesToCopyAtPath(fs, path, fileFilter, applyFilterToDirectories, includeEmptyDirectories);
+          .listFilesToCopyAtPath(fs, path, fileFilter, applyFilterToDirectories, includeEmptyDirectories,
+              listingParallelism, useRecursiveListing);
     } catch (FileNotFoundException fnfe) {
       log.warn(String.format("Could not find any files on fs %s path %s due to the following exception. Returning an empty list of files.", fs.getUri(), path), fnfe);
       return Lists.newArrayList();
@@ -48,6 +48,8 @@ public class RecursivePathFinder {
   private final PathFilter pathFilter;
   private final boolean includeEmptyDirectories;
   private final boolean applyFilterToDirectories;
+  private final int listingParallelism;
+  private final boolean useRecursiveListing;
 
   public RecursivePathFinder(final FileSystem fs, Path rootPath, Properties properties) {
     this.rootPath = PathUtils.getPathWithoutSchemeAndAuthority(rootPath);
@@ -57,6 +59,9 @@ public class RecursivePathFinder {
     this.includeEmptyDirectories =
         Boolean.parseBoolean(properties.getProperty(CopyConfiguration.INCLUDE_EMPTY_DIRECTORIES));
     this.applyFilterToDirectories = Boolean.parseBoolean(properties.getProperty(CopyConfiguration.APPLY_FILTER_TO_DIRECTORIES));
+    this.listingParallelism = Integer.parseInt(properties.getProperty(CopyConfiguration.LISTING_PARALLELISM,
+        Integer.toString(CopyConfiguration.DEFAULT_LISTING_PARALLELISM)));
+    this.useRecursiveListing = Boolean.parseBoolean(properties.getProperty(CopyConfiguration.LISTING_USE_RECURSIVE_LISTING));
   }
 
   public Set<FileStatus> getPaths(boolean skipHiddenPaths)
@@ -68,7 +73,8 @@ public class RecursivePathFinder {
     PathFilter actualFilter =
         skipHiddenPaths ? new AndPathFilter(new HiddenFilter(), this.pathFilter) : this.pathFilter;
     List<FileStatus> files =
-        FileListUtils.listFilesToCopyAtPath(this.fs, this.rootPath, actualFilter, this.applyFilterToDirectories, includeEmptyDirectories);
+        FileListUtils.listFilesToCopyAtPath(this.fs, this.rootPath, actualFilter, this.applyFilterToDirectories,
+            includeEmptyDirectories, this.listingParallelism, this.useRecursiveListing);
 
     return Sets.newHashSet(files);
   }
@@ -35,7 +35,6 @@ import com.google.common.base.Preconditions;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigValue;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.apache.gobblin.config.ConfigBuilder;
@@ -49,7 +48,6 @@ import org.apache.gobblin.util.HadoopUtils;
  * and creates a {@link IcebergDataset} for each one.
  */
 @Slf4j
-@RequiredArgsConstructor
 public class IcebergDatasetFinder implements IterableDatasetFinder<IcebergDataset> {
   public static final String ICEBERG_DATASET_PREFIX = DatasetConstants.PLATFORM_ICEBERG + ".dataset";
 
@@ -87,6 +85,13 @@ public class IcebergDatasetFinder implements IterableDatasetFinder<IcebergDatase
   protected final FileSystem sourceFs;
   protected final Properties properties;
 
+  public IcebergDatasetFinder(FileSystem sourceFs, Properties properties) {
+    this.sourceFs = sourceFs;
+    this.properties = properties;
+    // once per finder, rather than for every dataset's loader
+    IcebergManifestFileInfoLoader.deleteExpiredListings(properties);
+  }
+
   /**
    * Finds all {@link IcebergDataset}s in the file system using the Iceberg Catalog.
    * Both Iceberg database name and table name are mandatory based on current implementation.
@@ -148,7 +153,8 @@ public class IcebergDatasetFinder implements IterableDatasetFinder<IcebergDatase
    * @return {@link IcebergDataset} with its corresponding source and destination {@link IcebergTable}
    */
   protected IcebergDataset createIcebergDataset(IcebergCatalog sourceIcebergCatalog, String srcDbName, String srcTableName, IcebergCatalog destinationIcebergCatalog, String destDbName, String destTableName, Properties properties, FileSystem fs) throws IOException {
-    IcebergTable srcIcebergTable = sourceIcebergCatalog.openTable(srcDbName, srcTableName);
+    IcebergTable srcIcebergTable = sourceIcebergCatalog.openTable(srcDbName, srcTableName)
+        .withManifestFileInfoLoader(IcebergManifestFileInfoLoader.create(properties));
     Preconditions.checkArgument(sourceIcebergCatalog.tableAlreadyExists(srcIcebergTable), String.format("Source Iceberg Table not found: {%s}.{%s}", srcDbName, srcTableName));
     IcebergTable destIcebergTable = destinationIcebergCatalog.openTable(destDbName, destTableName);
     // TODO: Rethink strategy to enforce dest iceberg table
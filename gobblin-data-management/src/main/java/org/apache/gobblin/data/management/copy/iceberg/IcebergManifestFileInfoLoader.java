@@ -0,0 +1,323 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.data.management.copy.iceberg;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.iceberg.ManifestFile;
+import org.apache.iceberg.io.FileIO;
+
+import com.codahale.metrics.Counter;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+import com.google.common.hash.Hashing;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.gobblin.configuration.State;
+import org.apache.gobblin.instrumented.Instrumented;
+import org.apache.gobblin.metrics.MetricContext;
+import org.apache.gobblin.util.ExecutorsUtils;
+import org.apache.gobblin.util.HadoopUtils;
+import org.apache.gobblin.util.function.CheckedExceptionFunction;
+
+import static org.apache.gobblin.data.management.copy.iceberg.IcebergSnapshotInfo.ManifestFileInfo;
+
+
+/**
+ * Reads iceberg manifests for an {@link IcebergTable}, on a bounded pool of threads, and lists the files of each
+ * manifest through two optional caches keyed by manifest path: one in memory, shared by all snapshots of a table, and
+ * one persisted as files under a directory, which survives across runs.  As manifests are immutable and uniquely named,
+ * a cached listing never goes stale.
+ *
+ * Persisted listings are spread over up to 256 sub-directories by the first byte of the hash of the manifest path, so
+ * that no single directory grows with the number of manifests.  Since listings of manifests no longer referenced by any
+ * snapshot are never read again, {@link #deleteExpiredListings(Properties)}, run once by each {@link IcebergDatasetFinder},
+ * deletes the listings last written more than {@link #PERSISTENT_CACHE_TTL_HOURS_KEY} ago; a listing still in use is
+ * merely read from its manifest once more.
+ *
+ * With the default configuration manifests are read one at a time and never cached, as {@link IcebergTable} always did.
+ */
+@Slf4j
+public class IcebergManifestFileInfoLoader {
+
+  public static final String ICEBERG_MANIFEST_PREFIX = IcebergDatasetFinder.ICEBERG_DATASET_PREFIX + ".manifest";
+  public static final String READ_THREADS_KEY = ICEBERG_MANIFEST_PREFIX + ".read.threads";
+  public static final int DEFAULT_READ_THREADS = 1;
+  /** max number of listed file paths (over all manifests) held in memory; 0 disables the in-memory cache */
+  public static final String MEMORY_CACHE_MAX_LISTED_PATHS_KEY = ICEBERG_MANIFEST_PREFIX + ".cache.memory.maxListedPaths";
+  public static final long DEFAULT_MEMORY_CACHE_MAX_LISTED_PATHS = 0L;
+  /** directory (on any hadoop FS) under which manifest listings persist across runs; when unset, nothing is persisted */
+  public static final String PERSISTENT_CACHE_DIR_KEY = ICEBERG_MANIFEST_PREFIX + ".cache.dir";
+  /** hours after being written that a persisted listing is deleted; 0 keeps listings forever, for external cleanup */
+  public static final String PERSISTENT_CACHE_TTL_HOURS_KEY = ICEBERG_MANIFEST_PREFIX + ".cache.dir.ttl.hours";
+  public static final long DEFAULT_PERSISTENT_CACHE_TTL_HOURS = TimeUnit.DAYS.toHours(7);
+
+  public static final String MANIFESTS_READ = "gobblin.iceberg.manifests.read";
+  public static final String MANIFESTS_FROM_MEMORY_CACHE = "gobblin.iceberg.manifests.fromMemoryCache";
+  public static final String MANIFESTS_FROM_PERSISTENT_CACHE = "gobblin.iceberg.manifests.fromPersistentCache";
+
+  private static final String PERSISTED_LISTING_SUFFIX = ".listing.gz";
+
+  /** reads manifests one at a time, without caching */
+  public static final IcebergManifestFileInfoLoader SEQUENTIAL = new IcebergManifestFileInfoLoader(DEFAULT_READ_THREADS,
+      Optional.absent(), Optional.absent(), Optional.absent(), new Counter(), new Counter(), new Counter());
+
+  private final int numReadThreads;
+  private final Optional<Cache<String, ManifestFileInfo>> memoryCache;
+  private final Optional<FileSystem> persistentCacheFs;
+  private final Optional<Path> persistentCacheDir;
+  @Getter
+  private final Counter manifestsRead;
+  @Getter
+  private final Counter manifestsFromMemoryCache;
+  @Getter
+  private final Counter manifestsFromPersistentCache;
+
+  private IcebergManifestFileInfoLoader(int numReadThreads, Optional<Cache<String, ManifestFileInfo>> memoryCache,
+      Optional<FileSystem> persistentCacheFs, Optional<Path> persistentCacheDir, Counter manifestsRead,
+      Counter manifestsFromMemoryCache, Counter manifestsFromPersistentCache) {
+    this.numReadThreads = numReadThreads;
+    this.memoryCache = memoryCache;
+    this.persistentCacheFs = persistentCacheFs;
+    this.persistentCacheDir = persistentCacheDir;
+    this.manifestsRead = manifestsRead;
+    this.manifestsFromMemoryCache = manifestsFromMemoryCache;
+    this.manifestsFromPersistentCache = manifestsFromPersistentCache;
+  }
+
+  /** @return a loader configured by `properties`, reporting its metrics to a {@link MetricContext} of the same */
+  public static IcebergManifestFileInfoLoader create(Properties properties) throws IOException {
+    int numReadThreads = Integer.parseInt(properties.getProperty(READ_THREADS_KEY, Integer.toString(DEFAULT_READ_THREADS)));
+    long memoryCacheMaxListedPaths = Long.parseLong(properties.getProperty(MEMORY_CACHE_MAX_LISTED_PATHS_KEY,
+        Long.toString(DEFAULT_MEMORY_CACHE_MAX_LISTED_PATHS)));
+    Optional<Cache<String, ManifestFileInfo>> memoryCache = memoryCacheMaxListedPaths <= 0 ? Optional.absent()
+        : Optional.of(CacheBuilder.newBuilder()
+            .maximumWeight(memoryCacheMaxListedPaths)
+            .weigher((String manifestPath, ManifestFileInfo mfi) -> mfi.getListedFilePaths().size() + 1)
+            .build());
+    Optional<Path> persistentCacheDir = Optional.fromNullable(properties.getProperty(PERSISTENT_CACHE_DIR_KEY)).transform(Path::new);
+    Optional<FileSystem> persistentCacheFs = persistentCacheDir.isPresent()
+        ? Optional.of(persistentCacheDir.get().getFileSystem(HadoopUtils.getConfFromProperties(properties)))
+        : Optional.absent();
+    MetricContext metricContext = Instrumented.getMetricContext(new State(properties), IcebergManifestFileInfoLoader.class);
+    return new IcebergManifestFileInfoLoader(numReadThreads, memoryCache, persistentCacheFs, persistentCacheDir,
+        metricContext.counter(MANIFESTS_READ), metricContext.counter(MANIFESTS_FROM_MEMORY_CACHE),
+        metricContext.counter(MANIFESTS_FROM_PERSISTENT_CACHE));
+  }
+
+  /** @return the {@link ManifestFileInfo} of each of `manifests`, in the same order */
+  public List<ManifestFileInfo> loadAll(List<ManifestFile> manifests, FileIO io) throws IOException {
+    List<ManifestFileInfo> result = readAll(manifests, manifest -> load(manifest, io));
+    log.info("{} manifests: {} read, {} from memory cache, {} from persistent cache (running totals)", manifests.size(),
+        this.manifestsRead.getCount(), this.manifestsFromMemoryCache.getCount(),
+        this.manifestsFromPersistentCache.getCount());
+    return result;
+  }
+
+  /**
+   * @return the result of applying `reader` to each of `manifests`, in the same order, reading up to the configured
+   * number of manifests in parallel
+   */
+  public <T> List<T> readAll(List<ManifestFile> manifests, CheckedExceptionFunction<ManifestFile, T, IOException> reader)
+      throws IOException {
+    List<T> results = Lists.newArrayListWithCapacity(manifests.size());
+    if (this.numReadThreads <= 1 || manifests.size() <= 1) {
+      for (ManifestFile manifest : manifests) {
+        results.add(reader.apply(manifest));
+      }
+      return results;
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(Math.min(this.numReadThreads, manifests.size()),
+        ExecutorsUtils.newDaemonThreadFactory(Optional.of(log), Optional.of("IcebergManifestReader-%d")));
+    try {
+      List<Future<T>> futures = Lists.newArrayListWithCapacity(manifests.size());
+      for (ManifestFile manifest : manifests) {
+        futures.add(executor.submit(() -> reader.apply(manifest)));
+      }
+      for (Future<T> future : futures) {
+        results.add(future.get());
+      }
+      return results;
+    } catch (ExecutionException ee) {
+      if (ee.getCause() instanceof IOException) {
+        throw (IOException) ee.getCause();
+      } else if (ee.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ee.getCause();
+      }
+      throw new IOException(ee.getCause());
+    } catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while reading manifests", ie);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private ManifestFileInfo load(ManifestFile manifest, FileIO io) throws IOException {
+    String manifestPath = manifest.path();
+    if (this.memoryCache.isPresent()) {
+      ManifestFileInfo cached = this.memoryCache.get().getIfPresent(manifestPath);
+      if (cached != null) {
+        this.manifestsFromMemoryCache.inc();
+        return cached;
+      }
+    }
+
+    ManifestFileInfo manifestFileInfo = readPersisted(manifestPath);
+    if (manifestFileInfo != null) {
+      this.manifestsFromPersistentCache.inc();
+    } else {
+      manifestFileInfo = IcebergTable.calcManifestFileInfo(manifest, io);
+      this.manifestsRead.inc();
+      persist(manifestFileInfo);
+    }
+
+    if (this.memoryCache.isPresent()) {
+      this.memoryCache.get().put(manifestPath, manifestFileInfo);
+    }
+    return manifestFileInfo;
+  }
+
+  /** @return the persisted listing of the manifest at `manifestPath`, or `null` when absent or unreadable */
+  private ManifestFileInfo readPersisted(String manifestPath) {
+    if (!this.persistentCacheDir.isPresent()) {
+      return null;
+    }
+    Path listingPath = getPersistedListingPath(manifestPath);
+    try (DataInputStream in = new DataInputStream(new GZIPInputStream(this.persistentCacheFs.get().open(listingPath)))) {
+      if (!manifestPath.equals(in.readUTF())) { // guard against a hash collision
+        return null;
+      }
+      int numListedPaths = in.readInt();
+      List<String> listedPaths = Lists.newArrayListWithCapacity(numListedPaths);
+      for (int i = 0; i < numListedPaths; i++) {
+        listedPaths.add(in.readUTF());
+      }
+      return new ManifestFileInfo(manifestPath, listedPaths);
+    } catch (FileNotFoundException fnfe) {
+      return null;
+    } catch (IOException ioe) {
+      log.warn("Ignoring unreadable persisted listing '{}' of manifest '{}'", listingPath, manifestPath, ioe);
+      return null;
+    }
+  }
+
+  /** Persist the listing of a manifest, on a best-effort basis: a failure merely means reading the manifest again */
+  private void persist(ManifestFileInfo manifestFileInfo) {
+    if (!this.persistentCacheDir.isPresent()) {
+      return;
+    }
+    Path listingPath = getPersistedListingPath(manifestFileInfo.getManifestFilePath());
+    Path tmpPath = new Path(listingPath.getParent(), "." + listingPath.getName() + "." + System.nanoTime() + ".tmp");
+    FileSystem fs = this.persistentCacheFs.get();
+    try {
+      try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(fs.create(tmpPath, true)))) {
+        out.writeUTF(manifestFileInfo.getManifestFilePath());
+        out.writeInt(manifestFileInfo.getListedFilePaths().size());
+        for (String listedPath : manifestFileInfo.getListedFilePaths()) {
+          out.writeUTF(listedPath);
+        }
+      }
+      if (!fs.rename(tmpPath, listingPath)) {
+        fs.delete(tmpPath, false); // presumably persisted concurrently
+      }
+    } catch (IOException ioe) {
+      log.warn("Failed to persist listing of manifest '{}' to '{}'", manifestFileInfo.getManifestFilePath(),
+          listingPath, ioe);
+    }
+  }
+
+  private Path getPersistedListingPath(String manifestPath) {
+    String hash = Hashing.sha256().hashString(manifestPath, StandardCharsets.UTF_8).toString();
+    return new Path(new Path(this.persistentCacheDir.get(), hash.substring(0, 2)), hash + PERSISTED_LISTING_SUFFIX);
+  }
+
+  /**
+   * Delete the persisted listings configured by `properties` that are older than {@link #PERSISTENT_CACHE_TTL_HOURS_KEY},
+   * on a best-effort basis.  As this lists every shard directory, run it once per job rather than per loader.
+   */
+  public static void deleteExpiredListings(Properties properties) {
+    String persistentCacheDir = properties.getProperty(PERSISTENT_CACHE_DIR_KEY);
+    long persistentCacheTtlHours = Long.parseLong(properties.getProperty(PERSISTENT_CACHE_TTL_HOURS_KEY,
+        Long.toString(DEFAULT_PERSISTENT_CACHE_TTL_HOURS)));
+    if (persistentCacheDir == null || persistentCacheTtlHours <= 0) {
+      return;
+    }
+    Path persistentCacheDirPath = new Path(persistentCacheDir);
+    FileSystem fs;
+    try {
+      fs = persistentCacheDirPath.getFileSystem(HadoopUtils.getConfFromProperties(properties));
+    } catch (IOException ioe) {
+      log.warn("Failed to delete expired manifest listings under '{}'", persistentCacheDirPath, ioe);
+      return;
+    }
+    deleteExpiredListings(fs, persistentCacheDirPath,
+        System.currentTimeMillis() - TimeUnit.HOURS.toMillis(persistentCacheTtlHours));
+  }
+
+  /**
+   * Delete the persisted listings (and leftover temporary files) last modified before `expirationMillis`, on a
+   * best-effort basis: a failure merely leaves them for the next cleanup
+   */
+  @VisibleForTesting
+  static void deleteExpiredListings(FileSystem fs, Path persistentCacheDir, long expirationMillis) {
+    int numDeleted = 0;
+    try {
+      for (FileStatus shardDir : fs.listStatus(persistentCacheDir)) {
+        if (!shardDir.isDirectory()) {
+          continue;
+        }
+        for (FileStatus listing : fs.listStatus(shardDir.getPath())) {
+          if (listing.isFile() && listing.getModificationTime() < expirationMillis
+              && fs.delete(listing.getPath(), false)) {
+            numDeleted++;
+          }
+        }
+      }
+    } catch (FileNotFoundException fnfe) {
+      // nothing persisted yet
+    } catch (IOException ioe) {
+      log.warn("Failed to delete expired manifest listings under '{}'", persistentCacheDir, ioe);
+    }
+    if (numDeleted > 0) {
+      log.info("Deleted {} expired manifest listings under '{}'", numDeleted, persistentCacheDir);
+    }
+  }
+}
@@ -62,7 +62,6 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -77,7 +76,6 @@ import static org.apache.gobblin.data.management.copy.iceberg.IcebergSnapshotInf
  * Exposes metadata information for a single Iceberg table.
  */
 @Slf4j
-@AllArgsConstructor
 public class IcebergTable {
 
   /** Indicate the table identified by `tableId` does not (or does no longer) exist in the catalog */
@@ -106,12 +104,37 @@ public class IcebergTable {
   private final TableOperations tableOps;
   private final String catalogUri;
   private final Table table;
+  /** reads (and possibly caches) the manifests listed by snapshots of this table */
+  private final IcebergManifestFileInfoLoader manifestFileInfoLoader;
+
+  public IcebergTable(TableIdentifier tableId, String datasetDescriptorName, String datasetDescriptorPlatform,
+      TableOperations tableOps, String catalogUri, Table table) {
+    this(tableId, datasetDescriptorName, datasetDescriptorPlatform, tableOps, catalogUri, table,
+        IcebergManifestFileInfoLoader.SEQUENTIAL);
+  }
+
+  public IcebergTable(TableIdentifier tableId, String datasetDescriptorName, String datasetDescriptorPlatform,
+      TableOperations tableOps, String catalogUri, Table table, IcebergManifestFileInfoLoader manifestFileInfoLoader) {
+    this.tableId = tableId;
+    this.datasetDescriptorName = datasetDescriptorName;
+    this.datasetDescriptorPlatform = datasetDescriptorPlatform;
+    this.tableOps = tableOps;
+    this.catalogUri = catalogUri;
+    this.table = table;
+    this.manifestFileInfoLoader = manifestFileInfoLoader;
+  }
 
   @VisibleForTesting
   IcebergTable(TableIdentifier tableId, TableOperations tableOps, String catalogUri, Table table) {
     this(tableId, tableId.toString(), DatasetConstants.PLATFORM_ICEBERG, tableOps, catalogUri, table);
   }
 
+  /** @return this same table, but reading its manifests with `manifestFileInfoLoader` */
+  public IcebergTable withManifestFileInfoLoader(IcebergManifestFileInfoLoader manifestFileInfoLoader) {
+    return new IcebergTable(this.tableId, this.datasetDescriptorName, this.datasetDescriptorPlatform, this.tableOps,
+        this.catalogUri, this.table, manifestFileInfoLoader);
+  }
+
   /** @return metadata info limited to the most recent (current) snapshot */
   public IcebergSnapshotInfo getCurrentSnapshotInfo() throws IOException {
     TableMetadata current = accessTableMetadata();
@@ -219,19 +242,11 @@ public class IcebergTable {
         metadataFileLocation,
         currentTableMetadata,
         snapshot.manifestListLocation(),
-        // NOTE: unable to `.stream().map(m -> calcManifestFileInfo(m, tableOps.io()))` due to checked exception
-        skipManifestFileInfo ? Lists.newArrayList() : calcAllManifestFileInfos(snapshot.allManifests(tableOps.io()), tableOps.io())
+        skipManifestFileInfo ? Lists.newArrayList()
+            : this.manifestFileInfoLoader.loadAll(snapshot.allManifests(tableOps.io()), tableOps.io())
       );
   }
 
-  protected static List<IcebergSnapshotInfo.ManifestFileInfo> calcAllManifestFileInfos(List<ManifestFile> manifests, FileIO io) throws IOException {
-    List<ManifestFileInfo> result = Lists.newArrayList();
-    for (ManifestFile manifest : manifests) {
-      result.add(calcManifestFileInfo(manifest, io));
-    }
-    return result;
-  }
-
   protected static IcebergSnapshotInfo.ManifestFileInfo calcManifestFileInfo(ManifestFile manifest, FileIO io) throws IOException {
     if (manifest.content() == ManifestContent.DELETES) {
       return new ManifestFileInfo(manifest.path(), discoverDeleteFilePaths(manifest, io));
@@ -295,19 +310,14 @@ public class IcebergTable {
     //TODO: Add support for deleteManifests as well later
     // Currently supporting dataManifests only
     List<ManifestFile> dataManifestFiles = currentSnapshot.dataManifests(this.tableOps.io());
-    for (ManifestFile manifestFile : dataManifestFiles) {
-      if (growthMilestoneTracker.isAnotherMilestone(knownDataFiles.size())) {
-        log.info("~{}~ for snapshot '{}' - before manifest-file '{}' '{}' total known iceberg datafiles", tableId,
-            currentSnapshotId,
-            manifestFile.path(),
-            knownDataFiles.size()
-        );
-      }
+    // manifests may be read in parallel, each into its own list, but the results are combined in manifest order
+    List<List<DataFile>> dataFilesPerManifest = this.manifestFileInfoLoader.readAll(dataManifestFiles, manifestFile -> {
+      List<DataFile> manifestDataFiles = new ArrayList<>();
       try (ManifestReader<DataFile> manifestReader = ManifestFiles.read(manifestFile, this.tableOps.io());
           CloseableIterator<DataFile> dataFiles = manifestReader.iterator()) {
         dataFiles.forEachRemaining(dataFile -> {
           if (icebergPartitionFilterPredicate.test(dataFile.partition())) {
-            knownDataFiles.add(dataFile.copy());
+            manifestDataFiles.add(dataFile.copy());
           }
         });
       } catch (IOException e) {
@@ -316,6 +326,17 @@ public class IcebergTable {
         log.error(errMsg, e);
         throw new IOException(errMsg, e);
       }
+      return manifestDataFiles;
+    });
+    for (int i = 0; i < dataManifestFiles.size(); i++) {
+      if (growthMilestoneTracker.isAnotherMilestone(knownDataFiles.size())) {
+        log.info("~{}~ for snapshot '{}' - before manifest-file '{}' '{}' total known iceberg datafiles", tableId,
+            currentSnapshotId,
+            dataManifestFiles.get(i).path(),
+            knownDataFiles.size()
+        );
+      }
+      knownDataFiles.addAll(dataFilesPerManifest.get(i));
     }
     return knownDataFiles;
   }
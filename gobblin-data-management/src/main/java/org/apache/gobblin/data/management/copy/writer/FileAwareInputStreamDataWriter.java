@@ -71,9 +71,15 @@ import org.apache.gobblin.util.HadoopUtils;
 import org.apache.gobblin.util.PathUtils;
 import org.apache.gobblin.util.WriterUtils;
 import org.apache.gobblin.util.filesystem.OwnerAndPermission;
+import org.apache.gobblin.util.io.FilterStreamUnpacker;
+import org.apache.gobblin.util.io.MeteredInputStream;
 import org.apache.gobblin.util.io.StreamCopier;
+import org.apache.gobblin.util.io.StreamCopierSharedLimiterKey;
 import org.apache.gobblin.util.io.StreamThrottler;
 import org.apache.gobblin.util.io.ThrottledInputStream;
+import org.apache.gobblin.util.limiter.Limiter;
+import org.apache.gobblin.util.limiter.MultiLimiter;
+import org.apache.gobblin.util.limiter.broker.SharedLimiterFactory;
 import org.apache.gobblin.writer.DataWriter;
 
 
@@ -92,6 +98,19 @@ public class FileAwareInputStreamDataWriter extends InstrumentedDataWriter<FileA
   public static final boolean DEFAULT_GOBBLIN_COPY_TASK_OVERWRITE_ON_COMMIT = false;
   public static final String GOBBLIN_COPY_SHOULD_FAIL_WHEN_PERMISSIONS_FAIL = "gobblin.copy.shouldFailWhenPermissionsFail";
   public static final boolean DEFAULT_COPY_SHOULD_FAIL_WHEN_PERMISSIONS_FAIL = true;
+  /**
+   * Copy files larger than the range size as concurrently copied ranges, see {@link ParallelRangeCopier}. Ranges are
+   * read directly from the source file system, so only files whose stream no converter transforms, and whose copy is
+   * not throttled by the {@link StreamThrottler}, are copied this way.
+   */
+  public static final String GOBBLIN_COPY_PARALLEL_RANGE_COPY_ENABLED = "gobblin.copy.parallelRangeCopy.enabled";
+  public static final boolean DEFAULT_GOBBLIN_COPY_PARALLEL_RANGE_COPY_ENABLED = false;
+  public static final String GOBBLIN_COPY_PARALLEL_RANGE_COPY_RANGE_SIZE = "gobblin.copy.parallelRangeCopy.rangeSize";
+  public static final long DEFAULT_GOBBLIN_COPY_PARALLEL_RANGE_COPY_RANGE_SIZE = 1024L * 1024 * 1024;
+  public static final String GOBBLIN_COPY_PARALLEL_RANGE_COPY_THREADS = "gobblin.copy.parallelRangeCopy.threads";
+  public static final int DEFAULT_GOBBLIN_COPY_PARALLEL_RANGE_COPY_THREADS = 8;
+  public static final String GOBBLIN_COPY_PARALLEL_RANGE_COPY_VERIFY_RANGES = "gobblin.copy.parallelRangeCopy.verifyRanges";
+  public static final boolean DEFAULT_GOBBLIN_COPY_PARALLEL_RANGE_COPY_VERIFY_RANGES = true;
 
   protected final AtomicLong bytesWritten = new AtomicLong();
   protected final AtomicLong filesWritten = new AtomicLong();
@@ -104,6 +123,8 @@ public class FileAwareInputStreamDataWriter extends InstrumentedDataWriter<FileA
   protected final RecoveryHelper recoveryHelper;
   protected final SharedResourcesBroker<GobblinScopeTypes> taskBroker;
   protected final int bufferSize;
+  protected final StreamCopier.CopyStrategy copyStrategy;
+  protected final int maxBufferSize;
   private final boolean checkFileSize;
   private final Options.Rename renameOptions;
   private final URI uri;
@@ -174,6 +195,9 @@ public class FileAwareInputStreamDataWriter extends InstrumentedDataWriter<FileA
     this.copySpeedMeter = getMetricContext().meter(GOBBLIN_COPY_BYTES_COPIED_METER);
 
     this.bufferSize = state.getPropAsInt(CopyConfiguration.BUFFER_SIZE, StreamCopier.DEFAULT_BUFFER_SIZE);
+    this.copyStrategy = StreamCopier.CopyStrategy.valueOf(
+        state.getProp(CopyConfiguration.COPIER_STRATEGY, StreamCopier.CopyStrategy.DEFAULT.name()).toUpperCase());
+    this.maxBufferSize = state.getPropAsInt(CopyConfiguration.MAX_BUFFER_SIZE, StreamCopier.DEFAULT_MAX_BUFFER_SIZE);
     this.encryptionConfig = EncryptionConfigParser
         .getConfigForBranch(EncryptionConfigParser.EntityType.WRITER, this.state, numBranches, branchId);
 
@@ -290,6 +314,19 @@ public class FileAwareInputStreamDataWriter extends InstrumentedDataWriter<FileA
         return;
       }
 
+      if (shouldCopyRangesInParallel(inputStream, writeAt, copyableFile, record)) {
+        // Ranges are read with their own positional reads of the source
+        inputStream.close();
+        long numBytes = copyRangesInParallel(copyableFile, writeAt, replication, blockSize);
+        if (numBytes != expectedBytes) {
+          throw new IOException(String.format("Incomplete write: expected %d, wrote %d bytes.",
+              expectedBytes, numBytes));
+        }
+        this.bytesWritten.addAndGet(numBytes);
+        recordBytesWritten(writeAt);
+        return;
+      }
+
       OutputStream os =
           this.fs.create(writeAt, true, this.fs.getConf().getInt("io.file.buffer.size", 4096), replication, blockSize);
       if (encryptionConfig != null) {
@@ -302,7 +339,8 @@ public class FileAwareInputStreamDataWriter extends InstrumentedDataWriter<FileA
         ThrottledInputStream throttledInputStream = throttler.throttleInputStream().inputStream(inputStream)
             .sourceURI(copyableFile.getOrigin().getPath().makeQualified(defaultFS.getUri(), defaultFS.getWorkingDirectory()).toUri())
             .targetURI(this.fs.makeQualified(writeAt).toUri()).build();
-        StreamCopier copier = new StreamCopier(throttledInputStream, os, maxBytes).withBufferSize(this.bufferSize);
+        StreamCopier copier = new StreamCopier(throttledInputStream, os, maxBytes).withBufferSize(this.bufferSize)
+            .withCopyStrategy(this.copyStrategy).withMaxBufferSize(this.maxBufferSize);
 
         log.info("File {}: Starting copy", copyableFile.getOrigin().getPath());
 
@@ -332,6 +370,79 @@ public class FileAwareInputStreamDataWriter extends InstrumentedDataWriter<FileA
     }
   }
 
+  private boolean shouldCopyRangesInParallel(InputStream inputStream, Path writeAt, CopyableFile copyableFile,
+      FileAwareInputStream record) throws IOException {
+    return this.state.getPropAsBoolean(GOBBLIN_COPY_PARALLEL_RANGE_COPY_ENABLED,
+        DEFAULT_GOBBLIN_COPY_PARALLEL_RANGE_COPY_ENABLED)
+        && this.encryptionConfig == null
+        && !record.getSplit().isPresent()
+        && copyableFile.getFileStatus().getLen() > this.state.getPropAsLong(GOBBLIN_COPY_PARALLEL_RANGE_COPY_RANGE_SIZE,
+        DEFAULT_GOBBLIN_COPY_PARALLEL_RANGE_COPY_RANGE_SIZE)
+        && isUntransformedSourceStream(inputStream)
+        && !isCopyThrottled(copyableFile, writeAt);
+  }
+
+  /**
+   * Whether <code>inputStream</code> is still the metered source stream built by the extractor, i.e. no
+   * {@link org.apache.gobblin.data.management.copy.converter.DistcpConverter} (un-gzip, decrypt, ...) wrapped it, so
+   * that reading the origin file directly yields the same bytes.
+   */
+  private boolean isUntransformedSourceStream(InputStream inputStream) {
+    if (!(inputStream instanceof MeteredInputStream)) {
+      return false;
+    }
+    try {
+      return FilterStreamUnpacker.unpackFilterInputStream((MeteredInputStream) inputStream) instanceof FSDataInputStream;
+    } catch (IllegalAccessException iae) {
+      return false;
+    }
+  }
+
+  /**
+   * Whether a {@link Limiter} is configured for copies from the origin of <code>copyableFile</code> to
+   * <code>writeAt</code>, in which case the {@link StreamThrottler} must see every byte.
+   */
+  private boolean isCopyThrottled(CopyableFile copyableFile, Path writeAt) throws IOException {
+    FileSystem defaultFS = FileSystem.get(new Configuration());
+    URI sourceURI = copyableFile.getOrigin().getPath()
+        .makeQualified(defaultFS.getUri(), defaultFS.getWorkingDirectory()).toUri();
+    try {
+      Limiter limiter = this.taskBroker.getSharedResource(new SharedLimiterFactory<GobblinScopeTypes>(),
+          new StreamCopierSharedLimiterKey(sourceURI, this.fs.makeQualified(writeAt).toUri()));
+      // MultiLimiter drops NoopLimiters, so only actual limits remain
+      return !new MultiLimiter(limiter).getUnderlyingLimiters().isEmpty();
+    } catch (NotConfiguredException nce) {
+      return false;
+    }
+  }
+
+  private long copyRangesInParallel(CopyableFile copyableFile, Path writeAt, short replication, long blockSize)
+      throws IOException {
+    Path source = copyableFile.getOrigin().getPath();
+    log.info("File {}: Starting parallel range copy", source);
+    long numBytes = ParallelRangeCopier.builder()
+        .sourceFs(source.getFileSystem(HadoopUtils.getConfFromState(this.state)))
+        .source(source)
+        .fileLength(copyableFile.getFileStatus().getLen())
+        .targetFs(this.fs)
+        .target(writeAt)
+        .replication(replication)
+        .blockSize(blockSize)
+        .rangeSize(this.state.getPropAsLong(GOBBLIN_COPY_PARALLEL_RANGE_COPY_RANGE_SIZE,
+            DEFAULT_GOBBLIN_COPY_PARALLEL_RANGE_COPY_RANGE_SIZE))
+        .numThreads(this.state.getPropAsInt(GOBBLIN_COPY_PARALLEL_RANGE_COPY_THREADS,
+            DEFAULT_GOBBLIN_COPY_PARALLEL_RANGE_COPY_THREADS))
+        .bufferSize(this.bufferSize)
+        .useConcat(DistcpFileSplitter.KNOWN_SCHEMES_SUPPORTING_CONCAT.contains(this.fs.getUri().getScheme()))
+        .verifyRanges(this.state.getPropAsBoolean(GOBBLIN_COPY_PARALLEL_RANGE_COPY_VERIFY_RANGES,
+            DEFAULT_GOBBLIN_COPY_PARALLEL_RANGE_COPY_VERIFY_RANGES))
+        .copySpeedMeter(isInstrumentationEnabled() ? this.copySpeedMeter : null)
+        .build()
+        .copy();
+    log.info("File {}: copied {} bytes in parallel ranges", source, numBytes);
+    return numBytes;
+  }
+
   /**
    * Sets the owner/group and permission for the file in the task staging directory
    */
@@ -0,0 +1,290 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.data.management.copy.writer;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import com.codahale.metrics.Meter;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.gobblin.util.ExecutorsUtils;
+
+
+/**
+ * Copies a single file by splitting it into ranges that are read concurrently with positional reads of the source.
+ *
+ * <p>
+ *   If the target {@link FileSystem} supports {@link FileSystem#concat(Path, Path[])}, each range is written to its own
+ *   part file next to the target, optionally verified against the CRC32 of the bytes read from the source, and the
+ *   parts are then concatenated into the target. Ranges are aligned to the target block size, as required by concat.
+ *   If concat fails, the part files are appended to the target in order instead. On file systems not supporting
+ *   concat, chunks of the source are read concurrently into a bounded number of in-memory buffers, and stitched into
+ *   the target in order by a single writer.
+ * </p>
+ */
+@Slf4j
+@Builder
+class ParallelRangeCopier {
+
+  /** Size of the chunks read concurrently when stitching the target */
+  static final int STITCH_CHUNK_SIZE = 8 * 1024 * 1024;
+
+  private final FileSystem sourceFs;
+  private final Path source;
+  private final long fileLength;
+  private final FileSystem targetFs;
+  private final Path target;
+  private final short replication;
+  private final long blockSize;
+  private final long rangeSize;
+  private final int numThreads;
+  private final int bufferSize;
+  private final boolean useConcat;
+  private final boolean verifyRanges;
+  private final Meter copySpeedMeter;
+
+  /**
+   * Copy the source into the target, overwriting any file already there, e.g. the staging file of a previous attempt.
+   * @return the number of bytes copied
+   */
+  long copy() throws IOException {
+    Preconditions.checkArgument(this.numThreads > 0, "Number of threads must be positive: " + this.numThreads);
+    ExecutorService executor = Executors.newFixedThreadPool(this.numThreads,
+        ExecutorsUtils.newDaemonThreadFactory(Optional.of(log), Optional.of("ParallelRangeCopier-%d")));
+    try {
+      return this.useConcat ? copyAndConcatRanges(executor) : copyAndStitchChunks(executor);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private long copyAndConcatRanges(ExecutorService executor) throws IOException {
+    long alignedRangeSize = Math.max(this.rangeSize / this.blockSize, 1) * this.blockSize;
+    int numRanges = (int) ((this.fileLength + alignedRangeSize - 1) / alignedRangeSize);
+    Path[] parts = new Path[numRanges];
+    List<Future<Long>> futures = Lists.newArrayList();
+    for (int i = 0; i < numRanges; i++) {
+      parts[i] = new Path(this.target.getParent(), String.format("%s.__RANGE%d__", this.target.getName(), i));
+      long position = alignedRangeSize * i;
+      long length = Math.min(alignedRangeSize, this.fileLength - position);
+      Path part = parts[i];
+      futures.add(executor.submit(() -> copyRange(position, length, part)));
+    }
+    log.info(String.format("Copying %s to %s in %d ranges of %d bytes", this.source, this.target, numRanges,
+        alignedRangeSize));
+
+    boolean merged = false;
+    try {
+      long bytesCopied = 0;
+      for (Future<Long> future : futures) {
+        bytesCopied += getResult(future);
+      }
+
+      // rename does not overwrite, and a previous attempt may have left the target behind
+      if (this.targetFs.exists(this.target) && !this.targetFs.delete(this.target, false)) {
+        throw new IOException(String.format("Failed to delete existing %s", this.target));
+      }
+      if (!this.targetFs.rename(parts[0], this.target)) {
+        throw new IOException(String.format("Failed to rename %s to %s", parts[0], this.target));
+      }
+      if (numRanges > 1) {
+        try {
+          this.targetFs.concat(this.target, Arrays.copyOfRange(parts, 1, numRanges));
+        } catch (IOException | UnsupportedOperationException e) {
+          log.warn(String.format("Failed to concat the ranges of %s, stitching them instead", this.target), e);
+          if (!this.targetFs.rename(this.target, parts[0])) {
+            throw new IOException(String.format("Failed to rename %s to %s", this.target, parts[0]), e);
+          }
+          stitchParts(parts);
+        }
+      }
+      merged = true;
+      return bytesCopied;
+    } finally {
+      if (!merged) {
+        for (Future<Long> future : futures) {
+          future.cancel(true);
+        }
+        for (Path part : parts) {
+          this.targetFs.delete(part, false);
+        }
+      }
+    }
+  }
+
+  /**
+   * Copy a range of the source into its own part file.
+   * @return the number of bytes copied
+   */
+  private long copyRange(long position, long length, Path part) throws IOException {
+    CRC32 sourceChecksum = new CRC32();
+    byte[] buffer = new byte[this.bufferSize];
+    try (FSDataInputStream in = this.sourceFs.open(this.source);
+        OutputStream out = this.targetFs.create(part, true, this.bufferSize, this.replication, this.blockSize)) {
+      long copied = 0;
+      while (copied < length) {
+        int toRead = (int) Math.min(buffer.length, length - copied);
+        int read = in.read(position + copied, buffer, 0, toRead);
+        if (read < 0) {
+          throw new EOFException(String.format("Unexpected end of %s at %d", this.source, position + copied));
+        }
+        sourceChecksum.update(buffer, 0, read);
+        out.write(buffer, 0, read);
+        copied += read;
+        if (this.copySpeedMeter != null) {
+          this.copySpeedMeter.mark(read);
+        }
+      }
+    }
+
+    if (this.verifyRanges) {
+      CRC32 partChecksum = new CRC32();
+      long partLength = 0;
+      try (InputStream in = this.targetFs.open(part, this.bufferSize)) {
+        int read;
+        while ((read = in.read(buffer)) >= 0) {
+          partChecksum.update(buffer, 0, read);
+          partLength += read;
+        }
+      }
+      if (partLength != length || partChecksum.getValue() != sourceChecksum.getValue()) {
+        throw new IOException(String.format(
+            "Range [%d, %d) of %s does not match its copy %s: expected %d bytes with CRC32 %d, found %d bytes with CRC32 %d",
+            position, position + length, this.source, part, length, sourceChecksum.getValue(), partLength,
+            partChecksum.getValue()));
+      }
+    }
+    return length;
+  }
+
+  /**
+   * Append the parts, in order, to a new target, then delete them.
+   */
+  private void stitchParts(Path[] parts) throws IOException {
+    byte[] buffer = new byte[this.bufferSize];
+    try (OutputStream out = this.targetFs.create(this.target, true, this.bufferSize, this.replication,
+        this.blockSize)) {
+      for (Path part : parts) {
+        try (InputStream in = this.targetFs.open(part, this.bufferSize)) {
+          int read;
+          while ((read = in.read(buffer)) >= 0) {
+            out.write(buffer, 0, read);
+          }
+        }
+      }
+    }
+    for (Path part : parts) {
+      this.targetFs.delete(part, false);
+    }
+  }
+
+  /**
+   * Read chunks of the source concurrently, each with a source stream borrowed from a pool, and write them to the
+   * target in order. At most twice as many chunks as threads are held in memory.
+   */
+  private long copyAndStitchChunks(ExecutorService executor) throws IOException {
+    int chunkSize = (int) Math.min(STITCH_CHUNK_SIZE, Math.max(this.rangeSize, this.bufferSize));
+    int numChunks = (int) ((this.fileLength + chunkSize - 1) / chunkSize);
+    int maxChunksInFlight = 2 * this.numThreads;
+    List<FSDataInputStream> openedStreams = Lists.newArrayList();
+    BlockingQueue<FSDataInputStream> sourceStreams = new ArrayBlockingQueue<>(this.numThreads);
+    List<Future<byte[]>> chunks = Lists.newLinkedList();
+    log.info(String.format("Copying %s to %s in %d stitched chunks of %d bytes", this.source, this.target, numChunks,
+        chunkSize));
+
+    long bytesCopied = 0;
+    try (OutputStream out = this.targetFs.create(this.target, true, this.bufferSize, this.replication,
+        this.blockSize)) {
+      for (int i = 0; i < this.numThreads; i++) {
+        FSDataInputStream in = this.sourceFs.open(this.source);
+        openedStreams.add(in);
+        sourceStreams.add(in);
+      }
+      int nextChunk = 0;
+      while (nextChunk < numChunks || !chunks.isEmpty()) {
+        while (nextChunk < numChunks && chunks.size() < maxChunksInFlight) {
+          long position = (long) chunkSize * nextChunk;
+          int length = (int) Math.min(chunkSize, this.fileLength - position);
+          chunks.add(executor.submit(() -> readChunk(sourceStreams, position, length)));
+          nextChunk++;
+        }
+        byte[] chunk = getResult(chunks.remove(0));
+        out.write(chunk);
+        bytesCopied += chunk.length;
+        if (this.copySpeedMeter != null) {
+          this.copySpeedMeter.mark(chunk.length);
+        }
+      }
+    } finally {
+      for (Future<byte[]> chunk : chunks) {
+        chunk.cancel(true);
+      }
+      for (FSDataInputStream in : openedStreams) {
+        in.close();
+      }
+    }
+    return bytesCopied;
+  }
+
+  private byte[] readChunk(BlockingQueue<FSDataInputStream> sourceStreams, long position, int length)
+      throws IOException, InterruptedException {
+    FSDataInputStream in = sourceStreams.take();
+    try {
+      byte[] chunk = new byte[length];
+      in.readFully(position, chunk);
+      return chunk;
+    } finally {
+      sourceStreams.put(in);
+    }
+  }
+
+  private static <T> T getResult(Future<T> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while copying ranges", ie);
+    } catch (ExecutionException ee) {
+      if (ee.getCause() instanceof IOException) {
+        throw (IOException) ee.getCause();
+      }
+      throw new IOException(ee.getCause());
+    }
+  }
+}
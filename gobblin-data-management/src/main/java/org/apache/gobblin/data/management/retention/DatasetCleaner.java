@@ -19,12 +19,16 @@ package org.apache.gobblin.data.management.retention;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang.exception.ExceptionUtils;
 import org.apache.hadoop.fs.FileSystem;
@@ -32,7 +36,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.codahale.metrics.Meter;
+import com.codahale.metrics.Timer;
 import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Stopwatch;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.io.Closer;
@@ -50,6 +57,7 @@ import org.apache.gobblin.data.management.retention.dataset.CleanableDataset;
 import org.apache.gobblin.data.management.retention.profile.MultiCleanableDatasetFinder;
 import org.apache.gobblin.dataset.Dataset;
 import org.apache.gobblin.dataset.DatasetsFinder;
+import org.apache.gobblin.dataset.IterableDatasetFinder;
 import org.apache.gobblin.instrumented.Instrumentable;
 import org.apache.gobblin.instrumented.Instrumented;
 import org.apache.gobblin.metrics.GobblinMetrics;
@@ -75,8 +83,15 @@ public class DatasetCleaner implements Instrumentable, Closeable {
       CONFIGURATION_KEY_PREFIX + "max.concurrent.datasets.cleaned";
   public static final String DATASET_CLEAN_HDFS_CALLS_PER_SECOND_LIMIT =
       CONFIGURATION_KEY_PREFIX + "hdfs.calls.per.second.limit";
+  /**
+   * When true and the dataset finder is an {@link IterableDatasetFinder}, datasets are cleaned as they are found,
+   * rather than only after all of them are, and at most {@link #MAX_PENDING_DATASETS_CLEANED} are held at once.
+   */
+  public static final String STREAM_DATASETS = CONFIGURATION_KEY_PREFIX + "stream.datasets";
+  public static final String MAX_PENDING_DATASETS_CLEANED = CONFIGURATION_KEY_PREFIX + "max.pending.datasets.cleaned";
 
   public static final String DEFAULT_MAX_CONCURRENT_DATASETS_CLEANED = "100";
+  public static final String DEFAULT_STREAM_DATASETS = Boolean.toString(false);
 
   private static Logger LOG = LoggerFactory.getLogger(DatasetCleaner.class);
 
@@ -88,7 +103,11 @@ public class DatasetCleaner implements Instrumentable, Closeable {
   private final EventSubmitter eventSubmitter;
   private Optional<Meter> datasetsCleanSuccessMeter = Optional.absent();
   private Optional<Meter> datasetsCleanFailureMeter = Optional.absent();
+  private Optional<Timer> datasetCleanTimer = Optional.absent();
   private Optional<CountDownLatch> finishCleanSignal;
+  private final boolean streamDatasets;
+  private final int maxPendingDatasets;
+  private Optional<Semaphore> pendingDatasetsPermits = Optional.absent();
   private final List<Throwable> throwables;
 
   public DatasetCleaner(FileSystem fs, Properties props) throws IOException {
@@ -126,12 +145,19 @@ public class DatasetCleaner implements Instrumentable, Closeable {
     } catch (ExecutionException exception) {
       throw new IOException(exception);
     }
-    ExecutorService executor = ScalingThreadPoolExecutor.newScalingThreadPool(0,
-        Integer.parseInt(properties.getProperty(MAX_CONCURRENT_DATASETS_CLEANED, DEFAULT_MAX_CONCURRENT_DATASETS_CLEANED)),
+    int maxConcurrentDatasets =
+        Integer.parseInt(properties.getProperty(MAX_CONCURRENT_DATASETS_CLEANED, DEFAULT_MAX_CONCURRENT_DATASETS_CLEANED));
+    this.streamDatasets = Boolean.parseBoolean(properties.getProperty(STREAM_DATASETS, DEFAULT_STREAM_DATASETS));
+    this.maxPendingDatasets = Integer.parseInt(
+        properties.getProperty(MAX_PENDING_DATASETS_CLEANED, Integer.toString(2 * maxConcurrentDatasets)));
+    Preconditions.checkArgument(this.maxPendingDatasets > 0, "%s must be positive, but was %s",
+        MAX_PENDING_DATASETS_CLEANED, this.maxPendingDatasets);
+    ExecutorService executor = ScalingThreadPoolExecutor.newScalingThreadPool(0, maxConcurrentDatasets,
         100, ExecutorsUtils.newThreadFactory(Optional.of(LOG), Optional.of("Dataset-cleaner-pool-%d")));
     this.service = ExecutorsUtils.loggingDecorator(executor);
 
-    this.throwables = Lists.newArrayList();
+    // failures are recorded from the cleaner pool's threads
+    this.throwables = Collections.synchronizedList(Lists.<Throwable>newArrayList());
   }
 
   /**
@@ -139,40 +165,77 @@ public class DatasetCleaner implements Instrumentable, Closeable {
    * @throws IOException
    */
   public void clean() throws IOException {
+    if (this.streamDatasets && this.datasetFinder instanceof IterableDatasetFinder) {
+      cleanStreamingDatasets(((IterableDatasetFinder<Dataset>) this.datasetFinder).getDatasetsIterator());
+      return;
+    }
     List<Dataset> dataSets = this.datasetFinder.findDatasets();
     this.finishCleanSignal = Optional.of(new CountDownLatch(dataSets.size()));
     for (final Dataset dataset : dataSets) {
-      ListenableFuture<Void> future = this.service.submit(new Callable<Void>() {
-        @Override
-        public Void call() throws Exception {
-          if (dataset instanceof CleanableDataset) {
-            ((CleanableDataset) dataset).clean();
-          }
-          return null;
-        }
-      });
-      Futures.addCallback(future, new FutureCallback<Void>() {
-        @Override
-        public void onFailure(Throwable throwable) {
-          LOG.warn("Exception caught when cleaning " + dataset.datasetURN() + ".", throwable);
-          DatasetCleaner.this.throwables.add(throwable);
-          Instrumented.markMeter(DatasetCleaner.this.datasetsCleanFailureMeter);
-          DatasetCleaner.this.eventSubmitter.submit(RetentionEvents.CleanFailed.EVENT_NAME,
-              ImmutableMap.of(RetentionEvents.CleanFailed.FAILURE_CONTEXT_METADATA_KEY,
-                  ExceptionUtils.getFullStackTrace(throwable), RetentionEvents.DATASET_URN_METADATA_KEY,
-                  dataset.datasetURN()));
-          // Moving the countDown at the end, avoid race-condition with close waiting for the countDown to be 0
-          DatasetCleaner.this.finishCleanSignal.get().countDown();
-        }
+      submitClean(dataset, () -> DatasetCleaner.this.finishCleanSignal.get().countDown());
+    }
+  }
 
-        @Override
-        public void onSuccess(Void arg0) {
-          DatasetCleaner.this.finishCleanSignal.get().countDown();
-          LOG.info("Successfully cleaned: " + dataset.datasetURN());
-          Instrumented.markMeter(DatasetCleaner.this.datasetsCleanSuccessMeter);
-        }
-      }, MoreExecutors.directExecutor());
+  /**
+   * Cleans each dataset as soon as `datasets` yields it, blocking whenever {@link #maxPendingDatasets} are already
+   * submitted but not yet cleaned, so that neither discovery nor the cleaner pool's queue holds every dataset at once.
+   */
+  private void cleanStreamingDatasets(Iterator<Dataset> datasets) throws IOException {
+    final Semaphore permits = new Semaphore(this.maxPendingDatasets);
+    this.pendingDatasetsPermits = Optional.of(permits);
+    int numDatasets = 0;
+    try {
+      while (datasets.hasNext()) {
+        Dataset dataset = datasets.next();
+        permits.acquire();
+        submitClean(dataset, permits::release);
+        numDatasets++;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while submitting datasets to clean", e);
     }
+    LOG.info("Submitted all {} datasets found to clean", numDatasets);
+  }
+
+  /**
+   * Cleans `dataset` on the cleaner pool, running `onComplete` once it succeeds or fails.
+   */
+  private void submitClean(final Dataset dataset, final Runnable onComplete) {
+    final Stopwatch stopwatch = Stopwatch.createUnstarted();
+    ListenableFuture<Void> future = this.service.submit(new Callable<Void>() {
+      @Override
+      public Void call() throws Exception {
+        stopwatch.start();
+        if (dataset instanceof CleanableDataset) {
+          ((CleanableDataset) dataset).clean();
+        }
+        return null;
+      }
+    });
+    Futures.addCallback(future, new FutureCallback<Void>() {
+      @Override
+      public void onFailure(Throwable throwable) {
+        LOG.warn("Exception caught when cleaning " + dataset.datasetURN() + ".", throwable);
+        DatasetCleaner.this.throwables.add(throwable);
+        Instrumented.markMeter(DatasetCleaner.this.datasetsCleanFailureMeter);
+        DatasetCleaner.this.eventSubmitter.submit(RetentionEvents.CleanFailed.EVENT_NAME,
+            ImmutableMap.of(RetentionEvents.CleanFailed.FAILURE_CONTEXT_METADATA_KEY,
+                ExceptionUtils.getFullStackTrace(throwable), RetentionEvents.DATASET_URN_METADATA_KEY,
+                dataset.datasetURN()));
+        // Moving the countDown at the end, avoid race-condition with close waiting for the countDown to be 0
+        onComplete.run();
+      }
+
+      @Override
+      public void onSuccess(Void arg0) {
+        onComplete.run();
+        long elapsedMillis = stopwatch.elapsed(TimeUnit.MILLISECONDS);
+        LOG.info("Successfully cleaned: " + dataset.datasetURN() + " in " + elapsedMillis + " ms");
+        Instrumented.markMeter(DatasetCleaner.this.datasetsCleanSuccessMeter);
+        Instrumented.updateTimer(DatasetCleaner.this.datasetCleanTimer, elapsedMillis, TimeUnit.MILLISECONDS);
+      }
+    }, MoreExecutors.directExecutor());
   }
 
   @Override
@@ -181,6 +244,9 @@ public class DatasetCleaner implements Instrumentable, Closeable {
       if (this.finishCleanSignal != null && this.finishCleanSignal.isPresent()) {
         this.finishCleanSignal.get().await();
       }
+      if (this.pendingDatasetsPermits.isPresent()) {
+        this.pendingDatasetsPermits.get().acquire(this.maxPendingDatasets);
+      }
       if (!this.throwables.isEmpty()) {
         for (Throwable t : this.throwables) {
           LOG.error("Failed clean due to ", t);
@@ -234,11 +300,13 @@ public class DatasetCleaner implements Instrumentable, Closeable {
           Optional.of(this.metricContext.meter(DatasetCleanerMetrics.DATASETS_CLEAN_FAILURE));
       this.datasetsCleanSuccessMeter =
           Optional.of(this.metricContext.meter(DatasetCleanerMetrics.DATASETS_CLEAN_SUCCESS));
+      this.datasetCleanTimer = Optional.of(this.metricContext.timer(DatasetCleanerMetrics.DATASET_CLEAN_TIMER));
     }
   }
 
   public static class DatasetCleanerMetrics {
     public static final String DATASETS_CLEAN_SUCCESS = "gobblin.retention.datasets.clean.success";
     public static final String DATASETS_CLEAN_FAILURE = "gobblin.retention.datasets.clean.failure";
+    public static final String DATASET_CLEAN_TIMER = "gobblin.retention.dataset.clean.timer";
   }
 }
@@ -19,9 +19,14 @@ package org.apache.gobblin.data.management.retention.dataset;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
 
 import lombok.Getter;
 
@@ -29,6 +34,11 @@ import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.slf4j.Logger;
 
+import com.google.common.base.Stopwatch;
+import com.google.common.base.Throwables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.typesafe.config.Config;
 
 import org.apache.gobblin.data.management.trash.ProxiedTrash;
@@ -46,6 +56,8 @@ import org.apache.gobblin.util.PathUtils;
  * <li> Skip Trash - Delete permanent by setting {@value #SKIP_TRASH_KEY} to true.
  * <li> Auto delete empty parent directories - By setting {@value #DELETE_EMPTY_DIRECTORIES_KEY} to true.
  * <li> Proxy as owner and delete - By setting {@value #DELETE_AS_OWNER_KEY} to true.
+ * <li> Delete the versions of a dataset in parallel - By setting {@value #VERSION_DELETION_THREADS_KEY} above 1. All
+ * datasets cleaned in the JVM with the same setting share the same threads.
  * </ul>
  * </p>
  */
@@ -67,6 +79,9 @@ public class FsCleanableHelper {
   public static final String DELETE_AS_OWNER_KEY = CONFIGURATION_KEY_PREFIX + "delete.as.owner";
   public static final String DELETE_AS_OWNER_DEFAULT = Boolean.toString(true);
 
+  public static final String VERSION_DELETION_THREADS_KEY = CONFIGURATION_KEY_PREFIX + "version.deletion.threads";
+  public static final String VERSION_DELETION_THREADS_DEFAULT = Integer.toString(1);
+
   protected final FileSystem fs;
   @Getter
   protected final ProxiedTrash trash;
@@ -74,8 +89,16 @@ public class FsCleanableHelper {
   protected final boolean skipTrash;
   protected final boolean deleteEmptyDirectories;
   protected final boolean deleteAsOwner;
+  protected final int versionDeletionThreads;
   protected final Logger log;
 
+  /**
+   * Pools deleting versions, by {@value #VERSION_DELETION_THREADS_KEY}, shared by every helper in the process with that
+   * setting, so that cleaning many datasets concurrently neither creates a pool per dataset nor multiplies the deletion
+   * threads, while jobs run later in the same JVM with a different setting still get the parallelism they ask for.
+   */
+  private static final Map<Integer, ForkJoinPool> VERSION_DELETION_POOLS = Maps.newConcurrentMap();
+
   public FsCleanableHelper(FileSystem fs, Properties properties, boolean simulate, boolean skipTrash, boolean deleteEmptyDirectories, boolean deleteAsOwner,
       Logger log) throws IOException {
     this.log = log;
@@ -93,6 +116,8 @@ public class FsCleanableHelper {
     }
     this.trash = TrashFactory.createProxiedTrash(this.fs, thisProperties);
     this.deleteAsOwner = deleteAsOwner;
+    this.versionDeletionThreads =
+        Integer.parseInt(properties.getProperty(VERSION_DELETION_THREADS_KEY, VERSION_DELETION_THREADS_DEFAULT));
   }
 
   public FsCleanableHelper(final FileSystem fs, final Properties props, Config config, Logger log) throws IOException {
@@ -113,21 +138,31 @@ public class FsCleanableHelper {
     Set<Path> pathsToDelete = versionToDelete.getPaths();
     log.info("Deleting paths: " + Arrays.toString(pathsToDelete.toArray()));
 
-    boolean deletedAllPaths = true;
-
+    List<Path> existingPaths = Lists.newArrayListWithCapacity(pathsToDelete.size());
     for (Path path : pathsToDelete) {
-
       if (!this.fs.exists(path)) {
         log.info(String.format("Path %s in dataset version %s does not exist", path, versionToDelete));
         continue;
       }
+      existingPaths.add(path);
+    }
 
-      boolean successfullyDeleted = deleteAsOwner ? trash.moveToTrashAsOwner(path) : trash.moveToTrash(path);
+    Map<Path, Boolean> deleted;
+    if (this.deleteAsOwner) {
+      deleted = Maps.newLinkedHashMap();
+      for (Path path : existingPaths) {
+        deleted.put(path, this.trash.moveToTrashAsOwner(path));
+      }
+    } else {
+      deleted = this.trash.moveToTrash(existingPaths);
+    }
 
-      if (successfullyDeleted) {
-        possiblyEmptyDirectories.add(path.getParent());
+    boolean deletedAllPaths = true;
+    for (Map.Entry<Path, Boolean> entry : deleted.entrySet()) {
+      if (entry.getValue()) {
+        possiblyEmptyDirectories.add(entry.getKey().getParent());
       } else {
-        log.error("Failed to delete path " + path + " in dataset version " + versionToDelete);
+        log.error("Failed to delete path " + entry.getKey() + " in dataset version " + versionToDelete);
         deletedAllPaths = false;
       }
     }
@@ -147,11 +182,50 @@ public class FsCleanableHelper {
       log.warn("No deletable dataset version can be found. Ignoring.");
       return;
     }
-    Set<Path> possiblyEmptyDirectories = new HashSet<>();
-    for (FileSystemDatasetVersion fsdv : deletableVersions) {
-      clean(fsdv, possiblyEmptyDirectories);
+    Stopwatch stopwatch = Stopwatch.createStarted();
+    Set<Path> possiblyEmptyDirectories = Sets.newConcurrentHashSet();
+    if (this.versionDeletionThreads > 1 && deletableVersions.size() > 1) {
+      cleanInParallel(deletableVersions, possiblyEmptyDirectories);
+    } else {
+      for (FileSystemDatasetVersion fsdv : deletableVersions) {
+        clean(fsdv, possiblyEmptyDirectories);
+      }
     }
     cleanEmptyDirectories(possiblyEmptyDirectories, fsDataset);
+    log.info(String.format("Deleted %d dataset versions of %s in %d ms", deletableVersions.size(),
+        fsDataset.datasetRoot(), stopwatch.elapsed(TimeUnit.MILLISECONDS)));
+  }
+
+  /**
+   * Delete <code>deletableVersions</code> on the work-stealing pool shared by all helpers with the same
+   * {@value #VERSION_DELETION_THREADS_KEY}, so that a few versions with many paths do not hold back the rest. The
+   * workers are daemon threads and idle ones exit, so the pools are never shut down.
+   */
+  private void cleanInParallel(final Collection<? extends FileSystemDatasetVersion> deletableVersions,
+      final Set<Path> possiblyEmptyDirectories) throws IOException {
+    ForkJoinPool pool = VERSION_DELETION_POOLS.computeIfAbsent(this.versionDeletionThreads, ForkJoinPool::new);
+    List<ForkJoinTask<Void>> tasks = Lists.newArrayListWithCapacity(deletableVersions.size());
+    try {
+      for (FileSystemDatasetVersion fsdv : deletableVersions) {
+        tasks.add(pool.submit(() -> {
+          clean(fsdv, possiblyEmptyDirectories);
+          return null;
+        }));
+      }
+      for (ForkJoinTask<Void> task : tasks) {
+        task.get();
+      }
+    } catch (ExecutionException e) {
+      Throwables.propagateIfPossible(e.getCause(), IOException.class);
+      throw new IOException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while deleting dataset versions", e);
+    } finally {
+      for (ForkJoinTask<Void> task : tasks) {
+        task.cancel(true);
+      }
+    }
   }
 
   /**
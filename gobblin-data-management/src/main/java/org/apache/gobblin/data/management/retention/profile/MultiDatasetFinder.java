@@ -22,6 +22,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Properties;
 
@@ -33,6 +34,7 @@ import org.apache.hadoop.fs.Path;
 
 import com.google.common.base.Splitter;
 import com.google.common.base.Throwables;
+import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.typesafe.config.Config;
@@ -45,12 +47,15 @@ import org.apache.gobblin.config.store.api.ConfigStoreCreationException;
 import org.apache.gobblin.config.store.api.VersionDoesNotExistException;
 import org.apache.gobblin.dataset.Dataset;
 import org.apache.gobblin.dataset.DatasetsFinder;
+import org.apache.gobblin.dataset.IterableDatasetFinder;
 import org.apache.gobblin.util.reflection.GobblinConstructorUtils;
 
 
 /**
  * A DatasetFinder that instantiates multiple DatasetFinders. {@link #findDatasets()} will return a union of all the
- * datasets found by each datasetFinder
+ * datasets found by each datasetFinder. {@link #getDatasetsIterator()} returns the same union lazily, consulting each
+ * datasetFinder only once the datasets of the previous one are exhausted, and streaming the datasets of any
+ * {@link IterableDatasetFinder}.
  * <p>
  * Subclasses will specify the dataset finder class key name to instantiate. If {@link #datasetFinderClassKey()} is set
  * in jobProps, a single datasetFinder is created. Otherwise {@link #datasetFinderImportedByKey()} is used to find all
@@ -60,7 +65,7 @@ import org.apache.gobblin.util.reflection.GobblinConstructorUtils;
  *
  */
 @Slf4j
-public abstract class MultiDatasetFinder implements DatasetsFinder<Dataset> {
+public abstract class MultiDatasetFinder implements IterableDatasetFinder<Dataset> {
   private static final Splitter TAGS_SPLITTER = Splitter.on(",").omitEmptyStrings().trimResults();
 
   protected abstract String datasetFinderClassKey();
@@ -142,6 +147,31 @@ public abstract class MultiDatasetFinder implements DatasetsFinder<Dataset> {
     return datasets;
   }
 
+  @Override
+  public Iterator<Dataset> getDatasetsIterator() throws IOException {
+    final Iterator<DatasetsFinder<Dataset>> finders = this.datasetFinders.iterator();
+    return new AbstractIterator<Dataset>() {
+      private Iterator<Dataset> current = null;
+
+      @Override
+      protected Dataset computeNext() {
+        while (this.current == null || !this.current.hasNext()) {
+          if (!finders.hasNext()) {
+            return endOfData();
+          }
+          DatasetsFinder<Dataset> df = finders.next();
+          try {
+            this.current = df instanceof IterableDatasetFinder ? ((IterableDatasetFinder<Dataset>) df).getDatasetsIterator()
+                : df.findDatasets().iterator();
+          } catch (IOException ioe) {
+            throw new RuntimeException("Failed to find datasets with " + df.getClass().getName(), ioe);
+          }
+        }
+        return this.current.next();
+      }
+    };
+  }
+
   @Override
   public Path commonDatasetRoot() {
     throw new UnsupportedOperationException("There is no common dataset root for MultiDatasetFinder");
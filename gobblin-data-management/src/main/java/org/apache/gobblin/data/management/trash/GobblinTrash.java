@@ -18,6 +18,9 @@
 package org.apache.gobblin.data.management.trash;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.apache.hadoop.fs.Path;
 
@@ -35,4 +38,18 @@ public interface GobblinTrash {
    */
   public boolean moveToTrash(Path path) throws IOException;
 
+  /**
+   * Move each of the input paths to trash.
+   * @param paths {@link Path}s to move to trash.
+   * @return for each of <code>paths</code>, in iteration order, true if its move succeeded.
+   * @throws IOException
+   */
+  default Map<Path, Boolean> moveToTrash(Collection<Path> paths) throws IOException {
+    Map<Path, Boolean> results = new LinkedHashMap<>();
+    for (Path path : paths) {
+      results.put(path, moveToTrash(path));
+    }
+    return results;
+  }
+
 }
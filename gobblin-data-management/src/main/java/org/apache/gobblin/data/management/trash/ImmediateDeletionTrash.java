@@ -18,6 +18,8 @@
 package org.apache.gobblin.data.management.trash;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Properties;
 
 import org.apache.hadoop.fs.FileSystem;
@@ -51,6 +53,12 @@ public class ImmediateDeletionTrash extends ProxiedTrash {
     return this.fs.delete(path, true);
   }
 
+  @Override
+  public Map<Path, Boolean> moveToTrash(Collection<Path> paths)
+      throws IOException {
+    return forEachPath(paths, "delete", this::moveToTrash);
+  }
+
   @Override
   protected void ensureTrashLocationExists(FileSystem fs, Path trashLocation)
       throws IOException {
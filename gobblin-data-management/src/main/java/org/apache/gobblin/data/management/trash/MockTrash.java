@@ -18,7 +18,9 @@
 package org.apache.gobblin.data.management.trash;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import org.apache.hadoop.fs.FileSystem;
@@ -49,6 +51,12 @@ public class MockTrash extends ProxiedTrash {
     return true;
   }
 
+  @Override
+  public Map<Path, Boolean> moveToTrash(Collection<Path> paths)
+      throws IOException {
+    return forEachPath(paths, "move to trash", this::moveToTrash);
+  }
+
   @Override
   public void createTrashSnapshot()
       throws IOException {
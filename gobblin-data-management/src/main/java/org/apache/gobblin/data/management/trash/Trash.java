@@ -19,10 +19,21 @@ package org.apache.gobblin.data.management.trash;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
@@ -38,8 +49,15 @@ import org.joda.time.format.DateTimeFormatter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import org.apache.gobblin.util.ExecutorsUtils;
 import org.apache.gobblin.util.PathUtils;
 import org.apache.gobblin.util.PropertiesUtils;
+import org.apache.gobblin.util.function.CheckedExceptionFunction;
 import org.apache.gobblin.util.reflection.GobblinConstructorUtils;
 
 
@@ -61,6 +79,14 @@ public class Trash implements GobblinTrash {
    */
   public static final String TRASH_LOCATION_KEY = "gobblin.trash.location";
   public static final String SNAPSHOT_CLEANUP_POLICY_CLASS_KEY = "gobblin.trash.snapshot.cleanup.policy.class";
+  /**
+   * Maximum number of renames or deletes issued at once by the operations on many paths, namely
+   * {@link #moveToTrash(Collection)}, {@link #createTrashSnapshot()} and {@link #purgeTrashSnapshots()}. Each of them
+   * goes through the trash's {@link FileSystem}, so a rate controlled file system still bounds their overall rate.
+   */
+  public static final String TRASH_OPERATION_THREADS_KEY = "gobblin.trash.operation.threads";
+  public static final int DEFAULT_TRASH_OPERATION_THREADS = 1;
+  private static final long OPERATION_THREAD_KEEP_ALIVE_SECONDS = 60;
   public static final String TRASH_SNAPSHOT_PREFIX = "_TRASH_SNAPSHOT_";
   public static final String TRASH_IDENTIFIER_FILE = "_THIS_IS_TRASH_DIRECTORY";
   public static final String DEFAULT_TRASH_DIRECTORY = "_GOBBLIN_TRASH";
@@ -144,6 +170,9 @@ public class Trash implements GobblinTrash {
   protected final FileSystem fs;
   private final Path trashLocation;
   private final SnapshotCleanupPolicy snapshotCleanupPolicy;
+  private final int operationThreads;
+  /** Runs the operations on many paths, created on first use and reused by every later one. */
+  private ExecutorService operationExecutor;
 
   /**
    * @deprecated Use {@link org.apache.gobblin.data.management.trash.TrashFactory}.
@@ -164,6 +193,7 @@ public class Trash implements GobblinTrash {
   protected Trash(FileSystem fs, Properties props, String user) throws IOException {
     this.fs = fs;
     this.simulate = PropertiesUtils.getPropAsBoolean(props, TrashFactory.SIMULATE, "false");
+    this.operationThreads = PropertiesUtils.getPropAsInt(props, TRASH_OPERATION_THREADS_KEY, DEFAULT_TRASH_OPERATION_THREADS);
     this.trashLocation = createTrashLocation(fs, props, user);
     try {
       Class<?> snapshotCleanupPolicyClass = Class.forName(props.getProperty(SNAPSHOT_CLEANUP_POLICY_CLASS_KEY,
@@ -193,16 +223,69 @@ public class Trash implements GobblinTrash {
    */
   @Override
   public boolean moveToTrash(Path path) throws IOException {
-    Path fullyResolvedPath = path.isAbsolute() ? path : new Path(this.fs.getWorkingDirectory(), path);
+    Path fullyResolvedPath = resolvePath(path);
     Path targetPathInTrash = PathUtils.mergePaths(this.trashLocation, fullyResolvedPath);
+    boolean parentCreated = ensureParentInTrashExists(targetPathInTrash.getParent());
+    return renameToTrash(fullyResolvedPath, targetPathInTrash, !parentCreated);
+  }
 
-    if (!this.fs.exists(targetPathInTrash.getParent())) {
-      if (this.simulate) {
-        LOG.info("Making a parent directory at " + targetPathInTrash.getParent() + " in trash.");
-      } else {
-        this.fs.mkdirs(targetPathInTrash.getParent());
+  /**
+   * Move paths to trash, as {@link #moveToTrash(Path)} does for each of them, but creating each parent directory in
+   * trash only once and issuing up to {@value #TRASH_OPERATION_THREADS_KEY} renames at once.
+   *
+   * <p>
+   *   Subclasses that override {@link #moveToTrash(Path)} should override this method as well.
+   * </p>
+   *
+   * @param paths {@link org.apache.hadoop.fs.FileSystem} paths to move to trash.
+   * @return for each of <code>paths</code>, in iteration order, whether it was moved to trash successfully. A path
+   *         whose move failed with an {@link IOException} is logged and reported as not moved.
+   * @throws IOException if a parent directory in trash could not be checked or created.
+   */
+  @Override
+  public Map<Path, Boolean> moveToTrash(Collection<Path> paths) throws IOException {
+    final Map<Path, Path> targetPathsInTrash = new LinkedHashMap<>();
+    Set<Path> parentsInTrash = new LinkedHashSet<>();
+    for (Path path : paths) {
+      Path targetPathInTrash = PathUtils.mergePaths(this.trashLocation, resolvePath(path));
+      targetPathsInTrash.put(path, targetPathInTrash);
+      parentsInTrash.add(targetPathInTrash.getParent());
+    }
+    final Set<Path> createdParents = Sets.newHashSet();
+    for (Path parentInTrash : parentsInTrash) {
+      if (ensureParentInTrashExists(parentInTrash)) {
+        createdParents.add(parentInTrash);
       }
-    } else if (this.fs.exists(targetPathInTrash)) {
+    }
+    return forEachPath(targetPathsInTrash.keySet(), "move to trash", path -> {
+      Path targetPathInTrash = targetPathsInTrash.get(path);
+      return renameToTrash(resolvePath(path), targetPathInTrash, !createdParents.contains(targetPathInTrash.getParent()));
+    });
+  }
+
+  private Path resolvePath(Path path) {
+    return path.isAbsolute() ? path : new Path(this.fs.getWorkingDirectory(), path);
+  }
+
+  /**
+   * Create <code>parentInTrash</code> if it does not exist yet.
+   * @return true if the directory did not exist, and so nothing under it can exist either.
+   */
+  private boolean ensureParentInTrashExists(Path parentInTrash) throws IOException {
+    if (this.fs.exists(parentInTrash)) {
+      return false;
+    }
+    if (this.simulate) {
+      LOG.info("Making a parent directory at " + parentInTrash + " in trash.");
+    } else {
+      this.fs.mkdirs(parentInTrash);
+    }
+    return true;
+  }
+
+  private boolean renameToTrash(Path fullyResolvedPath, Path targetPathInTrash, boolean targetMayExist)
+      throws IOException {
+    if (targetMayExist && this.fs.exists(targetPathInTrash)) {
       targetPathInTrash = targetPathInTrash.suffix("_" + System.currentTimeMillis());
     }
     if (this.simulate) {
@@ -212,6 +295,72 @@ public class Trash implements GobblinTrash {
     return this.fs.rename(fullyResolvedPath, targetPathInTrash);
   }
 
+  /**
+   * Apply <code>operation</code> to each of <code>paths</code>, running up to {@value #TRASH_OPERATION_THREADS_KEY}
+   * of them at once.
+   * @return for each of <code>paths</code>, in iteration order, the result of <code>operation</code>, or false if it
+   *         failed with an {@link IOException}.
+   * @throws IOException if interrupted while waiting for the operations to complete.
+   */
+  protected Map<Path, Boolean> forEachPath(Collection<Path> paths, String operationName,
+      final CheckedExceptionFunction<Path, Boolean, IOException> operation) throws IOException {
+    Map<Path, Boolean> results = Maps.newLinkedHashMap();
+    if (this.operationThreads <= 1 || paths.size() <= 1) {
+      for (Path path : paths) {
+        results.put(path, applyOperation(path, operationName, operation));
+      }
+      return results;
+    }
+
+    ExecutorService executor = getOperationExecutor();
+    List<Future<Boolean>> futures = Lists.newArrayListWithCapacity(paths.size());
+    try {
+      for (final Path path : paths) {
+        futures.add(executor.submit(() -> applyOperation(path, operationName, operation)));
+      }
+      int i = 0;
+      for (Path path : paths) {
+        results.put(path, futures.get(i++).get());
+      }
+      return results;
+    } catch (ExecutionException ee) {
+      // applyOperation turns IOExceptions into failed results, so only unchecked exceptions get here
+      throw new RuntimeException(ee.getCause());
+    } catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting to " + operationName, ie);
+    } finally {
+      for (Future<Boolean> future : futures) {
+        future.cancel(true);
+      }
+    }
+  }
+
+  /**
+   * Returns the pool of up to {@value #TRASH_OPERATION_THREADS_KEY} threads shared by all operations on this trash.
+   * Its threads are daemons and exit once idle, so the pool never needs to be shut down.
+   */
+  private synchronized ExecutorService getOperationExecutor() {
+    if (this.operationExecutor == null) {
+      ThreadPoolExecutor executor = new ThreadPoolExecutor(this.operationThreads, this.operationThreads,
+          OPERATION_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+          ExecutorsUtils.newDaemonThreadFactory(Optional.of(LOG), Optional.of("Trash-operation-%d")));
+      executor.allowCoreThreadTimeOut(true);
+      this.operationExecutor = executor;
+    }
+    return this.operationExecutor;
+  }
+
+  private static boolean applyOperation(Path path, String operationName,
+      CheckedExceptionFunction<Path, Boolean, IOException> operation) {
+    try {
+      return operation.apply(path);
+    } catch (IOException exception) {
+      LOG.error(String.format("Failed to %s path %s.", operationName, path), exception);
+      return false;
+    }
+  }
+
   /**
    * Moves all current contents of trash directory into a snapshot directory with current timestamp.
    * @throws IOException
@@ -237,27 +386,23 @@ public class Trash implements GobblinTrash {
     LOG.info(String.format("Moving %d paths in Trash directory to newly created snapshot at %s.", pathsInTrash.length,
         snapshotDir));
 
-    int pathsFailedToMove = 0;
+    List<Path> pathsToMove = Lists.newArrayListWithCapacity(pathsInTrash.length);
     for (FileStatus fileStatus : pathsInTrash) {
-      Path pathRelativeToTrash = PathUtils.relativizePath(fileStatus.getPath(), this.trashLocation);
-      Path targetPath = new Path(snapshotDir, pathRelativeToTrash);
-      boolean movedThisPath = true;
-      try {
-        if (this.simulate) {
-          LOG.info("Simulating moving of " + fileStatus.getPath() + " to " + targetPath + " in snapshot.");
-        } else {
-          movedThisPath = this.fs.rename(fileStatus.getPath(), targetPath);
-        }
-      } catch (IOException exception) {
-        LOG.error("Failed to move path " + fileStatus.getPath().toString() + " to snapshot.", exception);
-        pathsFailedToMove += 1;
-        continue;
+      pathsToMove.add(fileStatus.getPath());
+    }
+    Map<Path, Boolean> moved = forEachPath(pathsToMove, "move to snapshot", path -> {
+      Path targetPath = new Path(snapshotDir, PathUtils.relativizePath(path, this.trashLocation));
+      if (this.simulate) {
+        LOG.info("Simulating moving of " + path + " to " + targetPath + " in snapshot.");
+        return true;
       }
+      boolean movedThisPath = this.fs.rename(path, targetPath);
       if (!movedThisPath) {
-        LOG.error("Failed to move path " + fileStatus.getPath().toString() + " to snapshot.");
-        pathsFailedToMove += 1;
+        LOG.error("Failed to move path " + path.toString() + " to snapshot.");
       }
-    }
+      return movedThisPath;
+    });
+    int pathsFailedToMove = Collections.frequency(moved.values(), false);
 
     if (pathsFailedToMove > 0) {
       LOG.error(
@@ -290,26 +435,26 @@ public class Trash implements GobblinTrash {
     });
 
     int totalSnapshots = snapshotsInTrash.size();
-    int snapshotsDeleted = 0;
 
+    // The policy sees snapshots from oldest to newest, after which the selected ones are deleted concurrently
+    List<Path> snapshotsToDelete = Lists.newArrayList();
     for (FileStatus snapshot : snapshotsInTrash) {
       if (this.snapshotCleanupPolicy.shouldDeleteSnapshot(snapshot, this)) {
-        try {
-          if (this.simulate) {
-            LOG.info("Simulating delete of snapshot " + snapshot.getPath());
-          } else {
-            boolean successfullyDeleted = this.fs.delete(snapshot.getPath(), true);
-            if (successfullyDeleted) {
-              snapshotsDeleted++;
-            } else {
-              LOG.error("Failed to delete snapshot " + snapshot.getPath());
-            }
-          }
-        } catch (IOException exception) {
-          LOG.error("Failed to delete snapshot " + snapshot.getPath(), exception);
-        }
+        snapshotsToDelete.add(snapshot.getPath());
       }
     }
+    Map<Path, Boolean> deleted = forEachPath(snapshotsToDelete, "delete snapshot", snapshot -> {
+      if (this.simulate) {
+        LOG.info("Simulating delete of snapshot " + snapshot);
+        return false;
+      }
+      boolean successfullyDeleted = this.fs.delete(snapshot, true);
+      if (!successfullyDeleted) {
+        LOG.error("Failed to delete snapshot " + snapshot);
+      }
+      return successfullyDeleted;
+    });
+    int snapshotsDeleted = Collections.frequency(deleted.values(), true);
 
     LOG.info(String.format("Deleted %d out of %d existing snapshots.", snapshotsDeleted, totalSnapshots));
   }
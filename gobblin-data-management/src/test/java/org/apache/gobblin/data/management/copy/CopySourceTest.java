@@ -41,6 +41,7 @@ import org.testng.annotations.Test;
 
 import com.google.common.base.Predicates;
 import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
 
 import org.apache.gobblin.configuration.ConfigurationKeys;
 import org.apache.gobblin.configuration.SourceState;
@@ -55,6 +56,7 @@ import org.apache.gobblin.metrics.MetricContext;
 import org.apache.gobblin.metrics.event.EventSubmitter;
 import org.apache.gobblin.source.workunit.Extract;
 import org.apache.gobblin.source.workunit.WorkUnit;
+import org.apache.gobblin.source.workunit.WorkUnitStream;
 import org.apache.gobblin.util.HadoopUtils;
 import org.apache.gobblin.util.JobLauncherUtils;
 import org.apache.gobblin.util.request_allocation.PriorityIterableBasedRequestAllocator;
@@ -92,6 +94,35 @@ public class CopySourceTest {
     }
   }
 
+  @Test
+  public void testStreamedWorkUnits()
+      throws Exception {
+
+    SourceState state = new SourceState();
+
+    state.setProp(ConfigurationKeys.SOURCE_FILEBASED_FS_URI, "file:///");
+    state.setProp(ConfigurationKeys.WRITER_FILE_SYSTEM_URI, "file:///");
+    state.setProp(ConfigurationKeys.DATA_PUBLISHER_FINAL_DIR, "/target/dir");
+    state.setProp(DatasetUtils.DATASET_PROFILE_CLASS_KEY, TestCopyableDatasetFinder.class.getName());
+    state.setProp(CopySource.STREAM_WORK_UNITS, true);
+    state.setProp(CopySource.STREAM_WORK_UNITS_MAX_BUFFERED_FILE_SETS, 1);
+
+    CopySource source = new CopySource();
+
+    WorkUnitStream workUnitStream = source.getWorkunitStream(state);
+    Assert.assertFalse(workUnitStream.isSafeToMaterialize());
+
+    List<WorkUnit> workunits = Lists.newArrayList(workUnitStream.getWorkUnits());
+    workunits = JobLauncherUtils.flattenWorkUnits(workunits);
+
+    Assert.assertEquals(workunits.size(), TestCopyableDataset.FILE_COUNT);
+    for (WorkUnit workUnit : workunits) {
+      CopyableFile file = (CopyableFile) CopySource.deserializeCopyEntity(workUnit);
+      Assert.assertTrue(file.getOrigin().getPath().toString().startsWith(TestCopyableDataset.ORIGIN_PREFIX));
+      Assert.assertEquals(workUnit.getProp(ServiceConfigKeys.WORK_UNIT_SIZE), String.valueOf(TestCopyableDataset.FILE_LENGTH));
+    }
+  }
+
   @Test
   public void testPartitionableDataset()
       throws Exception {
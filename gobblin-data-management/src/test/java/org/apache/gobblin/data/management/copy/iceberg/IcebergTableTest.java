@@ -21,6 +21,7 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -28,6 +29,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -166,6 +169,57 @@ public class IcebergTableTest extends HiveMetastoreTest {
     }
   }
 
+  /** Test to verify snapshot infos read through a parallel, caching {@link IcebergManifestFileInfoLoader} match those read sequentially */
+  @Test
+  public void testGetSnapshotInfosWithCachingManifestFileInfoLoader() throws IOException {
+    initializeSnapshots(table, perSnapshotDataFilesets);
+    File cacheDir = Files.createTempDirectory("icebergManifestCache").toFile();
+    cacheDir.deleteOnExit();
+    Properties properties = new Properties();
+    properties.setProperty(IcebergManifestFileInfoLoader.READ_THREADS_KEY, "3");
+    properties.setProperty(IcebergManifestFileInfoLoader.MEMORY_CACHE_MAX_LISTED_PATHS_KEY, "1000");
+    properties.setProperty(IcebergManifestFileInfoLoader.PERSISTENT_CACHE_DIR_KEY, cacheDir.getAbsolutePath());
+
+    IcebergManifestFileInfoLoader firstLoader = IcebergManifestFileInfoLoader.create(properties);
+    IcebergTable icebergTable = new IcebergTable(tableId, catalog.newTableOps(tableId), catalogUri,
+        catalog.loadTable(tableId)).withManifestFileInfoLoader(firstLoader);
+    verifySnapshotInfo(icebergTable.getCurrentSnapshotInfo(), perSnapshotDataFilesets, perSnapshotDataFilesets.size());
+    Assert.assertEquals(firstLoader.getManifestsRead().getCount(), perSnapshotDataFilesets.size(), "manifests read");
+    // every manifest is now in the memory cache
+    verifySnapshotInfo(icebergTable.getCurrentSnapshotInfo(), perSnapshotDataFilesets, perSnapshotDataFilesets.size());
+    Assert.assertEquals(firstLoader.getManifestsRead().getCount(), perSnapshotDataFilesets.size(), "manifests read");
+    Assert.assertEquals(firstLoader.getManifestsFromMemoryCache().getCount(), perSnapshotDataFilesets.size(), "memory cache hits");
+
+    // a fresh loader (as in a later run) finds every manifest in the persistent cache
+    IcebergManifestFileInfoLoader secondLoader = IcebergManifestFileInfoLoader.create(properties);
+    verifySnapshotInfo(new IcebergTable(tableId, catalog.newTableOps(tableId), catalogUri, catalog.loadTable(tableId))
+        .withManifestFileInfoLoader(secondLoader).getCurrentSnapshotInfo(), perSnapshotDataFilesets, perSnapshotDataFilesets.size());
+    Assert.assertEquals(secondLoader.getManifestsRead().getCount(), 0, "manifests read");
+    Assert.assertEquals(secondLoader.getManifestsFromPersistentCache().getCount(), perSnapshotDataFilesets.size(), "persistent cache hits");
+
+    // listings are spread over shard directories, and expire once older than the TTL
+    File[] shardDirs = cacheDir.listFiles(File::isDirectory);
+    Assert.assertTrue(shardDirs != null && shardDirs.length > 0, "shard directories");
+    for (File shardDir : shardDirs) {
+      Assert.assertEquals(shardDir.getName().length(), 2, "shard directory name");
+      for (File listing : shardDir.listFiles()) {
+        Assert.assertTrue(listing.setLastModified(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(2)));
+      }
+    }
+    properties.setProperty(IcebergManifestFileInfoLoader.PERSISTENT_CACHE_TTL_HOURS_KEY, "24");
+    IcebergManifestFileInfoLoader thirdLoader = IcebergManifestFileInfoLoader.create(properties);
+    for (File shardDir : shardDirs) {
+      Assert.assertTrue(shardDir.listFiles().length > 0, "creating a loader must not delete listings in " + shardDir);
+    }
+    IcebergManifestFileInfoLoader.deleteExpiredListings(properties);
+    for (File shardDir : shardDirs) {
+      Assert.assertEquals(shardDir.listFiles().length, 0, "expired listings left in " + shardDir);
+    }
+    verifySnapshotInfo(new IcebergTable(tableId, catalog.newTableOps(tableId), catalogUri, catalog.loadTable(tableId))
+        .withManifestFileInfoLoader(thirdLoader).getCurrentSnapshotInfo(), perSnapshotDataFilesets, perSnapshotDataFilesets.size());
+    Assert.assertEquals(thirdLoader.getManifestsRead().getCount(), perSnapshotDataFilesets.size(), "manifests read");
+  }
+
   @Test
   public void schemaUpdateSuccessTest() throws IcebergTable.TableNotFoundException {
     // create source iceberg table with this schema
@@ -20,16 +20,19 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.AccessDeniedException;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.RandomStringUtils;
+import org.apache.commons.lang.StringUtils;
 import org.apache.gobblin.policies.size.FileSizePolicy;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataInputStream;
@@ -66,11 +69,13 @@ import org.apache.gobblin.data.management.copy.CopyableFileUtils;
 import org.apache.gobblin.data.management.copy.FileAwareInputStream;
 import org.apache.gobblin.data.management.copy.PreserveAttributes;
 import org.apache.gobblin.data.management.copy.TestCopyableDataset;
+import org.apache.gobblin.data.management.copy.converter.UnGzipConverter;
 import org.apache.gobblin.data.management.copy.splitter.DistcpFileSplitter;
 import org.apache.gobblin.util.HadoopUtils;
 import org.apache.gobblin.util.TestUtils;
 import org.apache.gobblin.util.WriterUtils;
 import org.apache.gobblin.util.filesystem.OwnerAndPermission;
+import org.apache.gobblin.util.io.MeteredInputStream;
 import org.apache.gobblin.util.io.StreamUtils;
 
 import static org.mockito.Mockito.any;
@@ -319,6 +324,40 @@ public class FileAwareInputStreamDataWriterTest {
 
   }
 
+  @Test
+  public void testParallelRangeCopyKeepsConverterTransformation() throws Exception {
+    String plainText = StringUtils.repeat("testContents", 1000);
+    Path origin = new Path(testTempPath, "rangeCopy/source.txt.gz");
+    try (OutputStream out = new GZIPOutputStream(this.fs.create(origin))) {
+      out.write(plainText.getBytes(StandardCharsets.UTF_8));
+    }
+    CopyableFile cf = createCopyableFile(origin, new Path("/destination/source.txt.gz"), "");
+    CopyableDatasetMetadata metadata = new CopyableDatasetMetadata(new TestCopyableDataset(new Path("/source")));
+
+    WorkUnitState state = createWorkUnitState(new Path(testTempPath, "rangeCopy/staging"),
+        new Path(testTempPath, "rangeCopy/output"), cf);
+    state.setProp(FileAwareInputStreamDataWriter.GOBBLIN_COPY_PARALLEL_RANGE_COPY_ENABLED, true);
+    state.setProp(FileAwareInputStreamDataWriter.GOBBLIN_COPY_PARALLEL_RANGE_COPY_RANGE_SIZE, 16);
+    state.setProp(FileAwareInputStreamDataWriter.GOBBLIN_COPY_PARALLEL_RANGE_COPY_THREADS, 2);
+    CopySource.serializeCopyEntity(state, cf);
+    CopySource.serializeCopyableDataset(state, metadata);
+
+    // The stream as built by the extractor, then un-gzipped by the converter
+    FileAwareInputStream record = FileAwareInputStream.builder().file(cf)
+        .inputStream(MeteredInputStream.builder().in(this.fs.open(origin)).build()).build();
+    FileAwareInputStream converted = new UnGzipConverter().convertRecord("", record, state).iterator().next();
+
+    FileAwareInputStreamDataWriter dataWriter = new FileAwareInputStreamDataWriter(state, 1, 0);
+    dataWriter.write(converted);
+    dataWriter.commit();
+
+    Path writtenFilePath = new Path(new Path(state.getProp(ConfigurationKeys.WRITER_OUTPUT_DIR),
+        cf.getDatasetAndPartition(metadata).identifier()), cf.getDestination());
+    Assert.assertEquals(writtenFilePath.getName(), "source.txt");
+    Assert.assertEquals(IOUtils.toString(new FileInputStream(writtenFilePath.toString()), StandardCharsets.UTF_8),
+        plainText);
+  }
+
   @Test
   public void testCommit() throws IOException {
 
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.data.management.copy.writer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.google.common.io.Files;
+
+
+public class ParallelRangeCopierTest {
+
+  private static final int BLOCK_SIZE = 1024;
+  private static final int FILE_LENGTH = 10 * BLOCK_SIZE + 123;
+
+  private FileSystem fs;
+  private Path testTempPath;
+  private Path source;
+  private byte[] contents;
+
+  @BeforeClass
+  public void setUp() throws IOException {
+    this.fs = FileSystem.getLocal(new Configuration()).getRawFileSystem();
+    this.testTempPath = new Path(Files.createTempDir().getAbsolutePath(), "ParallelRangeCopierTest");
+    this.fs.mkdirs(this.testTempPath);
+
+    this.contents = new byte[FILE_LENGTH];
+    new Random(1).nextBytes(this.contents);
+    this.source = new Path(this.testTempPath, "source");
+    try (OutputStream out = this.fs.create(this.source)) {
+      out.write(this.contents);
+    }
+  }
+
+  @Test
+  public void testStitchedCopy() throws IOException {
+    Path target = new Path(this.testTempPath, "stitched");
+    Assert.assertEquals(newCopier(target, false).copy(), FILE_LENGTH);
+    assertCopied(target);
+  }
+
+  @Test
+  public void testConcatCopy() throws IOException {
+    // Ranges are stitched if the local file system does not support concat
+    Path target = new Path(this.testTempPath, "concatenated");
+    Assert.assertEquals(newCopier(target, true).copy(), FILE_LENGTH);
+    assertCopied(target);
+    Assert.assertEquals(this.fs.listStatus(this.testTempPath,
+        path -> path.getName().startsWith(target.getName() + ".__RANGE")).length, 0);
+  }
+
+  @Test
+  public void testConcatCopyOverwritesTargetOfPreviousAttempt() throws IOException {
+    Path target = new Path(this.testTempPath, "retried");
+    try (OutputStream out = this.fs.create(target)) {
+      out.write(new byte[] { 1, 2, 3 });
+    }
+    Assert.assertEquals(newCopier(target, true).copy(), FILE_LENGTH);
+    assertCopied(target);
+  }
+
+  @AfterClass
+  public void tearDown() throws IOException {
+    this.fs.delete(this.testTempPath.getParent(), true);
+  }
+
+  private ParallelRangeCopier newCopier(Path target, boolean useConcat) {
+    return ParallelRangeCopier.builder()
+        .sourceFs(this.fs)
+        .source(this.source)
+        .fileLength(FILE_LENGTH)
+        .targetFs(this.fs)
+        .target(target)
+        .replication((short) 1)
+        .blockSize(BLOCK_SIZE)
+        .rangeSize(3 * BLOCK_SIZE)
+        .numThreads(3)
+        .bufferSize(100)
+        .useConcat(useConcat)
+        .verifyRanges(true)
+        .build();
+  }
+
+  private void assertCopied(Path target) throws IOException {
+    try (InputStream in = this.fs.open(target)) {
+      Assert.assertEquals(IOUtils.toByteArray(in), this.contents);
+    }
+  }
+}
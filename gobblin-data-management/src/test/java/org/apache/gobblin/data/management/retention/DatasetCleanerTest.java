@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.gobblin.data.management.retention;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Lists;
+
+import org.apache.gobblin.data.management.retention.dataset.CleanableDataset;
+import org.apache.gobblin.data.management.retention.profile.MultiCleanableDatasetFinder;
+import org.apache.gobblin.dataset.Dataset;
+import org.apache.gobblin.dataset.IterableDatasetFinder;
+
+
+@Test(groups = { "gobblin.data.management.retention" }, singleThreaded = true)
+public class DatasetCleanerTest {
+
+  private static final int NUM_DATASETS = 5;
+  private static final int MAX_PENDING_DATASETS = 2;
+
+  private static final AtomicInteger DATASETS_FOUND = new AtomicInteger();
+  private static final AtomicInteger CLEANS_STARTED = new AtomicInteger();
+  private static final AtomicInteger CLEANS_FINISHED = new AtomicInteger();
+  private static CountDownLatch finishCleans;
+
+  @BeforeMethod
+  public void setUp() {
+    DATASETS_FOUND.set(0);
+    CLEANS_STARTED.set(0);
+    CLEANS_FINISHED.set(0);
+    finishCleans = new CountDownLatch(1);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testRejectsNonPositiveMaxPendingDatasets() throws Exception {
+    Properties props = streamingProps();
+    props.setProperty(DatasetCleaner.MAX_PENDING_DATASETS_CLEANED, Integer.toString(0));
+    new DatasetCleaner(FileSystem.getLocal(new Configuration()), props);
+  }
+
+  @Test(timeOut = 30000)
+  public void testStreamingBoundsPendingDatasets() throws Exception {
+    final DatasetCleaner cleaner = new DatasetCleaner(FileSystem.getLocal(new Configuration()), streamingProps());
+    Thread submitter = new Thread(() -> {
+      try {
+        cleaner.clean();
+      } catch (IOException ioe) {
+        throw new RuntimeException(ioe);
+      }
+    });
+    submitter.start();
+
+    waitFor(CLEANS_STARTED, MAX_PENDING_DATASETS);
+    // The submitter holds one more dataset while it waits for a permit, and finds no further one
+    waitFor(DATASETS_FOUND, MAX_PENDING_DATASETS + 1);
+    Thread.sleep(200);
+    Assert.assertEquals(CLEANS_STARTED.get(), MAX_PENDING_DATASETS);
+    Assert.assertEquals(DATASETS_FOUND.get(), MAX_PENDING_DATASETS + 1);
+    Assert.assertTrue(submitter.isAlive());
+
+    finishCleans.countDown();
+    submitter.join();
+    cleaner.close();
+    Assert.assertEquals(DATASETS_FOUND.get(), NUM_DATASETS);
+    Assert.assertEquals(CLEANS_FINISHED.get(), NUM_DATASETS);
+  }
+
+  @Test(timeOut = 30000)
+  public void testCloseWaitsForInFlightCleans() throws Exception {
+    Properties props = streamingProps();
+    props.setProperty(DatasetCleaner.MAX_PENDING_DATASETS_CLEANED, Integer.toString(NUM_DATASETS));
+    final DatasetCleaner cleaner = new DatasetCleaner(FileSystem.getLocal(new Configuration()), props);
+    cleaner.clean();
+
+    Thread closer = new Thread(() -> {
+      try {
+        cleaner.close();
+      } catch (IOException ioe) {
+        throw new RuntimeException(ioe);
+      }
+    });
+    closer.start();
+
+    waitFor(CLEANS_STARTED, NUM_DATASETS);
+    Thread.sleep(200);
+    Assert.assertTrue(closer.isAlive());
+    Assert.assertEquals(CLEANS_FINISHED.get(), 0);
+
+    finishCleans.countDown();
+    closer.join();
+    Assert.assertEquals(CLEANS_FINISHED.get(), NUM_DATASETS);
+  }
+
+  private static Properties streamingProps() {
+    Properties props = new Properties();
+    props.setProperty(MultiCleanableDatasetFinder.DATASET_FINDER_CLASS_KEY, BlockingDatasetFinder.class.getName());
+    props.setProperty(DatasetCleaner.STREAM_DATASETS, Boolean.toString(true));
+    props.setProperty(DatasetCleaner.MAX_CONCURRENT_DATASETS_CLEANED, Integer.toString(NUM_DATASETS));
+    props.setProperty(DatasetCleaner.MAX_PENDING_DATASETS_CLEANED, Integer.toString(MAX_PENDING_DATASETS));
+    return props;
+  }
+
+  private static void waitFor(AtomicInteger counter, int expected) throws InterruptedException {
+    while (counter.get() < expected) {
+      Thread.sleep(10);
+    }
+  }
+
+  /**
+   * Finds {@link #NUM_DATASETS} datasets one at a time, each of which blocks in {@link CleanableDataset#clean()} until
+   * the test releases {@link #finishCleans}.
+   */
+  public static class BlockingDatasetFinder implements IterableDatasetFinder<Dataset> {
+
+    public BlockingDatasetFinder(FileSystem fs, Properties props) {
+    }
+
+    @Override
+    public List<Dataset> findDatasets() throws IOException {
+      return Lists.newArrayList(getDatasetsIterator());
+    }
+
+    @Override
+    public Iterator<Dataset> getDatasetsIterator() throws IOException {
+      return new AbstractIterator<Dataset>() {
+        @Override
+        protected Dataset computeNext() {
+          if (DATASETS_FOUND.get() >= NUM_DATASETS) {
+            return endOfData();
+          }
+          return new BlockingDataset("dataset" + DATASETS_FOUND.incrementAndGet());
+        }
+      };
+    }
+
+    @Override
+    public Path commonDatasetRoot() {
+      return new Path("/");
+    }
+  }
+
+  private static class BlockingDataset implements CleanableDataset {
+    private final String urn;
+
+    BlockingDataset(String urn) {
+      this.urn = urn;
+    }
+
+    @Override
+    public void clean() throws IOException {
+      CLEANS_STARTED.incrementAndGet();
+      try {
+        finishCleans.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException(e);
+      }
+      CLEANS_FINISHED.incrementAndGet();
+    }
+
+    @Override
+    public String datasetURN() {
+      return this.urn;
+    }
+  }
+}
@@ -84,9 +84,29 @@ public class FsCleanableHelperTest {
   public void testDeleteEmptyDirs() throws Exception {
     Properties props = new Properties();
     props.setProperty(FsCleanableHelper.SKIP_TRASH_KEY, Boolean.toString(true));
+    verifyDeleteEmptyDirs(props, "dataset1");
+  }
+
+  @Test
+  public void testDeleteEmptyDirsWithParallelVersionDeletion() throws Exception {
+    Properties props = new Properties();
+    props.setProperty(FsCleanableHelper.SKIP_TRASH_KEY, Boolean.toString(true));
+    props.setProperty(FsCleanableHelper.VERSION_DELETION_THREADS_KEY, Integer.toString(3));
+    verifyDeleteEmptyDirs(props, "dataset2");
+  }
+
+  @Test
+  public void testDeleteEmptyDirsWithBatchedTrashMoves() throws Exception {
+    Properties props = new Properties();
+    props.setProperty(FsCleanableHelper.SKIP_TRASH_KEY, Boolean.toString(true));
+    props.setProperty(FsCleanableHelper.DELETE_AS_OWNER_KEY, Boolean.toString(false));
+    verifyDeleteEmptyDirs(props, "dataset3");
+  }
+
+  private void verifyDeleteEmptyDirs(Properties props, String datasetName) throws Exception {
     FsCleanableHelper fsCleanableHelper = new FsCleanableHelper(this.fs, props, ConfigFactory.empty(), log);
     FileSystemDataset fsDataset = mock(FileSystemDataset.class);
-    Path datasetRoot = new Path(testTempPath, "dataset1");
+    Path datasetRoot = new Path(testTempPath, datasetName);
     when(fsDataset.datasetRoot()).thenReturn(datasetRoot);
 
     // To delete
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.gobblin.data.management.retention.profile;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+import org.apache.gobblin.dataset.Dataset;
+import org.apache.gobblin.dataset.DatasetsFinder;
+import org.apache.gobblin.dataset.IterableDatasetFinder;
+
+
+@Test(groups = { "gobblin.data.management.retention" })
+public class MultiDatasetFinderTest {
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testDatasetsIteratorConsultsFindersLazily() throws Exception {
+    Dataset first = mock(Dataset.class);
+    Dataset second = mock(Dataset.class);
+    Dataset third = mock(Dataset.class);
+
+    DatasetsFinder<Dataset> listingFinder = mock(DatasetsFinder.class);
+    when(listingFinder.findDatasets()).thenReturn(Lists.newArrayList(first, second));
+    DatasetsFinder<Dataset> emptyFinder = mock(DatasetsFinder.class);
+    when(emptyFinder.findDatasets()).thenReturn(Lists.<Dataset>newArrayList());
+    IterableDatasetFinder<Dataset> iterableFinder = mock(IterableDatasetFinder.class);
+    when(iterableFinder.getDatasetsIterator()).thenReturn(ImmutableList.of(third).iterator());
+
+    MultiDatasetFinder finder = new MultiCleanableDatasetFinder(null, new Properties());
+    finder.datasetFinders = Lists.newArrayList(listingFinder, emptyFinder, iterableFinder);
+
+    Iterator<Dataset> datasets = finder.getDatasetsIterator();
+    verify(listingFinder, never()).findDatasets();
+
+    Assert.assertSame(datasets.next(), first);
+    Assert.assertSame(datasets.next(), second);
+    verify(emptyFinder, never()).findDatasets();
+    verify(iterableFinder, never()).getDatasetsIterator();
+
+    Assert.assertSame(datasets.next(), third);
+    verify(emptyFinder).findDatasets();
+    // An iterable finder is streamed rather than listed
+    verify(iterableFinder, never()).findDatasets();
+    Assert.assertFalse(datasets.hasNext());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testFindDatasetsReturnsUnionOfFinders() throws Exception {
+    Dataset first = mock(Dataset.class);
+    Dataset second = mock(Dataset.class);
+
+    DatasetsFinder<Dataset> listingFinder = mock(DatasetsFinder.class);
+    when(listingFinder.findDatasets()).thenReturn(Lists.newArrayList(first));
+    IterableDatasetFinder<Dataset> iterableFinder = mock(IterableDatasetFinder.class);
+    when(iterableFinder.findDatasets()).thenReturn(Lists.newArrayList(second));
+
+    MultiDatasetFinder finder = new MultiCleanableDatasetFinder(null, new Properties());
+    finder.datasetFinders = Lists.newArrayList(listingFinder, iterableFinder);
+
+    List<Dataset> datasets = finder.findDatasets();
+    Assert.assertEquals(datasets, ImmutableList.of(first, second));
+  }
+}
@@ -18,8 +18,11 @@
 package org.apache.gobblin.data.management.trash;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import org.apache.hadoop.fs.FileStatus;
@@ -39,6 +42,7 @@ import org.testng.annotations.Test;
 import org.testng.internal.collections.Pair;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 
 import static org.mockito.Mockito.*;
 
@@ -151,6 +155,83 @@ public class TrashTest {
 
   }
 
+  @Test
+  public void testMoveToTrashInBatch() throws IOException {
+
+    Properties properties = new Properties();
+    properties.setProperty(Trash.TRASH_OPERATION_THREADS_KEY, "3");
+    TrashTestBase trash = new TrashTestBase(properties);
+
+    Path pathToDelete1 = new Path("/path/to/delete1");
+    Path pathToDelete2 = new Path("/path/to/delete2");
+    Path pathToDelete3 = new Path("/other/path/to/delete");
+    Path pathFailingToDelete = new Path("/path/to/fail");
+
+    final List<Pair<Path, Path>> movedPaths = Collections.synchronizedList(Lists.<Pair<Path, Path>>newArrayList());
+
+    when(trash.fs.exists(any(Path.class))).thenReturn(false);
+    when(trash.fs.rename(any(Path.class), any(Path.class))).thenAnswer(new Answer<Boolean>() {
+      @Override
+      public Boolean answer(InvocationOnMock invocation)
+          throws Throwable {
+        Object[] args = invocation.getArguments();
+        if (args[0].equals(pathFailingToDelete)) {
+          throw new IOException("Failed to rename " + args[0]);
+        }
+        movedPaths.add(new Pair<Path, Path>((Path) args[0], (Path) args[1]));
+        return true;
+      }
+    });
+
+    Map<Path, Boolean> results = trash.trash.moveToTrash(
+        Lists.newArrayList(pathToDelete1, pathToDelete2, pathToDelete3, pathFailingToDelete));
+
+    // each parent directory in trash is created once
+    verify(trash.fs, times(2)).mkdirs(any(Path.class));
+
+    Assert.assertEquals(Lists.newArrayList(results.keySet()),
+        Lists.newArrayList(pathToDelete1, pathToDelete2, pathToDelete3, pathFailingToDelete));
+    Assert.assertEquals(Lists.newArrayList(results.values()), Lists.newArrayList(true, true, true, false));
+    Assert.assertEquals(movedPaths.size(), 3);
+    for (Pair<Path, Path> movedPath : movedPaths) {
+      Assert.assertTrue(movedPath.second().toString().endsWith(movedPath.first().toString()));
+      Assert.assertTrue(movedPath.second().toString().startsWith(trash.trash.getTrashLocation().toString()));
+    }
+  }
+
+  @Test
+  public void testMoveToTrashInBatchesReusesThreads() throws IOException {
+
+    Properties properties = new Properties();
+    properties.setProperty(Trash.TRASH_OPERATION_THREADS_KEY, "3");
+    TrashTestBase trash = new TrashTestBase(properties);
+
+    final Set<Thread> renamingThreads = Sets.newConcurrentHashSet();
+
+    when(trash.fs.exists(any(Path.class))).thenReturn(false);
+    when(trash.fs.rename(any(Path.class), any(Path.class))).thenAnswer(new Answer<Boolean>() {
+      @Override
+      public Boolean answer(InvocationOnMock invocation)
+          throws Throwable {
+        renamingThreads.add(Thread.currentThread());
+        return true;
+      }
+    });
+
+    for (int batch = 0; batch < 2; batch++) {
+      List<Path> paths = Lists.newArrayList();
+      for (int i = 0; i < 4; i++) {
+        paths.add(new Path("/path/to/batch" + batch + "/delete" + i));
+      }
+      Assert.assertEquals(Lists.newArrayList(trash.trash.moveToTrash(paths).values()),
+          Lists.newArrayList(true, true, true, true));
+    }
+
+    // both batches ran on the trash's single pool of 3 threads
+    Assert.assertTrue(renamingThreads.size() <= 3, "Renamed on " + renamingThreads.size() + " threads");
+    Assert.assertFalse(renamingThreads.contains(Thread.currentThread()));
+  }
+
   @Test
   public void testCreateSnapshot() throws IOException {
 
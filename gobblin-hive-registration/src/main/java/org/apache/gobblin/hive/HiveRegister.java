@@ -20,6 +20,7 @@ package org.apache.gobblin.hive;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
@@ -33,7 +34,9 @@ import org.apache.commons.lang3.reflect.ConstructorUtils;
 import com.google.common.base.Optional;
 import com.google.common.base.Predicate;
 import com.google.common.base.Throwables;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 
@@ -105,24 +108,14 @@ public abstract class HiveRegister implements Closeable {
       public Void call()
           throws Exception {
         try {
-          if (spec instanceof HiveSpecWithPredicates && !evaluatePredicates((HiveSpecWithPredicates) spec)) {
+          if (!evaluatePredicates(spec)) {
             log.info("Skipping " + spec + " since predicates return false");
             return null;
           }
 
-          if (spec instanceof HiveSpecWithPreActivities) {
-            for (Activity activity : ((HiveSpecWithPreActivities) spec).getPreActivities()) {
-              activity.execute(HiveRegister.this);
-            }
-          }
-
+          executePreActivities(spec);
           registerPath(spec);
-
-          if (spec instanceof HiveSpecWithPostActivities) {
-            for (Activity activity : ((HiveSpecWithPostActivities) spec).getPostActivities()) {
-              activity.execute(HiveRegister.this);
-            }
-          }
+          executePostActivities(spec);
 
           return null;
         } catch (Exception e) {
@@ -135,7 +128,30 @@ public abstract class HiveRegister implements Closeable {
     return future;
   }
 
-  private String getSpecId(HiveSpec spec) {
+  /**
+   * Register the given {@link HiveSpec}s. This method is asynchronous and returns immediately. The default
+   * implementation calls {@link #register(HiveSpec)} for each of them; subclasses able to register many partitions of
+   * a table at once may override it.
+   *
+   * @return a {@link ListenableFuture} for the process of registering all of the given {@link HiveSpec}s.
+   */
+  public ListenableFuture<List<Void>> register(Collection<? extends HiveSpec> specs) {
+    List<ListenableFuture<Void>> registrations = Lists.newArrayListWithCapacity(specs.size());
+    for (HiveSpec spec : specs) {
+      registrations.add(register(spec));
+    }
+    return Futures.allAsList(registrations);
+  }
+
+  /**
+   * @return true if {@link #register(Collection)} registers the given {@link HiveSpec}s together rather than one by
+   * one, in which case callers should hand over as many {@link HiveSpec}s at once as they can.
+   */
+  public boolean isBatchingRegistrations() {
+    return false;
+  }
+
+  protected String getSpecId(HiveSpec spec) {
     Optional<HivePartition> partition = spec.getPartition();
     if (partition.isPresent()) {
       return String.format("%s.%s@%s", spec.getTable().getDbName(), spec.getTable().getTableName(),
@@ -145,15 +161,33 @@ public abstract class HiveRegister implements Closeable {
     }
   }
 
-  private boolean evaluatePredicates(HiveSpecWithPredicates spec) {
-    for (Predicate<HiveRegister> pred : spec.getPredicates()) {
-      if (!pred.apply(this)) {
-        return false;
+  protected boolean evaluatePredicates(HiveSpec spec) {
+    if (spec instanceof HiveSpecWithPredicates) {
+      for (Predicate<HiveRegister> pred : ((HiveSpecWithPredicates) spec).getPredicates()) {
+        if (!pred.apply(this)) {
+          return false;
+        }
       }
     }
     return true;
   }
 
+  protected void executePreActivities(HiveSpec spec) throws IOException {
+    if (spec instanceof HiveSpecWithPreActivities) {
+      for (Activity activity : ((HiveSpecWithPreActivities) spec).getPreActivities()) {
+        activity.execute(this);
+      }
+    }
+  }
+
+  protected void executePostActivities(HiveSpec spec) throws IOException {
+    if (spec instanceof HiveSpecWithPostActivities) {
+      for (Activity activity : ((HiveSpecWithPostActivities) spec).getPostActivities()) {
+        activity.execute(this);
+      }
+    }
+  }
+
   /**
    * Register the path specified in the given {@link HiveSpec}.
    *
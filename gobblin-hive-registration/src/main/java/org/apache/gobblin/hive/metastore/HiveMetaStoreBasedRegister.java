@@ -17,10 +17,13 @@
 
 package org.apache.gobblin.hive.metastore;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 
@@ -29,6 +32,7 @@ import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.hive.metastore.IMetaStoreClient;
 import org.apache.hadoop.hive.metastore.TableType;
+import org.apache.hadoop.hive.metastore.Warehouse;
 import org.apache.hadoop.hive.metastore.api.AlreadyExistsException;
 import org.apache.hadoop.hive.metastore.api.Database;
 import org.apache.hadoop.hive.metastore.api.NoSuchObjectException;
@@ -45,7 +49,16 @@ import com.google.common.base.Preconditions;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Multimaps;
+import com.google.common.collect.Sets;
+import com.google.common.io.Closer;
 import com.google.common.primitives.Ints;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -111,6 +124,17 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
   //A config which when enabled checks for the existence of a partition in Hive before adding the partition.
   // This is done to minimize the add_partition calls sent to Hive.
   public static final String REGISTER_PARTITION_WITH_PULL_MODE = HIVE_REGISTER_METRICS_PREFIX + "registerPartitionWithPullMode";
+  /**
+   * Maximum number of partitions of a table registered together by {@link #register(Collection)}, using one
+   * getPartitionsByNames call to find the existing partitions followed by one add_partitions and one alter_partitions
+   * call. With the default of 1, every {@link HiveSpec} is registered on its own as by {@link #register(HiveSpec)}.
+   */
+  public static final String PARTITION_REGISTRATION_BATCH_SIZE = HIVE_REGISTER_METRICS_PREFIX + "partitionRegistrationBatchSize";
+  public static final int DEFAULT_PARTITION_REGISTRATION_BATCH_SIZE = 1;
+  public static final String PARTITION_BATCH_REGISTER_TIMER = HIVE_REGISTER_METRICS_PREFIX + "partitionBatchRegisterTimer";
+  public static final String GET_HIVE_PARTITIONS_BY_NAMES = HIVE_REGISTER_METRICS_PREFIX + "getPartitionsByNamesTimer";
+  public static final String ADD_PARTITIONS_TIMER = HIVE_REGISTER_METRICS_PREFIX + "addPartitionsTimer";
+  public static final String ALTER_PARTITIONS_TIMER = HIVE_REGISTER_METRICS_PREFIX + "alterPartitionsTimer";
   /**
    * To reduce lock aquisition and RPC to metaStoreClient, we cache the result of query regarding to
    * the existence of databases and tables in {@link #tableAndDbExistenceCache},
@@ -126,6 +150,7 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
   private final MetricContext metricContext;
   private final boolean shouldUpdateLatestSchema;
   private final boolean registerPartitionWithPullMode;
+  private final int partitionRegistrationBatchSize;
 
   /**
    * Local cache that contains records for both databases and tables.
@@ -156,6 +181,11 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
   protected Optional<KafkaSchemaRegistry> schemaRegistry = Optional.absent();
   private String topicName = "";
   public HiveMetaStoreBasedRegister(State state, Optional<String> metastoreURI) throws IOException {
+    this(state, HiveMetastoreClientPool.get(new HiveRegProps(state).getProperties(), metastoreURI));
+  }
+
+  @VisibleForTesting
+  HiveMetaStoreBasedRegister(State state, HiveMetastoreClientPool clientPool) throws IOException {
     super(state);
     this.state = state;
     this.locks = new HiveLock(state.getProperties());
@@ -164,6 +194,8 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
     this.skipDiffComputation = state.getPropAsBoolean(SKIP_PARTITION_DIFF_COMPUTATION, false);
     this.shouldUpdateLatestSchema = state.getPropAsBoolean(FETCH_LATEST_SCHEMA, false);
     this.registerPartitionWithPullMode = state.getPropAsBoolean(REGISTER_PARTITION_WITH_PULL_MODE, false);
+    this.partitionRegistrationBatchSize =
+        state.getPropAsInt(PARTITION_REGISTRATION_BATCH_SIZE, DEFAULT_PARTITION_REGISTRATION_BATCH_SIZE);
     if(this.shouldUpdateLatestSchema) {
       this.schemaRegistry = Optional.of(KafkaSchemaRegistry.get(state.getProperties()));
       topicName = state.getProp(KafkaSource.TOPIC_NAME);
@@ -172,7 +204,7 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
     GenericObjectPoolConfig config = new GenericObjectPoolConfig();
     config.setMaxTotal(this.props.getNumThreads());
     config.setMaxIdle(this.props.getNumThreads());
-    this.clientPool = HiveMetastoreClientPool.get(this.props.getProperties(), metastoreURI);
+    this.clientPool = clientPool;
 
     this.metricContext =
         GobblinMetricsRegistry.getInstance().getMetricContext(state, HiveMetaStoreBasedRegister.class, GobblinMetrics.getCustomTagsFromState(state));
@@ -209,6 +241,197 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
     }
   }
 
+  /**
+   * Register the given {@link HiveSpec}s. If {@link #PARTITION_REGISTRATION_BATCH_SIZE} is greater than 1, the
+   * partitions are grouped by table and each group of up to that many partitions is registered by a single task,
+   * see {@link #registerPartitions(List)}. {@link HiveSpec}s without a partition are registered on their own.
+   */
+  @Override
+  public ListenableFuture<List<Void>> register(Collection<? extends HiveSpec> specs) {
+    if (this.partitionRegistrationBatchSize <= 1) {
+      return super.register(specs);
+    }
+
+    List<ListenableFuture<Void>> registrations = Lists.newArrayList();
+    ListMultimap<String, HiveSpec> partitionSpecsByTable = ArrayListMultimap.create();
+    for (HiveSpec spec : specs) {
+      if (spec.getPartition().isPresent()) {
+        partitionSpecsByTable.put(spec.getTable().getDbName() + ":" + spec.getTable().getTableName(), spec);
+      } else {
+        registrations.add(register(spec));
+      }
+    }
+
+    for (List<HiveSpec> tableSpecs : Multimaps.asMap(partitionSpecsByTable).values()) {
+      for (final List<HiveSpec> batch : Lists.partition(tableSpecs, this.partitionRegistrationBatchSize)) {
+        ListenableFuture<Void> future = this.executor.submit(() -> {
+          try {
+            registerPartitions(batch);
+            return null;
+          } catch (Exception e) {
+            log.error("Exception during hive registration", e);
+            throw e;
+          }
+        });
+        for (HiveSpec spec : batch) {
+          this.futures.put(getSpecId(spec), future);
+        }
+        registrations.add(future);
+      }
+    }
+    return Futures.allAsList(registrations);
+  }
+
+  @Override
+  public boolean isBatchingRegistrations() {
+    return this.partitionRegistrationBatchSize > 1;
+  }
+
+  /**
+   * Register a batch of {@link HiveSpec}s with partitions of the same table. Predicates and activities are handled for
+   * each {@link HiveSpec} as by {@link #register(HiveSpec)}, while the database and table are ensured once per
+   * distinct table definition and the partitions are added or altered together by {@link #addOrAlterPartitions}.
+   */
+  private void registerPartitions(List<HiveSpec> specs) throws IOException {
+    List<HiveSpec> specsToRegister = Lists.newArrayListWithCapacity(specs.size());
+    for (HiveSpec spec : specs) {
+      if (!evaluatePredicates(spec)) {
+        log.info("Skipping " + spec + " since predicates return false");
+        continue;
+      }
+      executePreActivities(spec);
+      specsToRegister.add(spec);
+    }
+    if (specsToRegister.isEmpty()) {
+      return;
+    }
+
+    Table table = HiveMetaStoreUtils.getTable(specsToRegister.get(0).getTable());
+    if (table.getTableType().equals(TableType.VIRTUAL_VIEW.name())) {
+      // Views are rejected path by path, keep that behavior
+      for (HiveSpec spec : specsToRegister) {
+        registerPath(spec);
+        executePostActivities(spec);
+      }
+      return;
+    }
+
+    try (Timer.Context context = this.metricContext.timer(PARTITION_BATCH_REGISTER_TIMER).time();
+        AutoReturnableObject<IMetaStoreClient> client = this.clientPool.getClient()) {
+      createDbIfNotExists(client.get(), table.getDbName());
+      Set<Table> registeredTables = Sets.newHashSet();
+      for (HiveSpec spec : specsToRegister) {
+        Table specTable = HiveMetaStoreUtils.getTable(spec.getTable());
+        if (registeredTables.add(specTable)) {
+          createOrAlterTable(client.get(), specTable, spec);
+        }
+      }
+
+      List<HivePartition> partitions = Lists.newArrayListWithCapacity(specsToRegister.size());
+      for (HiveSpec spec : specsToRegister) {
+        partitions.add(spec.getPartition().get());
+      }
+      addOrAlterPartitions(client.get(), table, partitions);
+    } catch (TException e) {
+      for (HiveSpec spec : specsToRegister) {
+        HiveMetaStoreEventHelper.submitFailedPathRegistration(eventSubmitter, spec, e);
+      }
+      throw new IOException(e);
+    }
+
+    for (HiveSpec spec : specsToRegister) {
+      HiveMetaStoreEventHelper.submitSuccessfulPathRegistration(eventSubmitter, spec);
+      executePostActivities(spec);
+    }
+  }
+
+  /**
+   * Add or alter the given partitions of a table with one getPartitionsByNames call followed by at most one
+   * add_partitions and one alter_partitions call, holding the locks of all the partitions. If the partitions to add
+   * were concurrently added by someone else, they are added or altered one by one after the locks are released.
+   */
+  private void addOrAlterPartitions(IMetaStoreClient client, Table table, List<HivePartition> partitions)
+      throws TException, IOException {
+    // Keyed by partition name, a later HivePartition of the same partition takes precedence
+    Map<String, HivePartition> partitionsByName = Maps.newTreeMap();
+    Map<String, Partition> nativePartitionsByName = Maps.newHashMap();
+    for (HivePartition partition : partitions) {
+      Partition nativePartition = HiveMetaStoreUtils.getPartition(partition);
+      Preconditions.checkArgument(table.getPartitionKeysSize() == nativePartition.getValues().size(),
+          String.format("Partition key size is %s but partition value size is %s", table.getPartitionKeys().size(),
+              nativePartition.getValues().size()));
+      String partitionName = Warehouse.makePartName(table.getPartitionKeys(), nativePartition.getValues());
+      partitionsByName.put(partitionName, partition);
+      nativePartitionsByName.put(partitionName, nativePartition);
+    }
+
+    List<HivePartition> partitionsToRetry = Lists.newArrayList();
+    try (Closer closer = Closer.create()) {
+      // Locks are taken in partition name order so that concurrent batches cannot deadlock
+      for (Map.Entry<String, Partition> entry : Maps.newTreeMap(nativePartitionsByName).entrySet()) {
+        AutoCloseableHiveLock lock =
+            this.locks.getPartitionLock(table.getDbName(), table.getTableName(), entry.getValue().getValues());
+        closer.register((Closeable) lock::close);
+      }
+
+      Map<String, Partition> existingPartitionsByName = Maps.newHashMap();
+      try (Timer.Context context = this.metricContext.timer(GET_HIVE_PARTITIONS_BY_NAMES).time()) {
+        for (Partition existingPartition : client.getPartitionsByNames(table.getDbName(), table.getTableName(),
+            Lists.newArrayList(partitionsByName.keySet()))) {
+          existingPartitionsByName.put(Warehouse.makePartName(table.getPartitionKeys(), existingPartition.getValues()),
+              existingPartition);
+        }
+      }
+
+      List<HivePartition> partitionsToAdd = Lists.newArrayList();
+      List<Partition> nativePartitionsToAdd = Lists.newArrayList();
+      List<Partition> nativePartitionsToAlter = Lists.newArrayList();
+      for (Map.Entry<String, HivePartition> entry : partitionsByName.entrySet()) {
+        Partition nativePartition = nativePartitionsByName.get(entry.getKey());
+        Partition existedPartition = existingPartitionsByName.get(entry.getKey());
+        if (existedPartition == null) {
+          partitionsToAdd.add(entry.getValue());
+          nativePartitionsToAdd.add(getPartitionWithCreateTimeNow(nativePartition));
+        } else if (this.skipDiffComputation) {
+          log.debug(String.format("Partition %s in table %s with location %s already exists and no need to update",
+              stringifyPartition(nativePartition), table.getTableName(), nativePartition.getSd().getLocation()));
+        } else {
+          HivePartition existingPartition = HiveMetaStoreUtils.getHivePartition(existedPartition);
+          if (needToUpdatePartition(existingPartition, entry.getValue())) {
+            log.info(String.format("Partition update required. ExistingPartition %s, newPartition %s",
+                stringifyPartition(existingPartition), stringifyPartition(entry.getValue())));
+            nativePartitionsToAlter.add(getPartitionWithCreateTime(nativePartition, existingPartition));
+          } else {
+            log.debug(String.format("Partition %s in table %s with location %s already exists and no need to update",
+                stringifyPartition(nativePartition), table.getTableName(), nativePartition.getSd().getLocation()));
+          }
+        }
+      }
+
+      if (!nativePartitionsToAdd.isEmpty()) {
+        try (Timer.Context context = this.metricContext.timer(ADD_PARTITIONS_TIMER).time()) {
+          client.add_partitions(nativePartitionsToAdd);
+          log.info(String.format("Added %d partitions to table %s", nativePartitionsToAdd.size(), table.getTableName()));
+        } catch (AlreadyExistsException e) {
+          log.warn(String.format("Some of the %d partitions to add already exist in table %s, registering them one by one",
+              nativePartitionsToAdd.size(), table.getTableName()), e);
+          partitionsToRetry.addAll(partitionsToAdd);
+        }
+      }
+
+      if (!nativePartitionsToAlter.isEmpty()) {
+        try (Timer.Context context = this.metricContext.timer(ALTER_PARTITIONS_TIMER).time()) {
+          client.alter_partitions(table.getDbName(), table.getTableName(), nativePartitionsToAlter);
+        }
+        log.info(String.format("Updated %d partitions in table %s", nativePartitionsToAlter.size(), table.getTableName()));
+      }
+    }
+
+    for (HivePartition partition : partitionsToRetry) {
+      addOrAlterPartition(client, table, partition);
+    }
+  }
+
   /**
    * This method is used to update the table schema to the latest schema
    * It will fetch creation time of the latest schema from schema registry and compare that
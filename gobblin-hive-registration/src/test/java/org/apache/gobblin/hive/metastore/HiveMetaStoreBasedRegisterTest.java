@@ -17,24 +17,69 @@
 package org.apache.gobblin.hive.metastore;
 
 import com.google.common.base.Optional;
+import com.google.common.base.Predicate;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.avro.Schema;
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericObjectPool;
 import org.apache.gobblin.configuration.State;
+import org.apache.gobblin.hive.HiveLockFactory;
+import org.apache.gobblin.hive.HiveLockImpl;
+import org.apache.gobblin.hive.HiveMetastoreClientPool;
+import org.apache.gobblin.hive.HivePartition;
+import org.apache.gobblin.hive.HiveRegister;
+import org.apache.gobblin.hive.HiveRegistrationUnit;
 import org.apache.gobblin.hive.HiveTable;
+import org.apache.gobblin.hive.spec.HiveSpec;
+import org.apache.gobblin.hive.spec.HiveSpecWithPostActivities;
+import org.apache.gobblin.hive.spec.HiveSpecWithPreActivities;
+import org.apache.gobblin.hive.spec.HiveSpecWithPredicates;
 import org.apache.gobblin.hive.spec.SimpleHiveSpec;
+import org.apache.gobblin.hive.spec.activity.Activity;
+import org.apache.gobblin.metrics.RootMetricContext;
 import org.apache.gobblin.metrics.kafka.KafkaSchemaRegistry;
 import org.apache.gobblin.metrics.kafka.SchemaRegistryException;
+import org.apache.gobblin.metrics.notification.EventNotification;
+import org.apache.gobblin.util.AutoReturnableObject;
 import org.apache.gobblin.util.AvroUtils;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hive.metastore.IMetaStoreClient;
+import org.apache.hadoop.hive.metastore.TableType;
+import org.apache.hadoop.hive.metastore.api.AlreadyExistsException;
+import org.apache.hadoop.hive.metastore.api.Partition;
 import org.apache.hadoop.hive.metastore.api.Table;
 import org.apache.hadoop.hive.ql.io.avro.AvroContainerInputFormat;
 import org.apache.hadoop.hive.ql.io.avro.AvroContainerOutputFormat;
 import org.apache.hadoop.hive.serde2.avro.AvroSerDe;
 import org.apache.hadoop.hive.serde2.avro.AvroSerdeUtils;
+import org.mockito.ArgumentCaptor;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class HiveMetaStoreBasedRegisterTest {
   @Test
@@ -102,6 +147,295 @@ public class HiveMetaStoreBasedRegisterTest {
 
   }
 
+  @Test
+  public void testBatchRegistersNewPartitionsWithOneCall() throws Exception {
+    String tableName = "newpartitions";
+    IMetaStoreClient client = mockClient(tableName, Collections.emptyList());
+    HiveMetaStoreBasedRegister register = buildBatchingRegister(client);
+    Assert.assertTrue(register.isBatchingRegistrations());
+    HiveTable table = buildTable(tableName, TableType.EXTERNAL_TABLE);
+
+    register.register(Lists.newArrayList(buildSpec(table, "1", "/loc1"), buildSpec(table, "2", "/loc2"),
+        buildSpec(table, "3", "/loc3"))).get();
+
+    ArgumentCaptor<List<Partition>> addedPartitions = listCaptor();
+    verify(client, times(1)).getPartitionsByNames(eq(DB_NAME), eq(tableName), anyList());
+    verify(client, times(1)).add_partitions(addedPartitions.capture());
+    Assert.assertEquals(addedPartitions.getValue().size(), 3);
+    verify(client, never()).alter_partitions(anyString(), anyString(), anyList());
+    verify(client, never()).add_partition(any(Partition.class));
+    register.close();
+  }
+
+  @Test
+  public void testBatchSkipsUnchangedAndAltersChangedPartitions() throws Exception {
+    String tableName = "existingpartitions";
+    HiveTable table = buildTable(tableName, TableType.EXTERNAL_TABLE);
+    HiveSpec unchanged = buildSpec(table, "1", "/loc1");
+    HiveSpec changed = buildSpec(table, "2", "/loc2");
+    List<Partition> existingPartitions = Lists.newArrayList(
+        HiveMetaStoreUtils.getPartition(unchanged.getPartition().get()),
+        HiveMetaStoreUtils.getPartition(buildSpec(table, "2", "/oldLoc2").getPartition().get()));
+    IMetaStoreClient client = mockClient(tableName, existingPartitions);
+    HiveMetaStoreBasedRegister register = buildBatchingRegister(client);
+
+    register.register(Lists.newArrayList(unchanged, changed)).get();
+
+    ArgumentCaptor<List<Partition>> alteredPartitions = listCaptor();
+    verify(client, never()).add_partitions(anyList());
+    verify(client, times(1)).alter_partitions(eq(DB_NAME), eq(tableName), alteredPartitions.capture());
+    Assert.assertEquals(alteredPartitions.getValue().size(), 1);
+    Assert.assertEquals(alteredPartitions.getValue().get(0).getValues(), Lists.newArrayList("2"));
+    Assert.assertEquals(alteredPartitions.getValue().get(0).getSd().getLocation(), "/loc2");
+    register.close();
+  }
+
+  @Test
+  public void testBatchFallsBackToPerPartitionRegistrationOnRace() throws Exception {
+    String tableName = "racingpartitions";
+    IMetaStoreClient client = mockClient(tableName, Collections.emptyList());
+    doThrow(new AlreadyExistsException("added concurrently")).when(client).add_partitions(anyList());
+    HiveMetaStoreBasedRegister register = buildBatchingRegister(client);
+    HiveTable table = buildTable(tableName, TableType.EXTERNAL_TABLE);
+
+    register.register(Lists.newArrayList(buildSpec(table, "1", "/loc1"), buildSpec(table, "2", "/loc2"))).get();
+
+    verify(client, times(1)).add_partitions(anyList());
+    verify(client, times(2)).add_partition(any(Partition.class));
+    register.close();
+  }
+
+  @Test
+  public void testBatchHoldsLocksOfAllPartitions() throws Exception {
+    String tableName = "lockedpartitions";
+    IMetaStoreClient client = mockClient(tableName, Collections.emptyList());
+    Set<String> locksHeldWhileAdding = Sets.newHashSet();
+    doAnswer(invocation -> {
+      locksHeldWhileAdding.addAll(RecordingHiveLockFactory.HELD_LOCKS);
+      return ((List<?>) invocation.getArgument(0)).size();
+    }).when(client).add_partitions(anyList());
+    HiveMetaStoreBasedRegister register = buildBatchingRegister(client);
+    HiveTable table = buildTable(tableName, TableType.EXTERNAL_TABLE);
+
+    register.register(Lists.newArrayList(buildSpec(table, "1", "/loc1"), buildSpec(table, "2", "/loc2"))).get();
+
+    Assert.assertTrue(locksHeldWhileAdding.containsAll(
+        Lists.newArrayList(DB_NAME + "/" + tableName + "/1", DB_NAME + "/" + tableName + "/2")),
+        locksHeldWhileAdding.toString());
+    Assert.assertFalse(RecordingHiveLockFactory.HELD_LOCKS.stream().anyMatch(lock -> lock.contains(tableName)));
+    register.close();
+  }
+
+  @Test
+  public void testBatchRegistersViewsPathByPath() throws Exception {
+    String tableName = "viewpartitions";
+    IMetaStoreClient client = mockClient(tableName, Collections.emptyList());
+    HiveMetaStoreBasedRegister register = buildBatchingRegister(client);
+    HiveTable view = buildTable(tableName, TableType.VIRTUAL_VIEW);
+    List<String> events = Collections.synchronizedList(Lists.newArrayList());
+    UUID notificationTarget = addEventTarget(tableName, events);
+
+    try {
+      register.register(Lists.newArrayList(buildSpec(view, "1", "/loc1"), buildSpec(view, "2", "/loc2"))).get();
+    } finally {
+      RootMetricContext.get().removeNotificationTarget(notificationTarget);
+    }
+
+    verify(client, never()).getPartitionsByNames(anyString(), anyString(), anyList());
+    verify(client, never()).add_partitions(anyList());
+    verify(client, times(2)).add_partition(any(Partition.class));
+    Assert.assertEquals(
+        Collections.frequency(events, pathRegistrationEvent(HiveMetaStoreEventHelper.FAILED_POSTFIX)), 2);
+    register.close();
+  }
+
+  @Test
+  public void testBatchHandlesPredicatesActivitiesAndEventsPerSpec() throws Exception {
+    String tableName = "specpartitions";
+    IMetaStoreClient client = mockClient(tableName, Collections.emptyList());
+    HiveMetaStoreBasedRegister register = buildBatchingRegister(client);
+    HiveTable table = buildTable(tableName, TableType.EXTERNAL_TABLE);
+    AtomicInteger preActivities = new AtomicInteger();
+    AtomicInteger postActivities = new AtomicInteger();
+    List<String> events = Collections.synchronizedList(Lists.newArrayList());
+    UUID notificationTarget = addEventTarget(tableName, events);
+
+    try {
+      register.register(Lists.newArrayList(
+          new TestHiveSpec(buildSpec(table, "1", "/loc1"), true, preActivities, postActivities),
+          new TestHiveSpec(buildSpec(table, "2", "/loc2"), false, preActivities, postActivities),
+          new TestHiveSpec(buildSpec(table, "3", "/loc3"), true, preActivities, postActivities))).get();
+    } finally {
+      RootMetricContext.get().removeNotificationTarget(notificationTarget);
+    }
+
+    ArgumentCaptor<List<Partition>> addedPartitions = listCaptor();
+    verify(client, times(1)).add_partitions(addedPartitions.capture());
+    Assert.assertEquals(addedPartitions.getValue().size(), 2);
+    Assert.assertEquals(preActivities.get(), 2);
+    Assert.assertEquals(postActivities.get(), 2);
+    Assert.assertEquals(
+        Collections.frequency(events, pathRegistrationEvent(HiveMetaStoreEventHelper.SUCCESS_POSTFIX)), 2);
+    register.close();
+  }
+
+  private static final String DB_NAME = "batchdb";
+
+  private static HiveMetaStoreBasedRegister buildBatchingRegister(IMetaStoreClient client) throws IOException {
+    State state = new State();
+    state.setProp(HiveMetaStoreBasedRegister.PARTITION_REGISTRATION_BATCH_SIZE, 10);
+    state.setProp(HiveMetaStoreBasedRegister.HIVE_REGISTER_METRICS_PREFIX + "lock.type",
+        RecordingHiveLockFactory.class.getName());
+    GenericObjectPool<IMetaStoreClient> objectPool =
+        new GenericObjectPool<>(new BasePooledObjectFactory<IMetaStoreClient>() {
+      @Override
+      public IMetaStoreClient create() {
+        return client;
+      }
+
+      @Override
+      public PooledObject<IMetaStoreClient> wrap(IMetaStoreClient obj) {
+        return new DefaultPooledObject<>(obj);
+      }
+    });
+    HiveMetastoreClientPool clientPool = mock(HiveMetastoreClientPool.class);
+    doAnswer(invocation -> new AutoReturnableObject<>(objectPool)).when(clientPool).getClient();
+    return new HiveMetaStoreBasedRegister(state, clientPool);
+  }
+
+  private static IMetaStoreClient mockClient(String tableName, List<Partition> existingPartitions) throws Exception {
+    IMetaStoreClient client = mock(IMetaStoreClient.class);
+    doReturn(true).when(client).tableExists(DB_NAME, tableName);
+    doAnswer(invocation -> HiveMetaStoreUtils.getTable(buildTable(tableName, TableType.EXTERNAL_TABLE)))
+        .when(client).getTable(DB_NAME, tableName);
+    doReturn(existingPartitions).when(client).getPartitionsByNames(eq(DB_NAME), eq(tableName), anyList());
+    return client;
+  }
+
+  private static HiveTable buildTable(String tableName, TableType tableType) {
+    HiveTable table = new HiveTable.Builder().withDbName(DB_NAME).withTableName(tableName)
+        .withPartitionKeys(ImmutableList.of(new HiveRegistrationUnit.Column("datepartition", "string", ""))).build();
+    table.setLocation("/" + tableName);
+    table.setTableType(tableType.name());
+    setStorageFormat(table);
+    return table;
+  }
+
+  private static SimpleHiveSpec buildSpec(HiveTable table, String partitionValue, String location) {
+    HivePartition partition = new HivePartition.Builder().withDbName(table.getDbName())
+        .withTableName(table.getTableName()).withPartitionValues(Lists.newArrayList(partitionValue)).build();
+    partition.setLocation(location);
+    setStorageFormat(partition);
+    SimpleHiveSpec.Builder specBuilder = new SimpleHiveSpec.Builder(new Path(location))
+        .withTable(table)
+        .withPartition(Optional.of(partition));
+    return specBuilder.build();
+  }
+
+  private static void setStorageFormat(HiveRegistrationUnit unit) {
+    unit.setInputFormat(AvroContainerInputFormat.class.getName());
+    unit.setOutputFormat(AvroContainerOutputFormat.class.getName());
+    unit.setSerDeType(AvroSerDe.class.getName());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ArgumentCaptor<List<Partition>> listCaptor() {
+    return ArgumentCaptor.forClass((Class<List<Partition>>) (Class<?>) List.class);
+  }
+
+  private static String pathRegistrationEvent(String postfix) {
+    return HiveMetaStoreEventHelper.PATH_REGISTRATION + postfix;
+  }
+
+  private static UUID addEventTarget(String tableName, List<String> events) {
+    return RootMetricContext.get().addNotificationTarget(notification -> {
+      if (notification instanceof EventNotification) {
+        EventNotification eventNotification = (EventNotification) notification;
+        if (tableName.equals(eventNotification.getEvent().getMetadata().get(HiveMetaStoreEventHelper.TABLE_NAME))) {
+          events.add(eventNotification.getEvent().getName());
+        }
+      }
+      return null;
+    });
+  }
+
+  /**
+   * A {@link HiveLockFactory} recording the locks held at any time.
+   */
+  public static class RecordingHiveLockFactory extends HiveLockFactory {
+    static final Set<String> HELD_LOCKS = ConcurrentHashMap.newKeySet();
+
+    public RecordingHiveLockFactory(Properties properties) {
+      super(properties);
+    }
+
+    @Override
+    public HiveLockImpl get(String name) {
+      HiveLockImpl delegate = super.get(name);
+      return new HiveLockImpl<HiveLockImpl>(delegate) {
+        @Override
+        public void lock() throws IOException {
+          this.lock.lock();
+          HELD_LOCKS.add(name);
+        }
+
+        @Override
+        public void unlock() throws IOException {
+          HELD_LOCKS.remove(name);
+          this.lock.unlock();
+        }
+      };
+    }
+  }
+
+  /**
+   * A {@link HiveSpec} with a predicate and counting activities.
+   */
+  private static class TestHiveSpec
+      implements HiveSpecWithPredicates, HiveSpecWithPreActivities, HiveSpecWithPostActivities {
+    private final HiveSpec spec;
+    private final boolean predicateResult;
+    private final AtomicInteger preActivities;
+    private final AtomicInteger postActivities;
+
+    TestHiveSpec(HiveSpec spec, boolean predicateResult, AtomicInteger preActivities, AtomicInteger postActivities) {
+      this.spec = spec;
+      this.predicateResult = predicateResult;
+      this.preActivities = preActivities;
+      this.postActivities = postActivities;
+    }
+
+    @Override
+    public Path getPath() {
+      return this.spec.getPath();
+    }
+
+    @Override
+    public HiveTable getTable() {
+      return this.spec.getTable();
+    }
+
+    @Override
+    public Optional<HivePartition> getPartition() {
+      return this.spec.getPartition();
+    }
+
+    @Override
+    public Collection<Predicate<HiveRegister>> getPredicates() {
+      return Lists.<Predicate<HiveRegister>>newArrayList(register -> this.predicateResult);
+    }
+
+    @Override
+    public Collection<Activity> getPreActivities() {
+      return Lists.<Activity>newArrayList(register -> this.preActivities.incrementAndGet() > 0);
+    }
+
+    @Override
+    public Collection<Activity> getPostActivities() {
+      return Lists.<Activity>newArrayList(register -> this.postActivities.incrementAndGet() > 0);
+    }
+  }
+
   public static class MockSchemaRegistry extends KafkaSchemaRegistry<String, Schema> {
     static Schema latestSchema = Schema.create(Schema.Type.STRING);
 
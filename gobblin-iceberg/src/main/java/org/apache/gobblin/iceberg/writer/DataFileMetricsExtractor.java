@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.gobblin.iceberg.writer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.StructLike;
+
+import com.codahale.metrics.Counter;
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.gobblin.configuration.State;
+import org.apache.gobblin.iceberg.Utils.IcebergUtils;
+import org.apache.gobblin.metrics.MetricContext;
+import org.apache.gobblin.util.ExecutorsUtils;
+
+
+/**
+ * Builds the iceberg {@link DataFile}s, with metrics, for the files of a {@link org.apache.gobblin.metadata.GobblinMetadataChangeEvent}.
+ *
+ * Metrics always come from the GMCE itself; the only I/O per file is the {@link org.apache.hadoop.fs.FileStatus} lookup
+ * for a file whose size the GMCE does not carry. With {@link #EXTRACTION_THREADS} > 1, files are handled in parallel on
+ * a bounded pool, and with {@link #FILE_LENGTH_CACHE_SIZE} > 0, the lengths looked up are remembered by path, since
+ * data files are immutable once registered.
+ */
+@Slf4j
+public class DataFileMetricsExtractor implements Closeable {
+
+  public static final String EXTRACTION_THREADS = "iceberg.dataFile.metrics.extraction.threads";
+  public static final int DEFAULT_EXTRACTION_THREADS = 1;
+  public static final String FILE_LENGTH_CACHE_SIZE = "iceberg.dataFile.length.cache.size";
+  public static final long DEFAULT_FILE_LENGTH_CACHE_SIZE = 0L;
+
+  public static final String FILE_LENGTH_LOOKUPS = "iceberg.dataFile.length.lookups";
+  public static final String FILE_LENGTH_CACHE_HITS = "iceberg.dataFile.length.cacheHits";
+
+  /** A GMCE file to extract a {@link DataFile} for, with the partition and spec it was resolved against */
+  @AllArgsConstructor
+  @Getter
+  public static class PendingDataFile {
+    private final org.apache.gobblin.metadata.DataFile file;
+    private final PartitionSpec partitionSpec;
+    private final StructLike partition;
+  }
+
+  private final Configuration conf;
+  private final Optional<ExecutorService> executor;
+  private final Optional<Cache<String, Long>> fileLengthCache;
+  private final Counter fileLengthLookups;
+  private final Counter fileLengthCacheHits;
+
+  public DataFileMetricsExtractor(State state, Configuration conf, MetricContext metricContext) {
+    this.conf = conf;
+    int numThreads = state.getPropAsInt(EXTRACTION_THREADS, DEFAULT_EXTRACTION_THREADS);
+    this.executor = numThreads <= 1 ? Optional.absent()
+        : Optional.of(Executors.newFixedThreadPool(numThreads,
+            ExecutorsUtils.newDaemonThreadFactory(Optional.of(log), Optional.of("DataFileMetricsExtractor-%d"))));
+    long cacheSize = state.getPropAsLong(FILE_LENGTH_CACHE_SIZE, DEFAULT_FILE_LENGTH_CACHE_SIZE);
+    this.fileLengthCache = cacheSize <= 0 ? Optional.absent()
+        : Optional.of(CacheBuilder.newBuilder().maximumSize(cacheSize).build());
+    this.fileLengthLookups = metricContext.counter(FILE_LENGTH_LOOKUPS);
+    this.fileLengthCacheHits = metricContext.counter(FILE_LENGTH_CACHE_HITS);
+  }
+
+  /**
+   * @return a {@link DataFile} for each of `pendingDataFiles`, skipping (with a warning) any whose extraction fails,
+   * just as when they were extracted one by one
+   */
+  public Set<DataFile> extract(List<PendingDataFile> pendingDataFiles, Map<Integer, Integer> schemaIdMap) {
+    Set<DataFile> dataFiles = new HashSet<>();
+    if (!this.executor.isPresent() || pendingDataFiles.size() <= 1) {
+      for (PendingDataFile pending : pendingDataFiles) {
+        try {
+          dataFiles.add(extract(pending, schemaIdMap));
+        } catch (Exception e) {
+          log.warn("Cannot get DataFile for {} due to {}", pending.getFile().getFilePath(), e);
+        }
+      }
+      return dataFiles;
+    }
+
+    List<Future<DataFile>> futures = Lists.newArrayListWithCapacity(pendingDataFiles.size());
+    for (PendingDataFile pending : pendingDataFiles) {
+      futures.add(this.executor.get().submit(() -> extract(pending, schemaIdMap)));
+    }
+    for (int i = 0; i < futures.size(); ++i) {
+      try {
+        dataFiles.add(futures.get(i).get());
+      } catch (ExecutionException e) {
+        log.warn("Cannot get DataFile for {} due to {}", pendingDataFiles.get(i).getFile().getFilePath(), e.getCause());
+      } catch (InterruptedException e) {
+        futures.forEach(future -> future.cancel(true));
+        Thread.currentThread().interrupt();
+        throw new RuntimeException("Interrupted while extracting data file metrics", e);
+      }
+    }
+    return dataFiles;
+  }
+
+  private DataFile extract(PendingDataFile pending, Map<Integer, Integer> schemaIdMap) throws IOException {
+    org.apache.gobblin.metadata.DataFile file = pending.getFile();
+    if (file.getFileSize() == null && this.fileLengthCache.isPresent()) {
+      file = org.apache.gobblin.metadata.DataFile.newBuilder(file).setFileSize(getFileLength(file.getFilePath())).build();
+    }
+    return IcebergUtils.getIcebergDataFileWithMetric(file, pending.getPartitionSpec(), pending.getPartition(), this.conf,
+        schemaIdMap);
+  }
+
+  private long getFileLength(String filePath) throws IOException {
+    Long length = this.fileLengthCache.get().getIfPresent(filePath);
+    if (length != null) {
+      this.fileLengthCacheHits.inc();
+      return length;
+    }
+    this.fileLengthLookups.inc();
+    Path path = new Path(filePath);
+    length = path.getFileSystem(this.conf).getFileStatus(path).getLen();
+    this.fileLengthCache.get().put(filePath, length);
+    return length;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (this.executor.isPresent()) {
+      ExecutorsUtils.shutdownExecutorService(this.executor.get(), Optional.of(log));
+    }
+  }
+}
@@ -199,6 +199,7 @@ public class IcebergMetadataWriter implements MetadataWriter {
   private final HiveLock locks;
   private final boolean useDataLocationAsTableLocation;
   private final ParallelRunner parallelRunner;
+  private final DataFileMetricsExtractor dataFileMetricsExtractor;
   private FsPermission permission;
   protected State state;
 
@@ -228,6 +229,7 @@ public class IcebergMetadataWriter implements MetadataWriter {
     this.locks = new HiveLock(state.getProperties());
     parallelRunner = closer.register(new ParallelRunner(state.getPropAsInt(SNAPSHOT_EXPIRE_THREADS, 20),
         FileSystem.get(HadoopUtils.getConfFromState(state))));
+    dataFileMetricsExtractor = closer.register(new DataFileMetricsExtractor(state, conf, metricContext));
     useDataLocationAsTableLocation = state.getPropAsBoolean(USE_DATA_PATH_AS_TABLE_LOCATION, false);
     if (useDataLocationAsTableLocation) {
       permission =
@@ -720,11 +722,12 @@ public class IcebergMetadataWriter implements MetadataWriter {
    * This method is used to get files to be added to iceberg
    * if completeness is enabled a new field (late) is added to table schema and partition spec
    * computed based on datepartition and completion watermark
-   * This method will call method {IcebergUtils.getIcebergDataFileWithMetric} to get DataFile for specific file path
+   * Partition values are resolved file by file, as they may evolve the table's partition spec, after which
+   * {@link DataFileMetricsExtractor} calls {IcebergUtils.getIcebergDataFileWithMetric} to get DataFile for each file path
    */
   private Set<DataFile> getIcebergDataFilesToBeAdded(Table table, TableMetadata tableMetadata, GobblinMetadataChangeEvent gmce, List<org.apache.gobblin.metadata.DataFile> files,
       PartitionSpec partitionSpec, Map<String, Collection<HiveSpec>> newSpecsMap, Map<Integer, Integer> schemaIdMap) {
-    Set<DataFile> dataFiles = new HashSet<>();
+    List<DataFileMetricsExtractor.PendingDataFile> pendingDataFiles = new ArrayList<>(files.size());
     for (org.apache.gobblin.metadata.DataFile file : files) {
       try {
         Collection<HiveSpec> hiveSpecs = newSpecsMap.get(new Path(file.getFilePath()).getParent().toString());
@@ -738,12 +741,12 @@ public class IcebergMetadataWriter implements MetadataWriter {
               hiveSpecs.iterator().next().getPartition().get(), datepartition);
           tableMetadata.datePartitions.add(getDateTimeFromDatepartitionString(datepartition));
         }
-        dataFiles.add(IcebergUtils.getIcebergDataFileWithMetric(file, table.spec(), partition, conf, schemaIdMap));
+        pendingDataFiles.add(new DataFileMetricsExtractor.PendingDataFile(file, table.spec(), partition));
       } catch (Exception e) {
         log.warn("Cannot get DataFile for {} due to {}", file.getFilePath(), e);
       }
     }
-    return dataFiles;
+    return dataFileMetricsExtractor.extract(pendingDataFiles, schemaIdMap);
   }
 
   /**
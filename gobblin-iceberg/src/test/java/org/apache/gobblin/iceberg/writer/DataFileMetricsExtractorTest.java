@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.gobblin.iceberg.writer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.PartitionSpec;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.io.Files;
+
+import org.apache.gobblin.configuration.State;
+import org.apache.gobblin.metadata.DataMetrics;
+import org.apache.gobblin.metrics.MetricContext;
+
+
+/** Test {@link DataFileMetricsExtractor} */
+public class DataFileMetricsExtractorTest {
+
+  private File tmpDir;
+  private List<DataFileMetricsExtractor.PendingDataFile> pendingDataFiles;
+
+  @BeforeClass
+  public void setUp() throws IOException {
+    tmpDir = Files.createTempDir();
+    pendingDataFiles = Lists.newArrayList();
+    for (int i = 0; i < 5; ++i) {
+      File dataFile = new File(tmpDir, "data-" + i + ".avro");
+      FileUtils.writeStringToFile(dataFile, new String(new char[i + 1]).replace('\0', 'x'), StandardCharsets.UTF_8);
+      pendingDataFiles.add(new DataFileMetricsExtractor.PendingDataFile(
+          org.apache.gobblin.metadata.DataFile.newBuilder()
+              .setFilePath(dataFile.getAbsolutePath())
+              .setFileFormat("avro")
+              .setFileMetrics(DataMetrics.newBuilder().setRecordCount(10L * i).build())
+              .build(),
+          PartitionSpec.unpartitioned(), null));
+    }
+    pendingDataFiles.add(new DataFileMetricsExtractor.PendingDataFile(
+        org.apache.gobblin.metadata.DataFile.newBuilder()
+            .setFilePath(new File(tmpDir, "missing.avro").getAbsolutePath())
+            .setFileFormat("avro")
+            .setFileMetrics(DataMetrics.newBuilder().setRecordCount(1L).build())
+            .build(),
+        PartitionSpec.unpartitioned(), null));
+  }
+
+  @AfterClass
+  public void tearDown() throws IOException {
+    FileUtils.forceDelete(tmpDir);
+  }
+
+  @Test
+  public void testSequentialExtraction() throws IOException {
+    MetricContext metricContext = MetricContext.builder("testSequentialExtraction").build();
+    try (DataFileMetricsExtractor extractor = new DataFileMetricsExtractor(new State(), new Configuration(), metricContext)) {
+      verifyDataFiles(extractor.extract(pendingDataFiles, null));
+    }
+    Assert.assertEquals(metricContext.counter(DataFileMetricsExtractor.FILE_LENGTH_LOOKUPS).getCount(), 0);
+  }
+
+  @Test
+  public void testParallelExtractionWithFileLengthCache() throws IOException {
+    State state = new State();
+    state.setProp(DataFileMetricsExtractor.EXTRACTION_THREADS, 3);
+    state.setProp(DataFileMetricsExtractor.FILE_LENGTH_CACHE_SIZE, 100);
+    MetricContext metricContext = MetricContext.builder("testParallelExtractionWithFileLengthCache").build();
+    try (DataFileMetricsExtractor extractor = new DataFileMetricsExtractor(state, new Configuration(), metricContext)) {
+      verifyDataFiles(extractor.extract(pendingDataFiles, null));
+      // the missing file failed its lookup, so only it is looked up again
+      verifyDataFiles(extractor.extract(pendingDataFiles, null));
+    }
+    Assert.assertEquals(metricContext.counter(DataFileMetricsExtractor.FILE_LENGTH_LOOKUPS).getCount(), 7);
+    Assert.assertEquals(metricContext.counter(DataFileMetricsExtractor.FILE_LENGTH_CACHE_HITS).getCount(), 5);
+  }
+
+  private void verifyDataFiles(Set<DataFile> dataFiles) {
+    // the file that does not exist is skipped, as before
+    Assert.assertEquals(dataFiles.size(), 5);
+    Map<String, DataFile> dataFilesByName = dataFiles.stream()
+        .collect(Collectors.toMap(dataFile -> new Path(dataFile.path().toString()).getName(), Function.identity()));
+    for (int i = 0; i < 5; ++i) {
+      DataFile dataFile = dataFilesByName.get("data-" + i + ".avro");
+      Assert.assertEquals(dataFile.fileSizeInBytes(), i + 1);
+      Assert.assertEquals(dataFile.recordCount(), 10L * i);
+    }
+  }
+}
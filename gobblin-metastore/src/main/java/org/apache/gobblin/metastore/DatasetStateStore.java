@@ -53,6 +53,17 @@ public interface DatasetStateStore<T extends State> extends StateStore<T> {
 
   public void persistDatasetState(String datasetUrn, T datasetState) throws IOException;
 
+  /**
+   * Persist the given dataset states, keyed by dataset URN. The default implementation calls
+   * {@link #persistDatasetState(String, State)} once per dataset; implementations able to write many states in a
+   * single round trip should override it.
+   */
+  default void persistDatasetStates(Map<String, T> datasetStatesByUrns) throws IOException {
+    for (Map.Entry<String, T> entry : datasetStatesByUrns.entrySet()) {
+      persistDatasetState(entry.getKey(), entry.getValue());
+    }
+  }
+
   public void persistDatasetURNs(String storeName, Collection<String> datasetUrns) throws IOException;
 
   @Override
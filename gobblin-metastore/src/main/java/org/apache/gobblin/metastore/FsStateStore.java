@@ -17,12 +17,14 @@
 
 package org.apache.gobblin.metastore;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URI;
 import java.util.Collection;
 import java.util.List;
 
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.CommonConfigurationKeysPublic;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
@@ -66,6 +68,8 @@ public class FsStateStore<T extends State> implements StateStore<T> {
 
   public static final String TMP_FILE_PREFIX = "_tmp_";
 
+  private static final int STATE_FILE_BUFFER_SIZE = 64 * 1024;
+
   protected final Configuration conf;
   protected final FileSystem fs;
   protected boolean useTmpFileForPut;
@@ -96,6 +100,11 @@ public class FsStateStore<T extends State> implements StateStore<T> {
     }
 
     WritableShimSerialization.addToHadoopConfiguration(conf);
+    // Table files are read and written a record at a time, don't go back to the file system every 4KB
+    if (conf.getInt(CommonConfigurationKeysPublic.IO_FILE_BUFFER_SIZE_KEY,
+        CommonConfigurationKeysPublic.IO_FILE_BUFFER_SIZE_DEFAULT) < STATE_FILE_BUFFER_SIZE) {
+      conf.setInt(CommonConfigurationKeysPublic.IO_FILE_BUFFER_SIZE_KEY, STATE_FILE_BUFFER_SIZE);
+    }
 
     return conf;
   }
@@ -224,14 +233,14 @@ public class FsStateStore<T extends State> implements StateStore<T> {
   @SuppressWarnings("unchecked")
   public T get(String storeName, String tableName, String stateId) throws IOException {
     Path tablePath = new Path(new Path(this.storeRootDir, storeName), tableName);
-    if (!this.fs.exists(tablePath)) {
+    GobblinSequenceFileReader tableReader = openTable(tablePath);
+    if (tableReader == null) {
       return null;
     }
 
     Closer closer = Closer.create();
     try {
-      @SuppressWarnings("deprecation")
-      GobblinSequenceFileReader reader = closer.register(new GobblinSequenceFileReader(this.fs, tablePath, this.conf));
+      GobblinSequenceFileReader reader = closer.register(tableReader);
       try {
         Text key = new Text();
         T state = this.stateClass.newInstance();
@@ -260,14 +269,14 @@ public class FsStateStore<T extends State> implements StateStore<T> {
     List<T> states = Lists.newArrayList();
 
     Path tablePath = new Path(new Path(this.storeRootDir, storeName), tableName);
-    if (!this.fs.exists(tablePath)) {
+    GobblinSequenceFileReader tableReader = openTable(tablePath);
+    if (tableReader == null) {
       return states;
     }
 
     Closer closer = Closer.create();
     try {
-      @SuppressWarnings("deprecation")
-      GobblinSequenceFileReader reader = closer.register(new GobblinSequenceFileReader(this.fs, tablePath, this.conf));
+      GobblinSequenceFileReader reader = closer.register(tableReader);
       try {
         Text key = new Text();
         T state = this.stateClass.newInstance();
@@ -290,6 +299,19 @@ public class FsStateStore<T extends State> implements StateStore<T> {
     return states;
   }
 
+  /**
+   * Open a table file for reading, or return null if it does not exist. Relying on the open to fail saves an
+   * existence check round trip to the file system per table, which adds up when collecting thousands of task states.
+   */
+  @SuppressWarnings("deprecation")
+  private GobblinSequenceFileReader openTable(Path tablePath) throws IOException {
+    try {
+      return new GobblinSequenceFileReader(this.fs, tablePath, this.conf);
+    } catch (FileNotFoundException fnfe) {
+      return null;
+    }
+  }
+
   @Override
   public List<T> getAll(String storeName) throws IOException {
     List<T> states = Lists.newArrayList();
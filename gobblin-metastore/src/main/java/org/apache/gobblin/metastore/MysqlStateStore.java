@@ -17,6 +17,8 @@
 
 package org.apache.gobblin.metastore;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
@@ -40,8 +42,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 import org.apache.hadoop.io.Text;
 import org.slf4j.Logger;
@@ -51,6 +51,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Predicate;
 import com.google.common.base.Strings;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Table;
 import com.typesafe.config.Config;
 import com.zaxxer.hikari.HikariDataSource;
 
@@ -63,7 +64,7 @@ import org.apache.gobblin.metastore.predicates.StateStorePredicate;
 import org.apache.gobblin.metastore.predicates.StoreNamePredicate;
 import org.apache.gobblin.password.PasswordManager;
 import org.apache.gobblin.util.ConfigUtils;
-import org.apache.gobblin.util.io.StreamUtils;
+import org.apache.gobblin.util.io.StateCodec;
 import org.apache.gobblin.util.jdbc.MysqlDataSourceUtils;
 
 /**
@@ -84,6 +85,7 @@ import org.apache.gobblin.util.jdbc.MysqlDataSourceUtils;
 public class MysqlStateStore<T extends State> implements StateStore<T> {
   private static final Logger LOG = LoggerFactory.getLogger(MysqlStateStore.class);
   private static final AtomicInteger POOL_NUM = new AtomicInteger(0);
+  private static final int STREAM_BUFFER_SIZE = 64 * 1024;
 
   // SSL mode configuration constants
   private static final String SSL_MODE_PROPERTY = "sslMode";
@@ -99,7 +101,7 @@ public class MysqlStateStore<T extends State> implements StateStore<T> {
   // Class of the state objects to be put into the store
   private final Class<T> stateClass;
   protected final DataSource dataSource;
-  private final boolean compressedValues;
+  private final StateCodec valueCodec;
 
   private static final String UPSERT_JOB_STATE_TEMPLATE =
       "INSERT INTO $TABLE$ (store_name, table_name, state) VALUES(?,?,?)"
@@ -170,9 +172,22 @@ public class MysqlStateStore<T extends State> implements StateStore<T> {
    */
   public MysqlStateStore(DataSource dataSource, String stateStoreTableName, boolean compressedValues,
       Class<T> stateClass) throws IOException {
+    this(dataSource, stateStoreTableName, compressedValues ? StateCodec.GZIP : StateCodec.NONE, stateClass);
+  }
+
+  /**
+   * Manages the persistence and retrieval of {@link State} in a MySQL database
+   * @param dataSource the {@link DataSource} object for connecting to MySQL
+   * @param stateStoreTableName the table for storing the state in rows keyed by two levels (store_name, table_name)
+   * @param valueCodec the {@link StateCodec} new values are written with. Values written with any codec can be read.
+   * @param stateClass class of the {@link State}s stored in this state store
+   * @throws IOException
+   */
+  public MysqlStateStore(DataSource dataSource, String stateStoreTableName, StateCodec valueCodec,
+      Class<T> stateClass) throws IOException {
     this.dataSource = dataSource;
     this.stateClass = stateClass;
-    this.compressedValues = compressedValues;
+    this.valueCodec = valueCodec;
 
     UPSERT_JOB_STATE_SQL = UPSERT_JOB_STATE_TEMPLATE.replace("$TABLE$", stateStoreTableName);
     SELECT_JOB_STATE_SQL = SELECT_JOB_STATE_TEMPLATE.replace("$TABLE$", stateStoreTableName);
@@ -319,20 +334,10 @@ public class MysqlStateStore<T extends State> implements StateStore<T> {
   @Override
   public void putAll(String storeName, String tableName, Collection<T> states) throws IOException {
     try (Connection connection = dataSource.getConnection();
-        PreparedStatement insertStatement = connection.prepareStatement(UPSERT_JOB_STATE_SQL);
-        ByteArrayOutputStream byteArrayOs = new ByteArrayOutputStream();
-        OutputStream os = compressedValues ? new GZIPOutputStream(byteArrayOs) : byteArrayOs;
-        DataOutputStream dataOutput = new DataOutputStream(os)) {
-
+        PreparedStatement insertStatement = connection.prepareStatement(UPSERT_JOB_STATE_SQL)) {
       insertStatement.setString(1, storeName);
       insertStatement.setString(2, tableName);
-
-      for (T state : states) {
-        addStateToDataOutputStream(dataOutput, state);
-      }
-
-      dataOutput.close();
-      insertStatement.setBlob(3, new ByteArrayInputStream(byteArrayOs.toByteArray()));
+      insertStatement.setBlob(3, new ByteArrayInputStream(serializeStates(states)));
 
       insertStatement.executeUpdate();
       connection.commit();
@@ -341,6 +346,43 @@ public class MysqlStateStore<T extends State> implements StateStore<T> {
     }
   }
 
+  /**
+   * Upserts all the given tables as one JDBC batch committed in a single transaction, so that the driver can
+   * rewrite it into a multi-row upsert rather than paying a round trip and a commit per table.
+   */
+  @Override
+  public void putAll(Table<String, String, T> statesByStoreAndTable) throws IOException {
+    if (statesByStoreAndTable.isEmpty()) {
+      return;
+    }
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement insertStatement = connection.prepareStatement(UPSERT_JOB_STATE_SQL)) {
+      for (Table.Cell<String, String, T> cell : statesByStoreAndTable.cellSet()) {
+        insertStatement.setString(1, cell.getRowKey());
+        insertStatement.setString(2, cell.getColumnKey());
+        insertStatement.setBlob(3, new ByteArrayInputStream(serializeStates(Collections.singleton(cell.getValue()))));
+        insertStatement.addBatch();
+      }
+
+      insertStatement.executeBatch();
+      connection.commit();
+    } catch (SQLException e) {
+      throw new IOException("Failure storing states to " + statesByStoreAndTable.size() + " tables", e);
+    }
+  }
+
+  private byte[] serializeStates(Collection<T> states) throws IOException {
+    ByteArrayOutputStream byteArrayOs = new ByteArrayOutputStream();
+    OutputStream os = this.valueCodec.encode(byteArrayOs);
+    // State serialization writes a byte at a time, buffer to avoid a deflate call per byte
+    try (DataOutputStream dataOutput = new DataOutputStream(new BufferedOutputStream(os, STREAM_BUFFER_SIZE))) {
+      for (T state : states) {
+        addStateToDataOutputStream(dataOutput, state);
+      }
+    }
+    return byteArrayOs.toByteArray();
+  }
+
   @Override
   public T get(String storeName, String tableName, String stateId) throws IOException {
     try (Connection connection = dataSource.getConnection();
@@ -353,9 +395,8 @@ public class MysqlStateStore<T extends State> implements StateStore<T> {
           Blob blob = rs.getBlob(1);
           Text key = new Text();
 
-          try (InputStream is = StreamUtils.isCompressed(blob.getBytes(1, 2)) ?
-              new GZIPInputStream(blob.getBinaryStream()) : blob.getBinaryStream();
-              DataInputStream dis = new DataInputStream(is)){
+          try (InputStream is = StateCodec.decode(blob.getBinaryStream());
+              DataInputStream dis = new DataInputStream(new BufferedInputStream(is, STREAM_BUFFER_SIZE))){
             // keep deserializing while we have data
             while (dis.available() > 0) {
               T state = this.stateClass.newInstance();
@@ -368,7 +409,7 @@ public class MysqlStateStore<T extends State> implements StateStore<T> {
               }
             }
           } catch (EOFException e) {
-            // no more data. GZIPInputStream.available() doesn't return 0 until after EOF.
+            // no more data. Decompressing streams' available() doesn't return 0 until after EOF.
           }
         }
       }
@@ -443,9 +484,8 @@ public class MysqlStateStore<T extends State> implements StateStore<T> {
         Blob blob = rs.getBlob(1);
         Text key = new Text();
 
-        try (InputStream is = StreamUtils.isCompressed(blob.getBytes(1, 2)) ?
-            new GZIPInputStream(blob.getBinaryStream()) : blob.getBinaryStream();
-            DataInputStream dis = new DataInputStream(is)) {
+        try (InputStream is = StateCodec.decode(blob.getBinaryStream());
+            DataInputStream dis = new DataInputStream(new BufferedInputStream(is, STREAM_BUFFER_SIZE))) {
           // keep deserializing while we have data
           while (dis.available() > 0) {
             T state = this.stateClass.newInstance();
@@ -455,7 +495,7 @@ public class MysqlStateStore<T extends State> implements StateStore<T> {
             states.add(state);
           }
         } catch (EOFException e) {
-          // no more data. GZIPInputStream.available() doesn't return 0 until after EOF.
+          // no more data. Decompressing streams' available() doesn't return 0 until after EOF.
         }
       }
     }
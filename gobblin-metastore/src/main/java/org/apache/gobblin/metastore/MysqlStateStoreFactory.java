@@ -25,6 +25,7 @@ import org.apache.gobblin.broker.SharedResourcesBrokerFactory;
 import org.apache.gobblin.configuration.ConfigurationKeys;
 import org.apache.gobblin.configuration.State;
 import org.apache.gobblin.util.ConfigUtils;
+import org.apache.gobblin.util.io.StateCodec;
 
 @Alias("mysql")
 public class MysqlStateStoreFactory implements StateStore.Factory {
@@ -32,14 +33,13 @@ public class MysqlStateStoreFactory implements StateStore.Factory {
   public <T extends State> StateStore<T> createStateStore(Config config, Class<T> stateClass) {
     String stateStoreTableName = ConfigUtils.getString(config, ConfigurationKeys.STATE_STORE_DB_TABLE_KEY,
         ConfigurationKeys.DEFAULT_STATE_STORE_DB_TABLE);
-    boolean compressedValues = ConfigUtils.getBoolean(config, ConfigurationKeys.STATE_STORE_COMPRESSED_VALUES_KEY,
-            ConfigurationKeys.DEFAULT_STATE_STORE_COMPRESSED_VALUES);
+    StateCodec valueCodec = StateCodec.fromConfig(config);
 
     try {
       DataSource dataSource = MysqlDataSourceFactory.get(config,
           SharedResourcesBrokerFactory.getImplicitBroker());
 
-      return new MysqlStateStore<>(dataSource, stateStoreTableName, compressedValues, stateClass);
+      return new MysqlStateStore<>(dataSource, stateStoreTableName, valueCodec, stateClass);
     } catch (Exception e) {
       throw new RuntimeException("Failed to create MysqlStateStore with factory", e);
     }
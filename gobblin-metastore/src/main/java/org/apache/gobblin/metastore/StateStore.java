@@ -22,6 +22,7 @@ import java.util.Collection;
 import java.util.List;
 
 import com.google.common.base.Predicate;
+import com.google.common.collect.Table;
 import com.typesafe.config.Config;
 
 import org.apache.gobblin.configuration.State;
@@ -127,6 +128,24 @@ public interface StateStore<T extends State> {
   public void putAll(String storeName, String tableName, Collection<T> states)
       throws IOException;
 
+  /**
+   * Put one {@link State} into each of several tables, replacing whatever the tables held before.
+   *
+   * <p>
+   *     The default implementation calls {@link #put(String, String, State)} once per cell. Implementations
+   *     able to write many tables in a single round trip should override it.
+   * </p>
+   *
+   * @param statesByStoreAndTable {@link State}s keyed by store name (row) and table name (column)
+   * @throws IOException
+   */
+  default void putAll(Table<String, String, T> statesByStoreAndTable)
+      throws IOException {
+    for (Table.Cell<String, String, T> cell : statesByStoreAndTable.cellSet()) {
+      put(cell.getRowKey(), cell.getColumnKey(), cell.getValue());
+    }
+  }
+
   /**
    * Get a {@link State} with a given state ID from a table.
    *
@@ -57,6 +57,9 @@ public class ServiceMetricNames {
   public static final String FLOW_TRIGGER_HANDLER_LEASES_OBTAINED_DUE_TO_REMINDER_COUNT = FLOW_TRIGGER_HANDLER_PREFIX + "leasesObtainedDueToReminderCount";
   public static final String FLOW_TRIGGER_HANDLER_FAILED_TO_RECORD_LEASE_SUCCESS_COUNT = FLOW_TRIGGER_HANDLER_PREFIX + "failedToRecordLeaseSuccessCount";
   public static final String FLOW_TRIGGER_HANDLER_RECORDED_LEASE_SUCCESS_COUNT = FLOW_TRIGGER_HANDLER_PREFIX + "recordedLeaseSuccessCount";
+  public static final String FLOW_TRIGGER_HANDLER_LEASE_ATTEMPT_TIMER = FLOW_TRIGGER_HANDLER_PREFIX + "leaseAttemptTimer";
+  public static final String FLOW_TRIGGER_HANDLER_BULK_LEASE_ATTEMPT_TIMER = FLOW_TRIGGER_HANDLER_PREFIX + "bulkLeaseAttemptTimer";
+  public static final String FLOW_TRIGGER_HANDLER_BULK_LEASE_ATTEMPT_BATCH_SIZE = FLOW_TRIGGER_HANDLER_PREFIX + "bulkLeaseAttemptBatchSize";
 
   public static final String CREATE_FLOW_METER = "CreateFlow";
   public static final String DELETE_FLOW_METER = "DeleteFlow";
@@ -103,4 +106,9 @@ public class ServiceMetricNames {
   public static final String DAG_ACTIONS_DELETE_FAILED = DAG_PROCESSING_ENGINE_PREFIX + "dagActionsDeleteFailed.";
   public static final String DAG_ACTIONS_AVERAGE_PROCESSING_DELAY_MILLIS = DAG_PROCESSING_ENGINE_PREFIX + "dagActionsAvgProcessingDelayMillis.";
   public static final String DAG_PROCESSING_NON_RETRYABLE_EXCEPTION_METER = "DagProcessingNonRetryableException";
+  // Sharded DagProcessingEngine metrics, suffixed by the shard id rather than the dagAction type
+  public static final String DAG_PROC_SHARD_QUEUE_DEPTH = DAG_PROCESSING_ENGINE_PREFIX + "shardQueueDepth.";
+  public static final String DAG_PROC_SHARD_QUEUE_WAIT_MILLIS = DAG_PROCESSING_ENGINE_PREFIX + "shardQueueWaitMillis.";
+  public static final String DAG_PROC_SHARD_PROCESSING_MILLIS = DAG_PROCESSING_ENGINE_PREFIX + "shardProcessingMillis.";
+  public static final String DAG_PROC_SHARD_EXPIRED_LEASES = DAG_PROCESSING_ENGINE_PREFIX + "shardExpiredLeases.";
 }
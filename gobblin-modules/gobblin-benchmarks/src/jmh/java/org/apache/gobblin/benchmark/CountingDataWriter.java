@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.benchmark;
+
+import java.io.IOException;
+
+import org.apache.gobblin.configuration.State;
+import org.apache.gobblin.instrumented.writer.InstrumentedDataWriter;
+import org.apache.gobblin.writer.DataWriter;
+import org.apache.gobblin.writer.DataWriterBuilder;
+
+
+/**
+ * An {@link InstrumentedDataWriter} that only counts records, so writer-side cost is limited to the instrumentation
+ * wrapped around every real writer.
+ */
+public class CountingDataWriter<D> extends InstrumentedDataWriter<D> {
+
+  private long recordsWritten = 0;
+
+  public CountingDataWriter(State state) {
+    super(state);
+  }
+
+  @Override
+  public void writeImpl(D record) throws IOException {
+    this.recordsWritten++;
+  }
+
+  @Override
+  public void cleanup() throws IOException {
+  }
+
+  @Override
+  public long recordsWritten() {
+    return this.recordsWritten;
+  }
+
+  @Override
+  public long bytesWritten() throws IOException {
+    return 0;
+  }
+
+  /**
+   * A {@link DataWriterBuilder} for {@link CountingDataWriter}.
+   */
+  public static class Builder<S, D> extends DataWriterBuilder<S, D> {
+    private final State state;
+
+    public Builder(State state) {
+      this.state = state;
+    }
+
+    @Override
+    public DataWriter<D> build() throws IOException {
+      return new CountingDataWriter<>(this.state);
+    }
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+
+/**
+ * Synthetic, in-memory records shared by the benchmarks in this module. The Avro and the JSON intermediate shapes
+ * describe the same record: a few primitives, an array and a map, which is representative of the flat event
+ * records that dominate production pipelines.
+ */
+public class SyntheticRecords {
+
+  public static final Schema AVRO_SCHEMA = SchemaBuilder.record("BenchmarkRecord")
+      .namespace("org.apache.gobblin.benchmark")
+      .fields()
+      .requiredLong("id")
+      .requiredString("name")
+      .requiredInt("count")
+      .requiredDouble("score")
+      .requiredBoolean("active")
+      .name("tags").type().array().items().stringType().noDefault()
+      .name("attributes").type().map().values().stringType().noDefault()
+      .endRecord();
+
+  private static final String JSON_SCHEMA = "["
+      + "{\"columnName\": \"id\", \"dataType\": {\"type\": \"long\"}},"
+      + "{\"columnName\": \"name\", \"dataType\": {\"type\": \"string\"}},"
+      + "{\"columnName\": \"count\", \"dataType\": {\"type\": \"int\"}},"
+      + "{\"columnName\": \"score\", \"dataType\": {\"type\": \"double\"}},"
+      + "{\"columnName\": \"active\", \"dataType\": {\"type\": \"boolean\"}},"
+      + "{\"columnName\": \"tags\", \"dataType\": {\"type\": \"array\", \"items\": \"string\"}},"
+      + "{\"columnName\": \"attributes\", \"dataType\": {\"type\": \"map\", \"values\": \"string\"}}"
+      + "]";
+
+  private static final int NUM_TAGS = 4;
+  private static final int NUM_ATTRIBUTES = 4;
+
+  private SyntheticRecords() {
+  }
+
+  /**
+   * @return the JSON intermediate schema equivalent of {@link #AVRO_SCHEMA}
+   */
+  public static JsonArray jsonSchema() {
+    return new JsonParser().parse(JSON_SCHEMA).getAsJsonArray();
+  }
+
+  public static GenericRecord avroRecord(long id, Random random) {
+    GenericRecord record = new GenericData.Record(AVRO_SCHEMA);
+    record.put("id", id);
+    record.put("name", "name-" + random.nextInt(100000));
+    record.put("count", random.nextInt());
+    record.put("score", random.nextDouble());
+    record.put("active", random.nextBoolean());
+    List<String> tags = new ArrayList<>(NUM_TAGS);
+    for (int i = 0; i < NUM_TAGS; i++) {
+      tags.add("tag-" + random.nextInt(1000));
+    }
+    record.put("tags", tags);
+    Map<String, String> attributes = new HashMap<>();
+    for (int i = 0; i < NUM_ATTRIBUTES; i++) {
+      attributes.put("key-" + i, "value-" + random.nextInt(1000));
+    }
+    record.put("attributes", attributes);
+    return record;
+  }
+
+  public static JsonObject jsonRecord(long id, Random random) {
+    JsonObject record = new JsonObject();
+    record.addProperty("id", id);
+    record.addProperty("name", "name-" + random.nextInt(100000));
+    record.addProperty("count", random.nextInt());
+    record.addProperty("score", random.nextDouble());
+    record.addProperty("active", random.nextBoolean());
+    JsonArray tags = new JsonArray();
+    for (int i = 0; i < NUM_TAGS; i++) {
+      tags.add("tag-" + random.nextInt(1000));
+    }
+    record.add("tags", tags);
+    JsonObject attributes = new JsonObject();
+    for (int i = 0; i < NUM_ATTRIBUTES; i++) {
+      attributes.addProperty("key-" + i, "value-" + random.nextInt(1000));
+    }
+    record.add("attributes", attributes);
+    return record;
+  }
+
+  /**
+   * Generate a fixed pool of Avro records. Benchmarks cycle through the pool so record generation stays out of the
+   * measured path.
+   */
+  public static GenericRecord[] avroRecords(int count, long seed) {
+    Random random = new Random(seed);
+    GenericRecord[] records = new GenericRecord[count];
+    for (int i = 0; i < count; i++) {
+      records[i] = avroRecord(i, random);
+    }
+    return records;
+  }
+
+  public static JsonObject[] jsonRecords(int count, long seed) {
+    Random random = new Random(seed);
+    JsonObject[] records = new JsonObject[count];
+    for (int i = 0; i < count; i++) {
+      records[i] = jsonRecord(i, random);
+    }
+    return records;
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.benchmark;
+
+import java.util.Collections;
+
+import org.apache.avro.generic.GenericRecord;
+
+import org.apache.gobblin.configuration.WorkUnitState;
+import org.apache.gobblin.qualitychecker.row.RowLevelPolicy;
+import org.apache.gobblin.qualitychecker.row.RowLevelPolicyChecker;
+import org.apache.gobblin.runtime.TaskContext;
+import org.apache.gobblin.source.extractor.Extractor;
+import org.apache.gobblin.writer.DataWriterBuilder;
+
+
+/**
+ * A {@link TaskContext} wired to in-memory constructs: a {@link SyntheticExtractor}, no row-level policies and
+ * {@link CountingDataWriter}s. Converters and the fork operator still come from the task configuration, so
+ * benchmarks exercise the same construct loading a real task does.
+ */
+public class SyntheticTaskContext extends TaskContext {
+
+  private final GenericRecord[] records;
+  private final long numRecords;
+  private Extractor extractor;
+
+  public SyntheticTaskContext(WorkUnitState workUnitState, GenericRecord[] records, long numRecords) {
+    super(workUnitState);
+    this.records = records;
+    this.numRecords = numRecords;
+  }
+
+  @Override
+  public Extractor getExtractor() {
+    this.extractor = new SyntheticExtractor(getTaskState(), this.records, this.numRecords);
+    return this.extractor;
+  }
+
+  @Override
+  public Extractor getRawSourceExtractor() {
+    return this.extractor;
+  }
+
+  @Override
+  public RowLevelPolicyChecker getRowLevelPolicyChecker(int index) throws Exception {
+    return new RowLevelPolicyChecker(Collections.<RowLevelPolicy>emptyList(), "0", null);
+  }
+
+  @Override
+  public DataWriterBuilder getDataWriterBuilder(int branches, int index) {
+    return new CountingDataWriter.Builder<>(getTaskState());
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.converter.avro;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import org.apache.gobblin.benchmark.SyntheticRecords;
+import org.apache.gobblin.configuration.WorkUnitState;
+
+
+/**
+ * Throughput of JSON intermediate to Avro conversion through {@link JsonIntermediateToAvroConverter}, which
+ * builds its per-field converters with {@link JsonElementConversionFactory}.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@org.openjdk.jmh.annotations.Fork(value = 1)
+@BenchmarkMode(value = Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonIntermediateToAvroBenchmark {
+
+  @State(value = Scope.Thread)
+  public static class ConverterState {
+    private final WorkUnitState workUnitState = new WorkUnitState();
+    private JsonArray jsonSchema;
+    private JsonObject[] records;
+    private int index = 0;
+    private JsonIntermediateToAvroConverter converter;
+    private Schema avroSchema;
+
+    @Setup
+    public void setup() throws Exception {
+      this.jsonSchema = SyntheticRecords.jsonSchema();
+      this.records = SyntheticRecords.jsonRecords(1024, 0L);
+      this.converter = new JsonIntermediateToAvroConverter();
+      this.avroSchema = this.converter.convertSchema(this.jsonSchema, this.workUnitState);
+    }
+  }
+
+  @Benchmark
+  public Iterable<GenericRecord> convertRecord(ConverterState state) throws Exception {
+    JsonObject record = state.records[state.index++ & (state.records.length - 1)];
+    return state.converter.convertRecord(state.avroSchema, record, state.workUnitState);
+  }
+
+  @Benchmark
+  public Schema convertSchema(ConverterState state) throws Exception {
+    return new JsonIntermediateToAvroConverter().convertSchema(state.jsonSchema, state.workUnitState);
+  }
+}
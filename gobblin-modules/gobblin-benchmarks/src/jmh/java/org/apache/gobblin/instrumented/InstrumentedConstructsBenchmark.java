@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.instrumented;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.gobblin.benchmark.CountingDataWriter;
+import org.apache.gobblin.benchmark.PassThroughConverter;
+import org.apache.gobblin.benchmark.SyntheticExtractor;
+import org.apache.gobblin.benchmark.SyntheticRecords;
+import org.apache.gobblin.configuration.ConfigurationKeys;
+import org.apache.gobblin.configuration.WorkUnitState;
+import org.apache.gobblin.source.workunit.Extract;
+import org.apache.gobblin.source.workunit.WorkUnit;
+import org.apache.gobblin.stream.RecordEnvelope;
+
+
+/**
+ * Per-record overhead of the instrumented extractor, converter and writer bases, with metrics on and off. The
+ * wrapped implementations do no work, so the scores are the cost of the instrumentation itself.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@org.openjdk.jmh.annotations.Fork(value = 1)
+@BenchmarkMode(value = Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InstrumentedConstructsBenchmark {
+
+  @State(value = Scope.Thread)
+  public static class ConstructsState {
+    @Param({"false", "true"})
+    public boolean metricsEnabled;
+
+    private WorkUnitState workUnitState;
+    private GenericRecord[] records;
+    private int index = 0;
+    private SyntheticExtractor extractor;
+    private PassThroughConverter converter;
+    private CountingDataWriter<GenericRecord> writer;
+
+    @Setup
+    public void setup() {
+      WorkUnit workUnit = WorkUnit.create(
+          new Extract(Extract.TableType.APPEND_ONLY, "org.apache.gobblin.benchmark", "InstrumentedConstructsBenchmark"));
+      this.workUnitState = new WorkUnitState(workUnit);
+      this.workUnitState.setProp(ConfigurationKeys.METRICS_ENABLED_KEY, this.metricsEnabled);
+      this.records = SyntheticRecords.avroRecords(1024, 0L);
+      this.extractor = new SyntheticExtractor(this.workUnitState, this.records, Long.MAX_VALUE);
+      this.converter = new PassThroughConverter();
+      this.converter.init(this.workUnitState);
+      this.writer = new CountingDataWriter<>(this.workUnitState);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+      this.extractor.close();
+      this.converter.close();
+      this.writer.close();
+    }
+
+    GenericRecord nextRecord() {
+      return this.records[this.index++ & (this.records.length - 1)];
+    }
+  }
+
+  @Benchmark
+  public RecordEnvelope<GenericRecord> extract(ConstructsState state) throws Exception {
+    return state.extractor.readRecordEnvelope();
+  }
+
+  @Benchmark
+  public Iterable<GenericRecord> convert(ConstructsState state) throws Exception {
+    Schema schema = SyntheticRecords.AVRO_SCHEMA;
+    return state.converter.convertRecord(schema, state.nextRecord(), state.workUnitState);
+  }
+
+  @Benchmark
+  public void write(ConstructsState state) throws Exception {
+    state.writer.write(state.nextRecord());
+  }
+}
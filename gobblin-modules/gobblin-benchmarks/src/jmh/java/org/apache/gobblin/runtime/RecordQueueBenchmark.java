@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Control;
+
+
+/**
+ * Single-producer/single-consumer throughput of {@link BoundedBlockingRecordQueue}, the hand-off between a
+ * {@link Task} and its asynchronous forks. The "put" rate of each group is the record rate the queue sustains.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@org.openjdk.jmh.annotations.Fork(value = 1)
+@BenchmarkMode(value = Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RecordQueueBenchmark {
+
+  private static final Object RECORD = new Object();
+  private static final int MAX_DRAIN_SIZE = 100;
+
+  @State(value = Scope.Group)
+  public static class QueueState {
+    @Param({"BLOCKING", "SPSC_RING_BUFFER"})
+    public BoundedBlockingRecordQueue.QueueType queueType;
+
+    @Param({"false", "true"})
+    public boolean collectStats;
+
+    private BoundedBlockingRecordQueue<Object> queue;
+
+    @Setup
+    public void setup() {
+      BoundedBlockingRecordQueue.Builder<Object> builder = BoundedBlockingRecordQueue.newBuilder()
+          .hasCapacity(1000)
+          // Short timeouts so neither side blocks for long once the other stops at the end of an iteration
+          .useTimeout(10)
+          .useTimeoutTimeUnit(TimeUnit.MILLISECONDS)
+          .useQueueType(this.queueType);
+      if (this.collectStats) {
+        builder.collectStats();
+      }
+      this.queue = builder.build();
+    }
+  }
+
+  @State(value = Scope.Thread)
+  public static class DrainState {
+    private final List<Object> drained = new ArrayList<>(MAX_DRAIN_SIZE);
+  }
+
+  @Benchmark
+  @Group("putGet")
+  @GroupThreads(1)
+  public boolean put(Control control, QueueState state) throws InterruptedException {
+    return !control.stopMeasurement && state.queue.put(RECORD);
+  }
+
+  @Benchmark
+  @Group("putGet")
+  @GroupThreads(1)
+  public Object get(Control control, QueueState state) throws InterruptedException {
+    return control.stopMeasurement ? null : state.queue.get();
+  }
+
+  @Benchmark
+  @Group("putDrain")
+  @GroupThreads(1)
+  public boolean putForDrain(Control control, QueueState state) throws InterruptedException {
+    return !control.stopMeasurement && state.queue.put(RECORD);
+  }
+
+  @Benchmark
+  @Group("putDrain")
+  @GroupThreads(1)
+  public int drain(Control control, QueueState state, DrainState drainState) throws InterruptedException {
+    if (control.stopMeasurement) {
+      return 0;
+    }
+    drainState.drained.clear();
+    return state.queue.drainTo(drainState.drained, MAX_DRAIN_SIZE);
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.runtime;
+
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Optional;
+import com.google.common.util.concurrent.AbstractIdleService;
+
+import org.apache.gobblin.benchmark.PassThroughConverter;
+import org.apache.gobblin.benchmark.SyntheticRecords;
+import org.apache.gobblin.benchmark.SyntheticTaskContext;
+import org.apache.gobblin.configuration.ConfigurationKeys;
+import org.apache.gobblin.configuration.WorkUnitState;
+import org.apache.gobblin.source.workunit.Extract;
+import org.apache.gobblin.source.workunit.WorkUnit;
+
+
+/**
+ * End-to-end throughput of a {@link Task}: records flow from an in-memory extractor through a chain of
+ * pass-through converters, the fork operator and a {@link org.apache.gobblin.runtime.fork.Fork} into a counting
+ * writer. Everything but the runtime itself is a no-op, so changes in the reported records per second come from
+ * the task, fork and instrumentation code paths.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@org.openjdk.jmh.annotations.Fork(value = 1)
+@BenchmarkMode(value = Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TaskPipelineBenchmark {
+
+  private static final int RECORDS_PER_TASK = 100000;
+
+  @State(value = Scope.Benchmark)
+  public static class PipelineState {
+    @Param({"true", "false"})
+    public boolean synchronousExecution;
+
+    @Param({"false", "true"})
+    public boolean metricsEnabled;
+
+    @Param({"1", "3"})
+    public int numConverters;
+
+    private TaskExecutor taskExecutor;
+    private GenericRecord[] records;
+    private String converterClasses;
+
+    @Setup
+    public void setup() throws Exception {
+      this.taskExecutor = new TaskExecutor(new Properties());
+      this.taskExecutor.startAsync().awaitRunning();
+      this.records = SyntheticRecords.avroRecords(1024, 0L);
+      this.converterClasses =
+          Joiner.on(",").join(Collections.nCopies(this.numConverters, PassThroughConverter.class.getName()));
+    }
+
+    @TearDown
+    public void tearDown() {
+      this.taskExecutor.stopAsync().awaitTerminated();
+    }
+
+    Task newTask() {
+      WorkUnit workUnit = WorkUnit.create(
+          new Extract(Extract.TableType.APPEND_ONLY, "org.apache.gobblin.benchmark", "TaskPipelineBenchmark"));
+      workUnit.setProp(ConfigurationKeys.TASK_KEY_KEY, "taskKey");
+      workUnit.setProp(ConfigurationKeys.CONVERTER_CLASSES_KEY, this.converterClasses);
+      workUnit.setProp(ConfigurationKeys.TASK_SYNCHRONOUS_EXECUTION_MODEL_KEY, this.synchronousExecution);
+      workUnit.setProp(ConfigurationKeys.METRICS_ENABLED_KEY, this.metricsEnabled);
+      WorkUnitState workUnitState = new WorkUnitState(workUnit);
+      workUnitState.setProp(ConfigurationKeys.JOB_ID_KEY, "job_TaskPipelineBenchmark_0");
+      workUnitState.setProp(ConfigurationKeys.TASK_ID_KEY, "task_TaskPipelineBenchmark_0");
+
+      SyntheticTaskContext taskContext = new SyntheticTaskContext(workUnitState, this.records, RECORDS_PER_TASK);
+      return new Task(taskContext, new NoopTaskStateTracker(), this.taskExecutor, Optional.<CountDownLatch>absent());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS_PER_TASK)
+  public void runTask(PipelineState state) throws Exception {
+    Task task = state.newTask();
+    task.run();
+    // A failed task finishes early and would inflate the score
+    if (task.getTaskState().getWorkingState() == WorkUnitState.WorkingState.FAILED) {
+      throw new IllegalStateException("Benchmark task failed", task.getTaskFailureException());
+    }
+  }
+
+  /**
+   * A {@link TaskStateTracker} that ignores all callbacks.
+   */
+  private static class NoopTaskStateTracker extends AbstractIdleService implements TaskStateTracker {
+    @Override
+    public void registerNewTask(Task task) {
+    }
+
+    @Override
+    public void onTaskRunCompletion(Task task) {
+    }
+
+    @Override
+    public void onTaskCommitCompletion(Task task) {
+    }
+
+    @Override
+    protected void startUp() throws Exception {
+    }
+
+    @Override
+    protected void shutDown() throws Exception {
+    }
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.util;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DecoderFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.gobblin.benchmark.SyntheticRecords;
+
+
+/**
+ * Converting records of an evolved schema with {@link AvroRecordSchemaConverter}, against the previous
+ * serialize-and-reread implementation of {@link AvroUtils#convertRecordSchema(GenericRecord, Schema)}.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@org.openjdk.jmh.annotations.Fork(value = 1)
+@BenchmarkMode(value = Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AvroRecordSchemaConverterBenchmark {
+
+  @State(value = Scope.Thread)
+  public static class ConversionState {
+    private GenericRecord[] records;
+    private int index = 0;
+    private Schema evolvedSchema;
+
+    @Setup
+    public void setup() {
+      this.records = SyntheticRecords.avroRecords(1024, 0L);
+      // A newer version of the record schema: one field widened, one field added with a default
+      this.evolvedSchema = SchemaBuilder.record("BenchmarkRecord")
+          .namespace("org.apache.gobblin.benchmark")
+          .fields()
+          .requiredLong("id")
+          .requiredString("name")
+          .requiredLong("count")
+          .requiredDouble("score")
+          .requiredBoolean("active")
+          .name("tags").type().array().items().stringType().noDefault()
+          .name("attributes").type().map().values().stringType().noDefault()
+          .name("source").type().stringType().stringDefault("unknown")
+          .endRecord();
+    }
+
+    GenericRecord nextRecord() {
+      return this.records[this.index++ & (this.records.length - 1)];
+    }
+  }
+
+  @Benchmark
+  public GenericRecord cachedPlan(ConversionState state) throws IOException {
+    return AvroRecordSchemaConverter.convert(state.nextRecord(), state.evolvedSchema);
+  }
+
+  @Benchmark
+  public GenericRecord serializeAndReread(ConversionState state) throws IOException {
+    GenericRecord record = state.nextRecord();
+    return new GenericDatumReader<GenericRecord>(record.getSchema(), state.evolvedSchema)
+        .read(null, DecoderFactory.get().binaryDecoder(AvroUtils.recordToByteArray(record), null));
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.writer;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.avro.generic.GenericRecord;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.io.Files;
+
+import org.apache.gobblin.benchmark.SyntheticRecords;
+import org.apache.gobblin.configuration.ConfigurationKeys;
+
+
+/**
+ * Per-record throughput of {@link AvroHdfsDataWriter} writing to the local file system. A new writer and output
+ * directory are created for every iteration so file size does not grow across the run.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@org.openjdk.jmh.annotations.Fork(value = 1)
+@BenchmarkMode(value = Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AvroHdfsDataWriterBenchmark {
+
+  @State(value = Scope.Thread)
+  public static class WriterState {
+    @Param({"null", "deflate", "snappy"})
+    public String codec;
+
+    private GenericRecord[] records;
+    private int index = 0;
+    private File rootDir;
+    private DataWriter<GenericRecord> writer;
+
+    @Setup(Level.Trial)
+    public void setupRecords() {
+      this.records = SyntheticRecords.avroRecords(1024, 0L);
+    }
+
+    @Setup(Level.Iteration)
+    public void setupWriter() throws IOException {
+      this.rootDir = Files.createTempDir();
+      org.apache.gobblin.configuration.State properties = new org.apache.gobblin.configuration.State();
+      properties.setProp(ConfigurationKeys.WRITER_FILE_SYSTEM_URI, ConfigurationKeys.LOCAL_FS_URI);
+      properties.setProp(ConfigurationKeys.WRITER_STAGING_DIR, new File(this.rootDir, "staging").getAbsolutePath());
+      properties.setProp(ConfigurationKeys.WRITER_OUTPUT_DIR, new File(this.rootDir, "output").getAbsolutePath());
+      properties.setProp(ConfigurationKeys.WRITER_FILE_PATH, "benchmark");
+      properties.setProp(ConfigurationKeys.WRITER_FILE_NAME, "benchmark.avro");
+      properties.setProp(ConfigurationKeys.WRITER_CODEC_TYPE, this.codec);
+
+      this.writer = new AvroDataWriterBuilder()
+          .writeTo(Destination.of(Destination.DestinationType.HDFS, properties))
+          .writeInFormat(WriterOutputFormat.AVRO)
+          .withWriterId("benchmark")
+          .withSchema(SyntheticRecords.AVRO_SCHEMA)
+          .withBranches(1)
+          .forBranch(0)
+          .build();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownWriter() throws IOException {
+      try {
+        this.writer.close();
+      } finally {
+        FileUtils.deleteDirectory(this.rootDir);
+      }
+    }
+  }
+
+  @Benchmark
+  public void write(WriterState state) throws IOException {
+    state.writer.write(state.records[state.index++ & (state.records.length - 1)]);
+  }
+}
@@ -157,6 +157,36 @@ public class HighLevelConsumerTest extends KafkaTestBase {
     consumer.shutDown();
   }
 
+  @Test
+  public void testConsumerManualOffsetCommitWithBatching() throws Exception {
+    Properties consumerProps = new Properties();
+    consumerProps.setProperty(ConfigurationKeys.KAFKA_BROKERS, _kafkaBrokers);
+    consumerProps.setProperty(Kafka09ConsumerClient.GOBBLIN_CONFIG_VALUE_DESERIALIZER_CLASS_KEY, "org.apache.kafka.common.serialization.ByteArrayDeserializer");
+    consumerProps.setProperty(SOURCE_KAFKA_CONSUMERCONFIG_KEY_WITH_DOT + KAFKA_AUTO_OFFSET_RESET_KEY, "earliest");
+    //Generate a brand new consumer group id to ensure there are no previously committed offsets for this group id
+    String consumerGroupId = Joiner.on("-").join(TOPIC, "batch", System.currentTimeMillis());
+    consumerProps.setProperty(SOURCE_KAFKA_CONSUMERCONFIG_KEY_WITH_DOT + HighLevelConsumer.GROUP_ID_KEY, consumerGroupId);
+    consumerProps.put(HighLevelConsumer.OFFSET_COMMIT_TIME_THRESHOLD_SECS_KEY, 1);
+
+    MockedHighLevelConsumer consumer = new MockedHighLevelConsumer(TOPIC, ConfigUtils.propertiesToConfig(consumerProps),
+        NUM_PARTITIONS) {
+      @Override
+      protected int getMaxProcessBatchSize() {
+        return 4;
+      }
+    };
+    consumer.startAsync().awaitRunning();
+
+    consumer.awaitExactlyNMessages(NUM_MSGS, 10000);
+
+    for(int i=0; i< NUM_PARTITIONS; i++) {
+      KafkaPartition partition = new KafkaPartition.Builder().withTopicName(TOPIC).withId(i).build();
+      AssertWithBackoff.assertTrue(input -> consumer.getCommittedOffsets().containsKey(partition),
+          5000, "waiting for committing offsets", log, 2, 1000);
+    }
+    consumer.shutDown();
+  }
+
   @Test
   public void testCalculateProduceToConsumeLag() {
     Properties consumerProps = new Properties();
@@ -317,6 +317,66 @@ public class KafkaAvroJobStatusMonitorTest {
     jobStatusMonitor.shutDown();
   }
 
+  @Test (dependsOnMethods = "testDisabledErrorClassification")
+  public void testProcessMessagesInBatch() throws IOException, ReflectiveOperationException {
+    DagManagementStateStore dagManagementStateStore = mock(DagManagementStateStore.class);
+    KafkaEventReporter kafkaReporter = builder.build("localhost:0000", "topic3");
+
+    //Submit GobblinTrackingEvents to Kafka
+    ImmutableList.of(
+        createFlowCompiledEvent(),
+        createJobOrchestratedEvent(1, 2),
+        createJobStartEvent(),
+        createDummyEvent(),
+        createJobSucceededEvent()
+    ).forEach(event -> {
+      context.submitEvent(event);
+      kafkaReporter.report();
+    });
+
+    try {
+      Thread.sleep(1000);
+    } catch(InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+
+    Config config = ConfigFactory.empty()
+        .withValue(KafkaJobStatusMonitor.JOB_STATUS_MONITOR_BATCH_ENABLED_KEY, ConfigValueFactory.fromAnyRef(Boolean.TRUE));
+    MockKafkaAvroJobStatusMonitor jobStatusMonitor = createMockKafkaAvroJobStatusMonitor(new AtomicBoolean(false), config,
+        new NoopGaaSJobObservabilityEventProducer(), dagManagementStateStore);
+    jobStatusMonitor.buildMetricsContextAndMetrics();
+
+    ConsumerIterator<byte[], byte[]> iterator = this.kafkaTestHelper.getIteratorForTopic(TOPIC);
+    List<DecodeableKafkaRecord<byte[], byte[]>> records = Lists.newArrayList();
+    for (int i = 0; i < 5; i++) {
+      records.add(convertMessageAndMetadataToDecodableKafkaRecord(iterator.next()));
+    }
+    jobStatusMonitor.processMessages(records);
+
+    StateStore<State> stateStore = jobStatusMonitor.getStateStore();
+    String storeName = KafkaJobStatusMonitor.jobStatusStoreName(flowGroup, flowName);
+    List<State> flowStates = stateStore.getAll(storeName,
+        KafkaJobStatusMonitor.jobStatusTableName(this.flowExecutionId, JobStatusRetriever.NA_KEY, JobStatusRetriever.NA_KEY));
+    Assert.assertEquals(flowStates.size(), 1);
+    Assert.assertEquals(flowStates.get(0).getProp(JobStatusRetriever.EVENT_NAME_FIELD), ExecutionStatus.COMPILED.name());
+    List<State> jobStates = stateStore.getAll(storeName,
+        KafkaJobStatusMonitor.jobStatusTableName(this.flowExecutionId, this.jobGroup, this.jobName));
+    Assert.assertEquals(jobStates.size(), 1);
+    Assert.assertEquals(jobStates.get(0).getProp(JobStatusRetriever.EVENT_NAME_FIELD), ExecutionStatus.COMPLETE.name());
+
+    // transitions merged away in memory still get their dag actions, exactly once
+    Mockito.verify(dagManagementStateStore, Mockito.times(1)).deleteDagAction(eq(this.enforceJobStartDeadlineDagAction));
+    Mockito.verify(dagManagementStateStore, Mockito.times(1)).addJobDagAction(any(), any(),
+        anyLong(), any(), eq(DagActionStore.DagActionType.REEVALUATE));
+
+    Assert.assertEquals(jobStatusMonitor.getMetricContext().getHistograms()
+        .get(KafkaJobStatusMonitor.JOB_STATUS_BATCH_SIZE).getSnapshot().getMax(), 5);
+    Assert.assertEquals(jobStatusMonitor.getMetricContext().getHistograms()
+        .get(KafkaJobStatusMonitor.JOB_STATUS_BATCH_TABLES_WRITTEN).getSnapshot().getMax(), 2);
+
+    jobStatusMonitor.shutDown();
+  }
+
   @Test (dependsOnMethods = "testProcessMessageForSuccessfulFlow")
   public void testProcessMessageForFailedFlow() throws IOException, ReflectiveOperationException {
     DagManagementStateStore dagManagementStateStore = mock(DagManagementStateStore.class);
@@ -1148,6 +1208,11 @@ public class KafkaAvroJobStatusMonitorTest {
       super.processMessage(record);
     }
 
+    @Override
+    protected void processMessages(List<DecodeableKafkaRecord<byte[], byte[]>> records) {
+      super.processMessages(records);
+    }
+
     @Override
     protected void buildMetricsContextAndMetrics() {
       super.buildMetricsContextAndMetrics();
@@ -18,6 +18,7 @@
 package org.apache.gobblin.source.extractor.extract.kafka;
 
 import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
 import org.apache.avro.io.Decoder;
 import org.apache.avro.io.DecoderFactory;
 
@@ -59,4 +60,9 @@ public class FixedSchemaKafkaAvroExtractor extends KafkaAvroExtractor<Void> {
   protected Decoder getDecoder(byte[] payload) {
     return DecoderFactory.get().binaryDecoder(payload, null);
   }
+
+  @Override
+  protected Decoder getDecoder(byte[] payload, BinaryDecoder reuse) {
+    return DecoderFactory.get().binaryDecoder(payload, reuse);
+  }
 }
@@ -18,16 +18,20 @@
 package org.apache.gobblin.source.extractor.extract.kafka;
 
 import java.io.IOException;
+import java.util.concurrent.ExecutionException;
 
 import org.apache.avro.Schema;
 import org.apache.avro.SchemaBuilder;
 import org.apache.avro.generic.GenericData.Record;
 import org.apache.avro.generic.GenericDatumReader;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
 import org.apache.avro.io.Decoder;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -47,6 +51,11 @@ import org.apache.gobblin.util.AvroUtils;
  * schema registry is not used (i.e., property {@link KafkaSchemaRegistry#KAFKA_SCHEMA_REGISTRY_CLASS} is not
  * specified, method {@link #getExtractorSchema()} should be overriden.
  *
+ * Records are decoded directly into the extractor schema with one {@link GenericDatumReader} per writer schema. Writer
+ * schemas are compared by identity, so {@link #getRecordSchema(byte[])} should return the same {@link Schema} instance
+ * for the same schema, e.g. by caching schemas by id. Subclasses can override {@link #getDecoder(byte[], BinaryDecoder)}
+ * to reuse {@link BinaryDecoder}s across records.
+ *
  * @author Ziyang Liu
  */
 @Slf4j
@@ -60,6 +69,13 @@ public abstract class KafkaAvroExtractor<K> extends KafkaExtractor<Schema, Gener
   protected final Optional<Schema> schema;
   protected final Optional<GenericDatumReader<Record>> reader;
 
+  /** Readers resolving each writer schema to {@link #schema}. Weak keys compare schemas by identity. */
+  private final Cache<Schema, GenericDatumReader<Record>> readersByWriterSchema =
+      CacheBuilder.newBuilder().weakKeys().build();
+  private Schema lastWriterSchema;
+  private GenericDatumReader<Record> lastReader;
+  private BinaryDecoder reusableDecoder;
+
   public KafkaAvroExtractor(WorkUnitState state) {
     super(state);
     this.schemaRegistry = state.contains(KafkaSchemaRegistry.KAFKA_SCHEMA_REGISTRY_CLASS)
@@ -107,12 +123,22 @@ public abstract class KafkaAvroExtractor<K> extends KafkaExtractor<Schema, Gener
 
   @Override
   protected GenericRecord decodeRecord(ByteArrayBasedKafkaRecord messageAndOffset) throws IOException {
+    return decodeRecord(messageAndOffset, null);
+  }
+
+  @Override
+  protected GenericRecord decodeRecord(ByteArrayBasedKafkaRecord messageAndOffset, GenericRecord reuse)
+      throws IOException {
     byte[] payload = messageAndOffset.getMessageBytes();
-    Schema recordSchema = getRecordSchema(payload);
-    Decoder decoder = getDecoder(payload);
-    this.reader.get().setSchema(recordSchema);
+    GenericDatumReader<Record> recordReader = getReader(getRecordSchema(payload));
+    Decoder decoder = getDecoder(payload, this.reusableDecoder);
+    if (decoder instanceof BinaryDecoder) {
+      this.reusableDecoder = (BinaryDecoder) decoder;
+    }
     try {
-      GenericRecord record = this.reader.get().read(null, decoder);
+      Record reusableRecord =
+          reuse instanceof Record && reuse.getSchema() == this.schema.get() ? (Record) reuse : null;
+      GenericRecord record = recordReader.read(reusableRecord, decoder);
       record = convertRecord(record);
       return record;
     } catch (IOException e) {
@@ -121,6 +147,27 @@ public abstract class KafkaAvroExtractor<K> extends KafkaExtractor<Schema, Gener
     }
   }
 
+  /**
+   * Get a reader from the given writer schema to the extractor schema. Consecutive records usually share a writer
+   * schema, so the last reader is checked first.
+   */
+  private GenericDatumReader<Record> getReader(Schema writerSchema) throws IOException {
+    if (writerSchema != this.lastWriterSchema) {
+      if (writerSchema == this.schema.get()) {
+        this.lastReader = this.reader.get();
+      } else {
+        try {
+          this.lastReader = this.readersByWriterSchema.get(writerSchema,
+              () -> new GenericDatumReader<>(writerSchema, this.schema.get()));
+        } catch (ExecutionException e) {
+          throw new IOException("Failed to create a reader for writer schema " + writerSchema, e.getCause());
+        }
+      }
+      this.lastWriterSchema = writerSchema;
+    }
+    return this.lastReader;
+  }
+
   /**
    * Convert the record to the output schema of this extractor
    * @param record the input record
@@ -141,4 +188,13 @@ public abstract class KafkaAvroExtractor<K> extends KafkaExtractor<Schema, Gener
    * Obtain the Avro {@link Decoder} for a Kafka record given the payload of the record.
    */
   protected abstract Decoder getDecoder(byte[] payload);
+
+  /**
+   * Obtain the Avro {@link Decoder} for a Kafka record given the payload of the record, possibly reusing the
+   * {@link BinaryDecoder} returned for the previous record. The default implementation ignores {@code reuse}.
+   * @param reuse the {@link BinaryDecoder} returned for the previous record, or null
+   */
+  protected Decoder getDecoder(byte[] payload, BinaryDecoder reuse) {
+    return getDecoder(payload);
+  }
 }
@@ -185,7 +185,7 @@ public abstract class KafkaExtractor<S, D> extends EventBasedExtractor<S, D> {
           // track time for decode/convert depending on the record type
           long decodeStartTime = System.nanoTime();
 
-          D record = decodeKafkaMessage(nextValidMessage);
+          D record = decodeKafkaMessage(nextValidMessage, reuse);
 
           this.statsTracker.onDecodeableRecord(this.currentPartitionIdx, readStartTime, decodeStartTime,
               nextValidMessage.getValueSizeInBytes(), nextValidMessage.isTimestampLogAppend() ? nextValidMessage.getTimestamp() : 0L,
@@ -206,11 +206,19 @@ public abstract class KafkaExtractor<S, D> extends EventBasedExtractor<S, D> {
   }
 
   protected D decodeKafkaMessage(KafkaConsumerRecord message) throws DataRecordException, IOException {
+    return decodeKafkaMessage(message, null);
+  }
+
+  /**
+   * Decode a Kafka message, possibly into the given reusable record.
+   * @param reuse a record that may be reused to hold the decoded message, or null
+   */
+  protected D decodeKafkaMessage(KafkaConsumerRecord message, D reuse) throws DataRecordException, IOException {
 
     D record = null;
 
     if (message instanceof ByteArrayBasedKafkaRecord) {
-      record = decodeRecord((ByteArrayBasedKafkaRecord)message);
+      record = decodeRecord((ByteArrayBasedKafkaRecord)message, reuse);
     } else if (message instanceof DecodeableKafkaRecord){
       // if value is null then this is a bad record that is returned for further error handling, so raise an error
       if (((DecodeableKafkaRecord) message).getValue() == null) {
@@ -299,6 +307,15 @@ public abstract class KafkaExtractor<S, D> extends EventBasedExtractor<S, D> {
 
   protected abstract D decodeRecord(ByteArrayBasedKafkaRecord kafkaConsumerRecord) throws IOException;
 
+  /**
+   * Decode a record, possibly into the given reusable record. The default implementation ignores {@code reuse}.
+   * Callers must not pass a record that is still referenced downstream, and its content is undefined if decoding fails.
+   * @param reuse a record that may be reused to hold the decoded record, or null
+   */
+  protected D decodeRecord(ByteArrayBasedKafkaRecord kafkaConsumerRecord, D reuse) throws IOException {
+    return decodeRecord(kafkaConsumerRecord);
+  }
+
   /**
    * Convert a record to the output format
    * @param record the input record
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.source.extractor.extract.kafka;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.util.Utf8;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import org.apache.gobblin.configuration.WorkUnitState;
+import org.apache.gobblin.kafka.client.ByteArrayBasedKafkaRecord;
+
+
+public class KafkaAvroExtractorTest {
+
+  private static final String TOPIC = "testTopic";
+
+  private static final Schema SCHEMA_V1 = SchemaBuilder.record("Event").namespace("test").fields()
+      .requiredString("name")
+      .requiredInt("count")
+      .endRecord();
+
+  private static final Schema SCHEMA_V2 = SchemaBuilder.record("Event").namespace("test").fields()
+      .requiredString("name")
+      .requiredLong("count")
+      .name("source").type().stringType().stringDefault("unknown")
+      .endRecord();
+
+  @Test
+  public void testDecodeRecordReusesRecord() throws Exception {
+    WorkUnitState state = KafkaExtractorUtils.getWorkUnitState(TOPIC, 1);
+    state.setProp(FixedSchemaKafkaAvroExtractor.STATIC_SCHEMA_ROOT_KEY + "." + TOPIC, SCHEMA_V2.toString());
+    FixedSchemaKafkaAvroExtractor extractor = new FixedSchemaKafkaAvroExtractor(state);
+    Schema schema = extractor.getSchema();
+
+    GenericRecord first = extractor.decodeRecord(message(newRecord(schema, "a", 1L)), null);
+    Assert.assertEquals(first.get("name"), new Utf8("a"));
+    Assert.assertEquals(first.get("count"), 1L);
+
+    GenericRecord second = extractor.decodeRecord(message(newRecord(schema, "b", 2L)), first);
+    Assert.assertSame(second, first);
+    Assert.assertEquals(second.get("name"), new Utf8("b"));
+    Assert.assertEquals(second.get("count"), 2L);
+
+    GenericRecord third = extractor.decodeRecord(message(newRecord(schema, "c", 3L)));
+    Assert.assertNotSame(third, first);
+    Assert.assertEquals(third.get("name"), new Utf8("c"));
+    extractor.close();
+  }
+
+  @Test
+  public void testDecodeRecordWithOlderWriterSchema() throws Exception {
+    WorkUnitState state = KafkaExtractorUtils.getWorkUnitState(TOPIC, 1);
+    state.setProp(FixedSchemaKafkaAvroExtractor.STATIC_SCHEMA_ROOT_KEY + "." + TOPIC, SCHEMA_V2.toString());
+    // Writer schema alternates between the extractor schema and an older version
+    FixedSchemaKafkaAvroExtractor extractor = new FixedSchemaKafkaAvroExtractor(state) {
+      @Override
+      protected Schema getRecordSchema(byte[] payload) {
+        return payload[0] == 'o' ? SCHEMA_V1 : this.schema.get();
+      }
+
+      @Override
+      protected Decoder getDecoder(byte[] payload, BinaryDecoder reuse) {
+        return super.getDecoder(Arrays.copyOfRange(payload, 1, payload.length), reuse);
+      }
+    };
+
+    for (int i = 0; i < 3; i++) {
+      GenericRecord old = extractor.decodeRecord(message('o', newRecord(SCHEMA_V1, "old", i)));
+      Assert.assertEquals(old.getSchema(), SCHEMA_V2);
+      Assert.assertEquals(old.get("count"), (long) i);
+      Assert.assertEquals(old.get("source"), new Utf8("unknown"));
+
+      GenericRecord current = extractor.decodeRecord(message('n', newRecord(extractor.getSchema(), "new", (long) i)));
+      Assert.assertEquals(current.get("name"), new Utf8("new"));
+      Assert.assertEquals(current.get("count"), (long) i);
+    }
+    extractor.close();
+  }
+
+  private static GenericRecord newRecord(Schema schema, String name, Object count) {
+    GenericRecord record = new GenericData.Record(schema);
+    record.put("name", name);
+    record.put("count", count);
+    if (schema.getField("source") != null) {
+      record.put("source", "test");
+    }
+    return record;
+  }
+
+  private static ByteArrayBasedKafkaRecord message(GenericRecord record) throws IOException {
+    return message(null, record);
+  }
+
+  private static ByteArrayBasedKafkaRecord message(Character prefix, GenericRecord record) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    if (prefix != null) {
+      out.write(prefix);
+    }
+    BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+    new GenericDatumWriter<GenericRecord>(record.getSchema()).write(record, encoder);
+    ByteArrayBasedKafkaRecord message = Mockito.mock(ByteArrayBasedKafkaRecord.class);
+    Mockito.when(message.getMessageBytes()).thenReturn(out.toByteArray());
+    return message;
+  }
+}
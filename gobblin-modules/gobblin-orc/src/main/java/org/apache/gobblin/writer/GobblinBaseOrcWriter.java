@@ -99,6 +99,8 @@ public abstract class GobblinBaseOrcWriter<S, D> extends FsDataWriter<D> {
   // Holds the maximum size of the previous run's maximum buffer or the max of the current run's maximum buffer
   private long estimatedBytesAllocatedConverterMemory = -1;
   protected OrcConverterMemoryManager converterMemoryManager;
+  // null unless the self tuning writer shares its memory budget through the JVM-wide arbiter
+  protected final OrcWriterMemoryArbiter.Registration memoryArbiterRegistration;
 
   Configuration writerConfig;
 
@@ -146,6 +148,9 @@ public abstract class GobblinBaseOrcWriter<S, D> extends FsDataWriter<D> {
     // Get the amount of allocated and future space available
     this.availableMemory = (Runtime.getRuntime().maxMemory() - (Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory()))/this.concurrentWriterTasks;
     log.info("Available memory for ORC writer: {}", this.availableMemory);
+    this.memoryArbiterRegistration = this.selfTuningWriter
+        && properties.getPropAsBoolean(GobblinOrcWriterConfigs.ORC_WRITER_MEMORY_ARBITER_ENABLED, false)
+        ? OrcWriterMemoryArbiter.instance(properties).register(this.stagingFile.toString()) : null;
 
     if (this.selfTuningWriter) {
       if (properties.contains(GobblinOrcWriterConfigs.RuntimeStateConfigs.ORC_WRITER_ESTIMATED_RECORD_SIZE) &&
@@ -248,6 +253,12 @@ public abstract class GobblinBaseOrcWriter<S, D> extends FsDataWriter<D> {
     }
   }
 
+  protected void releaseMemoryArbiterRegistration() {
+    if (this.memoryArbiterRegistration != null) {
+      this.memoryArbiterRegistration.close();
+    }
+  }
+
   protected synchronized void closeInternal()
       throws IOException {
     if (!closed) {
@@ -255,6 +266,7 @@ public abstract class GobblinBaseOrcWriter<S, D> extends FsDataWriter<D> {
       this.orcFileWriter.close();
       this.closed = true;
       this.recycleRowBatchPool();
+      this.releaseMemoryArbiterRegistration();
     } else {
       // Throw fatal exception if there's outstanding buffered data since there's risk losing data if proceeds.
       if (rowBatch.size > 0) {
@@ -298,12 +310,14 @@ public abstract class GobblinBaseOrcWriter<S, D> extends FsDataWriter<D> {
   /**
    * Modifies the size of the writer buffer based on the average size of the records written so far, the amount of available memory during initialization, and the number of concurrent writers.
    * The new batch size is calculated as follows:
-   * 1. Memory available = (available memory during startup)/(concurrent writers) - (memory used by ORCFile writer)
+   * 1. Memory available = (available memory during startup)/(concurrent writers) - (memory used by ORCFile writer), or when sharing
+   *    the budget through the {@link OrcWriterMemoryArbiter}, (this writer's write-rate proportional share) - (memory used by ORCFile writer)
    * 2. Average file size, estimated during Avro -> ORC conversion
    * 3. Estimate of memory used by the converter lists, as during resize the internal buffer size can grow large
    * 4. New batch size = (Memory available - Estimated memory used by converter lists) / Average file size
    * Generally in this writer, the memory the converter uses for large arrays is the leading cause of OOM in streaming, along with the records stored in the rowBatch
    * Another potential approach is to also check the memory available before resizing the converter lists, and to flush the batch whenever a resize is needed.
+   * The buffered batch is flushed only when it must grow beyond its capacity or already holds at least the new batch size.
    */
   void tuneBatchSize(long averageSizePerRecord) throws IOException {
     this.estimatedBytesAllocatedConverterMemory = Math.max(this.estimatedBytesAllocatedConverterMemory, this.converterMemoryManager.getConverterBufferTotalSize());
@@ -316,8 +330,14 @@ public abstract class GobblinBaseOrcWriter<S, D> extends FsDataWriter<D> {
       this.currentOrcWriterMaxUnderlyingMemory = Math.max(this.currentOrcWriterMaxUnderlyingMemory, orcFileWriter.estimateMemory());
     }
     long maxMemoryInFileWriter = Math.max(currentOrcWriterMaxUnderlyingMemory, prevOrcWriterMaxUnderlyingMemory);
-    int newBatchSize = (int) ((this.availableMemory*1.0 / currentPartitionedWriters * this.rowBatchMemoryUsageFactor - maxMemoryInFileWriter
-        - this.estimatedBytesAllocatedConverterMemory) / averageSizePerRecord);
+    double memoryBudget;
+    if (this.memoryArbiterRegistration != null) {
+      this.memoryArbiterRegistration.reportBytes(maxMemoryInFileWriter + this.estimatedBytesAllocatedConverterMemory);
+      memoryBudget = this.memoryArbiterRegistration.getBudgetBytes();
+    } else {
+      memoryBudget = this.availableMemory*1.0 / currentPartitionedWriters * this.rowBatchMemoryUsageFactor;
+    }
+    int newBatchSize = (int) ((memoryBudget - maxMemoryInFileWriter - this.estimatedBytesAllocatedConverterMemory) / averageSizePerRecord);
 
     if (this.enableLimitBufferSizeOrcStripe) {
       // For large records, prevent the batch size from greatly exceeding the size of a stripe as the native ORC Writer will flush its buffer after a stripe is filled
@@ -333,15 +353,21 @@ public abstract class GobblinBaseOrcWriter<S, D> extends FsDataWriter<D> {
       if (newBatchSize > this.batchSize) {
         newBatchSize = (newBatchSize - this.batchSize) / 2 + this.batchSize;
       }
-      log.info("Tuning ORC writer batch size from {} to {} based on average byte size per record: {} with available memory {} and {} bytes "
+      log.info("Tuning ORC writer batch size from {} to {} based on average byte size per record: {} with memory budget {} and {} bytes "
               + "of allocated memory in converter buffers, native orc writer estimated memory {}, with {} partitioned writers",
-          batchSize, newBatchSize, averageSizePerRecord, availableMemory,
+          batchSize, newBatchSize, averageSizePerRecord, (long) memoryBudget,
           estimatedBytesAllocatedConverterMemory, maxMemoryInFileWriter, currentPartitionedWriters);
       this.batchSize = newBatchSize;
-      // We need to always flush because ORC VectorizedRowBatch.ensureSize() does not provide an option to preserve data, refer to
+      // Growing requires a flush because ORC VectorizedRowBatch.ensureSize() does not provide an option to preserve data, refer to
       // https://orc.apache.org/api/hive-storage-api/org/apache/hadoop/hive/ql/exec/vector/VectorizedRowBatch.html
-      this.flush();
-      this.rowBatch.ensureSize(this.batchSize);
+      // Shrinking never reallocates, so it need only flush when the buffered rows already reach the new batch size
+      boolean mustGrow = this.batchSize > this.rowBatch.getMaxSize();
+      if (mustGrow || this.rowBatch.size >= this.batchSize) {
+        this.flush();
+      }
+      if (mustGrow) {
+        this.rowBatch.ensureSize(this.batchSize);
+      }
     }
   }
 
@@ -380,6 +406,9 @@ public abstract class GobblinBaseOrcWriter<S, D> extends FsDataWriter<D> {
   public void write(D record) throws IOException {
     Preconditions.checkState(!closed, "Writer already closed");
     this.valueWriter.write(record, this.rowBatch);
+    if (this.memoryArbiterRegistration != null) {
+      this.memoryArbiterRegistration.recordWritten();
+    }
     int recordCount = this.recordCounter.incrementAndGet();
     if (this.selfTuningWriter && recordCount == this.nextSelfTune) {
       this.tuneBatchSize(this.getEstimatedRecordSizeBytes());
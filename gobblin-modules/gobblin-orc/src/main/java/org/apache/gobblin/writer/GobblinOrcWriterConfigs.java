@@ -71,6 +71,19 @@ public class GobblinOrcWriterConfigs {
    */
   public static final String ORC_WRITER_ENABLE_BUFFER_LIMIT_ORC_STRIPE = ORC_WRITER_PREFIX + "auto.selfTune.max.buffer.orc.stripe";
 
+  /**
+   * In the self tuning writer, share one JVM-wide memory budget among all writers in proportion to their write rates (see
+   * {@link OrcWriterMemoryArbiter}), rather than assuming an equal share per partitioned writer
+   */
+  public static final String ORC_WRITER_MEMORY_ARBITER_ENABLED = ORC_WRITER_PREFIX + "auto.selfTune.memoryArbiter.enabled";
+  /**
+   * Fraction of the JVM max heap shared by the {@link OrcWriterMemoryArbiter}. As the arbiter is a JVM-wide singleton, it
+   * is read once, from the first writer to register, so it should be set at the container rather than the job level.
+   * It is independent of {@link #ORC_WRITER_ROWBATCH_MEMORY_USAGE_FACTOR}, which only applies to each writer's share
+   * without the arbiter.
+   */
+  public static final String ORC_WRITER_MEMORY_ARBITER_HEAP_FRACTION = ORC_WRITER_PREFIX + "auto.selfTune.memoryArbiter.heapFraction";
+
   public static final String ORC_WRITER_INSTRUMENTED = ORC_WRITER_PREFIX + "instrumented";
 
   public static final int DEFAULT_ORC_WRITER_BATCH_SIZE = 1000;
@@ -81,6 +94,7 @@ public class GobblinOrcWriterConfigs {
    */
   public static final int DEFAULT_CONCURRENT_WRITERS = 3;
   public static final double DEFAULT_ORC_WRITER_BATCHSIZE_MEMORY_USAGE_FACTOR = 0.3;
+  public static final double DEFAULT_ORC_WRITER_MEMORY_ARBITER_HEAP_FRACTION = 0.3;
 
   public static final int DEFAULT_ORC_WRITER_BATCHSIZE_ROWCHECK_FACTOR = 5;
 
@@ -43,6 +43,8 @@ public class InstrumentedGobblinOrcWriter extends GobblinOrcWriter {
   public static final String METRICS_RECORDS_WRITTEN = "recordsWritten";
   public static final String METRICS_BUFFER_RESIZES = "bufferResizes";
   public static final String METRICS_BUFFER_SIZE = "bufferSize";
+  public static final String METRICS_CONVERTER_BUFFER_BYTES = "converterBufferBytes";
+  public static final String METRICS_MEMORY_BUDGET_BYTES = "memoryBudgetBytes";
   public static final String ORC_WRITER_METRICS_NAME = "OrcWriterMetrics";
 
   public InstrumentedGobblinOrcWriter(FsDataWriterBuilder<Schema, GenericRecord> builder, State properties) throws IOException {
@@ -59,6 +61,7 @@ public class InstrumentedGobblinOrcWriter extends GobblinOrcWriter {
       log.info("Emitting ORC event metrics");
       this.sendOrcWriterMetadataEvent();
       this.recycleRowBatchPool();
+      this.releaseMemoryArbiterRegistration();
     } else {
       // Throw fatal exception if there's outstanding buffered data since there's risk losing data if proceeds.
       if (rowBatch.size > 0) {
@@ -75,6 +78,10 @@ public class InstrumentedGobblinOrcWriter extends GobblinOrcWriter {
     eventMetadataMap.put(METRICS_RECORDS_WRITTEN, String.valueOf(this.recordsWritten()));
     eventMetadataMap.put(METRICS_BUFFER_RESIZES, String.valueOf(((GenericRecordToOrcValueWriter) this.valueWriter).getResizeCount()));
     eventMetadataMap.put(METRICS_BUFFER_SIZE, String.valueOf(this.batchSize));
+    eventMetadataMap.put(METRICS_CONVERTER_BUFFER_BYTES, String.valueOf(this.converterMemoryManager.getConverterBufferTotalSize()));
+    if (this.memoryArbiterRegistration != null) {
+      eventMetadataMap.put(METRICS_MEMORY_BUDGET_BYTES, String.valueOf(this.memoryArbiterRegistration.getBudgetBytes()));
+    }
 
     builder.addAdditionalMetadata(eventMetadataMap);
     EventSubmitter.submit(metricContext, builder);
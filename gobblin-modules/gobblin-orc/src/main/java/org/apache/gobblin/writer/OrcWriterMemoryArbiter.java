@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.writer;
+
+import java.io.Closeable;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.gobblin.configuration.State;
+
+
+/**
+ * A JVM-wide arbiter dividing a single memory budget for buffered {@link org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch}es
+ * among all open self-tuning ORC writers, in proportion to each writer's write rate.
+ *
+ * Without it, every writer assumes an equal share of {@link PartitionedDataWriter#CURRENT_PARTITIONED_WRITERS_COUNTER}, so with
+ * hundreds of partitions the few busy writers get as little memory as the many idle ones and end up writing small stripes.
+ * Writers only increment counters on the write path; shares are computed lock-free when a writer tunes its batch size.
+ */
+@Slf4j
+public class OrcWriterMemoryArbiter {
+  private static OrcWriterMemoryArbiter INSTANCE;
+
+  @Getter
+  private final long totalBudgetBytes;
+  private final Set<Registration> registrations = ConcurrentHashMap.newKeySet();
+  private double heapFraction;
+
+  @VisibleForTesting
+  OrcWriterMemoryArbiter(long totalBudgetBytes) {
+    this.totalBudgetBytes = totalBudgetBytes;
+    log.info("Created ORC writer memory arbiter with total budget: {}", totalBudgetBytes);
+  }
+
+  /**
+   * @return the JVM-wide arbiter, whose budget is {@link GobblinOrcWriterConfigs#ORC_WRITER_MEMORY_ARBITER_HEAP_FRACTION} of
+   * the max heap, as configured for the first caller. Later callers configured differently share that same budget.
+   */
+  public synchronized static OrcWriterMemoryArbiter instance(State properties) {
+    double heapFraction = properties.getPropAsDouble(GobblinOrcWriterConfigs.ORC_WRITER_MEMORY_ARBITER_HEAP_FRACTION,
+        GobblinOrcWriterConfigs.DEFAULT_ORC_WRITER_MEMORY_ARBITER_HEAP_FRACTION);
+    if (INSTANCE == null) {
+      INSTANCE = new OrcWriterMemoryArbiter((long) (Runtime.getRuntime().maxMemory() * heapFraction));
+      INSTANCE.heapFraction = heapFraction;
+    } else if (heapFraction != INSTANCE.heapFraction) {
+      log.warn("Ignoring {}={}, as the JVM-wide ORC writer memory arbiter was already created with {}",
+          GobblinOrcWriterConfigs.ORC_WRITER_MEMORY_ARBITER_HEAP_FRACTION, heapFraction, INSTANCE.heapFraction);
+    }
+    return INSTANCE;
+  }
+
+  /** Register a writer, which must {@link Registration#close()} once it no longer buffers records */
+  public Registration register(String writerId) {
+    Registration registration = new Registration(writerId, System.currentTimeMillis());
+    this.registrations.add(registration);
+    log.info("Registered ORC writer {}; {} writers now share the memory budget", writerId, this.registrations.size());
+    return registration;
+  }
+
+  public int getNumRegisteredWriters() {
+    return this.registrations.size();
+  }
+
+  /** @return sum of the memory last reported by every registered writer */
+  public long getReportedBytes() {
+    return this.registrations.stream().mapToLong(Registration::getReportedBytes).sum();
+  }
+
+  private double calcBudgetShare(Registration registration, long nowMillis) {
+    double totalRate = 0;
+    int numWriters = 0;
+    for (Registration r : this.registrations) {
+      totalRate += r.calcWriteRate(nowMillis);
+      ++numWriters;
+    }
+    if (numWriters == 0) {
+      return 1.0;
+    }
+    return totalRate > 0 ? registration.calcWriteRate(nowMillis) / totalRate : 1.0 / numWriters;
+  }
+
+  /** A single writer's claim on the arbiter's budget */
+  public class Registration implements Closeable {
+    @Getter
+    private final String writerId;
+    private final long registeredAtMillis;
+    private final LongAdder recordsWritten = new LongAdder();
+    private final AtomicLong reportedBytes = new AtomicLong(0);
+
+    private Registration(String writerId, long registeredAtMillis) {
+      this.writerId = writerId;
+      this.registeredAtMillis = registeredAtMillis;
+    }
+
+    public void recordWritten() {
+      this.recordsWritten.increment();
+    }
+
+    /** Report the memory currently held by the writer, e.g. its converter buffers and native ORC writer */
+    public void reportBytes(long bytes) {
+      this.reportedBytes.set(bytes);
+    }
+
+    public long getReportedBytes() {
+      return this.reportedBytes.get();
+    }
+
+    /**
+     * @return the bytes the writer may use, being its share of the total budget in proportion to its write rate, but no
+     * more than what the other writers have not {@link #reportBytes reported} holding, since idle writers keep their memory
+     */
+    public long getBudgetBytes() {
+      long rateShareBytes = (long) (totalBudgetBytes * calcBudgetShare(this, System.currentTimeMillis()));
+      long heldByOthersBytes = OrcWriterMemoryArbiter.this.getReportedBytes() - getReportedBytes();
+      return Math.max(0, Math.min(rateShareBytes, totalBudgetBytes - heldByOthersBytes));
+    }
+
+    @VisibleForTesting
+    double calcWriteRate(long nowMillis) {
+      return this.recordsWritten.sum() * 1.0 / Math.max(1, nowMillis - this.registeredAtMillis);
+    }
+
+    @Override
+    public void close() {
+      if (registrations.remove(this)) {
+        log.info("Unregistered ORC writer {}; {} writers now share the memory budget", this.writerId, registrations.size());
+      }
+    }
+  }
+}
@@ -17,16 +17,16 @@
 
 package org.apache.gobblin.writer;
 
-import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.gobblin.configuration.State;
 import org.apache.orc.TypeDescription;
 import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
 
-import java.util.LinkedList;
+import java.util.Deque;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -34,6 +34,8 @@ import java.util.concurrent.TimeUnit;
 /***
  * Maintains a pool of row batches per orc schema.
  * Expires row batches which have not been accessed for {@code ROW_BATCH_EXPIRY_INTERVAL}
+ * Since a recycled row batch retains the column buffers the converter enlarged, those get reused along with it.
+ * The pool is lock-free, so writers across many partitions do not contend on get and recycle.
  */
 @Slf4j
 public class RowBatchPool {
@@ -48,12 +50,12 @@ public class RowBatchPool {
 
     private static RowBatchPool INSTANCE;
 
-    private final Map<TypeDescription, LinkedList<RowBatchHolder>> rowBatches;
+    private final Map<TypeDescription, Deque<RowBatchHolder>> rowBatches;
     private final ScheduledExecutorService rowBatchExpiryThread;
     private final long rowBatchExpiryInterval;
 
     private RowBatchPool(State properties) {
-        rowBatches = Maps.newHashMap();
+        rowBatches = new ConcurrentHashMap<>();
         rowBatchExpiryThread = Executors.newSingleThreadScheduledExecutor(
                 new ThreadFactoryBuilder().setDaemon(true).build());
         // expire row batches older N secs
@@ -66,11 +68,8 @@ public class RowBatchPool {
 
     private Runnable rowBatchExpiryFn() {
         return () -> {
-            synchronized (rowBatches) {
-                for (Map.Entry<TypeDescription, LinkedList<RowBatchHolder>> e : rowBatches.entrySet()) {
-                    LinkedList<RowBatchHolder> val = e.getValue();
-                    val.removeIf(this::candidateForRemoval);
-                }
+            for (Deque<RowBatchHolder> val : rowBatches.values()) {
+                val.removeIf(this::candidateForRemoval);
             }
         };
     }
@@ -105,27 +104,29 @@ public class RowBatchPool {
     }
 
     public VectorizedRowBatch getRowBatch(TypeDescription schema, int batchSize) {
-        synchronized (rowBatches) {
-            LinkedList<RowBatchHolder> vals = rowBatches.get(schema);
-            VectorizedRowBatch rowBatch;
-
-            if (vals == null || vals.size() == 0) {
-                rowBatch = schema.createRowBatch(batchSize);
-                log.info("Creating new row batch {}", System.identityHashCode(rowBatch));
-            } else {
-                rowBatch = vals.removeLast().rowBatch;
-                log.info("Using existing row batch {}", System.identityHashCode(rowBatch));
+        Deque<RowBatchHolder> vals = rowBatches.get(schema);
+        // most recently recycled first, as its buffers are the least likely to expire
+        RowBatchHolder holder = vals == null ? null : vals.pollLast();
+        VectorizedRowBatch rowBatch;
+
+        if (holder == null) {
+            rowBatch = schema.createRowBatch(batchSize);
+            log.debug("Creating new row batch {}", System.identityHashCode(rowBatch));
+        } else {
+            rowBatch = holder.rowBatch;
+            // a batch recycled by a writer of smaller batch size must grow (harmless, as a recycled batch holds no data)
+            if (rowBatch.getMaxSize() < batchSize) {
+                rowBatch.ensureSize(batchSize);
             }
-            return rowBatch;
+            log.debug("Using existing row batch {}", System.identityHashCode(rowBatch));
         }
+        return rowBatch;
     }
 
     public void recycle(TypeDescription schema, VectorizedRowBatch rowBatch) {
-        log.info("Recycling row batch {}", System.identityHashCode(rowBatch));
-        synchronized (rowBatches) {
-            rowBatches.computeIfAbsent(schema, ignore -> Lists.newLinkedList());
-            LinkedList<RowBatchHolder> vals = rowBatches.get(schema);
-            vals.add(new RowBatchHolder(rowBatch, System.currentTimeMillis()));
-        }
+        log.debug("Recycling row batch {}", System.identityHashCode(rowBatch));
+        rowBatch.reset();
+        rowBatches.computeIfAbsent(schema, ignore -> new ConcurrentLinkedDeque<>())
+            .addLast(new RowBatchHolder(rowBatch, System.currentTimeMillis()));
     }
 }
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.writer;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class OrcWriterMemoryArbiterTest {
+
+  @Test
+  public void testBudgetSplitEquallyWithoutWrites() {
+    OrcWriterMemoryArbiter arbiter = new OrcWriterMemoryArbiter(1000L);
+    OrcWriterMemoryArbiter.Registration writer1 = arbiter.register("writer1");
+    Assert.assertEquals(writer1.getBudgetBytes(), 1000L);
+
+    OrcWriterMemoryArbiter.Registration writer2 = arbiter.register("writer2");
+    Assert.assertEquals(writer1.getBudgetBytes(), 500L);
+    Assert.assertEquals(writer2.getBudgetBytes(), 500L);
+
+    writer2.close();
+    // closing twice is harmless
+    writer2.close();
+    Assert.assertEquals(arbiter.getNumRegisteredWriters(), 1);
+    Assert.assertEquals(writer1.getBudgetBytes(), 1000L);
+  }
+
+  @Test
+  public void testBudgetProportionalToWriteRate() throws Exception {
+    OrcWriterMemoryArbiter arbiter = new OrcWriterMemoryArbiter(1000000L);
+    OrcWriterMemoryArbiter.Registration busy = arbiter.register("busy");
+    OrcWriterMemoryArbiter.Registration idle = arbiter.register("idle");
+    for (int i = 0; i < 1000; i++) {
+      busy.recordWritten();
+    }
+    Thread.sleep(10);
+    Assert.assertEquals(idle.getBudgetBytes(), 0L);
+    Assert.assertTrue(busy.getBudgetBytes() > 990000L);
+
+    idle.recordWritten();
+    long now = System.currentTimeMillis();
+    Assert.assertTrue(busy.calcWriteRate(now) > idle.calcWriteRate(now));
+    Assert.assertTrue(busy.getBudgetBytes() + idle.getBudgetBytes() <= arbiter.getTotalBudgetBytes());
+  }
+
+  @Test
+  public void testReportedBytes() {
+    OrcWriterMemoryArbiter arbiter = new OrcWriterMemoryArbiter(1000L);
+    OrcWriterMemoryArbiter.Registration writer1 = arbiter.register("writer1");
+    OrcWriterMemoryArbiter.Registration writer2 = arbiter.register("writer2");
+    writer1.reportBytes(100L);
+    writer2.reportBytes(200L);
+    Assert.assertEquals(arbiter.getReportedBytes(), 300L);
+    writer1.close();
+    Assert.assertEquals(arbiter.getReportedBytes(), 200L);
+  }
+
+  @Test
+  public void testBudgetExcludesMemoryHeldByOtherWriters() throws Exception {
+    OrcWriterMemoryArbiter arbiter = new OrcWriterMemoryArbiter(1000L);
+    OrcWriterMemoryArbiter.Registration busy = arbiter.register("busy");
+    OrcWriterMemoryArbiter.Registration idle = arbiter.register("idle");
+    for (int i = 0; i < 1000; i++) {
+      busy.recordWritten();
+    }
+    Thread.sleep(10);
+    Assert.assertEquals(busy.getBudgetBytes(), 1000L);
+
+    // the idle writer still holds memory, which the busy one cannot claim
+    idle.reportBytes(300L);
+    Assert.assertEquals(busy.getBudgetBytes(), 700L);
+    // a writer's own memory is part of its budget
+    busy.reportBytes(500L);
+    Assert.assertEquals(busy.getBudgetBytes(), 700L);
+
+    idle.close();
+    Assert.assertEquals(busy.getBudgetBytes(), 1000L);
+  }
+}
@@ -50,4 +50,18 @@ public class RowBatchPoolTest {
         // new rowbatch is created, all old ones are expired
         Assert.assertNotEquals(rowBatch1, rowBatch4);
     }
+
+    @Test
+    public void testRecycledRowBatchGrowsToRequestedSize() {
+        RowBatchPool instance = RowBatchPool.instance(WorkUnit.createEmpty());
+        TypeDescription schema = TypeDescription.fromString("struct<c:int,d:string>");
+        VectorizedRowBatch small = instance.getRowBatch(schema, 16);
+        small.size = 3;
+        instance.recycle(schema, small);
+
+        VectorizedRowBatch large = instance.getRowBatch(schema, 1024);
+        Assert.assertSame(large, small);
+        Assert.assertEquals(large.size, 0);
+        Assert.assertTrue(large.getMaxSize() >= 1024);
+    }
 }
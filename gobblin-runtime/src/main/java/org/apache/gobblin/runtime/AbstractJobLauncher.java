@@ -66,6 +66,7 @@ import org.apache.gobblin.commit.CommitSequence;
 import org.apache.gobblin.commit.CommitSequenceStore;
 import org.apache.gobblin.commit.DeliverySemantics;
 import org.apache.gobblin.configuration.ConfigurationKeys;
+import org.apache.gobblin.configuration.StateUtils;
 import org.apache.gobblin.configuration.WorkUnitState;
 import org.apache.gobblin.converter.initializer.ConverterInitializerFactory;
 import org.apache.gobblin.destination.DestinationDatasetHandlerService;
@@ -499,6 +500,13 @@ public abstract class AbstractJobLauncher implements JobLauncher {
           return;
         }
 
+        if (jobState.getPropAsBoolean(ConfigurationKeys.WORK_UNIT_SHARE_COMMON_PROPERTIES,
+            ConfigurationKeys.DEFAULT_WORK_UNIT_SHARE_COMMON_PROPERTIES) && workUnitStream.isSafeToMaterialize()) {
+          int sharedProperties = StateUtils.shareCommonProperties(
+              JobLauncherUtils.flattenWorkUnits(workUnitStream.getMaterializedWorkUnitCollection()));
+          LOG.info("Sharing {} properties common to all work units", sharedProperties);
+        }
+
         // calculation of total bytes to copy in a job used to track a job's copy progress
         if (jobState.getPropAsBoolean(ConfigurationKeys.REPORT_JOB_PROGRESS, ConfigurationKeys.DEFAULT_REPORT_JOB_PROGRESS)) {
             LOG.info("Report job progress config is turned on");
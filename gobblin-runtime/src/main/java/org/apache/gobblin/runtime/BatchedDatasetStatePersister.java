@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.runtime;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.gobblin.metastore.DatasetStateStore;
+import org.apache.gobblin.metrics.ContextAwareHistogram;
+import org.apache.gobblin.metrics.ContextAwareTimer;
+import org.apache.gobblin.metrics.MetricContext;
+import org.apache.gobblin.runtime.metrics.RuntimeMetrics;
+import org.apache.gobblin.util.ExecutorsUtils;
+
+
+/**
+ * Persists the {@link JobState.DatasetState}s of committed datasets to a {@link DatasetStateStore} in batches, off
+ * the threads that publish the datasets.
+ *
+ * <p>
+ *   States are accumulated until {@code batchSize} of them are pending and are then written with a single
+ *   {@link DatasetStateStore#persistDatasetStates(Map)} call on one of {@code numThreads} writer threads. Callers must
+ *   call {@link #awaitCompletion()} once all datasets have been handed off; it writes the remaining states and
+ *   surfaces any failure to persist them.
+ * </p>
+ */
+@Slf4j
+final class BatchedDatasetStatePersister implements Closeable {
+
+  private final DatasetStateStore<JobState.DatasetState> datasetStateStore;
+  private final int batchSize;
+  private final ExecutorService executor;
+  private final ContextAwareTimer persistTimer;
+  private final ContextAwareHistogram batchSizeHistogram;
+
+  private Map<String, JobState.DatasetState> pendingBatch = new LinkedHashMap<>();
+  private final List<Future<?>> submittedBatches = Lists.newArrayList();
+
+  BatchedDatasetStatePersister(DatasetStateStore<JobState.DatasetState> datasetStateStore, int batchSize,
+      int numThreads, MetricContext metricContext) {
+    this.datasetStateStore = datasetStateStore;
+    this.batchSize = batchSize;
+    this.executor = Executors.newFixedThreadPool(numThreads,
+        ExecutorsUtils.newThreadFactory(Optional.of(log), Optional.of("DatasetStatePersister-%d")));
+    this.persistTimer = metricContext.contextAwareTimer(RuntimeMetrics.GOBBLIN_DATASET_COMMIT_STATE_PERSIST_TIMER);
+    this.batchSizeHistogram =
+        metricContext.contextAwareHistogram(RuntimeMetrics.GOBBLIN_DATASET_COMMIT_STATE_PERSIST_BATCH_SIZE);
+  }
+
+  /**
+   * Queue the state of a committed dataset for persistence. This method is thread-safe.
+   */
+  synchronized void persist(String datasetUrn, JobState.DatasetState datasetState) {
+    this.pendingBatch.put(datasetUrn, datasetState);
+    if (this.pendingBatch.size() >= this.batchSize) {
+      submitPendingBatch();
+    }
+  }
+
+  /**
+   * Persist all states still pending and wait for every batch to be written.
+   *
+   * @throws IOException if any batch failed to be persisted
+   */
+  void awaitCompletion() throws IOException {
+    List<Future<?>> batches;
+    synchronized (this) {
+      if (!this.pendingBatch.isEmpty()) {
+        submitPendingBatch();
+      }
+      batches = Lists.newArrayList(this.submittedBatches);
+      this.submittedBatches.clear();
+    }
+
+    IOException failure = null;
+    for (Future<?> batch : batches) {
+      try {
+        batch.get();
+      } catch (ExecutionException ee) {
+        if (failure == null) {
+          failure = new IOException("Failed to persist dataset states", ee.getCause());
+        } else {
+          failure.addSuppressed(ee.getCause());
+        }
+      } catch (InterruptedException ie) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while persisting dataset states", ie);
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private void submitPendingBatch() {
+    final Map<String, JobState.DatasetState> batch = this.pendingBatch;
+    this.pendingBatch = new LinkedHashMap<>();
+    this.submittedBatches.add(this.executor.submit(() -> {
+      long startTimeNanos = System.nanoTime();
+      log.info("Persisting dataset states for {} datasets", batch.size());
+      this.datasetStateStore.persistDatasetStates(batch);
+      this.persistTimer.update(System.nanoTime() - startTimeNanos, TimeUnit.NANOSECONDS);
+      this.batchSizeHistogram.update(batch.size());
+      return null;
+    }));
+  }
+
+  @Override
+  public void close() {
+    ExecutorsUtils.shutdownExecutorService(this.executor, Optional.of(log));
+  }
+}
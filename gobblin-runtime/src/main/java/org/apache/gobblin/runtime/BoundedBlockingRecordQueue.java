@@ -17,6 +17,7 @@
 
 package org.apache.gobblin.runtime;
 
+import java.util.Collection;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 
@@ -47,10 +48,26 @@ import org.apache.gobblin.configuration.ConfigurationKeys;
  *   </ul>
  * </p>
  *
+ * <p>
+ *   The queue is backed by an {@link java.util.concurrent.ArrayBlockingQueue} by default. A lock-free
+ *   {@link SpscRingBufferQueue} can be used instead via {@link Builder#useQueueType(QueueType)} when there is
+ *   exactly one producer and one consumer, e.g. between a {@link Task} and one of its
+ *   {@link org.apache.gobblin.runtime.fork.AsynchronousFork}s. Put and get attempts can be sampled via
+ *   {@link Builder#sampleStatsEvery(int)} to reduce the cost of collecting statistics on every operation.
+ * </p>
+ *
  * @author Yinan Li
  */
 public class BoundedBlockingRecordQueue<T> {
 
+  /**
+   * Implementation backing a {@link BoundedBlockingRecordQueue}.
+   */
+  public enum QueueType {
+    BLOCKING,
+    SPSC_RING_BUFFER
+  }
+
   private final int capacity;
   private final long timeout;
   private final TimeUnit timeoutTimeUnit;
@@ -65,9 +82,12 @@ public class BoundedBlockingRecordQueue<T> {
     this.capacity = builder.capacity;
     this.timeout = builder.timeout;
     this.timeoutTimeUnit = builder.timeoutTimeUnit;
-    this.blockingQueue = Queues.newArrayBlockingQueue(builder.capacity);
+    this.blockingQueue = builder.queueType == QueueType.SPSC_RING_BUFFER
+        ? new SpscRingBufferQueue<T>(builder.capacity, builder.waitStrategy)
+        : Queues.<T>newArrayBlockingQueue(builder.capacity);
 
-    this.queueStats = builder.ifCollectStats ? Optional.of(new QueueStats()) : Optional.<QueueStats> absent();
+    this.queueStats = builder.ifCollectStats ? Optional.of(new QueueStats(builder.statsSampleInterval))
+        : Optional.<QueueStats> absent();
   }
 
   /**
@@ -81,7 +101,7 @@ public class BoundedBlockingRecordQueue<T> {
   public boolean put(T record) throws InterruptedException {
     boolean offered = this.blockingQueue.offer(record, this.timeout, this.timeoutTimeUnit);
     if (this.queueStats.isPresent()) {
-      this.queueStats.get().putsRateMeter.mark();
+      this.queueStats.get().markPut();
     }
     return offered;
   }
@@ -96,11 +116,33 @@ public class BoundedBlockingRecordQueue<T> {
   public T get() throws InterruptedException {
     T record = this.blockingQueue.poll(this.timeout, this.timeoutTimeUnit);
     if (this.queueStats.isPresent()) {
-      this.queueStats.get().getsRateMeter.mark();
+      this.queueStats.get().markGets(1);
     }
     return record;
   }
 
+  /**
+   * Get all available records, up to a given number, from the head of the queue, waiting (up to the configured
+   * timeout time) for at least one record to become available.
+   *
+   * @param records the {@link Collection} to add the records to
+   * @param maxRecords maximum number of records to get
+   * @return the number of records added to the {@link Collection}, 0 if no record is available
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public int drainTo(Collection<? super T> records, int maxRecords) throws InterruptedException {
+    T first = get();
+    if (first == null) {
+      return 0;
+    }
+    records.add(first);
+    int drained = this.blockingQueue.drainTo(records, maxRecords - 1);
+    if (drained > 0 && this.queueStats.isPresent()) {
+      this.queueStats.get().markGets(drained);
+    }
+    return drained + 1;
+  }
+
   /**
    * Get a {@link QueueStats} object representing queue statistics of this {@link BoundedBlockingRecordQueue}.
    *
@@ -139,6 +181,9 @@ public class BoundedBlockingRecordQueue<T> {
     private long timeout = ConfigurationKeys.DEFAULT_FORK_RECORD_QUEUE_TIMEOUT;
     private TimeUnit timeoutTimeUnit = TimeUnit.MILLISECONDS;
     private boolean ifCollectStats = false;
+    private int statsSampleInterval = ConfigurationKeys.DEFAULT_FORK_RECORD_QUEUE_STATS_SAMPLE_INTERVAL;
+    private QueueType queueType = QueueType.BLOCKING;
+    private SpscRingBufferQueue.WaitStrategy waitStrategy = SpscRingBufferQueue.WaitStrategy.PARK;
 
     /**
      * Configure the capacity of the queue.
@@ -183,6 +228,39 @@ public class BoundedBlockingRecordQueue<T> {
       return this;
     }
 
+    /**
+     * Configure how often put and get attempts are recorded in the queue statistics.
+     *
+     * @param statsSampleInterval statistics are updated once every this many puts/gets
+     * @return this {@link Builder} instance
+     */
+    public Builder<T> sampleStatsEvery(int statsSampleInterval) {
+      this.statsSampleInterval = statsSampleInterval;
+      return this;
+    }
+
+    /**
+     * Configure the implementation backing the queue.
+     *
+     * @param queueType the {@link QueueType}
+     * @return this {@link Builder} instance
+     */
+    public Builder<T> useQueueType(QueueType queueType) {
+      this.queueType = queueType;
+      return this;
+    }
+
+    /**
+     * Configure how a {@link QueueType#SPSC_RING_BUFFER} queue waits for space or records.
+     *
+     * @param waitStrategy the {@link SpscRingBufferQueue.WaitStrategy}
+     * @return this {@link Builder} instance
+     */
+    public Builder<T> useWaitStrategy(SpscRingBufferQueue.WaitStrategy waitStrategy) {
+      this.waitStrategy = waitStrategy;
+      return this;
+    }
+
     /**
      * Build a new {@link BoundedBlockingRecordQueue}.
      *
@@ -197,7 +275,8 @@ public class BoundedBlockingRecordQueue<T> {
    * A class for collecting queue statistics.
    *
    * <p>
-   *   All statistics will have zero values if collecting of statistics is not enabled.
+   *   All statistics will have zero values if collecting of statistics is not enabled. If statistics are sampled,
+   *   the put and get attempt counts lag behind by less than the sample interval.
    * </p>
    */
   public class QueueStats {
@@ -213,8 +292,20 @@ public class BoundedBlockingRecordQueue<T> {
     private final Gauge<Double> fillRatioGauge;
     private final Meter putsRateMeter;
     private final Meter getsRateMeter;
+    private final int sampleInterval;
+    // Puts/gets not yet recorded in the meters. The queue has a single producer and a single consumer
+    // in all of its uses, so these are only ever updated by one thread each.
+    private int unrecordedPuts;
+    private int unrecordedGets;
 
     public QueueStats() {
+      this(1);
+    }
+
+    public QueueStats(int sampleInterval) {
+      Preconditions.checkArgument(sampleInterval > 0, "Invalid stats sample interval");
+      this.sampleInterval = sampleInterval;
+
       this.queueSizeGauge = new Gauge<Integer>() {
         @Override
         public Integer getValue() {
@@ -234,6 +325,21 @@ public class BoundedBlockingRecordQueue<T> {
       this.getsRateMeter = new Meter();
     }
 
+    private void markPut() {
+      if (++this.unrecordedPuts >= this.sampleInterval) {
+        this.putsRateMeter.mark(this.unrecordedPuts);
+        this.unrecordedPuts = 0;
+      }
+    }
+
+    private void markGets(int count) {
+      this.unrecordedGets += count;
+      if (this.unrecordedGets >= this.sampleInterval) {
+        this.getsRateMeter.mark(this.unrecordedGets);
+        this.unrecordedGets = 0;
+      }
+    }
+
     /**
      * Return the queue size.
      *
@@ -336,15 +336,18 @@ public class GobblinMultiTaskAttempt {
     }
 
     boolean hasTaskFailure = false;
+    List<String> persistedTaskStateNames = Lists.newArrayList();
     for (Task task : tasks) {
       log.info("Writing task state for task " + task.getTaskId());
-      taskStateStore.put(task.getJobId(), task.getTaskId() + AbstractJobLauncher.TASK_STATE_STORE_TABLE_SUFFIX,
-          task.getTaskState());
+      String taskStateName = task.getTaskId() + AbstractJobLauncher.TASK_STATE_STORE_TABLE_SUFFIX;
+      taskStateStore.put(task.getJobId(), taskStateName, task.getTaskState());
+      persistedTaskStateNames.add(taskStateName);
 
       if (task.getTaskState().getWorkingState() == WorkUnitState.WorkingState.FAILED) {
         hasTaskFailure = true;
       }
     }
+    TaskStateCollectorService.notifyTaskStatesPersisted(this.jobId, persistedTaskStateNames);
 
     if (hasTaskFailure) {
       String errorMsg = String.format("Tasks in container %s failed", containerIdOptional.or(""));
@@ -114,6 +114,14 @@ public class JobContext implements Closeable {
   private final boolean parallelizeCommit;
   private final int parallelCommits;
 
+  // Dataset states are persisted in batches by background writers when the batch size is greater than 1
+  private final int datasetStatePersistBatchSize;
+  private final int datasetStatePersistThreads;
+
+  // Present only while the job is committing with batched dataset state persistence
+  @Getter(AccessLevel.PACKAGE)
+  private Optional<BatchedDatasetStatePersister> datasetStatePersister = Optional.absent();
+
   // Were WRITER_STAGING_DIR and WRITER_OUTPUT_DIR provided in the job file
   @Getter
   protected final Boolean stagingDirProvided;
@@ -188,6 +196,10 @@ public class JobContext implements Closeable {
         ConfigurationKeys.DEFAULT_PARALLELIZE_DATASET_COMMIT);
     this.parallelCommits = this.parallelizeCommit ? this.jobState
         .getPropAsInt(ConfigurationKeys.DATASET_COMMIT_THREADS, ConfigurationKeys.DEFAULT_DATASET_COMMIT_THREADS) : 1;
+    this.datasetStatePersistBatchSize = this.jobState.getPropAsInt(ConfigurationKeys.DATASET_STATE_PERSIST_BATCH_SIZE,
+        ConfigurationKeys.DEFAULT_DATASET_STATE_PERSIST_BATCH_SIZE);
+    this.datasetStatePersistThreads = this.jobState.getPropAsInt(ConfigurationKeys.DATASET_STATE_PERSIST_THREADS,
+        ConfigurationKeys.DEFAULT_DATASET_STATE_PERSIST_THREADS);
   }
 
   protected DatasetStateStore createStateStore(Config jobConfig)
@@ -449,6 +461,12 @@ public class JobContext implements Closeable {
         this.datasetStateStore.persistDatasetURNs(this.jobName, this.datasetStatesByUrns.get().keySet());
       }
 
+      if (this.datasetStatePersistBatchSize > 1) {
+        this.datasetStatePersister = Optional.of(new BatchedDatasetStatePersister(this.datasetStateStore,
+            this.datasetStatePersistBatchSize, this.datasetStatePersistThreads,
+            Instrumented.getMetricContext(this.jobState, JobContext.class)));
+      }
+
       List<Either<Void, ExecutionException>> result = new IteratorExecutor<>(Iterables
           .transform(this.datasetStatesByUrns.get().entrySet(),
               new Function<Map.Entry<String, DatasetState>, Callable<Void>>() {
@@ -464,7 +482,17 @@ public class JobContext implements Closeable {
 
       IteratorExecutor.logFailures(result, LOG, 10);
 
-      if (!IteratorExecutor.verifyAllSuccessful(result)) {
+      boolean allDatasetStatesPersisted = true;
+      if (this.datasetStatePersister.isPresent()) {
+        try {
+          this.datasetStatePersister.get().awaitCompletion();
+        } catch (IOException ioe) {
+          LOG.error("Failed to persist dataset states of job " + this.jobId, ioe);
+          allDatasetStatesPersisted = false;
+        }
+      }
+
+      if (!IteratorExecutor.verifyAllSuccessful(result) || !allDatasetStatesPersisted) {
         this.jobState.setState(JobState.RunningState.FAILED);
         String errMsg = "Failed to commit dataset state for some dataset(s) of job " + this.jobId;
         this.jobState.setJobFailureMessage(errMsg);
@@ -472,6 +500,11 @@ public class JobContext implements Closeable {
       }
     } catch (InterruptedException exc) {
       throw new IOException(exc);
+    } finally {
+      if (this.datasetStatePersister.isPresent()) {
+        this.datasetStatePersister.get().close();
+        this.datasetStatePersister = Optional.absent();
+      }
     }
     this.jobState.setState(JobState.RunningState.COMMITTED);
   }
@@ -28,7 +28,9 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.base.CharMatcher;
 import com.google.common.base.Strings;
+import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Table;
 
 import org.apache.gobblin.configuration.ConfigurationKeys;
 import org.apache.gobblin.metastore.DatasetStateStore;
@@ -36,6 +38,7 @@ import org.apache.gobblin.metastore.MysqlStateStore;
 import org.apache.gobblin.metastore.MysqlStateStoreEntryManager;
 import org.apache.gobblin.metastore.predicates.StateStorePredicate;
 import org.apache.gobblin.runtime.metastore.mysql.MysqlDatasetStateStoreEntryManager;
+import org.apache.gobblin.util.io.StateCodec;
 
 import javax.sql.DataSource;
 
@@ -65,6 +68,11 @@ public class MysqlDatasetStateStore extends MysqlStateStore<JobState.DatasetStat
     super(dataSource, stateStoreTableName, compressedValues, JobState.DatasetState.class);
   }
 
+  public MysqlDatasetStateStore(DataSource dataSource, String stateStoreTableName, StateCodec valueCodec)
+      throws IOException {
+    super(dataSource, stateStoreTableName, valueCodec, JobState.DatasetState.class);
+  }
+
   /**
    * Get a {@link Map} from dataset URNs to the latest {@link JobState.DatasetState}s.
    *
@@ -115,23 +123,44 @@ public class MysqlDatasetStateStore extends MysqlStateStore<JobState.DatasetStat
    */
   public void persistDatasetState(String datasetUrn, JobState.DatasetState datasetState) throws IOException {
     String jobName = datasetState.getJobName();
-    String jobId = datasetState.getJobId();
 
     datasetUrn = CharMatcher.is(':').replaceFrom(datasetUrn, '.');
-    String tableName = Strings.isNullOrEmpty(datasetUrn) ? jobId + DATASET_STATE_STORE_TABLE_SUFFIX
-        : datasetUrn + "-" + jobId + DATASET_STATE_STORE_TABLE_SUFFIX;
+    String tableName = getTableName(datasetUrn, datasetState.getJobId());
     LOGGER.info("Persisting " + tableName + " to the job state store");
 
     put(jobName, tableName, datasetState);
     createAlias(jobName, tableName, getAliasName(datasetUrn));
   }
 
+  /**
+   * Persist the given {@link JobState.DatasetState}s with a single batched upsert. Rather than cloning each row into
+   * its alias after writing it, the alias rows are upserted with the same serialized state in the same batch.
+   */
+  @Override
+  public void persistDatasetStates(Map<String, JobState.DatasetState> datasetStatesByUrns) throws IOException {
+    Table<String, String, JobState.DatasetState> statesByStoreAndTable = HashBasedTable.create();
+    for (Map.Entry<String, JobState.DatasetState> entry : datasetStatesByUrns.entrySet()) {
+      JobState.DatasetState datasetState = entry.getValue();
+      String datasetUrn = CharMatcher.is(':').replaceFrom(entry.getKey(), '.');
+      statesByStoreAndTable.put(datasetState.getJobName(), getTableName(datasetUrn, datasetState.getJobId()),
+          datasetState);
+      statesByStoreAndTable.put(datasetState.getJobName(), getAliasName(datasetUrn), datasetState);
+    }
+    LOGGER.info("Persisting " + datasetStatesByUrns.size() + " dataset states to the job state store");
+    putAll(statesByStoreAndTable);
+  }
+
   @Override
   public void persistDatasetURNs(String storeName, Collection<String> datasetUrns)
       throws IOException {
     //do nothing for now
   }
 
+  private static String getTableName(String datasetUrn, String jobId) {
+    return Strings.isNullOrEmpty(datasetUrn) ? jobId + DATASET_STATE_STORE_TABLE_SUFFIX
+        : datasetUrn + "-" + jobId + DATASET_STATE_STORE_TABLE_SUFFIX;
+  }
+
   private static String getAliasName(String datasetUrn) {
     return Strings.isNullOrEmpty(datasetUrn) ? CURRENT_DATASET_STATE_FILE_SUFFIX + DATASET_STATE_STORE_TABLE_SUFFIX
         : datasetUrn + "-" + CURRENT_DATASET_STATE_FILE_SUFFIX + DATASET_STATE_STORE_TABLE_SUFFIX;
@@ -25,6 +25,7 @@ import org.apache.gobblin.broker.SharedResourcesBrokerFactory;
 import org.apache.gobblin.configuration.ConfigurationKeys;
 import org.apache.gobblin.metastore.DatasetStateStore;
 import org.apache.gobblin.metastore.MysqlDataSourceFactory;
+import org.apache.gobblin.util.io.StateCodec;
 
 @Alias("mysql")
 public class MysqlDatasetStateStoreFactory implements DatasetStateStore.Factory {
@@ -33,15 +34,13 @@ public class MysqlDatasetStateStoreFactory implements DatasetStateStore.Factory
     String stateStoreTableName = config.hasPath(ConfigurationKeys.STATE_STORE_DB_TABLE_KEY) ?
         config.getString(ConfigurationKeys.STATE_STORE_DB_TABLE_KEY) :
         ConfigurationKeys.DEFAULT_STATE_STORE_DB_TABLE;
-    boolean compressedValues = config.hasPath(ConfigurationKeys.STATE_STORE_COMPRESSED_VALUES_KEY) ?
-        config.getBoolean(ConfigurationKeys.STATE_STORE_COMPRESSED_VALUES_KEY) :
-        ConfigurationKeys.DEFAULT_STATE_STORE_COMPRESSED_VALUES;
+    StateCodec valueCodec = StateCodec.fromConfig(config);
 
     try {
       DataSource dataSource = MysqlDataSourceFactory.get(config,
           SharedResourcesBrokerFactory.getImplicitBroker());
 
-      return new MysqlDatasetStateStore(dataSource, stateStoreTableName, compressedValues);
+      return new MysqlDatasetStateStore(dataSource, stateStoreTableName, valueCodec);
     } catch (Exception e) {
       throw new RuntimeException("Failed to create MysqlDatasetStateStore with factory", e);
     }
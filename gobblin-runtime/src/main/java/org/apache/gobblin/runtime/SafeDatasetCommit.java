@@ -23,6 +23,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang.StringUtils;
 
@@ -51,6 +52,7 @@ import org.apache.gobblin.publisher.DataPublisher;
 import org.apache.gobblin.publisher.DataPublisherFactory;
 import org.apache.gobblin.publisher.UnpublishedHandling;
 import org.apache.gobblin.runtime.commit.DatasetStateCommitStep;
+import org.apache.gobblin.runtime.metrics.RuntimeMetrics;
 import org.apache.gobblin.runtime.task.TaskFactory;
 import org.apache.gobblin.runtime.task.TaskUtils;
 import org.apache.gobblin.source.extractor.JobCommitPolicy;
@@ -124,6 +126,7 @@ public final class SafeDatasetCommit implements Callable<Void> {
 
     Optional<CommitSequence.Builder> commitSequenceBuilder = Optional.absent();
     boolean canPersistStates = true;
+    long publishStartTimeNanos = System.nanoTime();
     try (Closer closer = Closer.create()) {
       if (this.shouldCommitDataInJob) {
         log.info(String.format("Committing dataset %s of job %s with commit policy %s and state %s", this.datasetUrn,
@@ -186,10 +189,13 @@ public final class SafeDatasetCommit implements Callable<Void> {
           this.jobContext.getJobId()), throwable);
       throw new RuntimeException(throwable);
     } finally {
+      updateStageTimer(RuntimeMetrics.GOBBLIN_DATASET_COMMIT_PUBLISH_TIMER, publishStartTimeNanos);
       try {
+        long finalizeStartTimeNanos = System.nanoTime();
         finalizeDatasetState(datasetState, datasetUrn);
         maySubmitFailureEvent(datasetState);
         maySubmitLineageEvent(datasetState);
+        updateStageTimer(RuntimeMetrics.GOBBLIN_DATASET_COMMIT_FINALIZE_AND_EVENTS_TIMER, finalizeStartTimeNanos);
         if (commitSequenceBuilder.isPresent()) {
           buildAndExecuteCommitSequence(commitSequenceBuilder.get(), datasetState, datasetUrn);
           datasetState.setState(JobState.RunningState.COMMITTED);
@@ -416,12 +422,26 @@ public final class SafeDatasetCommit implements Callable<Void> {
   }
 
   /**
-   * Persist dataset state of a given dataset identified by the dataset URN.
+   * Persist dataset state of a given dataset identified by the dataset URN. If the {@link JobContext} is committing
+   * with a {@link BatchedDatasetStatePersister}, the state is handed off to it and failures to persist it are
+   * reported by the {@link JobContext} instead.
    */
   private void persistDatasetState(String datasetUrn, JobState.DatasetState datasetState)
       throws IOException {
+    Optional<BatchedDatasetStatePersister> datasetStatePersister = this.jobContext.getDatasetStatePersister();
+    if (datasetStatePersister.isPresent()) {
+      log.info("Queueing dataset state of dataset " + datasetUrn + " for persistence");
+      datasetStatePersister.get().persist(datasetUrn, datasetState);
+      return;
+    }
+    long startTimeNanos = System.nanoTime();
     log.info("Persisting dataset state for dataset " + datasetUrn);
     this.jobContext.getDatasetStateStore().persistDatasetState(datasetUrn, datasetState);
+    updateStageTimer(RuntimeMetrics.GOBBLIN_DATASET_COMMIT_STATE_PERSIST_TIMER, startTimeNanos);
+  }
+
+  private void updateStageTimer(String timerName, long startTimeNanos) {
+    this.metricContext.contextAwareTimer(timerName).update(System.nanoTime() - startTimeNanos, TimeUnit.NANOSECONDS);
   }
 
   /**
@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.runtime;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import com.google.common.base.Preconditions;
+
+
+/**
+ * A bounded, lock-free {@link BlockingQueue} backed by a ring buffer that supports exactly one producer thread and
+ * one consumer thread.
+ *
+ * <p>
+ *   The producer and the consumer each own one index into the ring buffer and only publish it with an ordered write,
+ *   so neither {@link #offer(Object)} nor {@link #poll()} takes a lock. Blocking operations wait for space or records
+ *   using the configured {@link WaitStrategy} instead of a {@link java.util.concurrent.locks.Condition}.
+ * </p>
+ *
+ * <p>
+ *   Using this queue from more than one producer or more than one consumer thread at a time is not supported.
+ *   {@link #iterator()} is not supported either.
+ * </p>
+ *
+ * @param <T> record type
+ */
+public class SpscRingBufferQueue<T> extends AbstractQueue<T> implements BlockingQueue<T> {
+
+  /**
+   * How a blocked producer or consumer waits for the other side to make progress.
+   */
+  public enum WaitStrategy {
+    /** Busy spin. Lowest latency, but burns a core while waiting. */
+    SPIN,
+    /** Call {@link Thread#yield()} between attempts. */
+    YIELD,
+    /** Park the thread for a short period between attempts. */
+    PARK
+  }
+
+  private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+  private final int capacity;
+  private final int mask;
+  private final Object[] buffer;
+  private final WaitStrategy waitStrategy;
+
+  // Index of the next slot to read, only advanced by the consumer
+  private final AtomicLong head = new AtomicLong();
+  // Index of the next slot to write, only advanced by the producer
+  private final AtomicLong tail = new AtomicLong();
+
+  // Last value of head seen by the producer and of tail seen by the consumer, to avoid a volatile read per operation
+  private long cachedHead;
+  private long cachedTail;
+
+  public SpscRingBufferQueue(int capacity, WaitStrategy waitStrategy) {
+    Preconditions.checkArgument(capacity > 0, "Invalid queue capacity");
+    this.capacity = capacity;
+    int bufferSize = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+    this.mask = bufferSize - 1;
+    this.buffer = new Object[bufferSize];
+    this.waitStrategy = Preconditions.checkNotNull(waitStrategy);
+  }
+
+  @Override
+  public boolean offer(T record) {
+    Preconditions.checkNotNull(record);
+    long currentTail = this.tail.get();
+    if (currentTail - this.cachedHead >= this.capacity) {
+      this.cachedHead = this.head.get();
+      if (currentTail - this.cachedHead >= this.capacity) {
+        return false;
+      }
+    }
+    this.buffer[(int) currentTail & this.mask] = record;
+    this.tail.lazySet(currentTail + 1);
+    return true;
+  }
+
+  @Override
+  public boolean offer(T record, long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    while (!offer(record)) {
+      if (!await(deadline)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public void put(T record) throws InterruptedException {
+    while (!offer(record)) {
+      await(Long.MAX_VALUE);
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T poll() {
+    long currentHead = this.head.get();
+    if (currentHead >= this.cachedTail) {
+      this.cachedTail = this.tail.get();
+      if (currentHead >= this.cachedTail) {
+        return null;
+      }
+    }
+    int index = (int) currentHead & this.mask;
+    T record = (T) this.buffer[index];
+    this.buffer[index] = null;
+    this.head.lazySet(currentHead + 1);
+    return record;
+  }
+
+  @Override
+  public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    T record;
+    while ((record = poll()) == null) {
+      if (!await(deadline)) {
+        return null;
+      }
+    }
+    return record;
+  }
+
+  @Override
+  public T take() throws InterruptedException {
+    T record;
+    while ((record = poll()) == null) {
+      await(Long.MAX_VALUE);
+    }
+    return record;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T peek() {
+    long currentHead = this.head.get();
+    if (currentHead >= this.tail.get()) {
+      return null;
+    }
+    return (T) this.buffer[(int) currentHead & this.mask];
+  }
+
+  @Override
+  public int drainTo(Collection<? super T> collection) {
+    return drainTo(collection, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public int drainTo(Collection<? super T> collection, int maxElements) {
+    int drained = 0;
+    T record;
+    while (drained < maxElements && (record = poll()) != null) {
+      collection.add(record);
+      drained++;
+    }
+    return drained;
+  }
+
+  @Override
+  public int size() {
+    // Read head first so that the result is never negative
+    long currentHead = this.head.get();
+    return (int) Math.min(this.tail.get() - currentHead, this.capacity);
+  }
+
+  @Override
+  public int remainingCapacity() {
+    return this.capacity - size();
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support iteration");
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s[size=%d, capacity=%d, waitStrategy=%s]", getClass().getSimpleName(), size(),
+        this.capacity, this.waitStrategy);
+  }
+
+  /**
+   * Wait once according to the {@link WaitStrategy}.
+   *
+   * @param deadline {@link System#nanoTime()} after which to stop waiting
+   * @return false if the deadline has passed
+   * @throws InterruptedException if the current thread has been interrupted
+   */
+  private boolean await(long deadline) throws InterruptedException {
+    if (Thread.interrupted()) {
+      throw new InterruptedException();
+    }
+    if (deadline != Long.MAX_VALUE && System.nanoTime() - deadline >= 0) {
+      return false;
+    }
+    switch (this.waitStrategy) {
+      case YIELD:
+        Thread.yield();
+        break;
+      case PARK:
+        LockSupport.parkNanos(this, PARK_NANOS);
+        break;
+      default:
+        break;
+    }
+    return true;
+  }
+}
@@ -536,7 +536,7 @@ public class Task implements TaskIFace {
         }
         for (Object convertedRecord : converter.convertRecord(schema, recordEnvelope, this.taskState)) {
           processRecord(convertedRecord, forkOperator, rowChecker, rowResults, branches,
-              ackableWatermark.incrementAck());
+              ackableWatermark.incrementAck(), null);
         }
         ackableWatermark.ack();
         if (shutdownRequested()) {
@@ -544,14 +544,27 @@ public class Task implements TaskIFace {
         }
       }
     } else {
+      int recordBatchSize = this.taskState.getPropAsInt(TaskConfigurationKeys.TASK_SYNCHRONOUS_RECORD_BATCH_SIZE,
+          TaskConfigurationKeys.DEFAULT_TASK_SYNCHRONOUS_RECORD_BATCH_SIZE);
+      // One buffer per branch, only used when records are handed to the forks in batches
+      List<List<Object>> forkBatches = null;
+      if (recordBatchSize > 1) {
+        LOG.info("Handing records to forks in batches of " + recordBatchSize);
+        forkBatches = new ArrayList<>(branches);
+        for (int i = 0; i < branches; i++) {
+          forkBatches.add(new ArrayList<>(recordBatchSize));
+        }
+      }
+
       RecordEnvelope record;
       // Extract, convert, and fork one source record at a time.
       long errRecords = 0;
+      int recordsInBatch = 0;
       while ((record = extractor.readRecordEnvelope()) != null) {
         onRecordExtract();
         try {
           for (Object convertedRecord : converter.convertRecord(schema, record.getRecord(), this.taskState)) {
-            processRecord(convertedRecord, forkOperator, rowChecker, rowResults, branches, null);
+            processRecord(convertedRecord, forkOperator, rowChecker, rowResults, branches, null, forkBatches);
           }
         } catch (Exception e) {
           if (!(e instanceof DataConversionException) && !(e.getCause() instanceof DataConversionException)) {
@@ -564,10 +577,17 @@ public class Task implements TaskIFace {
             throw new RuntimeException(e);
           }
         }
+        if (forkBatches != null && ++recordsInBatch >= recordBatchSize) {
+          flushForkBatches(forkBatches);
+          recordsInBatch = 0;
+        }
         if (shutdownRequested()) {
           extractor.shutdown();
         }
       }
+      if (forkBatches != null) {
+        flushForkBatches(forkBatches);
+      }
     }
 
     LOG.info("Extracted " + this.recordsPulled + " data records");
@@ -843,11 +863,14 @@ public class Task implements TaskIFace {
   }
 
   /**
-   * Process a (possibly converted) record.
+   * Process a (possibly converted) record: row-check and fork it. If {@code forkBatches} is not null, the record is
+   * appended to the buffer of each branch it is forked into and only handed to the {@link Fork}s on the next
+   * {@link #flushForkBatches(List)}; otherwise it is put into the record queue of each {@link Fork} right away.
    */
   @SuppressWarnings("unchecked")
   private void processRecord(Object convertedRecord, ForkOperator forkOperator, RowLevelPolicyChecker rowChecker,
-      RowLevelPolicyCheckResults rowResults, int branches, AcknowledgableWatermark watermark)
+      RowLevelPolicyCheckResults rowResults, int branches, AcknowledgableWatermark watermark,
+      List<List<Object>> forkBatches)
       throws Exception {
     // Skip the record if quality checking fails
     if (!rowChecker.executePolicies(convertedRecord, rowResults)) {
@@ -880,11 +903,15 @@ public class Task implements TaskIFace {
           // Send the record, watermark pair down the fork
           ((RecordEnvelope) recordForFork).addCallBack(watermark.incrementAck());
         }
-        // Put the record into the record queue of each fork. A put may timeout and return a false, in which
-        // case the put is retried until it is successful.
-        boolean succeeded = false;
-        while (!succeeded) {
-          succeeded = fork.get().putRecord(recordForFork);
+        if (forkBatches != null) {
+          forkBatches.get(branch).add(recordForFork);
+        } else {
+          // Put the record into the record queue of each fork. A put may timeout and return a false, in which
+          // case the put is retried until it is successful.
+          boolean succeeded = false;
+          while (!succeeded) {
+            succeeded = fork.get().putRecord(recordForFork);
+          }
         }
       }
       branch++;
@@ -894,6 +921,25 @@ public class Task implements TaskIFace {
     }
   }
 
+  /**
+   * Hand the buffered records of each branch to the corresponding {@link Fork} and clear the buffers.
+   */
+  private void flushForkBatches(List<List<Object>> forkBatches)
+      throws InterruptedException {
+    int branch = 0;
+    for (Optional<Fork> fork : this.forks.keySet()) {
+      List<Object> batch = forkBatches.get(branch++);
+      if (fork.isPresent() && !batch.isEmpty()) {
+        // A put may timeout and return a false, in which case the put is retried until it is successful.
+        boolean succeeded = false;
+        while (!succeeded) {
+          succeeded = fork.get().putRecords(batch);
+        }
+      }
+      batch.clear();
+    }
+  }
+
   /**
    * Check if a schema or data record is being passed to more than one branches.
    */
@@ -35,6 +35,19 @@ public class TaskConfigurationKeys {
   public static final String TASK_IS_SINGLE_BRANCH_SYNCHRONOUS = "gobblin.task.is.single.branch.synchronous";
   public static final String DEFAULT_TASK_IS_SINGLE_BRANCH_SYNCHRONOUS = Boolean.toString(false);
 
+  /**
+   * Number of records the synchronous execution model pulls, converts and row-checks before handing them
+   * to the forks as a single batch. A value of 1 (the default) keeps the per-record hand-off. Only applies to batch
+   * (non-streaming) tasks.
+   * <p>
+   * An asynchronous fork queues each batch as a single element, so with batching enabled
+   * {@link org.apache.gobblin.configuration.ConfigurationKeys#FORK_RECORD_QUEUE_CAPACITY_KEY} and the fork record queue
+   * statistics count batches rather than records: the queue may then hold up to capacity times this many records.
+   * </p>
+   */
+  public static final String TASK_SYNCHRONOUS_RECORD_BATCH_SIZE = "task.execution.synchronousExecutionModel.recordBatchSize";
+  public static final int DEFAULT_TASK_SYNCHRONOUS_RECORD_BATCH_SIZE = 1;
+
   public static final String TASK_SKIP_ERROR_RECORDS = "task.skip.error.records";
   public static final long DEFAULT_TASK_SKIP_ERROR_RECORDS = 0;
 
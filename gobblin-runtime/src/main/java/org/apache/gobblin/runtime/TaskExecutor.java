@@ -241,6 +241,14 @@ public class TaskExecutor extends AbstractIdleService {
     }
   }
 
+  /**
+   * Whether both underlying thread pools still accept work, which is not implied by {@link #isRunning()}, since some callers
+   * (e.g. {@link GobblinMultiTaskAttempt}) invoke {@link #shutDown()} directly, bypassing the service lifecycle.
+   */
+  public boolean isAcceptingTasks() {
+    return !this.taskExecutor.isShutdown() && !this.forkExecutor.isShutdown();
+  }
+
   /**
    * Execute a {@link Task}.
    *
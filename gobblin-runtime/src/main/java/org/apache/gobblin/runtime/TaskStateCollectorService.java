@@ -18,6 +18,7 @@
 package org.apache.gobblin.runtime;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +26,8 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Queue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -32,8 +35,10 @@ import java.util.concurrent.atomic.AtomicLong;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hadoop.fs.Path;
 
+import com.codahale.metrics.Histogram;
 import com.google.common.base.Predicate;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Queues;
 import com.google.common.eventbus.EventBus;
 import com.google.common.io.Closer;
@@ -44,11 +49,13 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.apache.gobblin.configuration.ConfigurationKeys;
 import org.apache.gobblin.exception.RuntimeExceptionWithoutStackTrace;
+import org.apache.gobblin.instrumented.Instrumented;
 import org.apache.gobblin.metastore.FsStateStore;
 import org.apache.gobblin.metastore.StateStore;
 import org.apache.gobblin.runtime.troubleshooter.Issue;
 import org.apache.gobblin.runtime.troubleshooter.IssueRepository;
 import org.apache.gobblin.runtime.troubleshooter.TroubleshooterException;
+import org.apache.gobblin.metrics.MetricContext;
 import org.apache.gobblin.metrics.event.EventSubmitter;
 import org.apache.gobblin.metrics.event.TimingEvent;
 import org.apache.gobblin.service.ServiceConfigKeys;
@@ -64,11 +71,26 @@ import org.apache.gobblin.util.ParallelRunner;
  * For each batch of {@link TaskState}s collected, it posts a {@link NewTaskCompletionEvent} to notify
  * parties that are interested in such events.
  *
+ * <p>
+ *   If {@link ConfigurationKeys#TASK_STATE_COLLECTOR_PUSH_ENABLED} is set, tasks running in the same JVM report the
+ *   {@link TaskState}s they persist through {@link #notifyTaskStatesPersisted(String, Collection)}, and those are
+ *   collected within {@link ConfigurationKeys#TASK_STATE_COLLECTOR_PUSH_CHECK_INTERVAL_MILLIS} without listing the
+ *   output task state directory. The directory is still scanned every
+ *   {@link ConfigurationKeys#TASK_STATE_COLLECTOR_INTERVAL_SECONDS} to collect {@link TaskState}s of tasks running
+ *   elsewhere, e.g. in other containers.
+ * </p>
+ *
  * @author Yinan Li
  */
 @Slf4j
 public class TaskStateCollectorService extends AbstractScheduledService {
 
+  public static final String COLLECTION_LAG_HISTOGRAM = "taskStateCollectionLagMillis";
+
+  // Collectors accepting pushed task states, keyed by the name of the output task state table they collect
+  private static final ConcurrentMap<String, TaskStateCollectorService> PUSH_ENABLED_COLLECTORS =
+      new ConcurrentHashMap<>();
+
   private final JobState jobState;
 
   private final EventBus eventBus;
@@ -115,6 +137,17 @@ public class TaskStateCollectorService extends AbstractScheduledService {
   private final IssueRepository issueRepository;
   private final AtomicBoolean reportedIssueConsumptionWarning = new AtomicBoolean(false);
 
+  private final boolean isPushEnabled;
+  private final long pushCheckIntervalMillis;
+  // Names of task state tables reported through notifyTaskStatesPersisted and not collected yet
+  private final Queue<String> pushedTaskStateNames = Queues.newConcurrentLinkedQueue();
+  private long lastScanTimeMillis;
+
+  /** Time between a task finishing and its {@link TaskState} being collected */
+  @Getter
+  private final Histogram collectionLagMillis;
+  private final MetricContext metricContext;
+
   public TaskStateCollectorService(Properties jobProps, JobState jobState, EventBus eventBus,
       EventSubmitter eventSubmitter, StateStore<TaskState> taskStateStore, Path outputTaskStateDir,
       IssueRepository issueRepository) {
@@ -150,15 +183,62 @@ public class TaskStateCollectorService extends AbstractScheduledService {
     isJobProceedOnCollectorServiceFailure =
         jobState.getPropAsBoolean(ConfigurationKeys.JOB_PROCEED_ON_TASK_STATE_COLLECOTR_SERVICE_FAILURE,
             defaultPolicyOnCollectorServiceFailure);
+
+    this.isPushEnabled = Boolean.parseBoolean(jobProps.getProperty(ConfigurationKeys.TASK_STATE_COLLECTOR_PUSH_ENABLED,
+        Boolean.toString(ConfigurationKeys.DEFAULT_TASK_STATE_COLLECTOR_PUSH_ENABLED)));
+    this.pushCheckIntervalMillis =
+        Long.parseLong(jobProps.getProperty(ConfigurationKeys.TASK_STATE_COLLECTOR_PUSH_CHECK_INTERVAL_MILLIS,
+            Long.toString(ConfigurationKeys.DEFAULT_TASK_STATE_COLLECTOR_PUSH_CHECK_INTERVAL_MILLIS)));
+
+    this.metricContext = this.handlerCloser.register(Instrumented.getMetricContext(jobState, getClass()));
+    this.collectionLagMillis = this.metricContext.contextAwareHistogram(COLLECTION_LAG_HISTOGRAM);
+  }
+
+  /**
+   * Report that {@link TaskState}s have been persisted into the output task state store, so that a push-enabled
+   * {@link TaskStateCollectorService} running in this JVM collects them without waiting for the next scan of the
+   * output task state directory. This is a no-op if there is no such {@link TaskStateCollectorService}.
+   *
+   * @param taskStateStoreName name of the store the {@link TaskState}s were put into, i.e. the job id
+   * @param taskStateTableNames names of the tables the {@link TaskState}s were put into
+   */
+  public static void notifyTaskStatesPersisted(String taskStateStoreName, Collection<String> taskStateTableNames) {
+    TaskStateCollectorService collector = PUSH_ENABLED_COLLECTORS.get(taskStateStoreName);
+    if (collector != null) {
+      collector.pushedTaskStateNames.addAll(taskStateTableNames);
+    }
   }
 
   @Override
   protected void runOneIteration() throws Exception {
-    collectOutputTaskStates();
+    if (!this.isPushEnabled) {
+      collectOutputTaskStates();
+      return;
+    }
+
+    long now = System.currentTimeMillis();
+    if (now - this.lastScanTimeMillis >= TimeUnit.SECONDS.toMillis(this.outputTaskStatesCollectorIntervalSeconds)) {
+      // Any pushed task state is found by the scan as well
+      this.pushedTaskStateNames.clear();
+      this.lastScanTimeMillis = now;
+      collectOutputTaskStates();
+    } else if (!this.pushedTaskStateNames.isEmpty()) {
+      List<String> taskStateNames = Lists.newArrayList();
+      String taskStateName;
+      while ((taskStateName = this.pushedTaskStateNames.poll()) != null) {
+        taskStateNames.add(taskStateName);
+      }
+      collectTaskStates(deserializeTaskStates(this.taskStateStore, this.outputTaskStateDir.getName(), taskStateNames,
+          this.stateSerDeRunnerThreads));
+    }
   }
 
   @Override
   protected Scheduler scheduler() {
+    if (this.isPushEnabled) {
+      return Scheduler.newFixedDelaySchedule(this.pushCheckIntervalMillis, this.pushCheckIntervalMillis,
+          TimeUnit.MILLISECONDS);
+    }
     return Scheduler.newFixedRateSchedule(this.outputTaskStatesCollectorIntervalSeconds,
         this.outputTaskStatesCollectorIntervalSeconds, TimeUnit.SECONDS);
   }
@@ -166,14 +246,21 @@ public class TaskStateCollectorService extends AbstractScheduledService {
   @Override
   protected void startUp() throws Exception {
     log.info("Starting the " + TaskStateCollectorService.class.getSimpleName());
+    if (this.isPushEnabled) {
+      this.lastScanTimeMillis = System.currentTimeMillis();
+      PUSH_ENABLED_COLLECTORS.put(this.outputTaskStateDir.getName(), this);
+    }
     super.startUp();
   }
 
   @Override
   protected void shutDown() throws Exception {
     log.info("Stopping the " + TaskStateCollectorService.class.getSimpleName());
+    PUSH_ENABLED_COLLECTORS.remove(this.outputTaskStateDir.getName(), this);
     try {
-      runOneIteration();
+      // The final scan also picks up any pushed task state not collected yet
+      this.pushedTaskStateNames.clear();
+      collectOutputTaskStates();
     } finally {
       super.shutDown();
       this.handlerCloser.close();
@@ -192,14 +279,20 @@ public class TaskStateCollectorService extends AbstractScheduledService {
    * @throws IOException if it fails to collect the output {@link TaskState}s
    */
   private void collectOutputTaskStates() throws IOException {
+    collectTaskStates(deserializeTaskStatesFromFolder(taskStateStore, outputTaskStateDir.getName(), this.stateSerDeRunnerThreads));
+  }
 
-    final Optional<Queue<TaskState>> taskStateQueue = deserializeTaskStatesFromFolder(taskStateStore, outputTaskStateDir.getName(), this.stateSerDeRunnerThreads);
+  private void collectTaskStates(Optional<Queue<TaskState>> taskStateQueue) {
     if (!taskStateQueue.isPresent()) {
       return;
     }
     // Add the TaskStates of completed tasks to the JobState so when the control
     // returns to the launcher, it sees the TaskStates of all completed tasks.
+    long collectionTime = System.currentTimeMillis();
     for (TaskState taskState : taskStateQueue.get()) {
+      if (taskState.getEndTime() > 0) {
+        this.collectionLagMillis.update(collectionTime - taskState.getEndTime());
+      }
       consumeTaskIssues(taskState);
       taskState.setJobState(this.jobState);
       this.jobState.addTaskState(taskState);
@@ -254,6 +347,23 @@ public class TaskStateCollectorService extends AbstractScheduledService {
       return Optional.empty();
     }
 
+    return deserializeTaskStates(taskStateStore, taskStateTableName, taskStateNames, numDeserializerThreads);
+  }
+
+  /**
+   * Deserializes the given task states from a {@link StateStore} and deletes them from it
+   * @param taskStateStore
+   * @param taskStateTableName name of the store holding the task states
+   * @param taskStateNames names of the tables holding the task states
+   * @param numDeserializerThreads
+   * @return Queue of TaskStates, optional if no task state names are provided
+   */
+  private static Optional<Queue<TaskState>> deserializeTaskStates(StateStore<TaskState> taskStateStore,
+      String taskStateTableName, List<String> taskStateNames, int numDeserializerThreads) {
+    if (taskStateNames.isEmpty()) {
+      return Optional.empty();
+    }
+
     final Queue<TaskState> taskStateQueue = Queues.newConcurrentLinkedQueue();
     AtomicLong numStateStoreMissing = new AtomicLong(0L);
     GrowthMilestoneTracker growthTracker = new GrowthMilestoneTracker();
@@ -18,10 +18,13 @@
 package org.apache.gobblin.runtime.fork;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.gobblin.runtime.BoundedBlockingRecordQueue;
 import org.apache.gobblin.runtime.ExecutionModel;
+import org.apache.gobblin.runtime.SpscRingBufferQueue;
 import org.apache.gobblin.runtime.Task;
 import org.apache.gobblin.runtime.TaskContext;
 import org.apache.gobblin.runtime.TaskExecutor;
@@ -56,6 +59,8 @@ import org.apache.gobblin.converter.DataConversionException;
 @SuppressWarnings("unchecked")
 public class AsynchronousFork extends Fork {
   private final BoundedBlockingRecordQueue<Object> recordQueue;
+  private final int maxDrainSize;
+  private final List<Object> drainedRecords;
 
   public AsynchronousFork(TaskContext taskContext, Object schema, int branches, int index, ExecutionModel executionModel)
       throws Exception {
@@ -72,8 +77,20 @@ public class AsynchronousFork extends Fork {
             .useTimeoutTimeUnit(TimeUnit.valueOf(taskState.getProp(
                     ConfigurationKeys.FORK_RECORD_QUEUE_TIMEOUT_UNIT_KEY,
                     ConfigurationKeys.DEFAULT_FORK_RECORD_QUEUE_TIMEOUT_UNIT)))
+            .useQueueType(BoundedBlockingRecordQueue.QueueType.valueOf(taskState.getProp(
+                    ConfigurationKeys.FORK_RECORD_QUEUE_TYPE_KEY,
+                    ConfigurationKeys.DEFAULT_FORK_RECORD_QUEUE_TYPE).toUpperCase()))
+            .useWaitStrategy(SpscRingBufferQueue.WaitStrategy.valueOf(taskState.getProp(
+                    ConfigurationKeys.FORK_RECORD_QUEUE_WAIT_STRATEGY_KEY,
+                    ConfigurationKeys.DEFAULT_FORK_RECORD_QUEUE_WAIT_STRATEGY).toUpperCase()))
             .collectStats()
+            .sampleStatsEvery(taskState.getPropAsInt(
+                    ConfigurationKeys.FORK_RECORD_QUEUE_STATS_SAMPLE_INTERVAL_KEY,
+                    ConfigurationKeys.DEFAULT_FORK_RECORD_QUEUE_STATS_SAMPLE_INTERVAL))
             .build();
+    this.maxDrainSize = taskState.getPropAsInt(ConfigurationKeys.FORK_RECORD_QUEUE_MAX_DRAIN_SIZE_KEY,
+        ConfigurationKeys.DEFAULT_FORK_RECORD_QUEUE_MAX_DRAIN_SIZE);
+    this.drainedRecords = new ArrayList<>(this.maxDrainSize);
   }
 
   @Override
@@ -91,16 +108,34 @@ public class AsynchronousFork extends Fork {
     return this.recordQueue.put(record);
   }
 
+  /**
+   * Put the whole batch into the record queue as a single element so the queue lock and statistics are
+   * only paid once per batch.
+   */
+  @Override
+  protected boolean putRecordsImpl(List<Object> records) throws InterruptedException {
+    return this.recordQueue.put(new RecordBatch(new ArrayList<>(records)));
+  }
+
   boolean processRecord() throws IOException, DataConversionException {
     try {
-      Object record = this.recordQueue.get();
-      if (record == null || record == Fork.SHUTDOWN_RECORD) {
+      this.drainedRecords.clear();
+      if (this.recordQueue.drainTo(this.drainedRecords, this.maxDrainSize) == 0) {
         // The parent task has already done pulling records so no new record means this fork is done
-        if (this.isParentTaskDone()) {
-          return false;
+        return !this.isParentTaskDone();
+      }
+      for (Object record : this.drainedRecords) {
+        if (record == Fork.SHUTDOWN_RECORD) {
+          if (this.isParentTaskDone()) {
+            return false;
+          }
+        } else if (record instanceof RecordBatch) {
+          for (Object batchedRecord : ((RecordBatch) record).records) {
+            this.processRecord(batchedRecord);
+          }
+        } else {
+          this.processRecord(record);
         }
-      } else {
-        this.processRecord(record);
       }
     } catch (InterruptedException ie) {
       log.warn("Interrupted while trying to get a record off the queue", ie);
@@ -108,4 +143,15 @@ public class AsynchronousFork extends Fork {
     }
     return true;
   }
+
+  /**
+   * A queue element wrapping records put by {@link #putRecordsImpl(List)}.
+   */
+  private static class RecordBatch {
+    private final List<Object> records;
+
+    private RecordBatch(List<Object> records) {
+      this.records = records;
+    }
+  }
 }
@@ -19,6 +19,7 @@ package org.apache.gobblin.runtime.fork;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.gobblin.qualitychecker.DataQualityStatus;
@@ -315,6 +316,29 @@ public class Fork<S, D> implements Closeable, FinalState, RecordStreamConsumer<S
    */
   public boolean putRecord(Object record)
       throws InterruptedException {
+    checkNotFailed();
+    return this.putRecordImpl(record);
+  }
+
+  /**
+   * Put a batch of new records into the record queue for this {@link Fork} to process.
+   *
+   * <p>
+   *   This method is used by the {@link Task} that creates this {@link Fork}. The given {@link List} may be reused
+   *   by the caller once this method returns. Either all or none of the records are put into the queue.
+   * </p>
+   *
+   * @param records the new records
+   * @return whether the records have been successfully put into the queue
+   * @throws InterruptedException
+   */
+  public boolean putRecords(List<Object> records)
+      throws InterruptedException {
+    checkNotFailed();
+    return this.putRecordsImpl(records);
+  }
+
+  private void checkNotFailed() {
     if (this.forkState.compareAndSet(ForkState.FAILED, ForkState.FAILED)) {
       ForkThrowableHolder holder = Task.getForkThrowableHolder(this.broker);
       Optional<Throwable> forkThrowable = holder.getThrowable(this.index);
@@ -326,7 +350,6 @@ public class Fork<S, D> implements Closeable, FinalState, RecordStreamConsumer<S
             String.format("Fork %d of task %s has failed and is no longer running", this.index, this.taskId));
       }
     }
-    return this.putRecordImpl(record);
   }
 
   /**
@@ -555,6 +578,20 @@ public class Fork<S, D> implements Closeable, FinalState, RecordStreamConsumer<S
     throw new UnsupportedOperationException();
   };
 
+  /**
+   * Put a batch of records into the record queue. By default records are put one at a time, retrying each
+   * put until it succeeds so that a partially queued batch is never reported as failed.
+   */
+  protected boolean putRecordsImpl(List<Object> records) throws InterruptedException {
+    for (Object record : records) {
+      boolean succeeded = false;
+      while (!succeeded) {
+        succeeded = this.putRecordImpl(record);
+      }
+    }
+    return true;
+  }
+
   protected void cleanup() {
   }
 
@@ -18,6 +18,7 @@
 package org.apache.gobblin.runtime.kafka;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -65,6 +66,9 @@ import org.apache.gobblin.util.ExecutorsUtils;
  *
  * Note: each thread (queue) will block for each message until {@link #processMessage(DecodeableKafkaRecord)} returns
  *
+ * Subclasses that can amortize work across records may return more than 1 from {@link #getMaxProcessBatchSize()},
+ * in which case each thread hands the records already waiting in its queue to {@link #processMessages(List)} at once.
+ *
  * If threads(queues) > partitions in topic, extra threads(queues) will be idle.
  *
  */
@@ -235,6 +239,25 @@ public abstract class HighLevelConsumer<K,V> extends AbstractIdleService {
    */
   protected abstract void processMessage(DecodeableKafkaRecord<K,V> message);
 
+  /**
+   * Called with up to {@link #getMaxProcessBatchSize()} records drained from one queue, in queue order, when batching
+   * is enabled. Offsets of the batch are only recorded for commit after this method returns, so every record must be
+   * fully handled by then. The default implementation calls {@link #processMessage(DecodeableKafkaRecord)} per record.
+   */
+  protected void processMessages(List<DecodeableKafkaRecord<K,V>> messages) {
+    for (DecodeableKafkaRecord<K,V> message : messages) {
+      processMessage(message);
+    }
+  }
+
+  /**
+   * @return the maximum number of records handed to {@link #processMessages(List)} at once. A batch never waits for
+   * more records to arrive, it only takes those already queued. The default of 1 disables batching.
+   */
+  protected int getMaxProcessBatchSize() {
+    return 1;
+  }
+
   @Override
   protected void startUp() {
     buildMetricsContextAndMetrics();
@@ -335,14 +358,25 @@ public abstract class HighLevelConsumer<K,V> extends AbstractIdleService {
     @Override
     public void run() {
       log.info("Starting queue processing.. " + Thread.currentThread().getName());
+      int maxBatchSize = getMaxProcessBatchSize();
+      List<KafkaConsumerRecord> batch = new ArrayList<>(Math.max(maxBatchSize, 1));
       KafkaConsumerRecord record = null;
       try {
         while (true) {
           record = queue.take();
-          messagesRead.inc();
+          batch.clear();
+          batch.add(record);
+          if (maxBatchSize > 1) {
+            queue.drainTo(batch, maxBatchSize - 1);
+          }
+          messagesRead.inc(batch.size());
           try {
-            HighLevelConsumer.this.processMessage((DecodeableKafkaRecord) record);
-            recordsProcessed.incrementAndGet();
+            if (maxBatchSize > 1) {
+              HighLevelConsumer.this.processMessages((List) batch);
+            } else {
+              HighLevelConsumer.this.processMessage((DecodeableKafkaRecord) record);
+            }
+            recordsProcessed.addAndGet(batch.size());
           }
           catch (Exception e) {
             // Rethrow exception in case auto commit is disabled
@@ -354,11 +388,13 @@ public abstract class HighLevelConsumer<K,V> extends AbstractIdleService {
           }
 
           if (!HighLevelConsumer.this.enableAutoCommit) {
-            KafkaPartition partition =
-                new KafkaPartition.Builder().withId(record.getPartition()).withTopicName(HighLevelConsumer.this.topic)
-                    .build();
-            // Committed offset should always be the offset of the next record to be read (hence +1)
-            partitionOffsetsToCommit.put(partition, record.getOffset() + 1);
+            for (KafkaConsumerRecord processed : batch) {
+              KafkaPartition partition =
+                  new KafkaPartition.Builder().withId(processed.getPartition()).withTopicName(HighLevelConsumer.this.topic)
+                      .build();
+              // Committed offset should always be the offset of the next record to be read (hence +1)
+              partitionOffsetsToCommit.put(partition, processed.getOffset() + 1);
+            }
           }
         }
       } catch(InterruptedException e){
@@ -85,6 +85,12 @@ public class RuntimeMetrics {
   public static final String GOBBLIN_JOB_SCHEDULER_TOTAL_ADD_SPEC_TIME_NANOS = ServiceMetricNames.GOBBLIN_SERVICE_PREFIX_WITH_DELIMITER + "jobScheduler.totalAddSpecTimeNanos";
   public static final String GOBBLIN_JOB_SCHEDULER_NUM_JOBS_SCHEDULED_DURING_STARTUP = ServiceMetricNames.GOBBLIN_SERVICE_PREFIX_WITH_DELIMITER + "jobScheduler.numJobsScheduledDuringStartup";
 
+  // The following metrics time the stages of a dataset commit; publish includes Hive registration done by publishers
+  public static final String GOBBLIN_DATASET_COMMIT_PUBLISH_TIMER = "gobblin.datasetCommit.publish";
+  public static final String GOBBLIN_DATASET_COMMIT_FINALIZE_AND_EVENTS_TIMER = "gobblin.datasetCommit.finalizeAndEvents";
+  public static final String GOBBLIN_DATASET_COMMIT_STATE_PERSIST_TIMER = "gobblin.datasetCommit.statePersist";
+  public static final String GOBBLIN_DATASET_COMMIT_STATE_PERSIST_BATCH_SIZE = "gobblin.datasetCommit.statePersistBatchSize";
+
   // Metadata keys
   public static final String TOPIC = "topic";
   public static final String GROUP_ID = "groupId";
@@ -71,6 +71,30 @@ public class DBStatementExecutor implements Closeable {
     }
   }
 
+  /**
+   * Variant of {@link #withPreparedStatement} for operations preparing several statements, which all run on the same
+   * connection and so, when <code>shouldCommit</code>, are committed at once. Nothing is committed if <code>f</code>
+   * fails.
+   */
+  public <T> T withConnection(CheckedFunction<Connection, T> f, boolean shouldCommit) throws IOException {
+    try (Connection connection = dataSource.getConnection()) {
+      try {
+        T result = f.apply(connection);
+        if (shouldCommit) {
+          connection.commit();
+        }
+        return result;
+      } catch (IOException | SQLException | RuntimeException e) {
+        connection.rollback();
+        throw e;
+      }
+    } catch (SQLException e) {
+      log.warn("Received SQL exception that can result from invalid connection. Checking if validation query is set {} "
+          + "Exception is {}", ((HikariDataSource) dataSource).getConnectionTestQuery(), e);
+      throw new IOException(e);
+    }
+  }
+
   /**
    * Repeats execution of a SQL command at a fixed interval while the service is running. The first execution of the
    * command is immediate.
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.runtime;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+import org.apache.gobblin.metastore.DatasetStateStore;
+import org.apache.gobblin.metrics.MetricContext;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+
+/**
+ * Unit tests for {@link BatchedDatasetStatePersister}.
+ */
+@Test
+public class BatchedDatasetStatePersisterTest {
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testPersistsInBatches() throws IOException {
+    DatasetStateStore<JobState.DatasetState> datasetStateStore = mock(DatasetStateStore.class);
+
+    try (BatchedDatasetStatePersister persister = new BatchedDatasetStatePersister(datasetStateStore, 2, 2,
+        MetricContext.builder("testPersistsInBatches").build())) {
+      for (String datasetUrn : ImmutableList.of("dataset1", "dataset2", "dataset3")) {
+        persister.persist(datasetUrn, new JobState.DatasetState("job", "job_id"));
+      }
+      persister.awaitCompletion();
+    }
+
+    ArgumentCaptor<Map> batchCaptor = ArgumentCaptor.forClass(Map.class);
+    verify(datasetStateStore, times(2)).persistDatasetStates(batchCaptor.capture());
+    List<Object> persistedUrns = Lists.newArrayList();
+    for (Map batch : batchCaptor.getAllValues()) {
+      persistedUrns.addAll(batch.keySet());
+    }
+    Assert.assertEquals(persistedUrns.size(), 3);
+    Assert.assertTrue(persistedUrns.containsAll(ImmutableList.of("dataset1", "dataset2", "dataset3")));
+  }
+
+  @Test(expectedExceptions = IOException.class)
+  @SuppressWarnings("unchecked")
+  public void testFailedBatchIsReported() throws IOException {
+    DatasetStateStore<JobState.DatasetState> datasetStateStore = mock(DatasetStateStore.class);
+    doThrow(new IOException("Fail!")).when(datasetStateStore).persistDatasetStates(any(Map.class));
+
+    try (BatchedDatasetStatePersister persister = new BatchedDatasetStatePersister(datasetStateStore, 2, 1,
+        MetricContext.builder("testFailedBatchIsReported").build())) {
+      persister.persist("dataset1", new JobState.DatasetState("job", "job_id"));
+      persister.awaitCompletion();
+    }
+  }
+}
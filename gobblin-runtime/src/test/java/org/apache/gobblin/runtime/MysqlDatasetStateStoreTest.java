@@ -28,6 +28,7 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import com.google.common.base.Predicates;
+import com.google.common.collect.ImmutableMap;
 import com.zaxxer.hikari.HikariDataSource;
 
 import org.apache.gobblin.config.ConfigBuilder;
@@ -51,7 +52,9 @@ public class MysqlDatasetStateStoreTest {
   private static final String TEST_JOB_NAME = "TestJob";
   private static final String TEST_JOB_NAME_LOWER = "testjob";
   private static final String TEST_JOB_NAME2 = "TestJob2";
+  private static final String TEST_JOB_NAME3 = "TestJob3";
   private static final String TEST_JOB_ID = "TestJob1";
+  private static final String TEST_JOB_ID2 = "TestJob2";
   private static final String TEST_TASK_ID_PREFIX = "TestTask-";
   private static final String TEST_DATASET_URN = "TestDataset";
   private static final String TEST_DATASET_URN_LOWER = "testdataset";
@@ -96,6 +99,7 @@ public class MysqlDatasetStateStoreTest {
     dbDatasetStateStore.delete(TEST_JOB_NAME);
     dbJobStateStore.delete(TEST_JOB_NAME2);
     dbDatasetStateStore.delete(TEST_JOB_NAME2);
+    dbDatasetStateStore.delete(TEST_JOB_NAME3);
   }
 
   @Test
@@ -328,10 +332,69 @@ public class MysqlDatasetStateStoreTest {
     Assert.assertNull(datasetState);
   }
 
+  @Test(dependsOnMethods = "testGetStoreNames")
+  public void testPersistDatasetStatesInBatch() throws IOException {
+    try {
+      for (String jobId : new String[] { TEST_JOB_ID, TEST_JOB_ID2 }) {
+        dbDatasetStateStore.persistDatasetStates(ImmutableMap.of(
+            TEST_DATASET_URN, createDatasetState(TEST_JOB_NAME3, jobId, TEST_DATASET_URN, 1000),
+            TEST_DATASET_URN2, createDatasetState(TEST_JOB_NAME3, jobId, TEST_DATASET_URN2, 2000)));
+      }
+
+      // the current alias of each dataset points at the states of the latest batch
+      Map<String, JobState.DatasetState> datasetStatesByUrns =
+          dbDatasetStateStore.getLatestDatasetStatesByUrns(TEST_JOB_NAME3);
+      Assert.assertEquals(datasetStatesByUrns.size(), 2);
+      Assert.assertEquals(datasetStatesByUrns.get(TEST_DATASET_URN).getJobId(), TEST_JOB_ID2);
+      Assert.assertEquals(datasetStatesByUrns.get(TEST_DATASET_URN).getDuration(), 1000);
+      Assert.assertEquals(datasetStatesByUrns.get(TEST_DATASET_URN2).getJobId(), TEST_JOB_ID2);
+      Assert.assertEquals(datasetStatesByUrns.get(TEST_DATASET_URN2).getDuration(), 2000);
+      Assert.assertEquals(dbDatasetStateStore.getLatestDatasetState(TEST_JOB_NAME3, TEST_DATASET_URN2).getJobId(),
+          TEST_JOB_ID2);
+
+      // the states of each batch are also kept under their job id
+      for (String jobId : new String[] { TEST_JOB_ID, TEST_JOB_ID2 }) {
+        JobState.DatasetState datasetState = dbDatasetStateStore.get(TEST_JOB_NAME3,
+            TEST_DATASET_URN + "-" + jobId + dbDatasetStateStore.DATASET_STATE_STORE_TABLE_SUFFIX, TEST_DATASET_URN);
+        Assert.assertEquals(datasetState.getJobId(), jobId);
+        Assert.assertEquals(datasetState.getDatasetUrn(), TEST_DATASET_URN);
+        Assert.assertEquals(datasetState.getCompletedTasks(), 3);
+      }
+      JobState.DatasetState datasetState = dbDatasetStateStore.get(TEST_JOB_NAME3,
+          TEST_DATASET_URN2 + "-" + dbDatasetStateStore.CURRENT_DATASET_STATE_FILE_SUFFIX
+              + dbDatasetStateStore.DATASET_STATE_STORE_TABLE_SUFFIX, TEST_DATASET_URN2);
+      Assert.assertEquals(datasetState.getJobId(), TEST_JOB_ID2);
+      Assert.assertEquals(datasetState.getDatasetUrn(), TEST_DATASET_URN2);
+    } finally {
+      dbDatasetStateStore.delete(TEST_JOB_NAME3);
+    }
+  }
+
+  private JobState.DatasetState createDatasetState(String jobName, String jobId, String datasetUrn, long duration) {
+    JobState.DatasetState datasetState = new JobState.DatasetState(jobName, jobId);
+    datasetState.setDatasetUrn(datasetUrn);
+    datasetState.setState(JobState.RunningState.COMMITTED);
+    datasetState.setId(datasetUrn);
+    datasetState.setStartTime(this.startTime);
+    datasetState.setEndTime(this.startTime + duration);
+    datasetState.setDuration(duration);
+
+    for (int i = 0; i < 3; i++) {
+      TaskState taskState = new TaskState();
+      taskState.setJobId(jobId);
+      taskState.setTaskId(TEST_TASK_ID_PREFIX + i);
+      taskState.setId(TEST_TASK_ID_PREFIX + i);
+      taskState.setWorkingState(WorkUnitState.WorkingState.COMMITTED);
+      datasetState.addTaskState(taskState);
+    }
+    return datasetState;
+  }
+
   @AfterClass(alwaysRun = true)
   public void tearDown() throws Exception {
     dbJobStateStore.delete(TEST_JOB_NAME);
     dbDatasetStateStore.delete(TEST_JOB_NAME);
+    dbDatasetStateStore.delete(TEST_JOB_NAME3);
     if (testMetastoreDatabase != null) {
       // `.close()` to avoid (in the aggregate, across multiple suites) - java.sql.SQLNonTransientConnectionException: Too many connections
       testMetastoreDatabase.close();
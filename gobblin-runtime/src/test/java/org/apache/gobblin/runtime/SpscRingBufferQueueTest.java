@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.runtime;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.Lists;
+
+
+/**
+ * Unit tests for {@link SpscRingBufferQueue}.
+ */
+@Test(groups = { "gobblin.runtime" })
+public class SpscRingBufferQueueTest {
+
+  @Test
+  public void testOfferAndPoll() {
+    SpscRingBufferQueue<Integer> queue = new SpscRingBufferQueue<>(3, SpscRingBufferQueue.WaitStrategy.SPIN);
+    Assert.assertTrue(queue.offer(0));
+    Assert.assertTrue(queue.offer(1));
+    Assert.assertTrue(queue.offer(2));
+    // Capacity is honored even though the ring buffer is sized to the next power of two
+    Assert.assertFalse(queue.offer(3));
+    Assert.assertEquals(queue.size(), 3);
+    Assert.assertEquals(queue.remainingCapacity(), 0);
+
+    Assert.assertEquals(queue.peek(), Integer.valueOf(0));
+    Assert.assertEquals(queue.poll(), Integer.valueOf(0));
+    Assert.assertTrue(queue.offer(3));
+
+    List<Integer> drained = Lists.newArrayList();
+    Assert.assertEquals(queue.drainTo(drained, 2), 2);
+    Assert.assertEquals(drained, Lists.newArrayList(1, 2));
+    Assert.assertEquals(queue.poll(), Integer.valueOf(3));
+    Assert.assertNull(queue.poll());
+    Assert.assertEquals(queue.size(), 0);
+  }
+
+  @Test
+  public void testTimeouts() throws InterruptedException {
+    SpscRingBufferQueue<Integer> queue = new SpscRingBufferQueue<>(1, SpscRingBufferQueue.WaitStrategy.PARK);
+    Assert.assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+    Assert.assertTrue(queue.offer(0, 10, TimeUnit.MILLISECONDS));
+    Assert.assertFalse(queue.offer(1, 10, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testProducerConsumer() throws InterruptedException {
+    for (SpscRingBufferQueue.WaitStrategy waitStrategy : SpscRingBufferQueue.WaitStrategy.values()) {
+      final SpscRingBufferQueue<Integer> queue = new SpscRingBufferQueue<>(4, waitStrategy);
+      final int numRecords = 10000;
+
+      Thread producer = new Thread(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            for (int i = 0; i < numRecords; i++) {
+              queue.put(i);
+            }
+          } catch (InterruptedException ie) {
+            throw new RuntimeException(ie);
+          }
+        }
+      });
+      producer.start();
+
+      List<Integer> consumed = Lists.newArrayList();
+      while (consumed.size() < numRecords) {
+        Integer record = queue.poll(1, TimeUnit.SECONDS);
+        Assert.assertNotNull(record);
+        consumed.add(record);
+        queue.drainTo(consumed, 3);
+      }
+      producer.join();
+
+      for (int i = 0; i < numRecords; i++) {
+        Assert.assertEquals(consumed.get(i), Integer.valueOf(i));
+      }
+    }
+  }
+
+  @Test
+  public void testBoundedBlockingRecordQueueWithRingBuffer() throws InterruptedException {
+    BoundedBlockingRecordQueue<Integer> queue = BoundedBlockingRecordQueue.<Integer>newBuilder().hasCapacity(4)
+        .useTimeout(10).useQueueType(BoundedBlockingRecordQueue.QueueType.SPSC_RING_BUFFER)
+        .useWaitStrategy(SpscRingBufferQueue.WaitStrategy.YIELD).collectStats().sampleStatsEvery(2).build();
+
+    for (int i = 0; i < 3; i++) {
+      Assert.assertTrue(queue.put(i));
+    }
+    BoundedBlockingRecordQueue<Integer>.QueueStats stats = queue.stats().get();
+    Assert.assertEquals(stats.queueSize(), 3);
+    // Only complete samples are recorded
+    Assert.assertEquals(stats.putAttemptCount(), 2);
+
+    List<Integer> drained = Lists.newArrayList();
+    Assert.assertEquals(queue.drainTo(drained, 10), 3);
+    Assert.assertEquals(drained, Lists.newArrayList(0, 1, 2));
+    Assert.assertEquals(stats.getAttemptCount(), 3);
+    // A timed out get is counted, but not recorded until the sample is complete
+    Assert.assertEquals(queue.drainTo(drained, 10), 0);
+    Assert.assertEquals(stats.getAttemptCount(), 3);
+    Assert.assertNull(queue.get());
+    Assert.assertEquals(stats.getAttemptCount(), 5);
+  }
+}
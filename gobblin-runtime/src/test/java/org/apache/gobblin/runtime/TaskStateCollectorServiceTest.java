@@ -31,6 +31,7 @@ import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Maps;
 import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
@@ -114,6 +115,40 @@ public class TaskStateCollectorServiceTest {
     Assert.assertEquals(this.taskStateMap.get(TASK_ID_1).getTaskId(), TASK_ID_1);
   }
 
+  @Test
+  public void testCollectPushedTaskStates() throws Exception {
+    String jobId = JOB_ID + "_push";
+    String taskId = JobLauncherUtils.newTaskId(jobId, 0);
+    String taskStateName = taskId + AbstractJobLauncher.TASK_STATE_STORE_TABLE_SUFFIX;
+    Properties props = new Properties();
+    props.setProperty(ConfigurationKeys.TASK_STATE_COLLECTOR_PUSH_ENABLED, "true");
+    JobState pushJobState = new JobState();
+    TaskStateCollectorService pushCollectorService = new TaskStateCollectorService(props, pushJobState, new EventBus(),
+        this.mockEventSubmitter, this.taskStateStore, new Path(this.outputTaskStateDir, jobId),
+        new InMemoryIssueRepository());
+    pushCollectorService.startUp();
+
+    TaskState taskState = new TaskState();
+    taskState.setJobId(jobId);
+    taskState.setTaskId(taskId);
+    taskState.setEndTime(System.currentTimeMillis());
+    this.taskStateStore.put(jobId, taskStateName, taskState);
+
+    // Nothing has been pushed yet, and the first scan of the output task state directory is not due
+    pushCollectorService.runOneIteration();
+    Assert.assertEquals(pushJobState.getTaskStates().size(), 0);
+
+    TaskStateCollectorService.notifyTaskStatesPersisted(jobId, ImmutableList.of(taskStateName));
+    pushCollectorService.runOneIteration();
+    Assert.assertEquals(pushJobState.getTaskStates().size(), 1);
+    Assert.assertEquals(pushJobState.getTaskStates().get(0).getTaskId(), taskId);
+    Assert.assertEquals(pushCollectorService.getCollectionLagMillis().getCount(), 1);
+    Assert.assertFalse(this.taskStateStore.exists(jobId, taskStateName));
+
+    pushCollectorService.shutDown();
+    Assert.assertEquals(pushJobState.getTaskStates().size(), 1);
+  }
+
   @Test
   public void testHandlerResolution() throws Exception{
     Properties props = new Properties();
@@ -88,11 +88,16 @@ public class TaskTest {
     State synchronousStateOverrides = new State();
     synchronousStateOverrides.setProp(ConfigurationKeys.TASK_SYNCHRONOUS_EXECUTION_MODEL_KEY, true);
 
+    State batchedSynchronousStateOverrides = new State();
+    batchedSynchronousStateOverrides.setProp(ConfigurationKeys.TASK_SYNCHRONOUS_EXECUTION_MODEL_KEY, true);
+    batchedSynchronousStateOverrides.setProp(TaskConfigurationKeys.TASK_SYNCHRONOUS_RECORD_BATCH_SIZE, 3);
+
     State streamStateOverrides = new State();
     streamStateOverrides.setProp(ConfigurationKeys.TASK_SYNCHRONOUS_EXECUTION_MODEL_KEY, false);
 
     return new Object[][] {
         { synchronousStateOverrides },
+        { batchedSynchronousStateOverrides },
         { streamStateOverrides }
     };
   }
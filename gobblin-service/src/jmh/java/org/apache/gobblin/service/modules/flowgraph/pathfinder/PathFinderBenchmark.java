@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.service.modules.flowgraph.pathfinder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.Lists;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import org.apache.gobblin.configuration.ConfigurationKeys;
+import org.apache.gobblin.runtime.api.FlowSpec;
+import org.apache.gobblin.runtime.api.JobTemplate;
+import org.apache.gobblin.runtime.api.SpecExecutor;
+import org.apache.gobblin.runtime.spec_executorInstance.InMemorySpecExecutor;
+import org.apache.gobblin.service.ServiceConfigKeys;
+import org.apache.gobblin.service.modules.dataset.DatasetDescriptor;
+import org.apache.gobblin.service.modules.dataset.FSDatasetDescriptor;
+import org.apache.gobblin.service.modules.flow.FlowGraphPath;
+import org.apache.gobblin.service.modules.flowgraph.BaseDataNode;
+import org.apache.gobblin.service.modules.flowgraph.BaseFlowEdge;
+import org.apache.gobblin.service.modules.flowgraph.BaseFlowGraph;
+import org.apache.gobblin.service.modules.flowgraph.DatasetDescriptorConfigKeys;
+import org.apache.gobblin.service.modules.flowgraph.FlowGraphConfigurationKeys;
+import org.apache.gobblin.service.modules.template.FlowTemplate;
+
+
+/**
+ * Path finding on a synthetic, layered {@link BaseFlowGraph} of roughly the size of a production flow graph (~2k edges). Every
+ * node of a layer has edges to `fanOut` nodes of the next layer, so BFS from the first layer to the last one expands most of the
+ * graph. Edges use a {@link FlowTemplate} that, like real templates, constructs its {@link DatasetDescriptor}s from config.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@org.openjdk.jmh.annotations.Fork(value = 1)
+@BenchmarkMode(value = Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PathFinderBenchmark {
+  private static final String DATASET_PATH = "/data/benchmark/dataset";
+
+  @State(value = Scope.Benchmark)
+  public static class FlowGraphState {
+    @Param({"10"})
+    public int numLayers;
+
+    @Param({"40"})
+    public int nodesPerLayer;
+
+    @Param({"6"})
+    public int fanOut;
+
+    @Param({"1", "3"})
+    public int executorsPerEdge;
+
+    @Param({"1", "4"})
+    public int numDestinations;
+
+    private BaseFlowGraph flowGraph;
+    private Config flowConfig;
+
+    @Setup
+    public void setup() throws Exception {
+      this.flowGraph = new BaseFlowGraph();
+      for (int layer = 0; layer < this.numLayers; layer++) {
+        for (int i = 0; i < this.nodesPerLayer; i++) {
+          this.flowGraph.addDataNode(new BaseDataNode(ConfigFactory.empty()
+              .withValue(FlowGraphConfigurationKeys.DATA_NODE_ID_KEY, ConfigValueFactory.fromAnyRef(nodeId(layer, i)))));
+        }
+      }
+      List<SpecExecutor> executors = new ArrayList<>();
+      for (int e = 0; e < this.executorsPerEdge; e++) {
+        executors.add(new InMemorySpecExecutor(ConfigFactory.empty()));
+      }
+      for (int layer = 0; layer < this.numLayers - 1; layer++) {
+        for (int i = 0; i < this.nodesPerLayer; i++) {
+          for (int f = 0; f < this.fanOut; f++) {
+            String src = nodeId(layer, i);
+            String dest = nodeId(layer + 1, (i + f) % this.nodesPerLayer);
+            String edgeId = src + ":" + dest + ":copy";
+            this.flowGraph.addFlowEdge(new BaseFlowEdge(Lists.newArrayList(src, dest), edgeId,
+                new SyntheticFlowTemplate(new URI("FS:///" + edgeId)), executors, ConfigFactory.empty(), true));
+          }
+        }
+      }
+
+      List<String> destNodeIds = new ArrayList<>();
+      for (int d = 0; d < this.numDestinations; d++) {
+        destNodeIds.add(nodeId(this.numLayers - 1, d * this.nodesPerLayer / this.numDestinations));
+      }
+      Config descriptorConfig = ConfigFactory.empty()
+          .withValue(DatasetDescriptorConfigKeys.CLASS_KEY, ConfigValueFactory.fromAnyRef(FSDatasetDescriptor.class.getName()))
+          .withValue(DatasetDescriptorConfigKeys.PLATFORM_KEY, ConfigValueFactory.fromAnyRef("hdfs"))
+          .withValue(DatasetDescriptorConfigKeys.PATH_KEY, ConfigValueFactory.fromAnyRef(DATASET_PATH));
+      this.flowConfig = ConfigFactory.empty()
+          .withValue(ConfigurationKeys.FLOW_GROUP_KEY, ConfigValueFactory.fromAnyRef("benchmarkGroup"))
+          .withValue(ConfigurationKeys.FLOW_NAME_KEY, ConfigValueFactory.fromAnyRef("benchmarkFlow"))
+          .withValue(ConfigurationKeys.FLOW_APPLY_RETENTION, ConfigValueFactory.fromAnyRef(false))
+          .withValue(ServiceConfigKeys.FLOW_SOURCE_IDENTIFIER_KEY, ConfigValueFactory.fromAnyRef(nodeId(0, 0)))
+          .withValue(ServiceConfigKeys.FLOW_DESTINATION_IDENTIFIER_KEY, ConfigValueFactory.fromAnyRef(String.join(",", destNodeIds)))
+          .withFallback(descriptorConfig.atPath(DatasetDescriptorConfigKeys.FLOW_INPUT_DATASET_DESCRIPTOR_PREFIX))
+          .withFallback(descriptorConfig.atPath(DatasetDescriptorConfigKeys.FLOW_OUTPUT_DATASET_DESCRIPTOR_PREFIX));
+    }
+
+    FlowSpec newFlowSpec() {
+      // a new `FlowSpec` per compilation, as compilation records errors upon it
+      return FlowSpec.builder(URI.create("/benchmarkGroup/benchmarkFlow")).withConfig(this.flowConfig).build();
+    }
+
+    private static String nodeId(int layer, int i) {
+      return "node-" + layer + "-" + i;
+    }
+  }
+
+  @Benchmark
+  public FlowGraphPath bfsPathFinder(FlowGraphState state) throws Exception {
+    FlowGraphPath flowGraphPath = state.flowGraph.findPath(state.newFlowSpec());
+    if (flowGraphPath == null) {
+      throw new IllegalStateException("No path found through the synthetic flow graph");
+    }
+    return flowGraphPath;
+  }
+
+  /** A {@link FlowTemplate} accepting any {@link FSDatasetDescriptor} on HDFS, and (trivially) resolvable for all of them */
+  private static class SyntheticFlowTemplate implements FlowTemplate {
+    private static final Config ANY_HDFS_DATASET = ConfigFactory.empty()
+        .withValue(DatasetDescriptorConfigKeys.CLASS_KEY, ConfigValueFactory.fromAnyRef(FSDatasetDescriptor.class.getName()))
+        .withValue(DatasetDescriptorConfigKeys.PLATFORM_KEY, ConfigValueFactory.fromAnyRef("hdfs"))
+        .withValue(DatasetDescriptorConfigKeys.PATH_KEY, ConfigValueFactory.fromAnyRef(DatasetDescriptorConfigKeys.DATASET_DESCRIPTOR_CONFIG_ANY));
+
+    private final URI uri;
+
+    SyntheticFlowTemplate(URI uri) {
+      this.uri = uri;
+    }
+
+    @Override
+    public List<Pair<DatasetDescriptor, DatasetDescriptor>> getDatasetDescriptors(Config userConfig, boolean resolvable)
+        throws IOException {
+      DatasetDescriptor input = new FSDatasetDescriptor(ANY_HDFS_DATASET
+          .withValue(DatasetDescriptorConfigKeys.IS_INPUT_DATASET, ConfigValueFactory.fromAnyRef(true)));
+      DatasetDescriptor output = new FSDatasetDescriptor(ANY_HDFS_DATASET);
+      return Collections.singletonList(new ImmutablePair<>(input, output));
+    }
+
+    @Override
+    public HashMap<String, ArrayList<String>> tryResolving(Config userConfig, DatasetDescriptor inputDescriptor,
+        DatasetDescriptor outputDescriptor) {
+      return new HashMap<>();
+    }
+
+    @Override
+    public List<Config> getResolvedJobConfigs(Config userConfig, DatasetDescriptor inputDescriptor,
+        DatasetDescriptor outputDescriptor) {
+      return Collections.singletonList(userConfig);
+    }
+
+    @Override
+    public List<JobTemplate> getJobTemplates() {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public Config getRawTemplateConfig() {
+      return ConfigFactory.empty();
+    }
+
+    @Override
+    public URI getUri() {
+      return this.uri;
+    }
+
+    @Override
+    public String getVersion() {
+      return "1";
+    }
+
+    @Override
+    public String getDescription() {
+      return "synthetic flow template";
+    }
+  }
+}
@@ -17,10 +17,13 @@
 
 package org.apache.gobblin.service.modules.flowgraph;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -39,6 +42,8 @@ import org.apache.gobblin.util.reflection.GobblinConstructorUtils;
  *   <p>dataNodeMap - the mapping from a node identifier to the {@link DataNode} instance</p>
  *   <p>nodesToEdges - the mapping from each {@link DataNode} to its outgoing {@link FlowEdge}s</p>
  *   <p>flowEdgeMap - the mapping from a edge label to the {@link FlowEdge} instance</p>
+ *   <p>activeEdgesIndex - a lazily built index from each {@link DataNode} to its active outgoing {@link FlowEdge}s with
+ *   active destinations; it is flow-independent and is cleared on every mutation of the graph</p>
  *
  *   Read/Write Access to the {@link FlowGraph} is synchronized via a {@link ReentrantReadWriteLock}.
  */
@@ -51,6 +56,7 @@ public class BaseFlowGraph implements FlowGraph {
   private final Map<DataNode, Set<FlowEdge>> nodesToEdges = new HashMap<>();
   private final Map<String, DataNode> dataNodeMap = new HashMap<>();
   private final Map<String, FlowEdge> flowEdgeMap = new HashMap<>();
+  private final Map<DataNode, List<FlowEdge>> activeEdgesIndex = new ConcurrentHashMap<>();
   private final Map<String, String> dataNodeAliasMap;
 
   public BaseFlowGraph() {
@@ -82,6 +88,7 @@ public class BaseFlowGraph implements FlowGraph {
   public boolean addDataNode(DataNode node) {
     try {
       rwLock.writeLock().lock();
+      this.activeEdgesIndex.clear();
       //Get edges adjacent to the node if it already exists
       Set<FlowEdge> edges = this.nodesToEdges.getOrDefault(node, new HashSet<>());
       this.nodesToEdges.put(node, edges);
@@ -103,6 +110,7 @@ public class BaseFlowGraph implements FlowGraph {
   public boolean addFlowEdge(FlowEdge edge) {
     try {
       rwLock.writeLock().lock();
+      this.activeEdgesIndex.clear();
       String srcNode = edge.getSrc();
       String dstNode = edge.getDest();
       if (!dataNodeMap.containsKey(srcNode) || !dataNodeMap.containsKey(dstNode)) {
@@ -149,6 +157,7 @@ public class BaseFlowGraph implements FlowGraph {
   public boolean deleteDataNode(DataNode node) {
     try {
       rwLock.writeLock().lock();
+      this.activeEdgesIndex.clear();
       if (!dataNodeMap.containsKey(node.getId())) {
         return false;
       }
@@ -192,6 +201,7 @@ public class BaseFlowGraph implements FlowGraph {
   public boolean deleteFlowEdge(FlowEdge edge) {
     try {
       rwLock.writeLock().lock();
+      this.activeEdgesIndex.clear();
       if (!dataNodeMap.containsKey(edge.getSrc())) {
         return false;
       }
@@ -238,6 +248,27 @@ public class BaseFlowGraph implements FlowGraph {
     }
   }
 
+  /**
+   * Get the active edges adjacent to a {@link DataNode} whose destination is active. The result is memoized until
+   * the next mutation of the {@link FlowGraph}, so repeated expansions of a node across compilations do not rescan
+   * its edges and destination nodes.
+   * @param node {@link DataNode}
+   * @return an unmodifiable list of active {@link FlowEdge}s adjacent to the node.
+   */
+  @Override
+  public List<FlowEdge> getActiveEdges(DataNode node) {
+    try {
+      rwLock.readLock().lock();
+      if (node == null || !this.nodesToEdges.containsKey(node)) {
+        return Collections.emptyList();
+      }
+      return this.activeEdgesIndex.computeIfAbsent(node,
+          key -> Collections.unmodifiableList(FlowGraph.super.getActiveEdges(key)));
+    } finally {
+      rwLock.readLock().unlock();
+    }
+  }
+
   /**{@inheritDoc}**/
   @Override
   public FlowGraphPath findPath(FlowSpec flowSpec)
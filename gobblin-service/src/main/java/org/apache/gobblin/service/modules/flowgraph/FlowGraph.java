@@ -18,6 +18,9 @@
 package org.apache.gobblin.service.modules.flowgraph;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.apache.gobblin.annotation.Alpha;
 import org.apache.gobblin.runtime.api.FlowSpec;
@@ -84,6 +87,21 @@ public interface FlowGraph {
    */
   Collection<FlowEdge> getEdges(DataNode node);
 
+  /**
+   * Get the edges adjacent to a {@link DataNode} that are active and whose destination {@link DataNode} is active,
+   * i.e. the only edges a path finder may expand from the node.
+   * @param node {@link DataNode}
+   * @return a list of active edges adjacent to the {@link DataNode}
+   */
+  default List<FlowEdge> getActiveEdges(DataNode node) {
+    Collection<FlowEdge> edges = getEdges(node);
+    if (edges == null) {
+      return Collections.emptyList();
+    }
+    return edges.stream().filter(edge -> edge.isActive() && getNode(edge.getDest()) != null
+        && getNode(edge.getDest()).isActive()).collect(Collectors.toList());
+  }
+
   /**
    * A method that takes a {@link FlowSpec} containing the source and destination {@link DataNode}s, as well as the
    * source and target {@link org.apache.gobblin.service.modules.dataset.DatasetDescriptor}s, and returns a sequence
@@ -28,10 +28,14 @@ import com.typesafe.config.ConfigValueFactory;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -54,6 +58,7 @@ import org.apache.gobblin.service.modules.flowgraph.FlowEdge;
 import org.apache.gobblin.service.modules.flowgraph.FlowGraph;
 import org.apache.gobblin.service.modules.restli.FlowConfigUtils;
 import org.apache.gobblin.service.modules.spec.JobExecutionPlan;
+import org.apache.gobblin.service.modules.template.FlowTemplate;
 import org.apache.gobblin.util.ConfigUtils;
 import org.apache.gobblin.util.reflection.GobblinConstructorUtils;
 
@@ -63,6 +68,7 @@ import org.apache.gobblin.util.reflection.GobblinConstructorUtils;
 public abstract class AbstractPathFinder implements PathFinder {
   private static final String SOURCE_PREFIX = "source";
   private static final String DESTINATION_PREFIX = "destination";
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
   private List<DataNode> destNodes;
 
@@ -81,6 +87,10 @@ public abstract class AbstractPathFinder implements PathFinder {
   protected FlowSpec flowSpec;
   protected Config flowConfig;
 
+  private final Set<String> whitelistedEdgeIds;
+  // resolutions of every `FlowEdge` expanded so far, keyed by edge ID; see `resolveEdge`
+  private final Map<String, EdgeResolution> edgeResolutionsByEdgeId = new HashMap<>();
+
   AbstractPathFinder(FlowGraph flowGraph, FlowSpec flowSpec) throws ReflectiveOperationException {
     this(flowGraph, flowSpec, new HashMap<>());
   }
@@ -162,6 +172,7 @@ public abstract class AbstractPathFinder implements PathFinder {
 
     this.srcDatasetDescriptor = DatasetDescriptorUtils.constructDatasetDescriptor(srcDatasetDescriptorConfig);
     this.destDatasetDescriptor = DatasetDescriptorUtils.constructDatasetDescriptor(destDatasetDescriptorConfig);
+    this.whitelistedEdgeIds = new HashSet<>(ConfigUtils.getStringList(this.flowConfig, ConfigurationKeys.WHITELISTED_EDGE_IDS));
   }
 
   public static Config getDefaultConfig(DataNode dataNode) {
@@ -194,37 +205,31 @@ public abstract class AbstractPathFinder implements PathFinder {
   List<FlowEdgeContext> getNextEdges(DataNode dataNode, DatasetDescriptor currentDatasetDescriptor,
       DatasetDescriptor destDatasetDescriptor, int numberOfHops) {
     List<FlowEdgeContext> prioritizedEdgeList = new LinkedList<>();
-    List<String> edgeIds = ConfigUtils.getStringList(this.flowConfig, ConfigurationKeys.WHITELISTED_EDGE_IDS);
-    for (FlowEdge flowEdge : this.flowGraph.getEdges(dataNode)) {
-      if (!edgeIds.isEmpty() && !edgeIds.contains(flowEdge.getId())) {
+    //Base condition: only active FlowEdges whose destination is active are expanded. The FlowGraph indexes these.
+    for (FlowEdge flowEdge : this.flowGraph.getActiveEdges(dataNode)) {
+      if (!this.whitelistedEdgeIds.isEmpty() && !this.whitelistedEdgeIds.contains(flowEdge.getId())) {
         continue;
       }
       try {
-        DataNode edgeDestination = this.flowGraph.getNode(flowEdge.getDest());
-        //Base condition: Skip this FLowEdge, if it is inactive or if the destination of this edge is inactive.
-        if (!edgeDestination.isActive() || !flowEdge.isActive()) {
-          continue;
-        }
-
         boolean foundExecutor = false;
         //Iterate over all executors for this edge. Find the first one that resolves the underlying flow template.
         for (SpecExecutor specExecutor : flowEdge.getExecutors()) {
-          Config mergedConfig = getMergedConfig(flowEdge);
-          List<Pair<DatasetDescriptor, DatasetDescriptor>> datasetDescriptorPairs =
-              flowEdge.getFlowTemplate().getDatasetDescriptors(mergedConfig, false);
-          for (Pair<DatasetDescriptor, DatasetDescriptor> datasetDescriptorPair : datasetDescriptorPairs) {
+          EdgeResolution edgeResolution = resolveEdge(flowEdge);
+          Config mergedConfig = edgeResolution.getMergedConfig();
+          List<Pair<DatasetDescriptor, DatasetDescriptor>> datasetDescriptorPairs = edgeResolution.getDatasetDescriptorPairs();
+          for (int i = 0; i < datasetDescriptorPairs.size(); i++) {
+            Pair<DatasetDescriptor, DatasetDescriptor> datasetDescriptorPair = datasetDescriptorPairs.get(i);
             DatasetDescriptor inputDatasetDescriptor = datasetDescriptorPair.getLeft();
             DatasetDescriptor outputDatasetDescriptor = datasetDescriptorPair.getRight();
 
-            HashMap<String, ArrayList<String>> errors = flowEdge.getFlowTemplate().tryResolving(mergedConfig, datasetDescriptorPair.getLeft(), datasetDescriptorPair.getRight());
+            HashMap<String, ArrayList<String>> errors = edgeResolution.getResolutionErrors().get(i);
             HashMap<String, HashMap<String, ArrayList<String>>> edgeErrors = new HashMap<>();
             HashMap<String, HashMap<String, ArrayList<String>>> templateErrors = new HashMap<>();
-            ObjectMapper mapper = new ObjectMapper();
             edgeErrors.put(flowEdge.getId(), errors);
 
             if (errors.size() != 0) {
               try {
-                flowSpec.addCompilationError(flowEdge.getSrc(), flowEdge.getDest(), mapper.writeValueAsString(edgeErrors));
+                flowSpec.addCompilationError(flowEdge.getSrc(), flowEdge.getDest(), OBJECT_MAPPER.writeValueAsString(edgeErrors));
               }
               catch (JsonProcessingException e) {
                 e.printStackTrace();
@@ -255,7 +260,7 @@ public abstract class AbstractPathFinder implements PathFinder {
               templateError.put("flowTemplateErrors", datasetDescriptorErrors);
               templateErrors.put(flowEdge.getId(), templateError);
               try {
-                flowSpec.addCompilationError(flowEdge.getSrc(), flowEdge.getDest(), mapper.writeValueAsString(templateErrors), numberOfHops);
+                flowSpec.addCompilationError(flowEdge.getSrc(), flowEdge.getDest(), OBJECT_MAPPER.writeValueAsString(templateErrors), numberOfHops);
               }
               catch (JsonProcessingException e) {
                 e.printStackTrace();
@@ -276,6 +281,31 @@ public abstract class AbstractPathFinder implements PathFinder {
     return prioritizedEdgeList;
   }
 
+  /**
+   * Resolve the {@link FlowTemplate} of a {@link FlowEdge} against the flow config. The resolution depends only upon the edge and
+   * the flow config, not upon the {@link DatasetDescriptor} arriving at the edge, so it is memoized for the lifetime of this
+   * {@link PathFinder}: across every visit of the edge, every {@link SpecExecutor} tried and every destination node. As a new
+   * {@link PathFinder} is created per compilation while holding the {@link FlowGraph} read lock, no memoized resolution can
+   * outlive an update to the edge.
+   */
+  private EdgeResolution resolveEdge(FlowEdge flowEdge)
+      throws IOException, ReflectiveOperationException, SpecNotFoundException, JobTemplate.TemplateException {
+    EdgeResolution edgeResolution = this.edgeResolutionsByEdgeId.get(flowEdge.getId());
+    if (edgeResolution == null) {
+      Config mergedConfig = getMergedConfig(flowEdge);
+      List<Pair<DatasetDescriptor, DatasetDescriptor>> datasetDescriptorPairs =
+          flowEdge.getFlowTemplate().getDatasetDescriptors(mergedConfig, false);
+      List<HashMap<String, ArrayList<String>>> resolutionErrors = new ArrayList<>(datasetDescriptorPairs.size());
+      for (Pair<DatasetDescriptor, DatasetDescriptor> datasetDescriptorPair : datasetDescriptorPairs) {
+        resolutionErrors.add(flowEdge.getFlowTemplate().tryResolving(mergedConfig, datasetDescriptorPair.getLeft(),
+            datasetDescriptorPair.getRight()));
+      }
+      edgeResolution = new EdgeResolution(mergedConfig, datasetDescriptorPairs, resolutionErrors);
+      this.edgeResolutionsByEdgeId.put(flowEdge.getId(), edgeResolution);
+    }
+    return edgeResolution;
+  }
+
   /**
    * A helper method to make the output {@link DatasetDescriptor} of a {@link FlowEdge} "specific". More precisely,
    * we replace any "placeholder" configurations in the output {@link DatasetDescriptor} with specific configuration
@@ -391,4 +421,16 @@ public abstract class AbstractPathFinder implements PathFinder {
   }
 
   public abstract List<FlowEdgeContext> findPathUnicast(DataNode destNode) throws PathFinderException;
+
+  /**
+   * The {@link FlowTemplate} resolution of a {@link FlowEdge}: its merged config, its input/output {@link DatasetDescriptor} pairs
+   * and, for each pair (at the same index), the errors from trying to resolve the template.
+   */
+  @AllArgsConstructor
+  @Getter
+  private static class EdgeResolution {
+    private final Config mergedConfig;
+    private final List<Pair<DatasetDescriptor, DatasetDescriptor>> datasetDescriptorPairs;
+    private final List<HashMap<String, ArrayList<String>>> resolutionErrors;
+  }
 }
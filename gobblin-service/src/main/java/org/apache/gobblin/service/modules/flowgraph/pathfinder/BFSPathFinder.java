@@ -17,9 +17,10 @@
 
 package org.apache.gobblin.service.modules.flowgraph.pathfinder;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -76,7 +77,7 @@ public class BFSPathFinder extends AbstractPathFinder {
     //Initialization of auxiliary data structures used for path computation
     this.pathMap = new HashMap<>();
     int numberOfHops = 1;
-    LinkedList<FlowEdgeContext> childQueue = new LinkedList<>();
+    List<FlowEdgeContext> childQueue = new ArrayList<>();
 
     //Path computation must be thread-safe to guarantee read consistency. In other words, we prevent concurrent read/write access to the
     // flow graph.
@@ -92,8 +93,8 @@ public class BFSPathFinder extends AbstractPathFinder {
       return new ArrayList<>(0);
     }
 
-    LinkedList<FlowEdgeContext> edgeQueue =
-        new LinkedList<>(getNextEdges(srcNode, srcDatasetDescriptor, destDatasetDescriptor, numberOfHops));
+    Deque<FlowEdgeContext> edgeQueue =
+        new ArrayDeque<>(getNextEdges(srcNode, srcDatasetDescriptor, destDatasetDescriptor, numberOfHops));
     for (FlowEdgeContext flowEdgeContext : edgeQueue) {
       this.pathMap.put(flowEdgeContext, flowEdgeContext);
     }
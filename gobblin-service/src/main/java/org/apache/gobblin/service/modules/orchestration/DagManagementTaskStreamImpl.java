@@ -18,7 +18,12 @@
 package org.apache.gobblin.service.modules.orchestration;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 
 import org.quartz.SchedulerException;
@@ -69,6 +74,11 @@ import org.apache.gobblin.util.ConfigUtils;
  * Note that if multi-active execution is NOT enabled, then all flow action events are selected by
  * {@link DagManagementTaskStreamImpl#next()} by virtue of having no other contenders for the lease at the time
  * {@link MultiActiveLeaseArbiter#tryAcquireLease} is called.
+ *
+ * When {@link ServiceConfigKeys#DAG_PROC_ENGINE_LEASE_BATCH_SIZE_KEY} is above one, the flow actions queued by the time
+ * {@link DagManagementTaskStreamImpl#next()} is called are leased in batches with
+ * {@link MultiActiveLeaseArbiter#tryAcquireLeases}, and the {@link DagTask}s leased along with the one returned are
+ * held for the following calls.
  */
 @Slf4j
 @Singleton
@@ -80,6 +90,8 @@ public class DagManagementTaskStreamImpl implements DagManagement, DagTaskStream
   protected DagActionReminderScheduler dagActionReminderScheduler;
   private static final int MAX_HOUSEKEEPING_THREAD_DELAY = 180;
   private final BlockingQueue<DagActionStore.LeaseParams> leaseParamsQueue = new LinkedBlockingQueue<>();
+  private final Queue<DagTask> leasedDagTasks = new ConcurrentLinkedQueue<>();
+  private final int leaseBatchSize;
   private final DagManagementStateStore dagManagementStateStore;
   private final DagProcessingEngineMetrics dagProcEngineMetrics;
 
@@ -95,6 +107,8 @@ public class DagManagementTaskStreamImpl implements DagManagement, DagTaskStream
     this.eventSubmitter = new EventSubmitter.Builder(metricContext, "org.apache.gobblin.service").build();
     this.dagManagementStateStore = dagManagementStateStore;
     this.dagProcEngineMetrics = dagProcEngineMetrics;
+    this.leaseBatchSize = Math.max(1, ConfigUtils.getInt(config, ServiceConfigKeys.DAG_PROC_ENGINE_LEASE_BATCH_SIZE_KEY,
+        ServiceConfigKeys.DEFAULT_DAG_PROC_ENGINE_LEASE_BATCH_SIZE));
   }
 
   @Override
@@ -113,32 +127,106 @@ public class DagManagementTaskStreamImpl implements DagManagement, DagTaskStream
   @Override
   public DagTask next() {
       while (true) {
-        DagActionStore.DagAction dagAction = null;
-        try {
-          DagActionStore.LeaseParams leaseParams = this.leaseParamsQueue.take();
-          dagAction = leaseParams.getDagAction();
-          /* Create triggers for original (non-reminder) dag actions of type ENFORCE_JOB_START_DEADLINE and ENFORCE_FLOW_FINISH_DEADLINE.
-             Reminder triggers are used to inform hosts once the job start deadline and flow finish deadline are passed;
-             then only is lease arbitration done to enforce the deadline violation and fail the job or flow if needed */
-          if (!leaseParams.isReminder() && dagAction.dagActionType == DagActionStore.DagActionType.ENFORCE_JOB_START_DEADLINE) {
-            createJobStartDeadlineTrigger(leaseParams);
-          } else if (!leaseParams.isReminder() && dagAction.dagActionType == DagActionStore.DagActionType.ENFORCE_FLOW_FINISH_DEADLINE) {
-            createFlowFinishDeadlineTrigger(leaseParams);
-          } else { // Handle original non-deadline dagActions as well as reminder events of all types
+        DagTask leasedDagTask = this.leasedDagTasks.poll();
+        if (leasedDagTask != null) {
+          return leasedDagTask;
+        }
+        List<DagActionStore.LeaseParams> leaseParamsToAttempt = new ArrayList<>();
+        for (DagActionStore.LeaseParams leaseParams : takeLeaseParams()) {
+          DagActionStore.DagAction dagAction = leaseParams.getDagAction();
+          try {
+            /* Create triggers for original (non-reminder) dag actions of type ENFORCE_JOB_START_DEADLINE and ENFORCE_FLOW_FINISH_DEADLINE.
+               Reminder triggers are used to inform hosts once the job start deadline and flow finish deadline are passed;
+               then only is lease arbitration done to enforce the deadline violation and fail the job or flow if needed */
+            if (!leaseParams.isReminder() && dagAction.dagActionType == DagActionStore.DagActionType.ENFORCE_JOB_START_DEADLINE) {
+              createJobStartDeadlineTrigger(leaseParams);
+            } else if (!leaseParams.isReminder() && dagAction.dagActionType == DagActionStore.DagActionType.ENFORCE_FLOW_FINISH_DEADLINE) {
+              createFlowFinishDeadlineTrigger(leaseParams);
+            } else { // Handle original non-deadline dagActions as well as reminder events of all types
+              leaseParamsToAttempt.add(leaseParams);
+            }
+          } catch (Exception e) {
+            //TODO: add metrics
+            log.error("Exception getting DagAction from the queue or creating DagTask. dagAction - {}", dagAction, e);
+          }
+        }
+        if (leaseParamsToAttempt.size() == 1) {
+          DagActionStore.LeaseParams leaseParams = leaseParamsToAttempt.get(0);
+          try {
             LeaseAttemptStatus leaseAttemptStatus = retrieveLeaseStatus(leaseParams);
             if (leaseAttemptStatus instanceof LeaseAttemptStatus.LeaseObtainedStatus) {
-              this.dagProcEngineMetrics.markDagActionsLeasedObtained(leaseParams);
-              if (leaseParams.isReminder()) {
-                this.dagProcEngineMetrics.markDagActionsRemindersProcessed(leaseParams);
-              }
-              return createDagTask(dagAction, (LeaseAttemptStatus.LeaseObtainedStatus) leaseAttemptStatus);
+              return createLeasedDagTask(leaseParams, (LeaseAttemptStatus.LeaseObtainedStatus) leaseAttemptStatus);
             }
+          } catch (Exception e) {
+            //TODO: add metrics
+            log.error("Exception getting DagAction from the queue or creating DagTask. dagAction - {}",
+                leaseParams.getDagAction(), e);
           }
-        } catch (Exception e) {
-          //TODO: add metrics
-          log.error("Exception getting DagAction from the queue or creating DagTask. dagAction - {}", dagAction == null ? "<null>" : dagAction, e);
+        } else if (leaseParamsToAttempt.size() > 1) {
+          retrieveLeaseStatuses(leaseParamsToAttempt);
+        }
+      }
+  }
+
+  /**
+   * Blocks until at least one {@link DagActionStore.LeaseParams} is queued, then takes it along with up to
+   * `leaseBatchSize` - 1 others already queued.
+   */
+  private List<DagActionStore.LeaseParams> takeLeaseParams() {
+    List<DagActionStore.LeaseParams> leaseParamsBatch = new ArrayList<>();
+    try {
+      leaseParamsBatch.add(this.leaseParamsQueue.take());
+    } catch (InterruptedException e) {
+      log.error("Interrupted while getting DagAction from the queue", e);
+      return Collections.emptyList();
+    }
+    if (this.leaseBatchSize > 1) {
+      this.leaseParamsQueue.drainTo(leaseParamsBatch, this.leaseBatchSize - 1);
+    }
+    return leaseParamsBatch;
+  }
+
+  /**
+   * Attempts the leases of all `leaseParamsBatch` at once, adding a {@link DagTask} to `leasedDagTasks` for each lease
+   * obtained. Falls back to attempting the leases one at a time if the bulk attempt fails.
+   */
+  private void retrieveLeaseStatuses(List<DagActionStore.LeaseParams> leaseParamsBatch) {
+    List<LeaseAttemptStatus> leaseAttemptStatuses = null;
+    try {
+      leaseAttemptStatuses = this.dagActionProcessingLeaseArbiter.tryAcquireLeases(leaseParamsBatch, false);
+    } catch (Exception e) {
+      log.warn("Failed to attempt the leases of {} dag actions at once, attempting them one at a time",
+          leaseParamsBatch.size(), e);
+    }
+    for (int i = 0; i < leaseParamsBatch.size(); i++) {
+      DagActionStore.LeaseParams leaseParams = leaseParamsBatch.get(i);
+      try {
+        LeaseAttemptStatus leaseAttemptStatus;
+        if (leaseAttemptStatuses == null) {
+          leaseAttemptStatus = retrieveLeaseStatus(leaseParams);
+        } else {
+          leaseAttemptStatus = leaseAttemptStatuses.get(i);
+          handleLeaseAttemptStatus(leaseParams, leaseAttemptStatus);
+        }
+        if (leaseAttemptStatus instanceof LeaseAttemptStatus.LeaseObtainedStatus) {
+          this.leasedDagTasks.add(
+              createLeasedDagTask(leaseParams, (LeaseAttemptStatus.LeaseObtainedStatus) leaseAttemptStatus));
         }
+      } catch (Exception e) {
+        //TODO: add metrics
+        log.error("Exception getting DagAction from the queue or creating DagTask. dagAction - {}",
+            leaseParams.getDagAction(), e);
       }
+    }
+  }
+
+  private DagTask createLeasedDagTask(DagActionStore.LeaseParams leaseParams,
+      LeaseAttemptStatus.LeaseObtainedStatus leaseObtainedStatus) {
+    this.dagProcEngineMetrics.markDagActionsLeasedObtained(leaseParams);
+    if (leaseParams.isReminder()) {
+      this.dagProcEngineMetrics.markDagActionsRemindersProcessed(leaseParams);
+    }
+    return createDagTask(leaseParams.getDagAction(), leaseObtainedStatus);
   }
 
   private void createJobStartDeadlineTrigger(DagActionStore.LeaseParams leaseParams)
@@ -199,6 +287,12 @@ public class DagManagementTaskStreamImpl implements DagManagement, DagTaskStream
     // Uses reminder flag to determine whether to use current time as event time or previously saved event time
     LeaseAttemptStatus leaseAttemptStatus = this.dagActionProcessingLeaseArbiter
         .tryAcquireLease(leaseParams, false);
+    handleLeaseAttemptStatus(leaseParams, leaseAttemptStatus);
+    return leaseAttemptStatus;
+  }
+
+  private void handleLeaseAttemptStatus(DagActionStore.LeaseParams leaseParams, LeaseAttemptStatus leaseAttemptStatus)
+      throws SchedulerException {
         /* Schedule a reminder for the event unless the lease has been completed to safeguard against the case where
         even we, when we might become the lease owner still fail to complete processing
         */
@@ -208,7 +302,6 @@ public class DagManagementTaskStreamImpl implements DagManagement, DagTaskStream
     } else {
       this.dagProcEngineMetrics.markDagActionsNoLongerLeasing(leaseParams);
     }
-    return leaseAttemptStatus;
   }
 
   private DagTask createDagTask(DagActionStore.DagAction dagAction, LeaseAttemptStatus.LeaseObtainedStatus leaseObtainedStatus) {
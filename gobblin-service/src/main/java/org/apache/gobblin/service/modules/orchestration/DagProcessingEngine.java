@@ -52,6 +52,9 @@ import org.apache.gobblin.util.ExecutorsUtils;
  * right to perform the work of the task.
  * The {@link DagProcFactory} transforms each {@link DagTask} into a specific, concrete {@link DagProc}, which
  * encapsulates all processing inside {@link DagProc#process(DagManagementStateStore, DagProcessingEngineMetrics)}
+ * When {@link ServiceConfigKeys#DAG_PROC_ENGINE_NUM_SHARDS_KEY} is set, the threads polling the {@link DagTaskStream}
+ * hand each {@link DagTask} over to a {@link ShardedDagTaskProcessor} instead of processing it themselves, so that
+ * dag actions of different flows are processed in parallel while those of a flow are processed in order.
  */
 
 @AllArgsConstructor
@@ -65,6 +68,7 @@ public class DagProcessingEngine extends AbstractIdleService {
   private final Config config;
   private final DagProcFactory dagProcFactory;
   private ScheduledExecutorService scheduledExecutorPool;
+  private ShardedDagTaskProcessor shardedDagTaskProcessor;
   private final DagProcessingEngineMetrics dagProcEngineMetrics;
   private static final Integer TERMINATION_TIMEOUT = 30;
   public static final String DEFAULT_JOB_START_DEADLINE_TIME_MS = "defaultJobStartDeadlineTimeMillis";
@@ -102,10 +106,19 @@ public class DagProcessingEngine extends AbstractIdleService {
         Executors.newScheduledThreadPool(numThreads,
             ExecutorsUtils.newThreadFactory(com.google.common.base.Optional.of(log),
                 com.google.common.base.Optional.of("DagProcessingEngineThread")));
+    int numShards = ConfigUtils.getInt(
+        config, ServiceConfigKeys.DAG_PROC_ENGINE_NUM_SHARDS_KEY, ServiceConfigKeys.DEFAULT_DAG_PROC_ENGINE_NUM_SHARDS);
+    if (numShards > 0) {
+      int shardQueueCapacity = ConfigUtils.getInt(config, ServiceConfigKeys.DAG_PROC_ENGINE_SHARD_QUEUE_CAPACITY_KEY,
+          ServiceConfigKeys.DEFAULT_DAG_PROC_ENGINE_SHARD_QUEUE_CAPACITY);
+      log.info("Processing dag tasks on {} shards of capacity {}", numShards, shardQueueCapacity);
+      this.shardedDagTaskProcessor = new ShardedDagTaskProcessor(numShards, shardQueueCapacity, dagProcFactory,
+          dagManagementStateStore, dagProcEngineMetrics);
+    }
     for (int i=0; i < numThreads; i++) {
       // todo - set metrics for count of active DagProcEngineThread
       DagProcEngineThread dagProcEngineThread = new DagProcEngineThread(dagTaskStream, dagProcFactory,
-          dagManagementStateStore, dagProcEngineMetrics, i);
+          dagManagementStateStore, dagProcEngineMetrics, i, this.shardedDagTaskProcessor);
       this.scheduledExecutorPool.submit(dagProcEngineThread);
     }
   }
@@ -116,6 +129,34 @@ public class DagProcessingEngine extends AbstractIdleService {
     log.info("DagProcessingEngine shutting down.");
     this.scheduledExecutorPool.shutdown();
     this.scheduledExecutorPool.awaitTermination(TERMINATION_TIMEOUT, TimeUnit.SECONDS);
+    if (this.shardedDagTaskProcessor != null) {
+      // threads still waiting for room in a shard queue are only released by interruption
+      this.scheduledExecutorPool.shutdownNow();
+      this.shardedDagTaskProcessor.close();
+    }
+  }
+
+  /**
+   * Process the {@link DagProc} of the given {@link DagTask} and conclude the task, unless processing failed with a
+   * transient exception.
+   */
+  static void processDagTask(DagTask dagTask, DagProcFactory dagProcFactory,
+      DagManagementStateStore dagManagementStateStore, DagProcessingEngineMetrics dagProcEngineMetrics) {
+    DagProc<?> dagProc = dagTask.host(dagProcFactory);
+    try {
+      dagProc.process(dagManagementStateStore, dagProcEngineMetrics);
+      dagTask.conclude();
+      log.info(dagProc.contextualizeStatus("concluded dagTask"));
+    } catch (Exception e) {
+      log.error("DagProcEngineThread: " + dagProc.contextualizeStatus("error"), e);
+      dagManagementStateStore.getDagManagerMetrics().dagProcessingExceptionMeter.mark();
+      if (!DagProcessingEngine.isTransientException(e)) {
+        log.warn(dagProc.contextualizeStatus("ignoring non-transient exception by concluding so no retries"));
+        dagManagementStateStore.getDagManagerMetrics().dagProcessingNonRetryableExceptionMeter.mark();
+        dagTask.conclude();
+      }
+      // TODO add the else block for transient exceptions and add conclude task only if retry limit is not breached
+    }
   }
 
   /**
@@ -140,6 +181,13 @@ public class DagProcessingEngine extends AbstractIdleService {
     private final DagManagementStateStore dagManagementStateStore;
     private final DagProcessingEngineMetrics dagProcEngineMetrics;
     private final int threadID;
+    // when present, dag tasks are handed over to the shard of their flow rather than processed on this thread
+    private final ShardedDagTaskProcessor shardedDagTaskProcessor;
+
+    DagProcEngineThread(DagTaskStream dagTaskStream, DagProcFactory dagProcFactory,
+        DagManagementStateStore dagManagementStateStore, DagProcessingEngineMetrics dagProcEngineMetrics, int threadID) {
+      this(dagTaskStream, dagProcFactory, dagManagementStateStore, dagProcEngineMetrics, threadID, null);
+    }
 
     @Override
     public void run() {
@@ -152,20 +200,17 @@ public class DagProcessingEngine extends AbstractIdleService {
           log.warn("Ignoring null dag task!");
           continue;
         }
-        DagProc<?> dagProc = dagTask.host(dagProcFactory);
-        try {
-          dagProc.process(dagManagementStateStore, dagProcEngineMetrics);
-          dagTask.conclude();
-          log.info(dagProc.contextualizeStatus("concluded dagTask"));
-        } catch (Exception e) {
-          log.error("DagProcEngineThread: " + dagProc.contextualizeStatus("error"), e);
-          dagManagementStateStore.getDagManagerMetrics().dagProcessingExceptionMeter.mark();
-          if (!DagProcessingEngine.isTransientException(e)) {
-            log.warn(dagProc.contextualizeStatus("ignoring non-transient exception by concluding so no retries"));
-            dagManagementStateStore.getDagManagerMetrics().dagProcessingNonRetryableExceptionMeter.mark();
-            dagTask.conclude();
+        if (shardedDagTaskProcessor != null) {
+          try {
+            shardedDagTaskProcessor.submit(dagTask);
+          } catch (InterruptedException e) {
+            // the leased task is left to the reminder of its lease, as when the engine stops with tasks still queued
+            log.info("DagProcEngineThread {} interrupted while handing over {}", threadID, dagTask.getDagAction());
+            Thread.currentThread().interrupt();
+            return;
           }
-          // TODO add the else block for transient exceptions and add conclude task only if retry limit is not breached
+        } else {
+          processDagTask(dagTask, dagProcFactory, dagManagementStateStore, dagProcEngineMetrics);
         }
       }
     }
@@ -18,6 +18,8 @@
 package org.apache.gobblin.service.modules.orchestration;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import com.typesafe.config.Config;
 
@@ -26,7 +28,9 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.apache.gobblin.instrumented.Instrumented;
 import org.apache.gobblin.metrics.ContextAwareCounter;
+import org.apache.gobblin.metrics.ContextAwareHistogram;
 import org.apache.gobblin.metrics.ContextAwareMeter;
+import org.apache.gobblin.metrics.ContextAwareTimer;
 import org.apache.gobblin.metrics.MetricContext;
 import org.apache.gobblin.metrics.ServiceMetricNames;
 import org.apache.gobblin.util.ConfigUtils;
@@ -49,6 +53,10 @@ public class InstrumentedLeaseArbiter implements MultiActiveLeaseArbiter {
   private ContextAwareMeter leasesObtainedDueToReminderCount;
   private ContextAwareMeter recordedLeaseSuccessCount;
   private ContextAwareMeter failedToRecordLeaseSuccessCount;
+  // Latency of lease attempts, including all of their round trips to the store
+  private ContextAwareTimer leaseAttemptTimer;
+  private ContextAwareTimer bulkLeaseAttemptTimer;
+  private ContextAwareHistogram bulkLeaseAttemptBatchSize;
 
   public InstrumentedLeaseArbiter(Config config, MultiActiveLeaseArbiter leaseDeterminationStore,
       String metricsPrefix) {
@@ -69,11 +77,35 @@ public class InstrumentedLeaseArbiter implements MultiActiveLeaseArbiter {
     this.leasesObtainedDueToReminderCount = this.metricContext.contextAwareMeter(metricsPrefix + ServiceMetricNames.FLOW_TRIGGER_HANDLER_LEASES_OBTAINED_DUE_TO_REMINDER_COUNT);
     this.recordedLeaseSuccessCount = metricContext.contextAwareMeter(ServiceMetricNames.FLOW_TRIGGER_HANDLER_RECORDED_LEASE_SUCCESS_COUNT);
     this.failedToRecordLeaseSuccessCount = metricContext.contextAwareMeter(ServiceMetricNames.FLOW_TRIGGER_HANDLER_FAILED_TO_RECORD_LEASE_SUCCESS_COUNT);
+    this.leaseAttemptTimer = this.metricContext.contextAwareTimer(metricsPrefix + ServiceMetricNames.FLOW_TRIGGER_HANDLER_LEASE_ATTEMPT_TIMER);
+    this.bulkLeaseAttemptTimer = this.metricContext.contextAwareTimer(metricsPrefix + ServiceMetricNames.FLOW_TRIGGER_HANDLER_BULK_LEASE_ATTEMPT_TIMER);
+    this.bulkLeaseAttemptBatchSize = this.metricContext.contextAwareHistogram(metricsPrefix + ServiceMetricNames.FLOW_TRIGGER_HANDLER_BULK_LEASE_ATTEMPT_BATCH_SIZE);
   }
 
   @Override
   public LeaseAttemptStatus tryAcquireLease(DagActionStore.LeaseParams leaseParams, boolean skipFlowExecutionIdReplacement) throws IOException {
+    long startTimeNanos = System.nanoTime();
     LeaseAttemptStatus leaseAttemptStatus = decoratedMultiActiveLeaseArbiter.tryAcquireLease(leaseParams, skipFlowExecutionIdReplacement);
+    this.leaseAttemptTimer.update(System.nanoTime() - startTimeNanos, TimeUnit.NANOSECONDS);
+    return recordLeaseAttemptStatus(leaseParams, leaseAttemptStatus);
+  }
+
+  @Override
+  public List<LeaseAttemptStatus> tryAcquireLeases(List<DagActionStore.LeaseParams> leaseParamsList,
+      boolean adoptConsensusFlowExecutionId) throws IOException {
+    long startTimeNanos = System.nanoTime();
+    List<LeaseAttemptStatus> leaseAttemptStatuses =
+        decoratedMultiActiveLeaseArbiter.tryAcquireLeases(leaseParamsList, adoptConsensusFlowExecutionId);
+    this.bulkLeaseAttemptTimer.update(System.nanoTime() - startTimeNanos, TimeUnit.NANOSECONDS);
+    this.bulkLeaseAttemptBatchSize.update(leaseParamsList.size());
+    for (int i = 0; i < leaseParamsList.size(); i++) {
+      recordLeaseAttemptStatus(leaseParamsList.get(i), leaseAttemptStatuses.get(i));
+    }
+    return leaseAttemptStatuses;
+  }
+
+  private LeaseAttemptStatus recordLeaseAttemptStatus(DagActionStore.LeaseParams leaseParams,
+      LeaseAttemptStatus leaseAttemptStatus) {
     if (leaseAttemptStatus instanceof LeaseAttemptStatus.LeaseObtainedStatus) {
       if (leaseParams.isReminder()) {
         this.leasesObtainedDueToReminderCount.mark();
@@ -18,6 +18,8 @@
 package org.apache.gobblin.service.modules.orchestration;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 
 /**
@@ -61,6 +63,21 @@ public interface MultiActiveLeaseArbiter {
   LeaseAttemptStatus tryAcquireLease(DagActionStore.LeaseParams leaseParams, boolean adoptConsensusFlowExecutionId)
       throws IOException;
 
+  /**
+   * Bulk version of {@link #tryAcquireLease}, for implementations able to attempt many leases more efficiently than one
+   * at a time. By default, the leases are attempted one after the other.
+   * @return the {@link LeaseAttemptStatus} of each of the `leaseParamsList`, in the same order
+   * @throws IOException
+   */
+  default List<LeaseAttemptStatus> tryAcquireLeases(List<DagActionStore.LeaseParams> leaseParamsList,
+      boolean adoptConsensusFlowExecutionId) throws IOException {
+    List<LeaseAttemptStatus> leaseAttemptStatuses = new ArrayList<>(leaseParamsList.size());
+    for (DagActionStore.LeaseParams leaseParams : leaseParamsList) {
+      leaseAttemptStatuses.add(tryAcquireLease(leaseParams, adoptConsensusFlowExecutionId));
+    }
+    return leaseAttemptStatuses;
+  }
+
   /**
    * This method checks if entry for same flow name and flow group exists within the lease consolidation period
    * returns true if entry for the same flow exists within Lease Consolidation Period (aka. epsilon)
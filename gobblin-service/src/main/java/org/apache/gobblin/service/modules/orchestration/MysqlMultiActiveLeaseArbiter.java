@@ -25,11 +25,21 @@ import java.sql.SQLException;
 import java.sql.SQLIntegrityConstraintViolationException;
 import java.sql.SQLTransientException;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
 import com.typesafe.config.Config;
 
 import javax.sql.DataSource;
@@ -79,6 +89,13 @@ import org.apache.gobblin.util.ExponentialBackoff;
  * `linger` period of time after which it expires and any host can re-attempt ownership. In most cases, the original
  * host should actually complete its work while having the lease and then mark the dag action as NULL to indicate no
  * further leasing should be done for the event.
+ *
+ * --- Bulk lease acquisition ---
+ * {@link #tryAcquireLeases} reads the lease state of a whole batch of dag actions with a single query, performs the
+ * resulting lease attempts grouped by statement, each group in one transaction, and reads back the outcome with a
+ * single query, rather than making these round trips for every dag action. The events this host completed the lease
+ * for are also remembered for a while, so that the reminders of those events need no query to find they are no longer
+ * leasing.
  */
 @Slf4j
 public class MysqlMultiActiveLeaseArbiter implements MultiActiveLeaseArbiter {
@@ -96,6 +113,8 @@ public class MysqlMultiActiveLeaseArbiter implements MultiActiveLeaseArbiter {
   private final String thisTableSelectAfterInsertStatement;
   private final String thisTableAcquireLeaseIfMatchingAllStatement;
   private final String thisTableAcquireLeaseIfFinishedStatement;
+  // Event time of the latest event this host completed the lease for, by lease key (see `getLeaseKey`)
+  private final Cache<List<String>, Long> completedLeaseEventTimeMillisByKey;
 
   /*
     Notes:
@@ -138,15 +157,26 @@ public class MysqlMultiActiveLeaseArbiter implements MultiActiveLeaseArbiter {
   // event_timestamp, lease_acquisition_timestamp, isWithinEpsilon (boolean if new event timestamp (current timestamp in
   // db) is within epsilon of event_timestamp in the table), leaseValidityStatus (1 if lease has not expired, 2 if
   // expired, 3 if column is NULL or no longer leasing)
-  protected static final String GET_EVENT_INFO_STATEMENT = "SELECT "
-      + "CONVERT_TZ(`event_timestamp`, @@session.time_zone, '+00:00') as utc_event_timestamp, "
+  private static final String EVENT_INFO_COLUMNS =
+      "CONVERT_TZ(`event_timestamp`, @@session.time_zone, '+00:00') as utc_event_timestamp, "
       + "CONVERT_TZ(`lease_acquisition_timestamp`, @@session.time_zone, '+00:00') as utc_lease_acquisition_timestamp, "
       + "ABS(TIMESTAMPDIFF(microsecond, event_timestamp, CURRENT_TIMESTAMP(3))) / 1000 <= epsilon as is_within_epsilon, CASE "
       + "WHEN CURRENT_TIMESTAMP(3) < DATE_ADD(lease_acquisition_timestamp, INTERVAL linger*1000 MICROSECOND) then 1 "
       + "WHEN CURRENT_TIMESTAMP(3) >= DATE_ADD(lease_acquisition_timestamp, INTERVAL linger*1000 MICROSECOND) then 2 "
       + "ELSE 3 END as lease_validity_status, linger, "
-      + "CONVERT_TZ(CURRENT_TIMESTAMP(3), @@session.time_zone, '+00:00') as utc_current_timestamp FROM %s, %s "
+      + "CONVERT_TZ(CURRENT_TIMESTAMP(3), @@session.time_zone, '+00:00') as utc_current_timestamp ";
+  protected static final String GET_EVENT_INFO_STATEMENT = "SELECT " + EVENT_INFO_COLUMNS + "FROM %s, %s "
       + WHERE_CLAUSE_TO_MATCH_KEY;
+  // Bulk variants of the statements above, matching any of the keys listed in place of the last `%s`
+  private static final String KEY_COLUMNS = "flow_group, flow_name, job_name, dag_action";
+  private static final String WHERE_CLAUSE_TO_MATCH_ANY_KEY = "WHERE (" + KEY_COLUMNS + ") IN (%s)";
+  private static final String KEY_PLACEHOLDERS = "(?, ?, ?, ?)";
+  protected static final String GET_EVENT_INFOS_STATEMENT = "SELECT " + KEY_COLUMNS + ", " + EVENT_INFO_COLUMNS
+      + "FROM %s, %s " + WHERE_CLAUSE_TO_MATCH_ANY_KEY;
+  protected static final String SELECT_AFTER_INSERTS_STATEMENT = "SELECT " + KEY_COLUMNS + ", "
+      + "CONVERT_TZ(`event_timestamp`, @@session.time_zone, '+00:00') as utc_event_timestamp, "
+      + "CONVERT_TZ(`lease_acquisition_timestamp`, @@session.time_zone, '+00:00') as utc_lease_acquisition_timestamp, "
+      + "linger FROM %s, %s " + WHERE_CLAUSE_TO_MATCH_ANY_KEY;
   // Same as query above, except that isWithinEpsilon is True if the reminder event timestamp (provided by caller) is
   // OLDER than or equal to the db event_timestamp and within epsilon away from it.
   protected static final String GET_EVENT_INFO_STATEMENT_FOR_REMINDER = "SELECT "
@@ -176,6 +206,9 @@ public class MysqlMultiActiveLeaseArbiter implements MultiActiveLeaseArbiter {
   protected static final int MAX_RETRIES = 3;
   protected static final long MIN_INITIAL_DELAY_MILLIS = 20L;
   protected static final long DELAY_FOR_RETRY_RANGE_MILLIS = 200L;
+  // Bounds the number of dag actions matched by a single bulk query
+  protected static final int MAX_BULK_LEASE_ATTEMPTS_PER_QUERY = 500;
+  private static final int MAX_COMPLETED_LEASES_CACHED = 10000;
   private static final ThreadLocal<Calendar> UTC_CAL =
       ThreadLocal.withInitial(() -> Calendar.getInstance(TimeZone.getTimeZone("UTC")));
 
@@ -213,6 +246,11 @@ public class MysqlMultiActiveLeaseArbiter implements MultiActiveLeaseArbiter {
         String.format(CONDITIONALLY_ACQUIRE_LEASE_IF_MATCHING_ALL_COLS_STATEMENT, this.leaseArbiterTableName);
     this.thisTableAcquireLeaseIfFinishedStatement =
         String.format(CONDITIONALLY_ACQUIRE_LEASE_IF_FINISHED_LEASING_STATEMENT, this.leaseArbiterTableName);
+    // A completed lease stays decisive for the reminders of its event until retention deletes the row
+    this.completedLeaseEventTimeMillisByKey = CacheBuilder.newBuilder()
+        .maximumSize(MAX_COMPLETED_LEASES_CACHED)
+        .expireAfterWrite(Math.max(this.retentionPeriodMillis, 1), TimeUnit.MILLISECONDS)
+        .build();
     this.dataSource = MysqlDataSourceFactory.get(config, SharedResourcesBrokerFactory.getImplicitBroker());
     this.dbStatementExecutor = new DBStatementExecutor(this.dataSource, log);
     String createArbiterStatement = String.format(
@@ -259,6 +297,11 @@ public class MysqlMultiActiveLeaseArbiter implements MultiActiveLeaseArbiter {
 
   /** helper method to bound multiple `return`s, so easier for the caller to uniformly log every kind of result */
   private LeaseAttemptStatus doTryAcquireLease(DagActionStore.LeaseParams leaseParams, boolean adoptConsensusFlowExecutionId) throws IOException {
+    if (isReminderForCompletedLease(leaseParams)) {
+      log.debug("tryAcquireLease for {} - this host completed the lease for the reminded event or a newer one",
+          contextualizeLeasing(leaseParams));
+      return new LeaseAttemptStatus.NoLongerLeasingStatus();
+    }
     // Query lease arbiter table about this dag action
     Optional<GetEventInfoResult> getResult = getExistingEventInfo(leaseParams);
 
@@ -278,8 +321,6 @@ public class MysqlMultiActiveLeaseArbiter implements MultiActiveLeaseArbiter {
       Timestamp dbLeaseAcquisitionTimestamp = getResult.get().getDbLeaseAcquisitionTimestamp();
       boolean isWithinEpsilon = getResult.get().isWithinEpsilon();
       int leaseValidityStatus = getResult.get().getLeaseValidityStatus();
-      // Used to calculate minimum amount of time until a participant should check whether a lease expired
-      int dbLinger = getResult.get().getDbLinger();
       Timestamp dbCurrentTimestamp = getResult.get().getDbCurrentTimestamp();
 
       // stop early with reminder events when the reminder's eventTimeMillis is older than that of the current DB event; DB laundering should
@@ -310,35 +351,10 @@ public class MysqlMultiActiveLeaseArbiter implements MultiActiveLeaseArbiter {
 
       // Lease is valid
       if (leaseValidityStatus == 1) {
-        if (isWithinEpsilon) {
-         DagActionStore.DagAction updatedDagAction =
-              adoptConsensusFlowExecutionId ? leaseParams.updateDagActionFlowExecutionId(dbEventTimestamp.getTime()) : leaseParams.getDagAction();
-         // Preserve storeInsertTimeMillis through consensus so downstream consumers can measure end-to-end latency.
-         DagActionStore.LeaseParams updatedLeaseParams = new DagActionStore.LeaseParams(updatedDagAction,
-             false, dbEventTimestamp.getTime(), leaseParams.getStoreInsertTimeMillis());
-          log.debug("tryAcquireLease for {} - CASE 2: Same event, lease is valid", contextualizeLeasing(updatedLeaseParams));
-          // Utilize db timestamp for reminder
-          return new LeaseAttemptStatus.LeasedToAnotherStatus(updatedLeaseParams,
-              dbLeaseAcquisitionTimestamp.getTime() + dbLinger - dbCurrentTimestamp.getTime());
-        }
-        DagActionStore.DagAction updatedDagAction =
-            adoptConsensusFlowExecutionId ? leaseParams.getDagAction().updateFlowExecutionId(dbCurrentTimestamp.getTime()) : leaseParams.getDagAction();
-        // Preserve storeInsertTimeMillis through consensus so downstream consumers can measure end-to-end latency.
-        DagActionStore.LeaseParams updatedLeaseParams = new DagActionStore.LeaseParams(updatedDagAction,
-            false, dbCurrentTimestamp.getTime(), leaseParams.getStoreInsertTimeMillis());
-        log.debug("tryAcquireLease for {} - CASE 3: Distinct event, lease is valid", contextualizeLeasing(updatedLeaseParams));
-        // Utilize db lease acquisition timestamp for wait time and currentTimestamp as the new eventTimestamp
-        return new LeaseAttemptStatus.LeasedToAnotherStatus(updatedLeaseParams,
-            dbLeaseAcquisitionTimestamp.getTime() + dbLinger  - dbCurrentTimestamp.getTime());
+        return evaluateStatusOfValidLease(leaseParams, getResult.get(), adoptConsensusFlowExecutionId);
       } // Lease is invalid
       else if (leaseValidityStatus == 2) {
-        log.debug("tryAcquireLease for {} (DB current time: {}) - CASE 4: Lease out-of-date (regardless of "
-            + "whether same or distinct event)", contextualizeLeasing(leaseParams), dbCurrentTimestamp.getTime());
-        if (isWithinEpsilon && !leaseParams.isReminder) {
-          log.warn("Lease should not be out-of-date for the same trigger event, if epsilon << linger for {} "
-                  + "(DB eventTimestamp: {}; DB leaseAcquisitionTimestamp: {}; DB linger: {})",
-              contextualizeLeasing(leaseParams), dbEventTimestamp, dbLeaseAcquisitionTimestamp, dbLinger);
-        }
+        logOutOfDateLease(leaseParams, getResult.get());
         // Use our event to acquire lease, check for previous DB eventTimestamp and leaseAcquisitionTimestamp
         int numRowsUpdated = attemptLeaseIfExistingRow(thisTableAcquireLeaseIfMatchingAllStatement,
             leaseParams.getDagAction(), true,true, dbEventTimestamp,
@@ -364,6 +380,302 @@ public class MysqlMultiActiveLeaseArbiter implements MultiActiveLeaseArbiter {
     }
   }
 
+  /**
+   * CASES 2 & 3 of {@link #doTryAcquireLease}: the lease is valid, so held by another participant.
+   */
+  private LeaseAttemptStatus evaluateStatusOfValidLease(DagActionStore.LeaseParams leaseParams,
+      GetEventInfoResult getResult, boolean adoptConsensusFlowExecutionId) {
+    Timestamp dbEventTimestamp = getResult.getDbEventTimestamp();
+    Timestamp dbCurrentTimestamp = getResult.getDbCurrentTimestamp();
+    long minimumLingerDurationMillis = getResult.getDbLeaseAcquisitionTimestamp().getTime() + getResult.getDbLinger()
+        - dbCurrentTimestamp.getTime();
+    if (getResult.isWithinEpsilon()) {
+      DagActionStore.DagAction updatedDagAction =
+          adoptConsensusFlowExecutionId ? leaseParams.updateDagActionFlowExecutionId(dbEventTimestamp.getTime()) : leaseParams.getDagAction();
+      // Preserve storeInsertTimeMillis through consensus so downstream consumers can measure end-to-end latency.
+      DagActionStore.LeaseParams updatedLeaseParams = new DagActionStore.LeaseParams(updatedDagAction,
+          false, dbEventTimestamp.getTime(), leaseParams.getStoreInsertTimeMillis());
+      log.debug("tryAcquireLease for {} - CASE 2: Same event, lease is valid", contextualizeLeasing(updatedLeaseParams));
+      // Utilize db timestamp for reminder
+      return new LeaseAttemptStatus.LeasedToAnotherStatus(updatedLeaseParams, minimumLingerDurationMillis);
+    }
+    DagActionStore.DagAction updatedDagAction =
+        adoptConsensusFlowExecutionId ? leaseParams.getDagAction().updateFlowExecutionId(dbCurrentTimestamp.getTime()) : leaseParams.getDagAction();
+    // Preserve storeInsertTimeMillis through consensus so downstream consumers can measure end-to-end latency.
+    DagActionStore.LeaseParams updatedLeaseParams = new DagActionStore.LeaseParams(updatedDagAction,
+        false, dbCurrentTimestamp.getTime(), leaseParams.getStoreInsertTimeMillis());
+    log.debug("tryAcquireLease for {} - CASE 3: Distinct event, lease is valid", contextualizeLeasing(updatedLeaseParams));
+    // Utilize db lease acquisition timestamp for wait time and currentTimestamp as the new eventTimestamp
+    return new LeaseAttemptStatus.LeasedToAnotherStatus(updatedLeaseParams, minimumLingerDurationMillis);
+  }
+
+  /** CASE 4 of {@link #doTryAcquireLease}: the lease expired, so may be acquired */
+  private void logOutOfDateLease(DagActionStore.LeaseParams leaseParams, GetEventInfoResult getResult) {
+    log.debug("tryAcquireLease for {} (DB current time: {}) - CASE 4: Lease out-of-date (regardless of "
+        + "whether same or distinct event)", contextualizeLeasing(leaseParams), getResult.getDbCurrentTimestamp().getTime());
+    if (getResult.isWithinEpsilon() && !leaseParams.isReminder) {
+      log.warn("Lease should not be out-of-date for the same trigger event, if epsilon << linger for {} "
+              + "(DB eventTimestamp: {}; DB leaseAcquisitionTimestamp: {}; DB linger: {})",
+          contextualizeLeasing(leaseParams), getResult.getDbEventTimestamp(), getResult.getDbLeaseAcquisitionTimestamp(),
+          getResult.getDbLinger());
+    }
+  }
+
+  /**
+   * Bulk version of {@link #tryAcquireLease}, attempting the leases of all the dag actions with a few queries per
+   * batch of up to {@link #MAX_BULK_LEASE_ATTEMPTS_PER_QUERY} dag actions. Reminders, whose lease state depends on their
+   * own event time, are attempted one at a time as by {@link #tryAcquireLease}, and so are the few dag actions whose
+   * lease attempt could not be evaluated in bulk.
+   */
+  @Override
+  public List<LeaseAttemptStatus> tryAcquireLeases(List<DagActionStore.LeaseParams> leaseParamsList,
+      boolean adoptConsensusFlowExecutionId) throws IOException {
+    List<LeaseAttemptStatus> leaseAttemptStatuses = new ArrayList<>(leaseParamsList.size());
+    for (List<DagActionStore.LeaseParams> batch : Lists.partition(leaseParamsList, MAX_BULK_LEASE_ATTEMPTS_PER_QUERY)) {
+      leaseAttemptStatuses.addAll(tryAcquireLeaseBatch(batch, adoptConsensusFlowExecutionId));
+    }
+    return leaseAttemptStatuses;
+  }
+
+  private List<LeaseAttemptStatus> tryAcquireLeaseBatch(List<DagActionStore.LeaseParams> batch,
+      boolean adoptConsensusFlowExecutionId) throws IOException {
+    log.info("Multi-active arbitration for a batch of {} dag actions [{}]", batch.size(), this.leaseArbiterTableName);
+    LeaseAttemptStatus[] leaseAttemptStatuses = new LeaseAttemptStatus[batch.size()];
+    List<DagActionStore.DagAction> dagActionsToQuery = new ArrayList<>();
+    for (int i = 0; i < batch.size(); i++) {
+      if (batch.get(i).isReminder()) {
+        leaseAttemptStatuses[i] = tryAcquireLease(batch.get(i), adoptConsensusFlowExecutionId);
+      } else {
+        dagActionsToQuery.add(batch.get(i).getDagAction());
+      }
+    }
+    Map<List<String>, GetEventInfoResult> eventInfoByKey = getExistingEventInfos(dagActionsToQuery);
+
+    // Evaluate the status of every lease that is not to be attempted, and sort the others by acquisition statement
+    List<Integer> newRowIndexes = new ArrayList<>();
+    List<Integer> outOfDateLeaseIndexes = new ArrayList<>();
+    List<Integer> finishedLeaseIndexes = new ArrayList<>();
+    for (int i = 0; i < batch.size(); i++) {
+      DagActionStore.LeaseParams leaseParams = batch.get(i);
+      if (leaseParams.isReminder()) {
+        continue;
+      }
+      GetEventInfoResult getResult = eventInfoByKey.get(getLeaseKey(leaseParams.getDagAction()));
+      if (getResult == null) {
+        log.debug("tryAcquireLease for {} - CASE 1: DagAction has no row yet - create now", contextualizeLeasing(leaseParams));
+        newRowIndexes.add(i);
+      } else if (getResult.getLeaseValidityStatus() == 1) {
+        leaseAttemptStatuses[i] = evaluateStatusOfValidLease(leaseParams, getResult, adoptConsensusFlowExecutionId);
+      } else if (getResult.getLeaseValidityStatus() == 2) {
+        logOutOfDateLease(leaseParams, getResult);
+        outOfDateLeaseIndexes.add(i);
+      } else if (getResult.isWithinEpsilon()) {
+        log.debug("tryAcquireLease for {} (DB current time: {}) - CASE 5: Same event, no longer leasing event in DB",
+            contextualizeLeasing(leaseParams), getResult.getDbCurrentTimestamp().getTime());
+        leaseAttemptStatuses[i] = new LeaseAttemptStatus.NoLongerLeasingStatus();
+      } else {
+        log.debug("tryAcquireLease for {} (DB current time: {}) - CASE 6: Distinct event, no longer leasing event in DB",
+            contextualizeLeasing(leaseParams), getResult.getDbCurrentTimestamp().getTime());
+        finishedLeaseIndexes.add(i);
+      }
+    }
+
+    // Attempt the leases, then read back the rows of all attempted leases at once to evaluate the outcome
+    Map<Integer, Integer> numRowsUpdatedByIndex = new HashMap<>();
+    if (!newRowIndexes.isEmpty() || !outOfDateLeaseIndexes.isEmpty() || !finishedLeaseIndexes.isEmpty()) {
+      // A single transaction, so that a failure leaves no lease acquired by the batch and every lease may be retried
+      numRowsUpdatedByIndex = dbStatementExecutor.withConnection(connection -> {
+        Map<Integer, Integer> numRowsUpdated = new HashMap<>();
+        numRowsUpdated.putAll(attemptLeasesIfNewRows(connection, batch, newRowIndexes));
+        numRowsUpdated.putAll(attemptLeasesIfExistingRows(connection, thisTableAcquireLeaseIfMatchingAllStatement,
+            batch, outOfDateLeaseIndexes, true, eventInfoByKey));
+        numRowsUpdated.putAll(attemptLeasesIfExistingRows(connection, thisTableAcquireLeaseIfFinishedStatement,
+            batch, finishedLeaseIndexes, false, eventInfoByKey));
+        return numRowsUpdated;
+      }, true);
+    }
+    List<DagActionStore.DagAction> attemptedDagActions = new ArrayList<>();
+    for (int i : numRowsUpdatedByIndex.keySet()) {
+      attemptedDagActions.add(batch.get(i).getDagAction());
+    }
+    Map<List<String>, SelectInfoResult> rowInfoByKey = getRowInfos(attemptedDagActions);
+    for (Map.Entry<Integer, Integer> numRowsUpdated : numRowsUpdatedByIndex.entrySet()) {
+      DagActionStore.LeaseParams leaseParams = batch.get(numRowsUpdated.getKey());
+      List<String> leaseKey = getLeaseKey(leaseParams.getDagAction());
+      SelectInfoResult selectInfoResult = rowInfoByKey.get(leaseKey);
+      if (selectInfoResult == null) {
+        // the row was deleted by retention in between, so start over as a new row
+        leaseAttemptStatuses[numRowsUpdated.getKey()] = tryAcquireLease(leaseParams, adoptConsensusFlowExecutionId);
+        continue;
+      }
+      GetEventInfoResult getResult = eventInfoByKey.get(leaseKey);
+      Optional<Timestamp> dbCurrentTimestamp =
+          getResult == null ? Optional.empty() : Optional.of(getResult.getDbCurrentTimestamp());
+      leaseAttemptStatuses[numRowsUpdated.getKey()] = evaluateStatusAfterLeaseAttempt(numRowsUpdated.getValue(),
+          leaseParams, dbCurrentTimestamp, adoptConsensusFlowExecutionId, selectInfoResult);
+    }
+
+    for (int i = 0; i < batch.size(); i++) {
+      if (!batch.get(i).isReminder()) {
+        log.info("Multi-active lease status [{}] for {}", leaseAttemptStatuses[i].getClass().getSimpleName(),
+            contextualizeLeasing(Optional.ofNullable(leaseAttemptStatuses[i].getConsensusLeaseParams()).orElse(batch.get(i))));
+      }
+    }
+    return Arrays.asList(leaseAttemptStatuses);
+  }
+
+  /**
+   * Bulk version of {@link #attemptLeaseIfNewRow}, inserting on <code>connection</code> the rows of the dag actions at
+   * the given indexes. A row another participant inserted in the meantime counts as no row updated. The inserts are
+   * issued one at a time, since a duplicate entry would fail a batch of them.
+   * @return number of rows updated by index of the dag action in the batch
+   */
+  private Map<Integer, Integer> attemptLeasesIfNewRows(Connection connection, List<DagActionStore.LeaseParams> batch,
+      List<Integer> indexes) throws SQLException {
+    Map<Integer, Integer> numRowsUpdatedByIndex = new HashMap<>();
+    if (indexes.isEmpty()) {
+      return numRowsUpdatedByIndex;
+    }
+    try (PreparedStatement insertStatement =
+        connection.prepareStatement(String.format(ACQUIRE_LEASE_IF_NEW_ROW_STATEMENT, this.leaseArbiterTableName))) {
+      for (int i : indexes) {
+        completeInsertPreparedStatement(insertStatement, batch.get(i).getDagAction());
+        try {
+          numRowsUpdatedByIndex.put(i, insertStatement.executeUpdate());
+        } catch (SQLIntegrityConstraintViolationException e) {
+          if (!e.getMessage().contains("Duplicate entry")) {
+            throw e;
+          }
+          numRowsUpdatedByIndex.put(i, 0);
+        }
+      }
+    }
+    return numRowsUpdatedByIndex;
+  }
+
+  /**
+   * Bulk version of {@link #attemptLeaseIfExistingRow}, updating on <code>connection</code>, with a single JDBC batch,
+   * the rows of the dag actions at the given indexes, provided they still match the event info read before.
+   * @return number of rows updated by index of the dag action in the batch
+   */
+  private Map<Integer, Integer> attemptLeasesIfExistingRows(Connection connection, String acquireLeaseStatement,
+      List<DagActionStore.LeaseParams> batch, List<Integer> indexes, boolean needLeaseAcquisition,
+      Map<List<String>, GetEventInfoResult> eventInfoByKey) throws SQLException {
+    Map<Integer, Integer> numRowsUpdatedByIndex = new HashMap<>();
+    if (indexes.isEmpty()) {
+      return numRowsUpdatedByIndex;
+    }
+    try (PreparedStatement updateStatement = connection.prepareStatement(acquireLeaseStatement)) {
+      for (int i : indexes) {
+        DagActionStore.DagAction dagAction = batch.get(i).getDagAction();
+        GetEventInfoResult getResult = eventInfoByKey.get(getLeaseKey(dagAction));
+        completeUpdatePreparedStatement(updateStatement, dagAction, true, needLeaseAcquisition,
+            getResult.getDbEventTimestamp(), needLeaseAcquisition ? getResult.getDbLeaseAcquisitionTimestamp() : null);
+        updateStatement.addBatch();
+      }
+      int[] numRowsUpdated = updateStatement.executeBatch();
+      for (int j = 0; j < indexes.size(); j++) {
+        if (numRowsUpdated[j] < 0) {
+          // Without the count, whether this participant acquired the lease is unknown
+          throw new SQLException("Unknown number of rows updated by lease attempt on " + batch.get(indexes.get(j)));
+        }
+        numRowsUpdatedByIndex.put(indexes.get(j), numRowsUpdated[j]);
+      }
+    }
+    return numRowsUpdatedByIndex;
+  }
+
+  /**
+   * Bulk version of {@link #getExistingEventInfo} for non-reminder events
+   * @return event info by lease key (see {@link #getLeaseKey}) of the dag actions having a row in the table
+   */
+  protected Map<List<String>, GetEventInfoResult> getExistingEventInfos(List<DagActionStore.DagAction> dagActions)
+      throws IOException {
+    if (dagActions.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    return dbStatementExecutor.withPreparedStatement(formatMatchingAnyKey(GET_EVENT_INFOS_STATEMENT, dagActions.size()),
+        getInfoStatement -> {
+          completeWhereClauseMatchingAnyKeyPreparedStatement(getInfoStatement, dagActions);
+          Map<List<String>, GetEventInfoResult> eventInfoByKey = new HashMap<>();
+          try (ResultSet resultSet = getInfoStatement.executeQuery()) {
+            while (resultSet.next()) {
+              eventInfoByKey.put(getLeaseKey(resultSet), new GetEventInfoResult(
+                  resultSet.getTimestamp("utc_event_timestamp", UTC_CAL.get()),
+                  resultSet.getTimestamp("utc_lease_acquisition_timestamp", UTC_CAL.get()),
+                  resultSet.getBoolean("is_within_epsilon"), resultSet.getInt("lease_validity_status"),
+                  resultSet.getInt("linger"), resultSet.getTimestamp("utc_current_timestamp", UTC_CAL.get())));
+            }
+          }
+          return eventInfoByKey;
+        }, true);
+  }
+
+  /**
+   * Bulk version of {@link #getRowInfo}
+   * @return row info by lease key (see {@link #getLeaseKey}) of the dag actions having a row in the table
+   */
+  protected Map<List<String>, SelectInfoResult> getRowInfos(List<DagActionStore.DagAction> dagActions) throws IOException {
+    if (dagActions.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    return dbStatementExecutor.withPreparedStatement(formatMatchingAnyKey(SELECT_AFTER_INSERTS_STATEMENT, dagActions.size()),
+        selectStatement -> {
+          completeWhereClauseMatchingAnyKeyPreparedStatement(selectStatement, dagActions);
+          Map<List<String>, SelectInfoResult> rowInfoByKey = new HashMap<>();
+          try (ResultSet resultSet = selectStatement.executeQuery()) {
+            while (resultSet.next()) {
+              Timestamp leaseAcquisitionTimestamp = resultSet.getTimestamp("utc_lease_acquisition_timestamp", UTC_CAL.get());
+              rowInfoByKey.put(getLeaseKey(resultSet), new SelectInfoResult(
+                  resultSet.getTimestamp("utc_event_timestamp", UTC_CAL.get()).getTime(),
+                  leaseAcquisitionTimestamp == null ? Optional.empty() : Optional.of(leaseAcquisitionTimestamp.getTime()),
+                  resultSet.getInt("linger")));
+            }
+          }
+          return rowInfoByKey;
+        }, true);
+  }
+
+  private String formatMatchingAnyKey(String statement, int numKeys) {
+    return String.format(statement, this.leaseArbiterTableName, this.constantsTableName,
+        String.join(", ", Collections.nCopies(numKeys, KEY_PLACEHOLDERS)));
+  }
+
+  private static void completeWhereClauseMatchingAnyKeyPreparedStatement(PreparedStatement statement,
+      List<DagActionStore.DagAction> dagActions) throws SQLException {
+    int i = 0;
+    for (DagActionStore.DagAction dagAction : dagActions) {
+      statement.setString(++i, dagAction.getFlowGroup());
+      statement.setString(++i, dagAction.getFlowName());
+      statement.setString(++i, dagAction.getJobName());
+      statement.setString(++i, dagAction.getDagActionType().toString());
+    }
+  }
+
+  /** @return the primary key of the row of the dag action in the lease arbiter table */
+  @VisibleForTesting
+  static List<String> getLeaseKey(DagActionStore.DagAction dagAction) {
+    return Arrays.asList(dagAction.getFlowGroup(), dagAction.getFlowName(), dagAction.getJobName(),
+        dagAction.getDagActionType().toString());
+  }
+
+  private static List<String> getLeaseKey(ResultSet resultSet) throws SQLException {
+    return Arrays.asList(resultSet.getString("flow_group"), resultSet.getString("flow_name"),
+        resultSet.getString("job_name"), resultSet.getString("dag_action"));
+  }
+
+  /**
+   * A reminder needs no query when this host completed the lease for its event, or a newer one, as the DB would either
+   * show that event no longer leasing or a newer event (for which the reminder is discarded).
+   */
+  private boolean isReminderForCompletedLease(DagActionStore.LeaseParams leaseParams) {
+    if (!leaseParams.isReminder()) {
+      return false;
+    }
+    Long completedEventTimeMillis = this.completedLeaseEventTimeMillisByKey.getIfPresent(getLeaseKey(leaseParams.getDagAction()));
+    return completedEventTimeMillis != null && leaseParams.getEventTimeMillis() <= completedEventTimeMillis;
+  }
+
   @Override
   public boolean existsSimilarLeaseWithinConsolidationPeriod(DagActionStore.LeaseParams leaseParams) throws IOException {
     Optional<GetEventInfoResult> infoResult = getExistingEventInfo(leaseParams);
@@ -532,7 +844,12 @@ public class MysqlMultiActiveLeaseArbiter implements MultiActiveLeaseArbiter {
       Optional<Timestamp> dbCurrentTimestamp, boolean adoptConsensusFlowExecutionId)
       throws SQLException, IOException {
     // Fetch values in row after attempted insert
-    SelectInfoResult selectInfoResult = getRowInfo(leaseParams.dagAction);
+    return evaluateStatusAfterLeaseAttempt(numRowsUpdated, leaseParams, dbCurrentTimestamp,
+        adoptConsensusFlowExecutionId, getRowInfo(leaseParams.dagAction));
+  }
+
+  private LeaseAttemptStatus evaluateStatusAfterLeaseAttempt(int numRowsUpdated, DagActionStore.LeaseParams leaseParams,
+      Optional<Timestamp> dbCurrentTimestamp, boolean adoptConsensusFlowExecutionId, SelectInfoResult selectInfoResult) {
     // Another participant won the lease in between
     if (!selectInfoResult.getLeaseAcquisitionTimeMillis().isPresent()) {
       return new LeaseAttemptStatus.NoLongerLeasingStatus();
@@ -639,6 +956,8 @@ public class MysqlMultiActiveLeaseArbiter implements MultiActiveLeaseArbiter {
             return false;
           } else if (numRowsUpdated == 1) {
             log.info("Multi-active lease COMPLETED {} - no longer leasing this event", contextualizeLeasing(leaseParams));
+            this.completedLeaseEventTimeMillisByKey.asMap().merge(getLeaseKey(dagAction), leaseParams.getEventTimeMillis(),
+                Math::max);
             return true;
           }
           throw new IOException(String.format("Multi-active lease completion ERROR %s - updated too many rows", contextualizeLeasing(leaseParams)));
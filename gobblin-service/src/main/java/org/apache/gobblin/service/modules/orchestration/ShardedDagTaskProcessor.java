@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.gobblin.service.modules.orchestration;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.gobblin.annotation.Alpha;
+import org.apache.gobblin.service.modules.orchestration.task.DagProcessingEngineMetrics;
+import org.apache.gobblin.service.modules.orchestration.task.DagTask;
+import org.apache.gobblin.util.ExecutorsUtils;
+
+
+/**
+ * Processes leased {@link DagTask}s on a fixed number of shards, each a queue drained in order by a single thread.
+ * Tasks are assigned to shards by the hash of their flow group and flow name, so that all dag actions of a flow are
+ * processed one after the other in the order they were leased, while a slow dag action (e.g. a launch) only holds back
+ * the flows sharing its shard instead of a whole {@link DagProcessingEngine} thread.
+ *
+ * Shard queues are bounded, and {@link #submit(DagTask)} blocks while the shard of the task is full, so the threads
+ * handing over tasks stop leasing new ones instead of piling up leases a slow shard cannot honour in time. A task whose
+ * lease expired while it was queued is skipped rather than processed, as another participant may already own it.
+ *
+ * Tasks still queued when the processor is closed keep their (unfinished) leases, and are picked up again through the
+ * reminders scheduled when the leases were obtained, just as if this host had gone down.
+ */
+@Alpha
+@Slf4j
+class ShardedDagTaskProcessor implements Closeable {
+  private static final int TERMINATION_TIMEOUT_SECONDS = 30;
+
+  private final List<BlockingQueue<QueuedDagTask>> shardQueues;
+  private final ExecutorService shardExecutor;
+
+  ShardedDagTaskProcessor(int numShards, int shardQueueCapacity, DagProcFactory dagProcFactory,
+      DagManagementStateStore dagManagementStateStore, DagProcessingEngineMetrics dagProcEngineMetrics) {
+    Preconditions.checkArgument(numShards > 0, "Number of shards must be positive, got %s", numShards);
+    Preconditions.checkArgument(shardQueueCapacity > 0, "Shard queue capacity must be positive, got %s",
+        shardQueueCapacity);
+    this.shardQueues = new ArrayList<>(numShards);
+    this.shardExecutor = Executors.newFixedThreadPool(numShards,
+        ExecutorsUtils.newThreadFactory(Optional.of(log), Optional.of("DagProcessingEngineShard-%d")));
+    for (int shardId = 0; shardId < numShards; shardId++) {
+      BlockingQueue<QueuedDagTask> shardQueue = new LinkedBlockingQueue<>(shardQueueCapacity);
+      this.shardQueues.add(shardQueue);
+      dagProcEngineMetrics.registerShardQueueDepth(shardId, shardQueue::size);
+      this.shardExecutor.submit(
+          new ShardThread(shardQueue, dagProcFactory, dagManagementStateStore, dagProcEngineMetrics, shardId));
+    }
+  }
+
+  /**
+   * Queue the task on the shard of its flow, waiting for room if the shard queue is full.
+   */
+  void submit(DagTask dagTask) throws InterruptedException {
+    int shardId = getShardId(dagTask.getDagAction(), this.shardQueues.size());
+    this.shardQueues.get(shardId).put(new QueuedDagTask(dagTask, System.currentTimeMillis()));
+  }
+
+  @VisibleForTesting
+  static int getShardId(DagActionStore.DagAction dagAction, int numShards) {
+    return Math.floorMod(Objects.hash(dagAction.getFlowGroup(), dagAction.getFlowName()), numShards);
+  }
+
+  @Override
+  public void close() {
+    // shard threads block on their queues indefinitely, so they can only be stopped by interruption
+    this.shardExecutor.shutdownNow();
+    try {
+      if (!this.shardExecutor.awaitTermination(TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        log.warn("DagProcessingEngine shards did not terminate within {} seconds", TERMINATION_TIMEOUT_SECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @AllArgsConstructor
+  private static class QueuedDagTask {
+    private final DagTask dagTask;
+    private final long queuedTimeMillis;
+  }
+
+  @AllArgsConstructor
+  private static class ShardThread implements Runnable {
+    private final BlockingQueue<QueuedDagTask> shardQueue;
+    private final DagProcFactory dagProcFactory;
+    private final DagManagementStateStore dagManagementStateStore;
+    private final DagProcessingEngineMetrics dagProcEngineMetrics;
+    private final int shardId;
+
+    @Override
+    public void run() {
+      log.info("Starting DagProcessingEngine shard {} to process dag tasks", shardId);
+
+      while (!Thread.currentThread().isInterrupted()) {
+        QueuedDagTask queuedDagTask;
+        try {
+          queuedDagTask = shardQueue.take();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+        long startTimeMillis = System.currentTimeMillis();
+        dagProcEngineMetrics.updateShardQueueWaitMillis(shardId, startTimeMillis - queuedDagTask.queuedTimeMillis);
+        if (queuedDagTask.dagTask.isLeaseExpired()) {
+          // leave the dag action to the reminder of its lease instead of racing whoever leases it next
+          log.warn("DagProcessingEngine shard {} skipping {} as its lease expired after waiting {} ms in the queue",
+              shardId, queuedDagTask.dagTask.getDagAction(), startTimeMillis - queuedDagTask.queuedTimeMillis);
+          dagProcEngineMetrics.markShardExpiredLease(shardId);
+          continue;
+        }
+        try {
+          DagProcessingEngine.processDagTask(queuedDagTask.dagTask, dagProcFactory, dagManagementStateStore,
+              dagProcEngineMetrics);
+        } catch (RuntimeException e) {
+          // a shard thread must outlive any one task, or every flow hashed to it would stall
+          log.error("DagProcessingEngine shard {} failed to process {}", shardId, queuedDagTask.dagTask.getDagAction(), e);
+        }
+        dagProcEngineMetrics.updateShardProcessingMillis(shardId, System.currentTimeMillis() - startTimeMillis);
+      }
+      log.info("DagProcessingEngine shard {} stopped with {} dag tasks queued", shardId, shardQueue.size());
+    }
+  }
+}
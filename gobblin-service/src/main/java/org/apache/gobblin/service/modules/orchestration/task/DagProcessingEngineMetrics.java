@@ -19,11 +19,15 @@ package org.apache.gobblin.service.modules.orchestration.task;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import javax.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.gobblin.configuration.State;
 import org.apache.gobblin.instrumented.Instrumented;
+import org.apache.gobblin.metrics.ContextAwareHistogram;
 import org.apache.gobblin.metrics.ContextAwareMeter;
 import org.apache.gobblin.metrics.GobblinMetrics;
 import org.apache.gobblin.metrics.MetricContext;
@@ -62,6 +66,10 @@ public class DagProcessingEngineMetrics {
   private final HashMap<DagActionStore.DagActionType, ContextAwareMeter> dagActionsDeleteFailedMeterByDagActionType =  new HashMap<>();
   private final HashMap<DagActionStore.DagActionType, ContextAwareMeter> dagActionsDeleteSucceededMeterByDagActionType =  new HashMap<>();
   private final HashMap<DagActionStore.DagActionType, ContextAwareMeter> dagActionsAverageProcessingDelayMillisMeterByDagActionType =  new HashMap<>();
+  // Shards are only known once the sharded DagProcessingEngine starts, so their histograms are created on first use
+  private final Map<Integer, ContextAwareHistogram> shardQueueWaitMillisHistogramByShard = new ConcurrentHashMap<>();
+  private final Map<Integer, ContextAwareHistogram> shardProcessingMillisHistogramByShard = new ConcurrentHashMap<>();
+  private final Map<Integer, ContextAwareMeter> shardExpiredLeasesMeterByShard = new ConcurrentHashMap<>();
 
   public DagProcessingEngineMetrics(MetricContext metricContext) {
     this.metricContext = metricContext;
@@ -176,6 +184,32 @@ public class DagProcessingEngineMetrics {
     updateMetricForDagActionType(this.dagActionsAverageProcessingDelayMillisMeterByDagActionType, dagActionType);
   }
 
+  /**
+   * Register a gauge reporting the number of dag tasks waiting in the queue of the given shard.
+   */
+  public void registerShardQueueDepth(int shardId, Supplier<Integer> queueDepth) {
+    this.metricContext.register(this.metricContext.newContextAwareGauge(
+        ServiceMetricNames.DAG_PROC_SHARD_QUEUE_DEPTH + shardId, queueDepth::get));
+  }
+
+  public void updateShardQueueWaitMillis(int shardId, long waitMillis) {
+    this.shardQueueWaitMillisHistogramByShard.computeIfAbsent(shardId,
+        id -> this.metricContext.contextAwareHistogram(ServiceMetricNames.DAG_PROC_SHARD_QUEUE_WAIT_MILLIS + id))
+        .update(waitMillis);
+  }
+
+  public void updateShardProcessingMillis(int shardId, long processingMillis) {
+    this.shardProcessingMillisHistogramByShard.computeIfAbsent(shardId,
+        id -> this.metricContext.contextAwareHistogram(ServiceMetricNames.DAG_PROC_SHARD_PROCESSING_MILLIS + id))
+        .update(processingMillis);
+  }
+
+  public void markShardExpiredLease(int shardId) {
+    this.shardExpiredLeasesMeterByShard.computeIfAbsent(shardId,
+        id -> this.metricContext.contextAwareMeter(ServiceMetricNames.DAG_PROC_SHARD_EXPIRED_LEASES + id))
+        .mark();
+  }
+
   /**
    * Generic helper used to increment a metric corresponding to the dagActionType in the provided map. It assumes the
    * meter for each dagActionType can be identified by its name.
@@ -41,6 +41,8 @@ public abstract class DagTask {
   protected final DagManagementStateStore dagManagementStateStore;
   private final LeaseAttemptStatus.LeaseObtainedStatus leaseObtainedStatus;
   private final DagProcessingEngineMetrics dagProcEngineMetrics;
+  // local time the lease expires at, estimated from the remaining lease duration when the task is created upon leasing
+  private final long leaseExpirationMillis;
 
   /**
    * Returns the consensus {@link DagActionStore.LeaseParams} for this task, exposing the per-event metadata that
@@ -60,6 +62,17 @@ public abstract class DagTask {
     this.leaseObtainedStatus = leaseObtainedStatus;
     this.dagManagementStateStore = dagManagementStateStore;
     this.dagProcEngineMetrics = dagProcEngineMetrics;
+    this.leaseExpirationMillis = leaseObtainedStatus == null ? Long.MAX_VALUE
+        : System.currentTimeMillis() + leaseObtainedStatus.getMinimumLingerDurationMillis();
+  }
+
+  /**
+   * Returns true if the lease obtained to work on this task has expired, after which another participant may lease
+   * and process the same dag action. A task with an expired lease must not be processed; the reminder set when the
+   * lease was obtained gets it leased again.
+   */
+  public boolean isLeaseExpired() {
+    return System.currentTimeMillis() >= this.leaseExpirationMillis;
   }
 
   public abstract <T> T host(DagTaskVisitor<T> visitor);
@@ -20,10 +20,14 @@ package org.apache.gobblin.service.monitoring;
 import java.io.IOException;
 import java.sql.SQLIntegrityConstraintViolationException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -41,12 +45,16 @@ import com.github.rholder.retry.Retryer;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
+import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Table;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 
 import javax.inject.Inject;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -56,6 +64,8 @@ import org.apache.gobblin.kafka.client.DecodeableKafkaRecord;
 import org.apache.gobblin.metastore.FileContextBasedFsStateStore;
 import org.apache.gobblin.metastore.FileContextBasedFsStateStoreFactory;
 import org.apache.gobblin.metastore.StateStore;
+import org.apache.gobblin.metrics.ContextAwareGauge;
+import org.apache.gobblin.metrics.ContextAwareHistogram;
 import org.apache.gobblin.metrics.GobblinTrackingEvent;
 import org.apache.gobblin.metrics.ServiceMetricNames;
 import org.apache.gobblin.metrics.event.TimingEvent;
@@ -87,6 +97,9 @@ import static org.apache.gobblin.util.retry.RetryerFactory.RetryType;
  * A Kafka monitor that tracks {@link org.apache.gobblin.metrics.GobblinTrackingEvent}s reporting statuses of
  * running jobs. The job statuses are stored as {@link org.apache.gobblin.configuration.State} objects in
  * a {@link FileContextBasedFsStateStore}.
+ *
+ * By default every event is persisted on its own. Setting {@link #JOB_STATUS_MONITOR_BATCH_ENABLED_KEY} makes the monitor
+ * coalesce the events already queued per job status table and persist them write-behind, see {@link #processMessages(List)}.
  */
 @Slf4j
 public abstract class KafkaJobStatusMonitor extends HighLevelConsumer<byte[], byte[]> implements JobStatusMonitor {
@@ -98,11 +111,23 @@ public abstract class KafkaJobStatusMonitor extends HighLevelConsumer<byte[], by
 
   private static final String PROCESS_JOB_ISSUE = MetricRegistry
       .name(ServiceMetricNames.GOBBLIN_SERVICE_PREFIX, JOB_STATUS_MONITOR_PREFIX, "jobIssueProcessingTime");
+  public static final String FLUSH_JOB_STATUS_BATCH =
+      MetricRegistry.name(ServiceMetricNames.GOBBLIN_SERVICE_PREFIX, JOB_STATUS_MONITOR_PREFIX, "flushJobStatusBatch");
+  public static final String JOB_STATUS_BATCH_SIZE =
+      MetricRegistry.name(ServiceMetricNames.GOBBLIN_SERVICE_PREFIX, JOB_STATUS_MONITOR_PREFIX, "jobStatusBatchSize");
+  public static final String JOB_STATUS_BATCH_TABLES_WRITTEN =
+      MetricRegistry.name(ServiceMetricNames.GOBBLIN_SERVICE_PREFIX, JOB_STATUS_MONITOR_PREFIX, "jobStatusBatchTablesWritten");
+  public static final String JOB_STATUS_BATCH_PERSIST_LAG_MILLIS =
+      MetricRegistry.name(ServiceMetricNames.GOBBLIN_SERVICE_PREFIX, JOB_STATUS_MONITOR_PREFIX, "jobStatusBatchPersistLagMillis");
 
   static final String JOB_STATUS_MONITOR_TOPIC_KEY = "topic";
   static final String JOB_STATUS_MONITOR_NUM_THREADS_KEY = "numThreads";
   static final String JOB_STATUS_MONITOR_CLASS_KEY = "class";
   static final String DEFAULT_JOB_STATUS_MONITOR_CLASS = KafkaAvroJobStatusMonitor.class.getName();
+  // When enabled, events already queued are coalesced per job status table and persisted write-behind, see `processMessages`
+  public static final String JOB_STATUS_MONITOR_BATCH_ENABLED_KEY = "batch.enabled";
+  public static final String JOB_STATUS_MONITOR_BATCH_MAX_SIZE_KEY = "batch.maxSize";
+  static final int DEFAULT_JOB_STATUS_MONITOR_BATCH_MAX_SIZE = 500;
 
   private static final String KAFKA_AUTO_OFFSET_RESET_KEY = "auto.offset.reset";
   private static final String KAFKA_AUTO_OFFSET_RESET_SMALLEST = "smallest";
@@ -130,6 +155,10 @@ public abstract class KafkaJobStatusMonitor extends HighLevelConsumer<byte[], by
   private final List<Class<? extends Exception>> nonRetryableExceptions = Collections.singletonList(SQLIntegrityConstraintViolationException.class);
   private final boolean isErrorClassificationEnabled;
   private final ErrorClassifier errorClassifier;
+  private final int maxBatchSize;
+  private ContextAwareHistogram batchSize;
+  private ContextAwareHistogram batchTablesWritten;
+  private volatile long batchPersistLagMillis = -1L;
 
   @Inject
   public KafkaJobStatusMonitor(String topic, Config config, int numThreads, JobIssueEventHandler jobIssueEventHandler,
@@ -165,6 +194,9 @@ public abstract class KafkaJobStatusMonitor extends HighLevelConsumer<byte[], by
     this.eventProducer = observabilityEventProducer;
     this.isErrorClassificationEnabled =
         ConfigUtils.getBoolean(this.config, ServiceConfigKeys.ERROR_CLASSIFICATION_ENABLED_KEY, false);
+    this.maxBatchSize = ConfigUtils.getBoolean(config, JOB_STATUS_MONITOR_BATCH_ENABLED_KEY, false)
+        ? ConfigUtils.getInt(config, JOB_STATUS_MONITOR_BATCH_MAX_SIZE_KEY, DEFAULT_JOB_STATUS_MONITOR_BATCH_MAX_SIZE)
+        : 1;
   }
 
   public enum NewState {
@@ -200,6 +232,12 @@ public abstract class KafkaJobStatusMonitor extends HighLevelConsumer<byte[], by
   @Override
   protected void createMetrics() {
     super.createMetrics();
+    this.batchSize = this.getMetricContext().contextAwareHistogram(JOB_STATUS_BATCH_SIZE);
+    this.batchTablesWritten = this.getMetricContext().contextAwareHistogram(JOB_STATUS_BATCH_TABLES_WRITTEN);
+    // oldest event of the last flushed batch, i.e. how far behind the state store trails the produced events
+    ContextAwareGauge<Long> batchPersistLagGauge = this.getMetricContext()
+        .newContextAwareGauge(JOB_STATUS_BATCH_PERSIST_LAG_MILLIS, () -> this.batchPersistLagMillis);
+    this.getMetricContext().register(batchPersistLagGauge);
   }
 
   @Override
@@ -210,105 +248,123 @@ public abstract class KafkaJobStatusMonitor extends HighLevelConsumer<byte[], by
       return;
     }
 
-    if (IssueEventBuilder.isIssueEvent(gobblinTrackingEvent)) {
-      try (Timer.Context context = getMetricContext().timer(PROCESS_JOB_ISSUE).time()) {
-        jobIssueEventHandler.processEvent(gobblinTrackingEvent);
+    processIssueEvent(gobblinTrackingEvent);
+
+    persistWithRetries(() -> {
+      // re-create `jobStatus` on each attempt, since mutated within `addJobStatusToStateStore`
+      org.apache.gobblin.configuration.State jobStatus = parseJobStatus(gobblinTrackingEvent);
+      if (jobStatus == null) {
+        return null;
       }
+
+      try (Timer.Context context = getMetricContext().timer(GET_AND_SET_JOB_STATUS).time()) {
+        JobStatusUpdate update = toJobStatusUpdate(recalcJobStatus(jobStatus, this.stateStore));
+        emitObservabilityEvent(update);
+
+        // Update the state store before adding a dag action.
+        // Even if service dies before adding the dag action & after updating the job status, kafka offset will not be advanced
+        // hence, the event will be reprocessed and re-attempt the addition of dag action
+        stateStore.put(update.getStoreName(), update.getTableName(), update.getJobStatus());
+
+        addDagActions(update);
+      }
+      return null;
+    }, String.format("kafka offset %d", message.getOffset()));
+  }
+
+  /**
+   * Write-behind counterpart of {@link #processMessage(DecodeableKafkaRecord)}, used when batching is enabled through
+   * {@link #JOB_STATUS_MONITOR_BATCH_ENABLED_KEY}. Events are grouped per job status table, i.e. per
+   * (flowGroup, flowName, flowExecutionId, jobGroup, jobName), and merged in memory in arrival order, starting from a
+   * single read of the persisted status. Only the final status of each table is then written, in one multi-table
+   * {@link StateStore#putAll(Table)}, before any dag action is added. Since {@link HighLevelConsumer} records offsets
+   * only once this method returns, no offset is committed ahead of the flush that covers it.
+   */
+  @Override
+  protected void processMessages(List<DecodeableKafkaRecord<byte[],byte[]>> messages) {
+    List<GobblinTrackingEvent> events = new ArrayList<>(messages.size());
+    for (DecodeableKafkaRecord<byte[],byte[]> message : messages) {
+      GobblinTrackingEvent gobblinTrackingEvent = deserializeEvent(message);
+      if (gobblinTrackingEvent != null) {
+        processIssueEvent(gobblinTrackingEvent);
+        events.add(gobblinTrackingEvent);
+      }
+    }
+    if (events.isEmpty()) {
+      return;
     }
 
-    try {
-      persistJobStatusRetryer.call(() -> {
-        // re-create `jobStatus` on each attempt, since mutated within `addJobStatusToStateStore`
-        org.apache.gobblin.configuration.State jobStatus = parseJobStatus(gobblinTrackingEvent);
-        if (jobStatus == null) {
-          return null;
+    persistWithRetries(() -> {
+      // re-create job statuses on each attempt, since mutated while merging
+      Map<Pair<String, String>, List<org.apache.gobblin.configuration.State>> jobStatusesByTable = new LinkedHashMap<>();
+      for (GobblinTrackingEvent event : events) {
+        org.apache.gobblin.configuration.State jobStatus = parseJobStatus(event);
+        if (jobStatus != null) {
+          setMissingJobNameAndGroup(jobStatus);
+          jobStatusesByTable.computeIfAbsent(ImmutablePair.of(storeNameOf(jobStatus), tableNameOf(jobStatus)),
+              table -> new ArrayList<>()).add(jobStatus);
         }
+      }
 
-        try (Timer.Context context = getMetricContext().timer(GET_AND_SET_JOB_STATUS).time()) {
-          Pair<org.apache.gobblin.configuration.State, NewState> updatedJobStatus = recalcJobStatus(jobStatus, this.stateStore);
-          jobStatus = updatedJobStatus.getLeft();
-
-          String flowName = jobStatus.getProp(TimingEvent.FlowEventConstants.FLOW_NAME_FIELD);
-          String flowGroup = jobStatus.getProp(TimingEvent.FlowEventConstants.FLOW_GROUP_FIELD);
-          long flowExecutionId = jobStatus.getPropAsLong(TimingEvent.FlowEventConstants.FLOW_EXECUTION_ID_FIELD);
-          String jobName = jobStatus.getProp(TimingEvent.FlowEventConstants.JOB_NAME_FIELD);
-          String jobGroup = jobStatus.getProp(TimingEvent.FlowEventConstants.JOB_GROUP_FIELD);
-          String storeName = jobStatusStoreName(flowGroup, flowName);
-          String tableName = jobStatusTableName(flowExecutionId, jobGroup, jobName);
-          String status = jobStatus.getProp(JobStatusRetriever.EVENT_NAME_FIELD);
-
-          // modify the status to be PENDING_RETRY only after calculating `updatedJobStatus via recalcJobStatus()`
-          // because ObservabilityEventProducer does not and should not understand `PENDING_RETRY` status in convertExecutionStatusTojobState()
-          // which is called inside emitObservabilityEvent()
-          // this can also be addressed by some other new job status like FAILED_PENDING_RETRY which does not alert the user
-          // as much as FAILED does if we chose to emit ObservabilityEvent for FAILED_PENDING_RETRY
-          boolean retryRequired = modifyStateIfRetryRequired(jobStatus);
-
-          if (updatedJobStatus.getRight() == NewState.FINISHED && !retryRequired) {
-            if (isErrorClassificationEnabled) {
-              if (jobStatus.getProp(JobStatusRetriever.EVENT_NAME_FIELD).equals(ExecutionStatus.FAILED.name())) {
-                long startTime = System.currentTimeMillis();
-                try {
-                    List<Issue> issues = jobIssueEventHandler.getErrorListForClassification(
-                        TroubleshooterUtils.getContextIdForJob(jobStatus.getProperties()));
-                    Issue finalIssue = errorClassifier.classifyEarlyStopWithDefault(issues);
-                    if (finalIssue != null) {
-                      jobIssueEventHandler.logFinalError(finalIssue, flowName, flowGroup, String.valueOf(flowExecutionId),
-                          jobName);
-                    }
-                  }
-                  catch (Exception e) {
-                    log.error("Failed to emit issue event for  flowGroup: {}, flowName: {}, flowExecutionId: {}, jobName: {}", flowGroup, flowName, flowExecutionId, jobName, e);
-                  }
-                long processDuration = System.currentTimeMillis() - startTime;
-                log.info(
-                    "Processing issues for flowGroup: {}, flowName: {}, flowExecutionId: {}, jobName: {}, duration: {} ms",
-                    flowGroup, flowName, flowExecutionId, jobName, processDuration);
-                }
-              }
-
-            // do not send event if retry is required, because it can alert users to re-submit a job that is already set to be retried by GaaS
-            this.eventProducer.emitObservabilityEvent(jobStatus);
+      try (Timer.Context context = getMetricContext().timer(FLUSH_JOB_STATUS_BATCH).time()) {
+        List<JobStatusUpdate> updates = new ArrayList<>(events.size());
+        Table<String, String, org.apache.gobblin.configuration.State> latestJobStatuses = HashBasedTable.create();
+        for (Map.Entry<Pair<String, String>, List<org.apache.gobblin.configuration.State>> entry : jobStatusesByTable.entrySet()) {
+          String storeName = entry.getKey().getLeft();
+          String tableName = entry.getKey().getRight();
+          List<org.apache.gobblin.configuration.State> previousStates = this.stateStore.getAll(storeName, tableName);
+          for (org.apache.gobblin.configuration.State jobStatus : entry.getValue()) {
+            JobStatusUpdate update = toJobStatusUpdate(recalcJobStatus(jobStatus, previousStates));
+            updates.add(update);
+            // a put replaces the whole table, so the status just merged is all the next event would have read back
+            previousStates = Collections.singletonList(update.getJobStatus());
           }
+          latestJobStatuses.put(storeName, tableName, Iterables.getLast(previousStates));
+        }
 
-          // Update the state store before adding a dag action.
-          // Even if service dies before adding the dag action & after updating the job status, kafka offset will not be advanced
-          // hence, the event will be reprocessed and re-attempt the addition of dag action
-          stateStore.put(storeName, tableName, jobStatus);
-
-          if (DagProcUtils.isJobLevelStatus(jobName)) {
-            if (updatedJobStatus.getRight() == NewState.FINISHED) {
-              try {
-                this.dagManagementStateStore.addJobDagAction(flowGroup, flowName, flowExecutionId, jobName, DagActionStore.DagActionType.REEVALUATE);
-              } catch (IOException e) {
-                if (ExceptionUtils.isExceptionInstanceOf(e, nonRetryableExceptions)) {
-                  this.dagManagementStateStore.getDagManagerMetrics().dagActionCreationExceptionsInJobStatusMonitor.mark();
-                  log.error("Could not add REEVALUATE dag action for flow group - {}, flow name - {}, flowExecutionId - {}, "
-                      + "jobName = {} due to {}. Ignoring...", flowGroup, flowName, flowExecutionId, jobName, e.getMessage());
-                } else {
-                  throw e;
-                }
-              }
-            } else if (updatedJobStatus.getRight() == NewState.RUNNING) {
-              DagProcUtils.removeEnforceJobStartDeadlineDagAction(dagManagementStateStore, flowGroup, flowName, flowExecutionId, jobName);
-            }
-            // in case, the job is cancelled before it started, we need to clean it's enforceJobStartDeadlineDagAction
-            if (status != null && ExecutionStatus.valueOf(status).equals(ExecutionStatus.CANCELLED)) {
-              DagProcUtils.removeEnforceJobStartDeadlineDagAction(dagManagementStateStore, flowGroup, flowName, flowExecutionId, jobName);
-            }
-          }
+        for (JobStatusUpdate update : updates) {
+          emitObservabilityEvent(update);
         }
-        return null;
-      });
+        // As in `processMessage`, update the state store before adding any dag action
+        this.stateStore.putAll(latestJobStatuses);
+        for (JobStatusUpdate update : updates) {
+          addDagActions(update);
+        }
+
+        this.batchSize.update(events.size());
+        this.batchTablesWritten.update(latestJobStatuses.size());
+      }
+      return null;
+    }, String.format("kafka offsets %d..%d", messages.get(0).getOffset(), Iterables.getLast(messages).getOffset()));
+
+    this.batchPersistLagMillis = calcMillisSince(events.stream().mapToLong(GobblinTrackingEvent::getTimestamp).min().getAsLong());
+  }
+
+  @Override
+  protected int getMaxProcessBatchSize() {
+    return this.maxBatchSize;
+  }
+
+  private void processIssueEvent(GobblinTrackingEvent gobblinTrackingEvent) {
+    if (IssueEventBuilder.isIssueEvent(gobblinTrackingEvent)) {
+      try (Timer.Context context = getMetricContext().timer(PROCESS_JOB_ISSUE).time()) {
+        jobIssueEventHandler.processEvent(gobblinTrackingEvent);
+      }
+    }
+  }
+
+  private void persistWithRetries(Callable<Void> persistJobStatus, String offsetsDescription) {
+    try {
+      persistJobStatusRetryer.call(persistJobStatus);
     } catch (ExecutionException ee) {
-      String msg = String.format("Failed to add job status to state store for kafka offset %d", message.getOffset());
+      String msg = String.format("Failed to add job status to state store for %s", offsetsDescription);
       log.warn(msg, ee);
       // Throw RuntimeException to avoid advancing kafka offsets without updating state store
       throw new RuntimeException(msg, ee.getCause());
     } catch (RetryException re) {
       String interruptedNote = Thread.currentThread().isInterrupted() ? "... then interrupted" : "";
-      String msg = String.format("Failed to add job status to state store for kafka offset %d (retried %d times%s)",
-          message.getOffset(), re.getNumberOfFailedAttempts(), interruptedNote);
+      String msg = String.format("Failed to add job status to state store for %s (retried %d times%s)",
+          offsetsDescription, re.getNumberOfFailedAttempts(), interruptedNote);
       Throwable informativeException = re.getLastFailedAttempt().hasException()
           ? re.getLastFailedAttempt().getExceptionCause()
           : re;
@@ -318,6 +374,75 @@ public abstract class KafkaJobStatusMonitor extends HighLevelConsumer<byte[], by
     }
   }
 
+  private JobStatusUpdate toJobStatusUpdate(Pair<org.apache.gobblin.configuration.State, NewState> updatedJobStatus) {
+    org.apache.gobblin.configuration.State jobStatus = updatedJobStatus.getLeft();
+    // modify the status to be PENDING_RETRY only after calculating `updatedJobStatus via recalcJobStatus()`
+    // because ObservabilityEventProducer does not and should not understand `PENDING_RETRY` status in convertExecutionStatusTojobState()
+    // which is called inside emitObservabilityEvent()
+    // this can also be addressed by some other new job status like FAILED_PENDING_RETRY which does not alert the user
+    // as much as FAILED does if we chose to emit ObservabilityEvent for FAILED_PENDING_RETRY
+    boolean retryRequired = modifyStateIfRetryRequired(jobStatus);
+    return new JobStatusUpdate(jobStatus, updatedJobStatus.getRight(), retryRequired);
+  }
+
+  private void emitObservabilityEvent(JobStatusUpdate update) {
+    if (update.getNewState() != NewState.FINISHED || update.isRetryRequired()) {
+      return;
+    }
+    org.apache.gobblin.configuration.State jobStatus = update.getJobStatus();
+    if (isErrorClassificationEnabled && jobStatus.getProp(JobStatusRetriever.EVENT_NAME_FIELD).equals(ExecutionStatus.FAILED.name())) {
+      long startTime = System.currentTimeMillis();
+      try {
+        List<Issue> issues = jobIssueEventHandler.getErrorListForClassification(
+            TroubleshooterUtils.getContextIdForJob(jobStatus.getProperties()));
+        Issue finalIssue = errorClassifier.classifyEarlyStopWithDefault(issues);
+        if (finalIssue != null) {
+          jobIssueEventHandler.logFinalError(finalIssue, update.getFlowName(), update.getFlowGroup(),
+              String.valueOf(update.getFlowExecutionId()), update.getJobName());
+        }
+      } catch (Exception e) {
+        log.error("Failed to emit issue event for  flowGroup: {}, flowName: {}, flowExecutionId: {}, jobName: {}",
+            update.getFlowGroup(), update.getFlowName(), update.getFlowExecutionId(), update.getJobName(), e);
+      }
+      long processDuration = System.currentTimeMillis() - startTime;
+      log.info("Processing issues for flowGroup: {}, flowName: {}, flowExecutionId: {}, jobName: {}, duration: {} ms",
+          update.getFlowGroup(), update.getFlowName(), update.getFlowExecutionId(), update.getJobName(), processDuration);
+    }
+
+    // do not send event if retry is required, because it can alert users to re-submit a job that is already set to be retried by GaaS
+    this.eventProducer.emitObservabilityEvent(jobStatus);
+  }
+
+  private void addDagActions(JobStatusUpdate update) throws IOException {
+    String flowGroup = update.getFlowGroup();
+    String flowName = update.getFlowName();
+    long flowExecutionId = update.getFlowExecutionId();
+    String jobName = update.getJobName();
+    String status = update.getJobStatus().getProp(JobStatusRetriever.EVENT_NAME_FIELD);
+
+    if (DagProcUtils.isJobLevelStatus(jobName)) {
+      if (update.getNewState() == NewState.FINISHED) {
+        try {
+          this.dagManagementStateStore.addJobDagAction(flowGroup, flowName, flowExecutionId, jobName, DagActionStore.DagActionType.REEVALUATE);
+        } catch (IOException e) {
+          if (ExceptionUtils.isExceptionInstanceOf(e, nonRetryableExceptions)) {
+            this.dagManagementStateStore.getDagManagerMetrics().dagActionCreationExceptionsInJobStatusMonitor.mark();
+            log.error("Could not add REEVALUATE dag action for flow group - {}, flow name - {}, flowExecutionId - {}, "
+                + "jobName = {} due to {}. Ignoring...", flowGroup, flowName, flowExecutionId, jobName, e.getMessage());
+          } else {
+            throw e;
+          }
+        }
+      } else if (update.getNewState() == NewState.RUNNING) {
+        DagProcUtils.removeEnforceJobStartDeadlineDagAction(dagManagementStateStore, flowGroup, flowName, flowExecutionId, jobName);
+      }
+      // in case, the job is cancelled before it started, we need to clean it's enforceJobStartDeadlineDagAction
+      if (status != null && ExecutionStatus.valueOf(status).equals(ExecutionStatus.CANCELLED)) {
+        DagProcUtils.removeEnforceJobStartDeadlineDagAction(dagManagementStateStore, flowGroup, flowName, flowExecutionId, jobName);
+      }
+    }
+  }
+
   /**
    * It fills missing fields in job status and also merge the fields with the existing job status in the state store.
    * Merging is required because we do not want to lose the information sent by other GobblinTrackingEvents.
@@ -328,22 +453,24 @@ public abstract class KafkaJobStatusMonitor extends HighLevelConsumer<byte[], by
   @VisibleForTesting
   static Pair<org.apache.gobblin.configuration.State, NewState> recalcJobStatus(org.apache.gobblin.configuration.State jobStatus,
       StateStore<org.apache.gobblin.configuration.State> stateStore) throws IOException {
+    setMissingJobNameAndGroup(jobStatus);
+    return recalcJobStatus(jobStatus, stateStore.getAll(storeNameOf(jobStatus), tableNameOf(jobStatus)));
+  }
+
+  /**
+   * Same as {@link #recalcJobStatus(org.apache.gobblin.configuration.State, StateStore)}, merging against the given
+   * previously persisted states of the job status table instead of reading them from the state store.
+   */
+  private static Pair<org.apache.gobblin.configuration.State, NewState> recalcJobStatus(org.apache.gobblin.configuration.State jobStatus,
+      List<org.apache.gobblin.configuration.State> states) throws IOException {
     try {
-      if (!jobStatus.contains(TimingEvent.FlowEventConstants.JOB_NAME_FIELD)) {
-        jobStatus.setProp(TimingEvent.FlowEventConstants.JOB_NAME_FIELD, JobStatusRetriever.NA_KEY);
-      }
-      if (!jobStatus.contains(TimingEvent.FlowEventConstants.JOB_GROUP_FIELD)) {
-        jobStatus.setProp(TimingEvent.FlowEventConstants.JOB_GROUP_FIELD, JobStatusRetriever.NA_KEY);
-      }
+      setMissingJobNameAndGroup(jobStatus);
       String flowName = jobStatus.getProp(TimingEvent.FlowEventConstants.FLOW_NAME_FIELD);
       String flowGroup = jobStatus.getProp(TimingEvent.FlowEventConstants.FLOW_GROUP_FIELD);
       long flowExecutionId = jobStatus.getPropAsLong(TimingEvent.FlowEventConstants.FLOW_EXECUTION_ID_FIELD);
       String jobName = jobStatus.getProp(TimingEvent.FlowEventConstants.JOB_NAME_FIELD);
       String jobGroup = jobStatus.getProp(TimingEvent.FlowEventConstants.JOB_GROUP_FIELD);
-      String storeName = jobStatusStoreName(flowGroup, flowName);
-      String tableName = jobStatusTableName(flowExecutionId, jobGroup, jobName);
 
-      List<org.apache.gobblin.configuration.State> states = stateStore.getAll(storeName, tableName);
       if (!states.isEmpty()) {
         org.apache.gobblin.configuration.State previousJobStatus = states.get(states.size() - 1);
         String previousStatus = previousJobStatus.getProp(JobStatusRetriever.EVENT_NAME_FIELD);
@@ -457,6 +584,25 @@ public abstract class KafkaJobStatusMonitor extends HighLevelConsumer<byte[], by
     return new org.apache.gobblin.configuration.State(mergedState);
   }
 
+  private static void setMissingJobNameAndGroup(org.apache.gobblin.configuration.State jobStatus) {
+    if (!jobStatus.contains(TimingEvent.FlowEventConstants.JOB_NAME_FIELD)) {
+      jobStatus.setProp(TimingEvent.FlowEventConstants.JOB_NAME_FIELD, JobStatusRetriever.NA_KEY);
+    }
+    if (!jobStatus.contains(TimingEvent.FlowEventConstants.JOB_GROUP_FIELD)) {
+      jobStatus.setProp(TimingEvent.FlowEventConstants.JOB_GROUP_FIELD, JobStatusRetriever.NA_KEY);
+    }
+  }
+
+  private static String storeNameOf(org.apache.gobblin.configuration.State jobStatus) {
+    return jobStatusStoreName(jobStatus.getProp(TimingEvent.FlowEventConstants.FLOW_GROUP_FIELD),
+        jobStatus.getProp(TimingEvent.FlowEventConstants.FLOW_NAME_FIELD));
+  }
+
+  private static String tableNameOf(org.apache.gobblin.configuration.State jobStatus) {
+    return jobStatusTableName(jobStatus.getPropAsLong(TimingEvent.FlowEventConstants.FLOW_EXECUTION_ID_FIELD),
+        jobStatus.getProp(TimingEvent.FlowEventConstants.JOB_GROUP_FIELD), jobStatus.getProp(TimingEvent.FlowEventConstants.JOB_NAME_FIELD));
+  }
+
   public static String jobStatusTableName(long flowExecutionId, String jobGroup, String jobName) {
     return Joiner.on(ServiceConfigKeys.STATE_STORE_KEY_SEPARATION_CHARACTER).join(flowExecutionId, jobGroup, jobName, ServiceConfigKeys.STATE_STORE_TABLE_SUFFIX);
   }
@@ -472,4 +618,39 @@ public abstract class KafkaJobStatusMonitor extends HighLevelConsumer<byte[], by
   protected abstract GobblinTrackingEvent deserializeEvent(DecodeableKafkaRecord<byte[],byte[]> message);
 
   protected abstract org.apache.gobblin.configuration.State parseJobStatus(GobblinTrackingEvent event);
+
+  /**
+   * A merged job status, along with the transition it makes, whose side effects are still to be applied.
+   */
+  @Getter
+  @AllArgsConstructor
+  private static class JobStatusUpdate {
+    private final org.apache.gobblin.configuration.State jobStatus;
+    private final NewState newState;
+    private final boolean retryRequired;
+
+    String getFlowGroup() {
+      return this.jobStatus.getProp(TimingEvent.FlowEventConstants.FLOW_GROUP_FIELD);
+    }
+
+    String getFlowName() {
+      return this.jobStatus.getProp(TimingEvent.FlowEventConstants.FLOW_NAME_FIELD);
+    }
+
+    long getFlowExecutionId() {
+      return this.jobStatus.getPropAsLong(TimingEvent.FlowEventConstants.FLOW_EXECUTION_ID_FIELD);
+    }
+
+    String getJobName() {
+      return this.jobStatus.getProp(TimingEvent.FlowEventConstants.JOB_NAME_FIELD);
+    }
+
+    String getStoreName() {
+      return storeNameOf(this.jobStatus);
+    }
+
+    String getTableName() {
+      return tableNameOf(this.jobStatus);
+    }
+  }
 }
\ No newline at end of file
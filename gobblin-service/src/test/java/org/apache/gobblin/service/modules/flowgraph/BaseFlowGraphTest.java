@@ -230,4 +230,34 @@ public class BaseFlowGraphTest {
     Assert.assertTrue(!graph.deleteFlowEdge(edgeId2));
     Assert.assertTrue(!graph.deleteFlowEdge(edgeId3));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testActiveEdgesIndexInvalidation() throws Exception {
+    BaseFlowGraph flowGraph = new BaseFlowGraph();
+    flowGraph.addDataNode(node1);
+    flowGraph.addDataNode(node2);
+    flowGraph.addDataNode(node3);
+    FlowTemplate flowTemplate = new StaticFlowTemplate(new URI("FS:///uri"), "", "", ConfigFactory.empty(), null, null);
+    FlowEdge activeEdge = new BaseFlowEdge(Lists.newArrayList("node1", "node2"), "node1:node2:active", flowTemplate,
+        null, ConfigFactory.empty(), true);
+    FlowEdge inactiveEdge = new BaseFlowEdge(Lists.newArrayList("node1", "node3"), "node1:node3:inactive", flowTemplate,
+        null, ConfigFactory.empty(), false);
+    flowGraph.addFlowEdge(activeEdge);
+    flowGraph.addFlowEdge(inactiveEdge);
+
+    Assert.assertEquals(flowGraph.getActiveEdges(node1), Lists.newArrayList(activeEdge));
+    Assert.assertTrue(flowGraph.getActiveEdges(node2).isEmpty());
+
+    //Re-adding the destination as an inactive node must drop the edge from the index
+    Config inactiveNode2Config = node2.getRawConfig()
+        .withValue(FlowGraphConfigurationKeys.DATA_NODE_IS_ACTIVE_KEY, ConfigValueFactory.fromAnyRef(false));
+    flowGraph.addDataNode(new BaseDataNode(inactiveNode2Config));
+    Assert.assertTrue(flowGraph.getActiveEdges(node1).isEmpty());
+
+    flowGraph.addDataNode(node2);
+    Assert.assertEquals(flowGraph.getActiveEdges(node1), Lists.newArrayList(activeEdge));
+
+    Assert.assertTrue(flowGraph.deleteFlowEdge(activeEdge.getId()));
+    Assert.assertTrue(flowGraph.getActiveEdges(node1).isEmpty());
+  }
+}
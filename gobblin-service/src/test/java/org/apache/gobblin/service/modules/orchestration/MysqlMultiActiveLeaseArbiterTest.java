@@ -19,8 +19,13 @@ package org.apache.gobblin.service.modules.orchestration;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -509,6 +514,95 @@ public class MysqlMultiActiveLeaseArbiterTest {
         "CASE 3 (distinct event, lease valid) dropped storeInsertTimeMillis");
   }
 
+  /*
+  Tests `tryAcquireLeases` evaluates each dag action of the batch as `tryAcquireLease` would, for new rows (CASE 1),
+  valid leases of the same event (CASE 2) and completed leases of the same event (CASE 5), and that reminders of the
+  completed event are answered as no longer leasing.
+   */
+  @Test
+  public void testTryAcquireLeasesInBulk() throws Exception {
+    List<DagActionStore.LeaseParams> leaseParamsList =
+        Arrays.asList(getUniqueLaunchLeaseParams(), getUniqueLaunchLeaseParams(), getUniqueLaunchLeaseParams());
+
+    List<LeaseAttemptStatus> firstStatuses = mysqlMultiActiveLeaseArbiter.tryAcquireLeases(leaseParamsList, true);
+    Assert.assertEquals(firstStatuses.size(), leaseParamsList.size());
+    for (int i = 0; i < leaseParamsList.size(); i++) {
+      Assert.assertTrue(firstStatuses.get(i) instanceof LeaseAttemptStatus.LeaseObtainedStatus,
+          firstStatuses.get(i).getClass().getSimpleName() + " IS LeaseObtainedStatus");
+      Assert.assertEquals(firstStatuses.get(i).getConsensusLeaseParams().getDagAction().getFlowGroup(),
+          leaseParamsList.get(i).getDagAction().getFlowGroup());
+    }
+
+    List<LeaseAttemptStatus> secondStatuses = mysqlMultiActiveLeaseArbiter.tryAcquireLeases(leaseParamsList, true);
+    for (LeaseAttemptStatus status : secondStatuses) {
+      Assert.assertTrue(status instanceof LeaseAttemptStatus.LeasedToAnotherStatus,
+          status.getClass().getSimpleName() + " IS LeasedToAnotherStatus");
+    }
+
+    LeaseAttemptStatus.LeaseObtainedStatus obtainedStatus = (LeaseAttemptStatus.LeaseObtainedStatus) firstStatuses.get(0);
+    Assert.assertTrue(mysqlMultiActiveLeaseArbiter.recordLeaseSuccess(obtainedStatus));
+    LeaseAttemptStatus thirdStatus =
+        mysqlMultiActiveLeaseArbiter.tryAcquireLeases(leaseParamsList.subList(0, 1), true).get(0);
+    Assert.assertTrue(thirdStatus instanceof LeaseAttemptStatus.NoLongerLeasingStatus,
+        thirdStatus.getClass().getSimpleName() + " IS NoLongerLeasingStatus");
+
+    // Without its row, a reminder reaching the DB would lease anew, so only the completed lease cache answers this way
+    DagActionStore.LeaseParams reminderLeaseParams = new DagActionStore.LeaseParams(
+        obtainedStatus.getConsensusLeaseParams().getDagAction(), true, obtainedStatus.getEventTimeMillis());
+    Assert.assertEquals(deleteRow(reminderLeaseParams.getDagAction()), 1);
+    LeaseAttemptStatus reminderStatus =
+        mysqlMultiActiveLeaseArbiter.tryAcquireLeases(Arrays.asList(reminderLeaseParams), true).get(0);
+    Assert.assertTrue(reminderStatus instanceof LeaseAttemptStatus.NoLongerLeasingStatus,
+        reminderStatus.getClass().getSimpleName() + " IS NoLongerLeasingStatus");
+    Assert.assertEquals(deleteRow(reminderLeaseParams.getDagAction()), 0);
+  }
+
+  /*
+  Tests `tryAcquireLeases` acquires, in bulk, out-of-date leases (CASE 4) and completed leases of a distinct event
+  (CASE 6)
+   */
+  @Test
+  public void testTryAcquireLeasesInBulkOnExpiredAndCompletedLeases() throws Exception {
+    DagActionStore.LeaseParams expiringLeaseParams = getUniqueLaunchLeaseParams();
+    DagActionStore.LeaseParams completedLeaseParams = getUniqueLaunchLeaseParams();
+    List<DagActionStore.LeaseParams> leaseParamsList = Arrays.asList(expiringLeaseParams, completedLeaseParams);
+
+    List<LeaseAttemptStatus> firstStatuses = mysqlMultiActiveLeaseArbiter.tryAcquireLeases(leaseParamsList, true);
+    for (LeaseAttemptStatus status : firstStatuses) {
+      Assert.assertTrue(status instanceof LeaseAttemptStatus.LeaseObtainedStatus,
+          status.getClass().getSimpleName() + " IS LeaseObtainedStatus");
+    }
+    Assert.assertTrue(mysqlMultiActiveLeaseArbiter.recordLeaseSuccess(
+        (LeaseAttemptStatus.LeaseObtainedStatus) firstStatuses.get(1)));
+
+    // The first lease expires, and the completed one becomes a distinct event
+    Thread.sleep(MORE_THAN_LINGER);
+    List<LeaseAttemptStatus> secondStatuses = mysqlMultiActiveLeaseArbiter.tryAcquireLeases(leaseParamsList, true);
+    for (int i = 0; i < leaseParamsList.size(); i++) {
+      Assert.assertTrue(secondStatuses.get(i) instanceof LeaseAttemptStatus.LeaseObtainedStatus,
+          secondStatuses.get(i).getClass().getSimpleName() + " IS LeaseObtainedStatus");
+      LeaseAttemptStatus.LeaseObtainedStatus secondObtainedStatus =
+          (LeaseAttemptStatus.LeaseObtainedStatus) secondStatuses.get(i);
+      Assert.assertTrue(secondObtainedStatus.getEventTimeMillis()
+          >= ((LeaseAttemptStatus.LeaseObtainedStatus) firstStatuses.get(i)).getEventTimeMillis() + LINGER);
+      Assert.assertEquals(mysqlMultiActiveLeaseArbiter.getRowInfo(leaseParamsList.get(i).getDagAction())
+          .getLeaseAcquisitionTimeMillis().get().longValue(), secondObtainedStatus.getLeaseAcquisitionTimestamp());
+    }
+  }
+
+  /** Deletes the lease arbiter table row of the dag action, as retention would */
+  private int deleteRow(DagActionStore.DagAction dagAction) throws SQLException, URISyntaxException {
+    try (Connection connection = DriverManager.getConnection(this.testDb.getJdbcUrl(), USER, PASSWORD);
+        PreparedStatement statement = connection.prepareStatement(String.format(
+            "DELETE FROM %s WHERE flow_group=? AND flow_name=? AND job_name=? AND dag_action=?", TABLE))) {
+      statement.setString(1, dagAction.getFlowGroup());
+      statement.setString(2, dagAction.getFlowName());
+      statement.setString(3, dagAction.getJobName());
+      statement.setString(4, dagAction.getDagActionType().toString());
+      return statement.executeUpdate();
+    }
+  }
+
   /**
    * Marks the lease associated with the dagAction as completed by fabricating a LeaseObtainedStatus
    * @return SelectInfoResult object containing the event information used to complete the lease
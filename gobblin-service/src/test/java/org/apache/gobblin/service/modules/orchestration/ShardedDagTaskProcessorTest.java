@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.gobblin.service.modules.orchestration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.gobblin.service.modules.orchestration.proc.DagProc;
+import org.apache.gobblin.service.modules.orchestration.task.DagProcessingEngineMetrics;
+import org.apache.gobblin.service.modules.orchestration.task.DagTask;
+import org.apache.gobblin.testing.AssertWithBackoff;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+
+@Slf4j
+public class ShardedDagTaskProcessorTest {
+
+  @Test
+  public void testShardIdDependsOnFlowOnly() {
+    int numShards = 8;
+    DagActionStore.DagAction launch = new DagActionStore.DagAction("fg", "fn", 1L, "jn1", DagActionStore.DagActionType.LAUNCH);
+    DagActionStore.DagAction reevaluate = new DagActionStore.DagAction("fg", "fn", 2L, "jn2", DagActionStore.DagActionType.REEVALUATE);
+    int shardId = ShardedDagTaskProcessor.getShardId(launch, numShards);
+
+    Assert.assertEquals(ShardedDagTaskProcessor.getShardId(reevaluate, numShards), shardId);
+    Assert.assertTrue(shardId >= 0 && shardId < numShards);
+  }
+
+  @Test
+  public void testDagActionsOfAFlowAreProcessedInOrder() throws Exception {
+    int numTasks = 100;
+    List<Long> processedFlowExecutionIds = Collections.synchronizedList(new ArrayList<>());
+    ShardedDagTaskProcessor processor = new ShardedDagTaskProcessor(4, numTasks, mock(DagProcFactory.class),
+        mock(DagManagementStateStore.class), mock(DagProcessingEngineMetrics.class));
+
+    try {
+      for (long i = 0; i < numTasks; i++) {
+        long flowExecutionId = i;
+        DagActionStore.DagAction dagAction =
+            new DagActionStore.DagAction("fg", "fn", flowExecutionId, "jn", DagActionStore.DagActionType.LAUNCH);
+        DagProc<?> dagProc = mock(DagProc.class);
+        doAnswer(invocation -> processedFlowExecutionIds.add(flowExecutionId)).when(dagProc).process(any(), any());
+        DagTask dagTask = mock(DagTask.class);
+        doReturn(dagAction).when(dagTask).getDagAction();
+        doReturn(dagProc).when(dagTask).host(any());
+        processor.submit(dagTask);
+      }
+
+      AssertWithBackoff.assertTrue(input -> processedFlowExecutionIds.size() == numTasks, 10000L,
+          "Not all dag tasks were processed", log, 1, 100L);
+      List<Long> sortedFlowExecutionIds = new ArrayList<>(processedFlowExecutionIds);
+      Collections.sort(sortedFlowExecutionIds);
+      Assert.assertEquals(processedFlowExecutionIds, sortedFlowExecutionIds);
+    } finally {
+      processor.close();
+    }
+  }
+
+  @Test
+  public void testSlowShardStopsLeasing() throws Exception {
+    int shardQueueCapacity = 2;
+    AtomicInteger numLeased = new AtomicInteger();
+    CountDownLatch releaseShard = new CountDownLatch(1);
+    ShardedDagTaskProcessor processor = new ShardedDagTaskProcessor(1, shardQueueCapacity, mock(DagProcFactory.class),
+        mock(DagManagementStateStore.class), mock(DagProcessingEngineMetrics.class));
+    DagProc<?> slowDagProc = mock(DagProc.class);
+    doAnswer(invocation -> {
+      releaseShard.await();
+      return null;
+    }).when(slowDagProc).process(any(), any());
+    DagTaskStream dagTaskStream = mock(DagTaskStream.class);
+    doAnswer(invocation -> {
+      // every task handed out by the stream has been leased
+      long flowExecutionId = numLeased.incrementAndGet();
+      DagTask dagTask = mock(DagTask.class);
+      doReturn(new DagActionStore.DagAction("fg", "fn", flowExecutionId, "jn", DagActionStore.DagActionType.LAUNCH))
+          .when(dagTask).getDagAction();
+      doReturn(slowDagProc).when(dagTask).host(any());
+      return dagTask;
+    }).when(dagTaskStream).next();
+    ExecutorService engineThreadPool = Executors.newSingleThreadExecutor();
+
+    try {
+      engineThreadPool.submit(new DagProcessingEngine.DagProcEngineThread(dagTaskStream, mock(DagProcFactory.class),
+          mock(DagManagementStateStore.class), mock(DagProcessingEngineMetrics.class), 0, processor));
+      // one task being processed, a full queue, and one task waiting for room in the queue
+      int maxLeased = shardQueueCapacity + 2;
+      AssertWithBackoff.assertTrue(input -> numLeased.get() == maxLeased, 10000L,
+          "Engine thread did not fill the shard queue", log, 1, 100L);
+      Thread.sleep(500L);
+      Assert.assertEquals(numLeased.get(), maxLeased);
+    } finally {
+      releaseShard.countDown();
+      engineThreadPool.shutdownNow();
+      Assert.assertTrue(engineThreadPool.awaitTermination(10, TimeUnit.SECONDS));
+      processor.close();
+    }
+  }
+
+  @Test
+  public void testTaskWithExpiredLeaseIsSkipped() throws Exception {
+    ShardedDagTaskProcessor processor = new ShardedDagTaskProcessor(1, 1, mock(DagProcFactory.class),
+        mock(DagManagementStateStore.class), mock(DagProcessingEngineMetrics.class));
+    DagTask expiredDagTask = mock(DagTask.class);
+    doReturn(new DagActionStore.DagAction("fg", "fn", 1L, "jn", DagActionStore.DagActionType.LAUNCH))
+        .when(expiredDagTask).getDagAction();
+    doReturn(true).when(expiredDagTask).isLeaseExpired();
+    CountDownLatch processed = new CountDownLatch(1);
+    DagProc<?> dagProc = mock(DagProc.class);
+    doAnswer(invocation -> {
+      processed.countDown();
+      return null;
+    }).when(dagProc).process(any(), any());
+    DagTask dagTask = mock(DagTask.class);
+    doReturn(new DagActionStore.DagAction("fg", "fn", 2L, "jn", DagActionStore.DagActionType.LAUNCH))
+        .when(dagTask).getDagAction();
+    doReturn(dagProc).when(dagTask).host(any());
+
+    try {
+      processor.submit(expiredDagTask);
+      processor.submit(dagTask);
+      Assert.assertTrue(processed.await(10, TimeUnit.SECONDS));
+      verify(expiredDagTask, never()).host(any());
+      verify(expiredDagTask, never()).conclude();
+    } finally {
+      processor.close();
+    }
+  }
+}
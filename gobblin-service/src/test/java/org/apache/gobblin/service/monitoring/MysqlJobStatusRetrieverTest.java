@@ -19,6 +19,7 @@ package org.apache.gobblin.service.monitoring;
 
 import java.io.IOException;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Properties;
 
 import org.apache.commons.lang3.tuple.Pair;
@@ -28,6 +29,8 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.Table;
 
 import org.apache.gobblin.config.ConfigBuilder;
 import org.apache.gobblin.configuration.ConfigurationKeys;
@@ -154,6 +157,32 @@ public class MysqlJobStatusRetrieverTest extends JobStatusRetrieverTest {
     Assert.assertEquals(jobStatusIterator.next().getFlowGroup(), flowGroup);
   }
 
+  @Test
+  public void testPutAllTables() throws IOException {
+    String storeName = KafkaJobStatusMonitor.jobStatusStoreName("batchFlowGroup", "batchFlowName");
+    Table<String, String, State> jobStatuses = HashBasedTable.create();
+    for (long flowExecutionId = 12350L; flowExecutionId < 12353L; flowExecutionId++) {
+      Properties properties = new Properties();
+      properties.setProperty(TimingEvent.FlowEventConstants.FLOW_EXECUTION_ID_FIELD, String.valueOf(flowExecutionId));
+      properties.setProperty(JobStatusRetriever.EVENT_NAME_FIELD, ExecutionStatus.RUNNING.name());
+      jobStatuses.put(storeName, KafkaJobStatusMonitor.jobStatusTableName(flowExecutionId, MY_JOB_NAME_1, MY_JOB_NAME_1),
+          new State(properties));
+    }
+    // existing rows are replaced, as with `put`
+    this.dbJobStateStore.put(storeName, KafkaJobStatusMonitor.jobStatusTableName(12350L, MY_JOB_NAME_1, MY_JOB_NAME_1), new State());
+
+    this.dbJobStateStore.putAll(jobStatuses);
+
+    for (Table.Cell<String, String, State> cell : jobStatuses.cellSet()) {
+      List<State> states = this.dbJobStateStore.getAll(cell.getRowKey(), cell.getColumnKey());
+      Assert.assertEquals(states.size(), 1);
+      Assert.assertEquals(states.get(0).getProp(TimingEvent.FlowEventConstants.FLOW_EXECUTION_ID_FIELD),
+          cell.getValue().getProp(TimingEvent.FlowEventConstants.FLOW_EXECUTION_ID_FIELD));
+      Assert.assertEquals(states.get(0).getProp(JobStatusRetriever.EVENT_NAME_FIELD), ExecutionStatus.RUNNING.name());
+    }
+    this.dbJobStateStore.delete(storeName);
+  }
+
   @Test
   public void testInvalidColumnName() {
     Properties properties = new Properties();
@@ -189,4 +189,14 @@ public interface GobblinTemporalConfigurationKeys {
    * Memory allocation for execution worker containers.
    */
   String WORK_EXECUTION_MEMORY_MB = STAGE_SPECIFIC_PREFIX + "workExecution.memory.mb";
+
+  /**
+   * Worker-scoped cache of the per-job resources reused across `ProcessWorkUnit` activities: max number of jobs whose
+   * resources are held, and minutes after which an idle job's resources are released.
+   */
+  String JOB_RESOURCES_CACHE_PREFIX = PREFIX + "jobResourcesCache.";
+  String JOB_RESOURCES_CACHE_MAX_JOBS = JOB_RESOURCES_CACHE_PREFIX + "maxJobs";
+  int DEFAULT_JOB_RESOURCES_CACHE_MAX_JOBS = 16;
+  String JOB_RESOURCES_CACHE_IDLE_EXPIRATION_MINUTES = JOB_RESOURCES_CACHE_PREFIX + "idleExpirationMinutes";
+  long DEFAULT_JOB_RESOURCES_CACHE_IDLE_EXPIRATION_MINUTES = 10;
 }
@@ -176,6 +176,8 @@ public class CommitActivityImpl implements CommitActivity {
       EventSubmitter eventSubmitter = workSpec.getEventSubmitterContext().create();
       Help.finalizeTroubleshooting(troubleshooter, eventSubmitter, log, errCorrelator);
       ExecutorsUtils.shutdownExecutorService(heartBeatExecutor, com.google.common.base.Optional.of(log));
+      // no further work units will process, so release the job's resources should this worker have cached them
+      JobResourcesCache.getWorkerInstanceIfCreated().ifPresent(cache -> cache.invalidate(workSpec.getJobStatePath()));
     }
   }
 
@@ -18,6 +18,7 @@
 package org.apache.gobblin.temporal.ddm.activity.impl;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -246,6 +247,7 @@ public class GenerateWorkUnitsImpl implements GenerateWorkUnits {
       // TODO: decide whether a non-retryable failure is too severe... (some sources may merit retry)
       throw ApplicationFailure.newNonRetryableFailure(errMsg, "Failure: Source.getWorkUnits()");
     }
+    workUnitStream = materializeForReplay(workUnitStream);
     workDiscoveryTimer.stop();
 
     if (!workUnitStream.getWorkUnits().hasNext()) { // no work unit to run: entirely normal result (not a failure)
@@ -286,6 +288,24 @@ public class GenerateWorkUnitsImpl implements GenerateWorkUnits {
         converterInitializer.commemorate());
   }
 
+  /**
+   * Work discovery iterates the {@link WorkUnitStream} more than once (e.g. {@link #calculateWorkDirsToCleanup} before
+   * {@link AbstractJobLauncher#materializeWorkUnitList}), and returns a materialized list in the end anyway. Streams
+   * backed by a one-shot iterator, as {@link WorkUnitStreamSource}s may return, are therefore materialized up front.
+   */
+  protected static WorkUnitStream materializeForReplay(WorkUnitStream workUnitStream) {
+    if (workUnitStream.isSafeToMaterialize()) {
+      workUnitStream.getMaterializedWorkUnitCollection();
+      return workUnitStream;
+    }
+    if (!workUnitStream.isFiniteStream()) {
+      throw new UnsupportedOperationException("Cannot generate work units from an infinite work unit stream.");
+    }
+    List<WorkUnit> workUnits = new ArrayList<>();
+    workUnitStream.getWorkUnits().forEachRemaining(workUnits::add);
+    return new BasicWorkUnitStream.Builder(workUnits).build();
+  }
+
   protected static Set<String> calculateWorkDirsToCleanup(WorkUnitStream workUnitStream) {
     Set<String> workDirPaths = new HashSet<>();
     // Validate every workunit if they have the temp dir props since some workunits may be commit steps
@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.temporal.ddm.activity.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalListener;
+import com.google.common.io.Closer;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.typesafe.config.Config;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.gobblin.broker.gobblin_scopes.GobblinScopeTypes;
+import org.apache.gobblin.broker.iface.SharedResourcesBroker;
+import org.apache.gobblin.instrumented.Instrumented;
+import org.apache.gobblin.metrics.MetricContext;
+import org.apache.gobblin.metastore.StateStore;
+import org.apache.gobblin.runtime.JobState;
+import org.apache.gobblin.runtime.TaskExecutor;
+import org.apache.gobblin.runtime.TaskState;
+import org.apache.gobblin.temporal.GobblinTemporalConfigurationKeys;
+import org.apache.gobblin.temporal.ddm.util.JobStateUtils;
+import org.apache.gobblin.temporal.ddm.work.WorkUnitClaimCheck;
+import org.apache.gobblin.temporal.ddm.work.assistance.Help;
+import org.apache.gobblin.util.ConfigUtils;
+
+
+/**
+ * Worker-scoped cache of the per-job resources that every {@link ProcessWorkUnitImpl} activity would otherwise set up
+ * (and tear down) anew: the {@link JobState}, a {@link FileSystem}, the job's {@link SharedResourcesBroker}, its task
+ * {@link StateStore} and the {@link TaskExecutor}s, whose thread pools were previously never shut down.
+ *
+ * Entries are keyed by job state path, which is unique per job execution, and get evicted when idle, when exceeding the
+ * max number of jobs, or explicitly via {@link #invalidate(Path)} once the job commits.  As an activity may still hold an
+ * entry at eviction, resources are reference counted by {@link Lease} and closed only once the last is returned.
+ */
+@Slf4j
+public class JobResourcesCache {
+  public static final Duration DEFAULT_IDLE_EXPIRATION =
+      Duration.ofMinutes(GobblinTemporalConfigurationKeys.DEFAULT_JOB_RESOURCES_CACHE_IDLE_EXPIRATION_MINUTES);
+  public static final int DEFAULT_MAX_CACHED_JOBS = GobblinTemporalConfigurationKeys.DEFAULT_JOB_RESOURCES_CACHE_MAX_JOBS;
+
+  public static final String HITS_METRIC = "jobResourcesCache.hits";
+  public static final String MISSES_METRIC = "jobResourcesCache.misses";
+  public static final String EVICTIONS_METRIC = "jobResourcesCache.evictions";
+  public static final String SIZE_METRIC = "jobResourcesCache.size";
+
+  private static JobResourcesCache workerInstance = null;
+
+  private final Cache<Path, JobResources> resourcesByJobStatePath;
+  private final AtomicInteger accessCount = new AtomicInteger(0);
+
+  /**
+   * @return the cache shared by every activity of the worker (JVM), so a job's resources get reused across its many work
+   * units.  It is created, and its metrics registered, from the `workerConfig` of the first caller.
+   */
+  public static synchronized JobResourcesCache getWorkerInstance(Config workerConfig) {
+    if (workerInstance == null) {
+      Duration idleExpiration = Duration.ofMinutes(ConfigUtils.getLong(workerConfig,
+          GobblinTemporalConfigurationKeys.JOB_RESOURCES_CACHE_IDLE_EXPIRATION_MINUTES,
+          GobblinTemporalConfigurationKeys.DEFAULT_JOB_RESOURCES_CACHE_IDLE_EXPIRATION_MINUTES));
+      int maxCachedJobs = ConfigUtils.getInt(workerConfig, GobblinTemporalConfigurationKeys.JOB_RESOURCES_CACHE_MAX_JOBS,
+          GobblinTemporalConfigurationKeys.DEFAULT_JOB_RESOURCES_CACHE_MAX_JOBS);
+      log.info("creating worker's job resources cache (idleExpiration: {}, maxCachedJobs: {})", idleExpiration, maxCachedJobs);
+      workerInstance = new JobResourcesCache(idleExpiration, maxCachedJobs);
+      workerInstance.registerMetrics(
+          Instrumented.getMetricContext(ConfigUtils.configToState(workerConfig), JobResourcesCache.class));
+    }
+    return workerInstance;
+  }
+
+  /** @return the worker's cache, only if some activity already created it, e.g. to release resources w/o creating it */
+  public static synchronized Optional<JobResourcesCache> getWorkerInstanceIfCreated() {
+    return Optional.ofNullable(workerInstance);
+  }
+
+  public JobResourcesCache() {
+    this(DEFAULT_IDLE_EXPIRATION, DEFAULT_MAX_CACHED_JOBS);
+  }
+
+  public JobResourcesCache(Duration idleExpiration, int maxCachedJobs) {
+    this.resourcesByJobStatePath = CacheBuilder.newBuilder()
+        .expireAfterAccess(idleExpiration.toMillis(), TimeUnit.MILLISECONDS)
+        .maximumSize(maxCachedJobs)
+        .recordStats()
+        .removalListener((RemovalListener<Path, JobResources>) notification -> {
+          log.info("retiring resources of job '{}' ({})", notification.getKey(), notification.getCause());
+          notification.getValue().retire();
+        })
+        .build();
+  }
+
+  /** @return a {@link Lease} on the resources of the job of `wu`, which the caller MUST {@link Lease#close()} */
+  public Lease acquire(WorkUnitClaimCheck wu) throws IOException {
+    incrementAccess();
+    while (true) {
+      JobResources resources;
+      try {
+        resources = this.resourcesByJobStatePath.get(wu.getJobStatePath(), () -> JobResources.open(wu));
+      } catch (ExecutionException | UncheckedExecutionException e) {
+        Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+        throw new IOException(e.getCause());
+      }
+      if (resources.retain()) {
+        return new Lease(resources);
+      }
+      // lost a race to eviction, which already removed the entry, so the next `get` will reload
+    }
+  }
+
+  /** Evict the resources of the job at `jobStatePath`, e.g. upon its completion */
+  public void invalidate(Path jobStatePath) {
+    this.resourcesByJobStatePath.invalidate(jobStatePath);
+  }
+
+  public CacheStats stats() {
+    return this.resourcesByJobStatePath.stats();
+  }
+
+  /** Report the cache's {@link CacheStats} as gauges, as done for the worker's other metrics */
+  @VisibleForTesting
+  void registerMetrics(MetricContext metricContext) {
+    metricContext.register(metricContext.newContextAwareGauge(HITS_METRIC, () -> stats().hitCount()));
+    metricContext.register(metricContext.newContextAwareGauge(MISSES_METRIC, () -> stats().missCount()));
+    metricContext.register(metricContext.newContextAwareGauge(EVICTIONS_METRIC, () -> stats().evictionCount()));
+    metricContext.register(metricContext.newContextAwareGauge(SIZE_METRIC, this.resourcesByJobStatePath::size));
+  }
+
+  @VisibleForTesting
+  long size() {
+    this.resourcesByJobStatePath.cleanUp();
+    return this.resourcesByJobStatePath.size();
+  }
+
+  private void incrementAccess() {
+    int numAccesses = this.accessCount.getAndIncrement();
+    if (numAccesses % Help.LOG_CACHE_STATS_EVERY_N_ACCESSES == 0) {
+      log.info("JobResources(numAccesses: {}) - {}", numAccesses, stats());
+    }
+  }
+
+
+  /** Borrowed access to a job's cached resources, with at most one {@link TaskExecutor} held at a time */
+  public static class Lease implements Closeable {
+    private final JobResources resources;
+    private TaskExecutor taskExecutor = null;
+    private boolean closed = false;
+
+    private Lease(JobResources resources) {
+      this.resources = resources;
+    }
+
+    public JobState getJobState() {
+      return this.resources.getJobState();
+    }
+
+    public FileSystem getFileSystem() {
+      return this.resources.getFs();
+    }
+
+    public SharedResourcesBroker<GobblinScopeTypes> getSharedResourcesBroker() {
+      return this.resources.getBroker();
+    }
+
+    public StateStore<TaskState> getTaskStateStore() {
+      return this.resources.getTaskStateStore();
+    }
+
+    /** @return a running {@link TaskExecutor}, exclusively for this lease, so concurrent activities never share thread pools */
+    public synchronized TaskExecutor getTaskExecutor() {
+      if (this.taskExecutor == null) {
+        this.taskExecutor = this.resources.borrowTaskExecutor();
+      }
+      return this.taskExecutor;
+    }
+
+    @Override
+    public synchronized void close() {
+      if (this.closed) {
+        return;
+      }
+      this.closed = true;
+      if (this.taskExecutor != null) {
+        this.resources.returnTaskExecutor(this.taskExecutor);
+        this.taskExecutor = null;
+      }
+      this.resources.release();
+    }
+  }
+
+
+  /** The resources of a single job, which are closed once both retired from the cache and no longer leased */
+  @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+  @Getter(AccessLevel.PRIVATE)
+  private static class JobResources {
+    private final Path jobStatePath;
+    private final JobState jobState;
+    private final FileSystem fs;
+    private final SharedResourcesBroker<GobblinScopeTypes> broker;
+    private final StateStore<TaskState> taskStateStore;
+    private final Deque<TaskExecutor> idleTaskExecutors = new ArrayDeque<>();
+    private int numLeases = 0;
+    private boolean retired = false;
+
+    public static JobResources open(WorkUnitClaimCheck wu) throws IOException {
+      // NOTE: uncached FS, as this one lives (and gets closed) along w/ the entry; see `Help.loadFileSystemForUriForce`
+      FileSystem fs = Help.loadFileSystemForce(wu);
+      try {
+        JobState jobState = Help.loadJobStateUncached(wu, fs);
+        return new JobResources(wu.getJobStatePath(), jobState, fs, JobStateUtils.getSharedResourcesBroker(jobState),
+            JobStateUtils.openTaskStateStoreUncached(jobState, fs));
+      } catch (IOException | RuntimeException e) {
+        fs.close();
+        throw e;
+      }
+    }
+
+    public synchronized boolean retain() {
+      if (this.retired) {
+        return false;
+      }
+      ++this.numLeases;
+      return true;
+    }
+
+    public synchronized void release() {
+      --this.numLeases;
+      closeIfDone();
+    }
+
+    public synchronized void retire() {
+      this.retired = true;
+      closeIfDone();
+    }
+
+    public synchronized TaskExecutor borrowTaskExecutor() {
+      TaskExecutor taskExecutor = this.idleTaskExecutors.pollFirst();
+      if (taskExecutor == null) {
+        taskExecutor = new TaskExecutor(this.jobState.getProperties());
+        taskExecutor.startAsync().awaitRunning();
+      }
+      return taskExecutor;
+    }
+
+    public synchronized void returnTaskExecutor(TaskExecutor taskExecutor) {
+      // an interrupted `GobblinMultiTaskAttempt` shuts down the executor, so never pool it
+      if (!this.retired && taskExecutor.isRunning() && taskExecutor.isAcceptingTasks()) {
+        this.idleTaskExecutors.addFirst(taskExecutor);
+      } else {
+        stop(taskExecutor);
+      }
+    }
+
+    private void closeIfDone() {
+      if (!this.retired || this.numLeases > 0) {
+        return;
+      }
+      this.idleTaskExecutors.forEach(JobResources::stop);
+      this.idleTaskExecutors.clear();
+      Closer closer = Closer.create();
+      closer.register(this.fs);
+      closer.register(this.broker); // (closed first, as `Closer` is LIFO)
+      try {
+        closer.close();
+      } catch (IOException ioe) {
+        log.warn("failed closing resources of job '{}'", this.jobStatePath, ioe);
+      }
+    }
+
+    private static void stop(TaskExecutor taskExecutor) {
+      try {
+        taskExecutor.stopAsync().awaitTerminated();
+      } catch (IllegalStateException ise) {
+        log.warn("task executor failed to stop cleanly", ise);
+      }
+    }
+  }
+}
@@ -31,6 +31,8 @@ import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 
 import com.google.common.collect.Lists;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
 import io.temporal.activity.Activity;
 import io.temporal.activity.ActivityExecutionContext;
 import io.temporal.failure.ApplicationFailure;
@@ -74,6 +76,17 @@ public class ProcessWorkUnitImpl implements ProcessWorkUnit {
   private static final String MAX_SOURCE_PATHS_TO_LOG_PER_MULTI_WORK_UNIT = ProcessWorkUnitImpl.class.getName() + ".maxSourcePathsToLogPerMultiWorkUnit";
   private static final int DEFAULT_MAX_SOURCE_PATHS_TO_LOG_PER_MULTI_WORK_UNIT = 5;
 
+  private final JobResourcesCache jobResourcesCache;
+
+  public ProcessWorkUnitImpl() {
+    this(ConfigFactory.empty());
+  }
+
+  /** @param workerConfig configures the {@link JobResourcesCache} shared by every activity of the worker */
+  public ProcessWorkUnitImpl(Config workerConfig) {
+    this.jobResourcesCache = JobResourcesCache.getWorkerInstance(workerConfig);
+  }
+
   @Override
   public int processWorkUnit(WorkUnitClaimCheck wu) {
     ActivityExecutionContext activityExecutionContext = Activity.getExecutionContext();
@@ -83,16 +96,16 @@ public class ProcessWorkUnitImpl implements ProcessWorkUnit {
     AutomaticTroubleshooter troubleshooter = null;
     EventSubmitter eventSubmitter = wu.getEventSubmitterContext().create();
     String correlator = String.format("(M)WU [%s]", wu.getCorrelator());
-    try (FileSystem fs = Help.loadFileSystemForce(wu)) {
-      List<WorkUnit> workUnits = loadFlattenedWorkUnits(wu, fs);
+    try (JobResourcesCache.Lease jobResources = this.jobResourcesCache.acquire(wu)) {
+      List<WorkUnit> workUnits = loadFlattenedWorkUnits(wu, jobResources.getFileSystem());
       log.info("{} - loaded; found {} workUnits", correlator, workUnits.size());
-      JobState jobState = Help.loadJobState(wu, fs);
+      JobState jobState = jobResources.getJobState();
       int heartBeatInterval = JobStateUtils.getHeartBeatInterval(jobState);
       heartBeatExecutor.scheduleAtFixedRate(() -> activityExecutionContext.heartbeat("Running ProcessWorkUnit Activity"),
           heartBeatInterval, heartBeatInterval, TimeUnit.MINUTES);
       troubleshooter = AutomaticTroubleshooterFactory.createForJob(jobState.getProperties());
       troubleshooter.start();
-      return execute(workUnits, wu, jobState, fs, troubleshooter.getIssueRepository(), jobState.getProperties());
+      return execute(workUnits, wu, jobResources, troubleshooter.getIssueRepository());
     } catch (IOException e) {
       Optional<Throwable> nonRetryable = NonRetryableExceptions.matchNonRetryable(e);
       if (nonRetryable.isPresent()) {
@@ -122,16 +135,18 @@ public class ProcessWorkUnitImpl implements ProcessWorkUnit {
    * NOTE: adapted from {@link org.apache.gobblin.runtime.mapreduce.MRJobLauncher.TaskRunner#run(org.apache.hadoop.mapreduce.Mapper.Context)}
    * @return count of how many tasks executed (0 if execution ultimately failed, but we *believe* TaskState should already have been recorded beforehand)
    */
-  protected int execute(List<WorkUnit> workUnits, WorkUnitClaimCheck wu, JobState jobState, FileSystem fs, IssueRepository issueRepository,
-                        Properties jobProperties) throws IOException, InterruptedException {
+  protected int execute(List<WorkUnit> workUnits, WorkUnitClaimCheck wu, JobResourcesCache.Lease jobResources,
+      IssueRepository issueRepository) throws IOException, InterruptedException {
     String containerId = "container-id-for-wu-" + wu.getCorrelator();
-    StateStore<TaskState> taskStateStore = Help.openTaskStateStore(wu, fs);
+    JobState jobState = jobResources.getJobState();
+    FileSystem fs = jobResources.getFileSystem();
+    StateStore<TaskState> taskStateStore = jobResources.getTaskStateStore();
 
     TaskStateTracker taskStateTracker = createEssentializedTaskStateTracker(wu);
-    TaskExecutor taskExecutor = new TaskExecutor(jobProperties);
+    TaskExecutor taskExecutor = jobResources.getTaskExecutor();
     GobblinMultiTaskAttempt.CommitPolicy multiTaskAttemptCommitPolicy = GobblinMultiTaskAttempt.CommitPolicy.IMMEDIATE; // as no speculative exec
 
-    SharedResourcesBroker<GobblinScopeTypes> resourcesBroker = JobStateUtils.getSharedResourcesBroker(jobState);
+    SharedResourcesBroker<GobblinScopeTypes> resourcesBroker = jobResources.getSharedResourcesBroker();
     Optional<String> optWorkUnitsDesc = getOptWorkUnitsDesc(workUnits, wu.getWorkUnitPath(), jobState);
     log.info("WU [{}] - submitting {} workUnits {}",
         wu.getCorrelator(),
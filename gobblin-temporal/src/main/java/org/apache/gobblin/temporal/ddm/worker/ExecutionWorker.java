@@ -82,7 +82,7 @@ public class ExecutionWorker extends AbstractTemporalWorker {
     @Override
     protected Object[] getActivityImplInstances() {
         return new Object[] {
-            new ProcessWorkUnitImpl()
+            new ProcessWorkUnitImpl(this.config)
         };
     }
 
@@ -25,6 +25,8 @@ import java.util.List;
 import java.util.Properties;
 import java.util.Set;
 
+import com.google.common.collect.Lists;
+
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import static org.mockito.ArgumentMatchers.any;
@@ -37,6 +39,7 @@ import org.apache.gobblin.broker.gobblin_scopes.GobblinScopeTypes;
 import org.apache.gobblin.broker.iface.SharedResourcesBroker;
 import org.apache.gobblin.configuration.ConfigurationKeys;
 import org.apache.gobblin.metastore.DatasetStateStore;
+import org.apache.gobblin.runtime.AbstractJobLauncher;
 import org.apache.gobblin.runtime.CombinedWorkUnitAndDatasetStateGenerator;
 import org.apache.gobblin.runtime.JobState;
 import org.apache.gobblin.runtime.util.DatasetStateStoreUtils;
@@ -114,6 +117,43 @@ public class GenerateWorkUnitsImplTest {
     Assert.assertEquals(output.size(), 11);
   }
 
+  @Test
+  public void testMaterializeForReplayOfIteratorBackedStream() {
+    List<WorkUnit> workUnits = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      WorkUnit workUnit = WorkUnit.createEmpty();
+      workUnit.setProp("writer.staging.dir", "/tmp/jobId/task-staging/" + i);
+      workUnits.add(workUnit);
+    }
+    // a one-shot stream, as returned by a streaming `WorkUnitStreamSource`
+    WorkUnitStream workUnitStream = new BasicWorkUnitStream.Builder(workUnits.iterator()).build();
+    Assert.assertFalse(workUnitStream.isSafeToMaterialize());
+
+    WorkUnitStream replayableStream = GenerateWorkUnitsImpl.materializeForReplay(workUnitStream);
+    Assert.assertEquals(GenerateWorkUnitsImpl.calculateWorkDirsToCleanup(replayableStream).size(), 5);
+    Assert.assertEquals(AbstractJobLauncher.materializeWorkUnitList(replayableStream), workUnits);
+  }
+
+  @Test
+  public void testMaterializeForReplayOfMaterializableIteratorStream() {
+    List<WorkUnit> workUnits = Lists.newArrayList(WorkUnit.createEmpty(), WorkUnit.createEmpty());
+    WorkUnitStream workUnitStream = new BasicWorkUnitStream.Builder(workUnits.iterator())
+        .setSafeToMaterialize(true)
+        .build();
+
+    WorkUnitStream replayableStream = GenerateWorkUnitsImpl.materializeForReplay(workUnitStream);
+    Assert.assertTrue(GenerateWorkUnitsImpl.calculateWorkDirsToCleanup(replayableStream).isEmpty());
+    Assert.assertEquals(AbstractJobLauncher.materializeWorkUnitList(replayableStream), workUnits);
+  }
+
+  @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testMaterializeForReplayRejectsInfiniteStream() {
+    WorkUnitStream workUnitStream = new BasicWorkUnitStream.Builder(Lists.newArrayList(WorkUnit.createEmpty()).iterator())
+        .setFiniteStream(false)
+        .build();
+    GenerateWorkUnitsImpl.materializeForReplay(workUnitStream);
+  }
+
   @Test
   public void testDigestWorkUnitsSize() {
     int numSingleWorkUnits = 5;
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.temporal.ddm.activity.impl;
+
+import java.io.File;
+import java.net.URI;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.google.common.io.Files;
+
+import org.apache.gobblin.configuration.ConfigurationKeys;
+import org.apache.gobblin.configuration.State;
+import org.apache.gobblin.metrics.MetricContext;
+import org.apache.gobblin.runtime.AbstractJobLauncher;
+import org.apache.gobblin.runtime.JobState;
+import org.apache.gobblin.runtime.TaskExecutor;
+import org.apache.gobblin.temporal.ddm.util.JobStateUtils;
+import org.apache.gobblin.temporal.ddm.work.WorkUnitClaimCheck;
+
+
+/** Tests for {@link JobResourcesCache} */
+public class JobResourcesCacheTest {
+  private File tmpDir;
+  private WorkUnitClaimCheck wu;
+
+  @BeforeClass
+  public void setUp() throws Exception {
+    this.tmpDir = Files.createTempDir();
+    JobState jobState = new JobState("JobResourcesCacheTest", "job_JobResourcesCacheTest_123");
+    jobState.setProp(ConfigurationKeys.MR_JOB_ROOT_DIR_KEY, this.tmpDir.getAbsolutePath());
+    Path workDirRoot = JobStateUtils.getWorkDirRoot(jobState);
+    JobStateUtils.writeJobState(jobState, workDirRoot, FileSystem.getLocal(new Configuration()));
+
+    this.wu = Mockito.mock(WorkUnitClaimCheck.class);
+    Mockito.when(this.wu.getJobStatePath()).thenReturn(new Path(workDirRoot, AbstractJobLauncher.JOB_STATE_FILE_NAME));
+    Mockito.when(this.wu.getFileSystemUri()).thenReturn(URI.create(ConfigurationKeys.LOCAL_FS_URI));
+    Mockito.when(this.wu.getFileSystemConfig()).thenReturn(new State());
+  }
+
+  @AfterClass(alwaysRun = true)
+  public void tearDown() throws Exception {
+    FileUtils.deleteDirectory(this.tmpDir);
+  }
+
+  @Test
+  public void testResourcesReusedAcrossLeases() throws Exception {
+    JobResourcesCache cache = new JobResourcesCache();
+    TaskExecutor taskExecutor;
+    JobState jobState;
+    try (JobResourcesCache.Lease lease = cache.acquire(this.wu)) {
+      jobState = lease.getJobState();
+      taskExecutor = lease.getTaskExecutor();
+      Assert.assertTrue(taskExecutor.isRunning());
+      Assert.assertSame(lease.getTaskExecutor(), taskExecutor);
+    }
+    try (JobResourcesCache.Lease lease = cache.acquire(this.wu)) {
+      Assert.assertSame(lease.getJobState(), jobState);
+      Assert.assertSame(lease.getTaskExecutor(), taskExecutor);
+    }
+    Assert.assertEquals(cache.stats().missCount(), 1);
+    Assert.assertEquals(cache.stats().hitCount(), 1);
+    cache.invalidate(this.wu.getJobStatePath());
+    Assert.assertFalse(taskExecutor.isRunning());
+  }
+
+  @Test
+  public void testMetrics() throws Exception {
+    JobResourcesCache cache = new JobResourcesCache(JobResourcesCache.DEFAULT_IDLE_EXPIRATION, 1);
+    MetricContext metricContext = MetricContext.builder("JobResourcesCacheTest").build();
+    cache.registerMetrics(metricContext);
+    try (JobResourcesCache.Lease lease = cache.acquire(this.wu)) {
+      Assert.assertNotNull(lease.getJobState());
+    }
+    try (JobResourcesCache.Lease lease = cache.acquire(this.wu)) {
+      Assert.assertNotNull(lease.getJobState());
+    }
+    Assert.assertEquals(metricContext.getGauges().get(JobResourcesCache.HITS_METRIC).getValue(), 1L);
+    Assert.assertEquals(metricContext.getGauges().get(JobResourcesCache.MISSES_METRIC).getValue(), 1L);
+    Assert.assertEquals(metricContext.getGauges().get(JobResourcesCache.SIZE_METRIC).getValue(), 1L);
+    cache.invalidate(this.wu.getJobStatePath());
+    // explicit invalidation is not an eviction
+    Assert.assertEquals(metricContext.getGauges().get(JobResourcesCache.EVICTIONS_METRIC).getValue(), 0L);
+  }
+
+  @Test
+  public void testConcurrentLeasesNeverShareTaskExecutor() throws Exception {
+    JobResourcesCache cache = new JobResourcesCache();
+    try (JobResourcesCache.Lease lease1 = cache.acquire(this.wu);
+        JobResourcesCache.Lease lease2 = cache.acquire(this.wu)) {
+      Assert.assertSame(lease1.getJobState(), lease2.getJobState());
+      Assert.assertNotSame(lease1.getTaskExecutor(), lease2.getTaskExecutor());
+    } finally {
+      cache.invalidate(this.wu.getJobStatePath());
+    }
+  }
+
+  @Test
+  public void testInvalidationDefersCloseUntilLeaseReturned() throws Exception {
+    JobResourcesCache cache = new JobResourcesCache();
+    JobResourcesCache.Lease lease = cache.acquire(this.wu);
+    TaskExecutor taskExecutor = lease.getTaskExecutor();
+    cache.invalidate(this.wu.getJobStatePath());
+    Assert.assertEquals(cache.size(), 0);
+    Assert.assertTrue(taskExecutor.isRunning());
+    lease.close();
+    Assert.assertFalse(taskExecutor.isRunning());
+
+    try (JobResourcesCache.Lease reloaded = cache.acquire(this.wu)) {
+      Assert.assertNotSame(reloaded.getJobState(), lease.getJobState());
+    } finally {
+      cache.invalidate(this.wu.getJobStatePath());
+    }
+  }
+
+  @Test
+  public void testShutDownTaskExecutorNotPooled() throws Exception {
+    JobResourcesCache cache = new JobResourcesCache();
+    TaskExecutor taskExecutor;
+    try (JobResourcesCache.Lease lease = cache.acquire(this.wu)) {
+      taskExecutor = lease.getTaskExecutor();
+      // as when `GobblinMultiTaskAttempt` is interrupted
+      taskExecutor.stopAsync().awaitTerminated();
+    }
+    try (JobResourcesCache.Lease lease = cache.acquire(this.wu)) {
+      Assert.assertNotSame(lease.getTaskExecutor(), taskExecutor);
+    } finally {
+      cache.invalidate(this.wu.getJobStatePath());
+    }
+  }
+}
@@ -0,0 +1,433 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.util.Utf8;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Charsets;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+
+/**
+ * Converts Avro records to a new schema in memory, following Avro schema resolution rules with the record's schema
+ * as writer schema and the new schema as reader schema.
+ *
+ * <p>
+ *   A conversion plan is compiled once per (writer schema, reader schema) pair and cached. Schemas are identified
+ *   by a 64-bit fingerprint of their full JSON form, memoized per {@link Schema} instance, so converting a record
+ *   costs two identity lookups and a cache hit rather than a deep {@link Schema#equals(Object)}, a serialization and
+ *   a new {@link GenericDatumReader}. Schema pairs the in-memory plan does not cover (e.g. string/bytes promotion or
+ *   ambiguous union branches) fall back to a cached datum writer/reader pair.
+ * </p>
+ *
+ * <p>
+ *   Schemas must not be modified (e.g. with {@link Schema#addProp(String, String)}) once records have been converted
+ *   with them, since their fingerprint is computed only once.
+ * </p>
+ */
+public class AvroRecordSchemaConverter {
+
+  private static final int MAX_CACHED_PLANS = 1000;
+
+  private static final String JAVA_STRING_TYPE_PROP = "avro.java.string";
+
+  /** Weak keys make this cache compare {@link Schema}s by identity. */
+  private static final LoadingCache<Schema, Long> FINGERPRINTS = CacheBuilder.newBuilder().weakKeys()
+      .build(CacheLoader.from(schema -> SchemaNormalization.fingerprint64(schema.toString().getBytes(Charsets.UTF_8))));
+
+  private static final Cache<SchemaPair, ValueConverter> PLANS =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHED_PLANS).build();
+
+  private AvroRecordSchemaConverter() {
+  }
+
+  /**
+   * Change the schema of an Avro record.
+   * @param record The Avro record whose schema is to be changed.
+   * @param newSchema The target schema. It must be compatible as reader schema with record.getSchema() as writer schema.
+   * @return the input record if its schema is identical to the new schema, a new Avro record with the new schema otherwise.
+   * @throws IOException if conversion failed.
+   */
+  public static GenericRecord convert(GenericRecord record, Schema newSchema) throws IOException {
+    Schema writerSchema = record.getSchema();
+    if (writerSchema == newSchema) {
+      return record;
+    }
+
+    long writerFingerprint = FINGERPRINTS.getUnchecked(writerSchema);
+    long readerFingerprint = FINGERPRINTS.getUnchecked(newSchema);
+    if (writerFingerprint == readerFingerprint) {
+      return record;
+    }
+
+    try {
+      ValueConverter plan = PLANS.get(new SchemaPair(writerFingerprint, readerFingerprint),
+          () -> compilePlan(writerSchema, newSchema));
+      return (GenericRecord) plan.convert(record);
+    } catch (IOException | AvroRuntimeException | ClassCastException | ExecutionException
+        | UncheckedExecutionException e) {
+      throw new IOException(
+          String.format("Cannot convert avro record to new schema. Original schema = %s, new schema = %s",
+              writerSchema, newSchema),
+          e);
+    }
+  }
+
+  @VisibleForTesting
+  static ValueConverter compilePlan(Schema writerSchema, Schema readerSchema) {
+    ValueConverter plan = new PlanCompiler().compile(writerSchema, readerSchema);
+    return plan != null ? plan : new DatumReaderConverter(writerSchema, readerSchema);
+  }
+
+  @VisibleForTesting
+  static boolean isInMemoryPlan(ValueConverter plan) {
+    return !(plan instanceof DatumReaderConverter);
+  }
+
+  /**
+   * Converts a single value of a writer schema to the in-memory representation of a reader schema.
+   */
+  interface ValueConverter {
+    Object convert(Object value) throws IOException;
+  }
+
+  @EqualsAndHashCode
+  @RequiredArgsConstructor
+  private static class SchemaPair {
+    private final long writerFingerprint;
+    private final long readerFingerprint;
+  }
+
+  /**
+   * Compiles {@link ValueConverter}s for a schema pair, returning null for anything it does not support so the caller
+   * can fall back to a {@link DatumReaderConverter}. Not thread-safe, a new compiler is used for every plan.
+   */
+  private static class PlanCompiler {
+    /** Record converters in progress, so recursive schemas compile to a cycle instead of recursing forever. */
+    private final Map<Schema, Map<Schema, DelegatingConverter>> recordConverters = new IdentityHashMap<>();
+
+    private ValueConverter compile(Schema writer, Schema reader) {
+      if (writer.getType() == Schema.Type.UNION) {
+        return compileWriterUnion(writer, reader);
+      }
+      if (reader.getType() == Schema.Type.UNION) {
+        // The in-memory representation of a union value is the value of its branch
+        Schema branch = bestBranch(reader, writer);
+        return branch == null ? null : compile(writer, branch);
+      }
+
+      switch (reader.getType()) {
+        case NULL:
+        case BOOLEAN:
+          return writer.getType() == reader.getType() ? value -> value : null;
+        case INT:
+        case LONG:
+        case FLOAT:
+        case DOUBLE:
+          return compileNumber(writer.getType(), reader.getType());
+        case STRING:
+          return writer.getType() == Schema.Type.STRING ? stringConverter(reader) : null;
+        case BYTES:
+          return writer.getType() == Schema.Type.BYTES ? AvroRecordSchemaConverter::copyBytes : null;
+        case FIXED:
+          return compileFixed(writer, reader);
+        case ENUM:
+          return compileEnum(writer, reader);
+        case ARRAY:
+          return compileArray(writer, reader);
+        case MAP:
+          return compileMap(writer, reader);
+        case RECORD:
+          return compileRecord(writer, reader);
+        default:
+          return null;
+      }
+    }
+
+    private ValueConverter compileWriterUnion(Schema writer, Schema reader) {
+      List<Schema> writerBranches = writer.getTypes();
+      ValueConverter[] branchConverters = new ValueConverter[writerBranches.size()];
+      for (int i = 0; i < branchConverters.length; i++) {
+        branchConverters[i] = compile(writerBranches.get(i), reader);
+        if (branchConverters[i] == null) {
+          return null;
+        }
+      }
+      return value -> branchConverters[GenericData.get().resolveUnion(writer, value)].convert(value);
+    }
+
+    private ValueConverter compileNumber(Schema.Type writerType, Schema.Type readerType) {
+      if (writerType == readerType) {
+        return value -> value;
+      }
+      switch (readerType) {
+        case LONG:
+          return writerType == Schema.Type.INT ? value -> ((Number) value).longValue() : null;
+        case FLOAT:
+          return writerType == Schema.Type.INT || writerType == Schema.Type.LONG
+              ? value -> ((Number) value).floatValue() : null;
+        case DOUBLE:
+          return writerType == Schema.Type.INT || writerType == Schema.Type.LONG || writerType == Schema.Type.FLOAT
+              ? value -> ((Number) value).doubleValue() : null;
+        default:
+          return null;
+      }
+    }
+
+    private ValueConverter compileFixed(Schema writer, Schema reader) {
+      if (writer.getType() != Schema.Type.FIXED || !writer.getFullName().equals(reader.getFullName())
+          || writer.getFixedSize() != reader.getFixedSize()) {
+        return null;
+      }
+      return value -> new GenericData.Fixed(reader, ((GenericFixed) value).bytes().clone());
+    }
+
+    private ValueConverter compileEnum(Schema writer, Schema reader) {
+      if (writer.getType() != Schema.Type.ENUM || !writer.getFullName().equals(reader.getFullName())
+          || !reader.getEnumSymbols().containsAll(writer.getEnumSymbols())) {
+        return null;
+      }
+      return value -> new GenericData.EnumSymbol(reader, value.toString());
+    }
+
+    private ValueConverter compileArray(Schema writer, Schema reader) {
+      if (writer.getType() != Schema.Type.ARRAY) {
+        return null;
+      }
+      ValueConverter elementConverter = compile(writer.getElementType(), reader.getElementType());
+      if (elementConverter == null) {
+        return null;
+      }
+      return value -> {
+        Collection<?> elements = (Collection<?>) value;
+        GenericData.Array<Object> array = new GenericData.Array<>(elements.size(), reader);
+        for (Object element : elements) {
+          array.add(elementConverter.convert(element));
+        }
+        return array;
+      };
+    }
+
+    private ValueConverter compileMap(Schema writer, Schema reader) {
+      if (writer.getType() != Schema.Type.MAP) {
+        return null;
+      }
+      ValueConverter keyConverter = stringConverter(reader);
+      ValueConverter valueConverter = compile(writer.getValueType(), reader.getValueType());
+      if (valueConverter == null) {
+        return null;
+      }
+      return value -> {
+        Map<?, ?> entries = (Map<?, ?>) value;
+        Map<Object, Object> map = new HashMap<>(Math.max(16, (int) (entries.size() / 0.75f) + 1));
+        for (Map.Entry<?, ?> entry : entries.entrySet()) {
+          map.put(keyConverter.convert(entry.getKey()), valueConverter.convert(entry.getValue()));
+        }
+        return map;
+      };
+    }
+
+    private ValueConverter compileRecord(Schema writer, Schema reader) {
+      if (writer.getType() != Schema.Type.RECORD) {
+        return null;
+      }
+      Map<Schema, DelegatingConverter> forWriter =
+          this.recordConverters.computeIfAbsent(writer, k -> new IdentityHashMap<>());
+      DelegatingConverter inProgress = forWriter.get(reader);
+      if (inProgress != null) {
+        return inProgress;
+      }
+      DelegatingConverter recordConverter = new DelegatingConverter();
+      forWriter.put(reader, recordConverter);
+
+      List<Schema.Field> readerFields = reader.getFields();
+      int[] writerPositions = new int[readerFields.size()];
+      ValueConverter[] fieldConverters = new ValueConverter[readerFields.size()];
+      Object[] defaults = new Object[readerFields.size()];
+      for (Schema.Field readerField : readerFields) {
+        int pos = readerField.pos();
+        Schema.Field writerField = writerField(writer, readerField);
+        if (writerField != null) {
+          writerPositions[pos] = writerField.pos();
+          fieldConverters[pos] = compile(writerField.schema(), readerField.schema());
+          if (fieldConverters[pos] == null) {
+            return null;
+          }
+        } else if (AvroCompatibilityHelper.fieldHasDefault(readerField)) {
+          writerPositions[pos] = -1;
+          defaults[pos] = AvroCompatibilityHelper.getGenericDefaultValue(readerField);
+        } else {
+          return null;
+        }
+      }
+
+      recordConverter.delegate = value -> {
+        IndexedRecord writerRecord = (IndexedRecord) value;
+        GenericData.Record record = new GenericData.Record(reader);
+        for (int i = 0; i < writerPositions.length; i++) {
+          if (writerPositions[i] >= 0) {
+            record.put(i, fieldConverters[i].convert(writerRecord.get(writerPositions[i])));
+          } else {
+            // Copy defaults so records never share mutable values
+            record.put(i, GenericData.get().deepCopy(readerFields.get(i).schema(), defaults[i]));
+          }
+        }
+        return record;
+      };
+      return recordConverter;
+    }
+
+    /**
+     * The writer field a reader field resolves to: the field with the same name, or with one of its aliases.
+     */
+    private static Schema.Field writerField(Schema writer, Schema.Field readerField) {
+      Schema.Field writerField = writer.getField(readerField.name());
+      if (writerField == null) {
+        for (String alias : readerField.aliases()) {
+          writerField = writer.getField(alias);
+          if (writerField != null) {
+            break;
+          }
+        }
+      }
+      return writerField;
+    }
+
+    /**
+     * The branch of a reader union a non-union writer schema resolves to, or null if it is not one the in-memory plan
+     * can pick unambiguously: a branch of the same type (and full name for named types), or else a numeric promotion.
+     */
+    private static Schema bestBranch(Schema readerUnion, Schema writer) {
+      for (Schema branch : readerUnion.getTypes()) {
+        if (branch.getType() == writer.getType()) {
+          switch (writer.getType()) {
+            case RECORD:
+            case ENUM:
+            case FIXED:
+              if (branch.getFullName().equals(writer.getFullName())) {
+                return branch;
+              }
+              break;
+            default:
+              return branch;
+          }
+        }
+      }
+      for (Schema.Type promotion : promotionsOf(writer.getType())) {
+        for (Schema branch : readerUnion.getTypes()) {
+          if (branch.getType() == promotion) {
+            return branch;
+          }
+        }
+      }
+      return null;
+    }
+
+    private static Schema.Type[] promotionsOf(Schema.Type type) {
+      switch (type) {
+        case INT:
+          return new Schema.Type[]{Schema.Type.LONG, Schema.Type.FLOAT, Schema.Type.DOUBLE};
+        case LONG:
+          return new Schema.Type[]{Schema.Type.FLOAT, Schema.Type.DOUBLE};
+        case FLOAT:
+          return new Schema.Type[]{Schema.Type.DOUBLE};
+        default:
+          return new Schema.Type[0];
+      }
+    }
+  }
+
+  /**
+   * Strings are read as {@link Utf8} unless the reader schema asks for {@link String}, as {@link GenericDatumReader} does.
+   */
+  private static ValueConverter stringConverter(Schema reader) {
+    if ("String".equals(reader.getProp(JAVA_STRING_TYPE_PROP))) {
+      return Object::toString;
+    }
+    return value -> value instanceof Utf8 ? new Utf8((Utf8) value) : new Utf8(value.toString());
+  }
+
+  private static Object copyBytes(Object value) {
+    ByteBuffer source = ((ByteBuffer) value).duplicate();
+    byte[] bytes = new byte[source.remaining()];
+    source.get(bytes);
+    return ByteBuffer.wrap(bytes);
+  }
+
+  private static class DelegatingConverter implements ValueConverter {
+    private ValueConverter delegate;
+
+    @Override
+    public Object convert(Object value) throws IOException {
+      return this.delegate.convert(value);
+    }
+  }
+
+  /**
+   * Converts by serializing with the writer schema and deserializing with the reader schema. Both the datum writer and
+   * reader are thread-safe and reused across records.
+   */
+  private static class DatumReaderConverter implements ValueConverter {
+    private final GenericDatumWriter<Object> datumWriter;
+    private final GenericDatumReader<Object> datumReader;
+
+    private DatumReaderConverter(Schema writerSchema, Schema readerSchema) {
+      this.datumWriter = new GenericDatumWriter<>(writerSchema);
+      this.datumReader = new GenericDatumReader<>(writerSchema, readerSchema);
+    }
+
+    @Override
+    public Object convert(Object value) throws IOException {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+      this.datumWriter.write(value, encoder);
+      return this.datumReader.read(null, DecoderFactory.get().binaryDecoder(out.toByteArray(), null));
+    }
+  }
+}
@@ -42,8 +42,6 @@ import org.apache.avro.generic.GenericData.Record;
 import org.apache.avro.generic.GenericDatumReader;
 import org.apache.avro.generic.GenericDatumWriter;
 import org.apache.avro.generic.GenericRecord;
-import org.apache.avro.io.BinaryDecoder;
-import org.apache.avro.io.DatumReader;
 import org.apache.avro.io.DatumWriter;
 import org.apache.avro.io.Decoder;
 import org.apache.avro.io.DecoderFactory;
@@ -410,27 +408,15 @@ public class AvroUtils {
   }
 
   /**
-   * Change the schema of an Avro record.
+   * Change the schema of an Avro record. Conversion plans are cached per schema pair, see
+   * {@link AvroRecordSchemaConverter}.
    * @param record The Avro record whose schema is to be changed.
    * @param newSchema The target schema. It must be compatible as reader schema with record.getSchema() as writer schema.
-   * @return a new Avro record with the new schema.
+   * @return a new Avro record with the new schema, or the input record if its schema is identical to the new schema.
    * @throws IOException if conversion failed.
    */
   public static GenericRecord convertRecordSchema(GenericRecord record, Schema newSchema) throws IOException {
-    if (record.getSchema().equals(newSchema)) {
-      return record;
-    }
-
-    try {
-      BinaryDecoder decoder = new DecoderFactory().binaryDecoder(recordToByteArray(record), null);
-      DatumReader<GenericRecord> reader = new GenericDatumReader<>(record.getSchema(), newSchema);
-      return reader.read(null, decoder);
-    } catch (IOException e) {
-      throw new IOException(
-          String.format("Cannot convert avro record to new schema. Original schema = %s, new schema = %s",
-              record.getSchema(), newSchema),
-          e);
-    }
+    return AvroRecordSchemaConverter.convert(record, newSchema);
   }
 
   /**
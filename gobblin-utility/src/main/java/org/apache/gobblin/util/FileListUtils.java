@@ -19,6 +19,7 @@ package org.apache.gobblin.util;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Stack;
@@ -31,9 +32,11 @@ import org.apache.hadoop.fs.PathFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import com.google.common.primitives.Longs;
 
+import org.apache.gobblin.util.filesystem.ParallelFileListingIterator;
 import org.apache.gobblin.util.filters.HiddenFilter;
 
 
@@ -109,6 +112,50 @@ public class FileListUtils {
     return files;
   }
 
+  /**
+   * Given a path to copy, list all files rooted at the given path to copy, listing directories with the given
+   * parallelism. The files are the same as the ones listed by
+   * {@link #listFilesToCopyAtPath(FileSystem, Path, PathFilter, boolean, boolean)}, but in no particular order.
+   *
+   * @param fs the file system of the path
+   * @param path root path to copy
+   * @param fileFilter a filter only applied to root
+   * @param applyFilterToDirectories a control to decide whether to apply filter to directories
+   * @param includeEmptyDirectories a control to include empty directories for copy
+   * @param parallelism number of threads listing directories, the listing is sequential if not greater than 1
+   * @param useRecursiveListing a control to list with a single {@link FileSystem#listFiles(Path, boolean)} call
+   *                            when neither empty directories nor directory filtering are needed
+   */
+  public static List<FileStatus> listFilesToCopyAtPath(FileSystem fs, Path path, PathFilter fileFilter,
+      boolean applyFilterToDirectories, boolean includeEmptyDirectories, int parallelism, boolean useRecursiveListing)
+      throws IOException {
+    if (parallelism <= 1 && !useRecursiveListing) {
+      return listFilesToCopyAtPath(fs, path, fileFilter, applyFilterToDirectories, includeEmptyDirectories);
+    }
+    List<FileStatus> files = Lists.newArrayList();
+    try (ParallelFileListingIterator iterator = listFilesToCopyAtPathIterator(fs, path, fileFilter,
+        applyFilterToDirectories, includeEmptyDirectories, parallelism, useRecursiveListing)) {
+      Iterators.addAll(files, iterator);
+    } catch (UncheckedIOException uioe) {
+      throw uioe.getCause();
+    }
+    return files;
+  }
+
+  /**
+   * Given a path to copy, stream all files rooted at the given path to copy as they are listed by a
+   * {@link ParallelFileListingIterator}. The returned iterator must be closed if it is not consumed entirely.
+   *
+   * @see #listFilesToCopyAtPath(FileSystem, Path, PathFilter, boolean, boolean, int, boolean)
+   */
+  public static ParallelFileListingIterator listFilesToCopyAtPathIterator(FileSystem fs, Path path,
+      PathFilter fileFilter, boolean applyFilterToDirectories, boolean includeEmptyDirectories, int parallelism,
+      boolean useRecursiveListing) throws IOException {
+    return new ParallelFileListingIterator(fs, fs.getFileStatus(path), fileFilter, applyFilterToDirectories,
+        includeEmptyDirectories, Math.max(parallelism, 1), ParallelFileListingIterator.DEFAULT_MAX_BUFFERED_FILES,
+        useRecursiveListing);
+  }
+
   /**
    * Helper method to list out all files under a specified path. The specified {@link PathFilter} is treated as a file
    * filter, that is it is only applied to file {@link Path}s.
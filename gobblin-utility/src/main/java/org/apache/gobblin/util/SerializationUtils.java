@@ -17,6 +17,8 @@
 
 package org.apache.gobblin.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
@@ -33,6 +35,7 @@ import org.apache.hadoop.fs.Path;
 import com.google.common.io.BaseEncoding;
 
 import org.apache.gobblin.configuration.State;
+import org.apache.gobblin.util.io.StateCodec;
 
 
 /**
@@ -41,6 +44,7 @@ import org.apache.gobblin.configuration.State;
 public class SerializationUtils {
 
   private static final BaseEncoding DEFAULT_ENCODING = BaseEncoding.base64();
+  private static final int STREAM_BUFFER_SIZE = 64 * 1024;
 
   /**
    * Serialize an object into a String. The object is first serialized into a byte array,
@@ -155,8 +159,26 @@ public class SerializationUtils {
    */
   public static <T extends State> void serializeState(FileSystem fs, Path jobStateFilePath, T state, short replication)
       throws IOException {
+    serializeState(fs, jobStateFilePath, state, replication, StateCodec.NONE);
+  }
+
+  /**
+   * Serialize a {@link State} instance to a file, encoded with the given {@link StateCodec}. The file can be read back
+   * with {@link #deserializeState(FileSystem, Path, State)} whatever the codec.
+   *
+   * @param fs the {@link FileSystem} instance for creating the file
+   * @param jobStateFilePath the path to the file
+   * @param state the {@link State} to serialize
+   * @param replication replication of the serialized file.
+   * @param codec the {@link StateCodec} to encode the file with
+   * @param <T> the {@link State} object type
+   * @throws IOException if it fails to serialize the {@link State} instance
+   */
+  public static <T extends State> void serializeState(FileSystem fs, Path jobStateFilePath, T state, short replication,
+      StateCodec codec) throws IOException {
 
-    try (DataOutputStream dataOutputStream = new DataOutputStream(fs.create(jobStateFilePath, replication))) {
+    try (DataOutputStream dataOutputStream = new DataOutputStream(
+        new BufferedOutputStream(codec.encode(fs.create(jobStateFilePath, replication)), STREAM_BUFFER_SIZE))) {
       state.write(dataOutputStream);
     }
   }
@@ -178,7 +200,7 @@ public class SerializationUtils {
   }
 
   /**
-   * Deserialize/read a {@link State} instance from a file.
+   * Deserialize/read a {@link State} instance from a file. The state may be encoded with any {@link StateCodec}.
    *
    * @param is {@link InputStream} containing the state.
    * @param state an empty {@link State} instance to deserialize into
@@ -186,7 +208,8 @@ public class SerializationUtils {
    * @throws IOException if it fails to deserialize the {@link State} instance
    */
   public static <T extends State> void deserializeStateFromInputStream(InputStream is, T state) throws IOException {
-    try (DataInputStream dis = (new DataInputStream(is))) {
+    // State deserialization reads a byte at a time, buffer to avoid a call into the underlying stream per byte
+    try (DataInputStream dis = (new DataInputStream(new BufferedInputStream(StateCodec.decode(is), STREAM_BUFFER_SIZE)))) {
       state.readFields(dis);
     }
   }
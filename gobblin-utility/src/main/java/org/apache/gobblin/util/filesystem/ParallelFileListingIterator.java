@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.util.filesystem;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocatedFileStatus;
+import org.apache.hadoop.fs.PathFilter;
+import org.apache.hadoop.fs.RemoteIterator;
+
+import com.codahale.metrics.Meter;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.gobblin.util.ExecutorsUtils;
+import org.apache.gobblin.util.FileListUtils;
+
+
+/**
+ * An {@link Iterator} over the files beneath a root {@link FileStatus}, listed by a bounded pool of threads that walk
+ * directories concurrently and stream their results to the consumer as they are found.
+ *
+ * <p>
+ *   The listed files are the same as the ones returned by
+ *   {@link FileListUtils#listFilesToCopyAtPath(FileSystem, org.apache.hadoop.fs.Path, PathFilter, boolean, boolean)},
+ *   but in no particular order. Each directory is listed with the same {@link FileSystem#listStatus} call as the
+ *   sequential listing. If neither empty directories nor directory filtering are needed, the whole tree can instead be
+ *   listed with a single {@link FileSystem#listFiles(org.apache.hadoop.fs.Path, boolean)} call, which is streamed, and
+ *   which object stores implement as a flat listing.
+ * </p>
+ *
+ * <p>
+ *   At most {@code maxBufferedFiles} listed files are held in memory: listing threads block until the consumer catches
+ *   up. A failure to list any directory is rethrown by {@link #hasNext()} as an {@link UncheckedIOException}. The
+ *   iterator must be {@link #close()}d if it is not consumed entirely.
+ * </p>
+ */
+@Slf4j
+public class ParallelFileListingIterator implements Iterator<FileStatus>, Closeable {
+
+  public static final int DEFAULT_MAX_BUFFERED_FILES = 10000;
+
+  private static final Object END_OF_LISTING = new Object();
+
+  private final FileSystem fs;
+  private final FileStatus root;
+  private final PathFilter fileFilter;
+  private final boolean applyFilterToDirectories;
+  private final boolean includeEmptyDirectories;
+
+  private final ExecutorService executor;
+  private final BlockingQueue<Object> listedFiles;
+  // Directories submitted for listing whose listing has not completed yet
+  private final AtomicInteger pendingDirectories = new AtomicInteger();
+  private final AtomicReference<IOException> failure = new AtomicReference<>();
+  private final long startTimeMillis = System.currentTimeMillis();
+
+  /** Rate at which directories are listed */
+  @Getter
+  private final Meter directoriesListed = new Meter();
+  /** Rate at which files are listed */
+  @Getter
+  private final Meter filesListed = new Meter();
+
+  private Object next;
+  private boolean done;
+
+  /**
+   * @param fs the file system of the root
+   * @param root the root to list files beneath
+   * @param fileFilter a filter applied to files, and to directories if applyFilterToDirectories is set
+   * @param applyFilterToDirectories whether to apply the filter to directories
+   * @param includeEmptyDirectories whether to list directories with no files beneath them
+   * @param parallelism number of threads listing directories
+   * @param maxBufferedFiles maximum number of listed files waiting to be consumed
+   * @param useRecursiveListing whether to list with a single recursive {@link FileSystem#listFiles} call when possible
+   */
+  public ParallelFileListingIterator(FileSystem fs, FileStatus root, PathFilter fileFilter,
+      boolean applyFilterToDirectories, boolean includeEmptyDirectories, int parallelism, int maxBufferedFiles,
+      boolean useRecursiveListing) {
+    Preconditions.checkArgument(parallelism > 0, "Listing parallelism must be positive: " + parallelism);
+    this.fs = fs;
+    this.root = root;
+    this.fileFilter = fileFilter;
+    this.applyFilterToDirectories = applyFilterToDirectories;
+    this.includeEmptyDirectories = includeEmptyDirectories;
+    // Leave room for a single root file and the end of the listing
+    this.listedFiles = new LinkedBlockingQueue<>(Math.max(maxBufferedFiles, 2));
+
+    if (!root.isDirectory()) {
+      this.executor = null;
+      if (fileFilter.accept(root.getPath())) {
+        this.listedFiles.add(root);
+        this.filesListed.mark();
+      }
+      this.listedFiles.add(END_OF_LISTING);
+    } else if (useRecursiveListing && !includeEmptyDirectories && !applyFilterToDirectories) {
+      this.executor = Executors.newSingleThreadExecutor(
+          ExecutorsUtils.newDaemonThreadFactory(Optional.of(log), Optional.of("ParallelFileListing-%d")));
+      this.pendingDirectories.incrementAndGet();
+      submitListing(this::listRecursively, root);
+    } else {
+      this.executor = Executors.newFixedThreadPool(parallelism,
+          ExecutorsUtils.newDaemonThreadFactory(Optional.of(log), Optional.of("ParallelFileListing-%d")));
+      this.pendingDirectories.incrementAndGet();
+      submitListing(this::listDirectory, root);
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (this.next == null && !this.done) {
+      try {
+        this.next = this.listedFiles.take();
+      } catch (InterruptedException ie) {
+        Thread.currentThread().interrupt();
+        close();
+        throw new RuntimeException("Interrupted while listing files under " + this.root.getPath(), ie);
+      }
+      if (this.next == END_OF_LISTING) {
+        this.next = null;
+        close();
+        IOException listingFailure = this.failure.get();
+        if (listingFailure != null) {
+          throw new UncheckedIOException("Failed to list files under " + this.root.getPath(), listingFailure);
+        }
+        log.info(String.format("Listed %d files in %d directories under %s in %d ms (%.1f directories/s, %.1f files/s)",
+            this.filesListed.getCount(), this.directoriesListed.getCount(), this.root.getPath(),
+            System.currentTimeMillis() - this.startTimeMillis, this.directoriesListed.getMeanRate(),
+            this.filesListed.getMeanRate()));
+      }
+    }
+    return this.next != null;
+  }
+
+  @Override
+  public FileStatus next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    FileStatus file = (FileStatus) this.next;
+    this.next = null;
+    return file;
+  }
+
+  /**
+   * Stop listing. Files already listed but not consumed are discarded.
+   */
+  @Override
+  public void close() {
+    this.done = true;
+    if (this.executor != null) {
+      this.executor.shutdownNow();
+    }
+  }
+
+  private interface Listing {
+    void list(FileStatus directory) throws IOException, InterruptedException;
+  }
+
+  private void submitListing(Listing listing, FileStatus directory) {
+    try {
+      this.executor.submit(() -> {
+        try {
+          listing.list(directory);
+        } catch (IOException ioe) {
+          fail(ioe);
+        } catch (InterruptedException ie) {
+          // The listing has been closed or has failed
+          Thread.currentThread().interrupt();
+        } catch (RuntimeException re) {
+          fail(new IOException(re));
+        } finally {
+          if (this.pendingDirectories.decrementAndGet() == 0) {
+            endListing();
+          }
+        }
+      });
+    } catch (RejectedExecutionException ree) {
+      // The listing has been closed or has failed, and the submitting listing still holds a pending count
+      this.pendingDirectories.decrementAndGet();
+    }
+  }
+
+  /**
+   * Same traversal as {@link FileListUtils#listFilesToCopyAtPath}: a directory is listed as empty if none of its
+   * children is a directory (which lists either its files or itself) or a file accepted by the filter.
+   */
+  private void listDirectory(FileStatus directory) throws IOException, InterruptedException {
+    boolean hasListedChildren = false;
+    for (FileStatus child : this.fs.listStatus(directory.getPath())) {
+      if (this.applyFilterToDirectories && !this.fileFilter.accept(child.getPath())) {
+        continue;
+      }
+      if (child.isDirectory()) {
+        hasListedChildren = true;
+        this.pendingDirectories.incrementAndGet();
+        submitListing(this::listDirectory, child);
+      } else if (this.fileFilter.accept(child.getPath())) {
+        hasListedChildren = true;
+        putListedFile(child);
+      }
+    }
+    this.directoriesListed.mark();
+    if (!hasListedChildren && this.includeEmptyDirectories) {
+      putListedFile(directory);
+    }
+  }
+
+  private void listRecursively(FileStatus directory) throws IOException, InterruptedException {
+    RemoteIterator<LocatedFileStatus> files = this.fs.listFiles(directory.getPath(), true);
+    while (files.hasNext()) {
+      LocatedFileStatus file = files.next();
+      if (this.fileFilter.accept(file.getPath())) {
+        putListedFile(file);
+      }
+    }
+  }
+
+  private void putListedFile(FileStatus file) throws InterruptedException {
+    this.listedFiles.put(file);
+    this.filesListed.mark();
+  }
+
+  private void fail(IOException ioe) {
+    if (this.failure.compareAndSet(null, ioe)) {
+      this.executor.shutdownNow();
+      endListing();
+    }
+  }
+
+  private void endListing() {
+    if (this.failure.get() != null) {
+      // Make room if needed: listed files are not consumed after a failure anyway
+      while (!this.listedFiles.offer(END_OF_LISTING)) {
+        this.listedFiles.poll();
+      }
+      return;
+    }
+    try {
+      this.listedFiles.put(END_OF_LISTING);
+    } catch (InterruptedException ie) {
+      // The listing has been closed
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.gobblin.util.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import com.google.common.base.Joiner;
+import com.typesafe.config.Config;
+
+import org.apache.gobblin.configuration.ConfigurationKeys;
+import org.apache.gobblin.util.ConfigUtils;
+
+
+/**
+ * Codecs for serialized {@link org.apache.gobblin.configuration.State} blobs.
+ *
+ * <p>
+ *   {@link #decode(InputStream)} detects the codec a value was written with, so a store can switch codecs without
+ *   migrating existing values:
+ *   <ul>
+ *     <li>{@link #COMPACT} values start with a 4-byte header: {@code 0x80 'G' 'S' <version>}. A serialized
+ *     {@link org.apache.gobblin.configuration.State} never starts with {@code 0x80}, since that byte encodes a
+ *     negative property count or key length.</li>
+ *     <li>{@link #GZIP} values start with the gzip magic number.</li>
+ *     <li>Anything else is read as-is.</li>
+ *   </ul>
+ * </p>
+ */
+public enum StateCodec {
+  /** Values are written uncompressed. */
+  NONE {
+    @Override
+    public OutputStream encode(OutputStream out) {
+      return out;
+    }
+  },
+  /** Values are gzip compressed. This is the format written by {@code state.store.compressedValues=true}. */
+  GZIP {
+    @Override
+    public OutputStream encode(OutputStream out) throws IOException {
+      return new GZIPOutputStream(out);
+    }
+  },
+  /**
+   * Values are raw deflate streams primed with {@link #COMPACT_DICTIONARY}. State blobs are mostly the same property
+   * names repeated across tasks and jobs, which gzip has to learn again for every value; the preset dictionary lets
+   * even small states reference them from the first byte, and skips the gzip header and trailer.
+   */
+  COMPACT {
+    @Override
+    public OutputStream encode(OutputStream out) throws IOException {
+      out.write(COMPACT_HEADER);
+      Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+      deflater.setDictionary(COMPACT_DICTIONARY);
+      return new DeflaterOutputStream(out, deflater) {
+        @Override
+        public void close() throws IOException {
+          try {
+            super.close();
+          } finally {
+            deflater.end();
+          }
+        }
+      };
+    }
+  };
+
+  private static final byte COMPACT_VERSION = 1;
+  private static final byte[] COMPACT_HEADER = {(byte) 0x80, 'G', 'S', COMPACT_VERSION};
+
+  /**
+   * Preset dictionary of version {@link #COMPACT_VERSION}. Deflate favors matches closer to the end of the dictionary,
+   * so the most frequent keys are last. Changing it breaks existing values: add a new version instead.
+   */
+  private static final byte[] COMPACT_DICTIONARY = Joiner.on('\n').join(
+      "data.publisher.final.dir", "writer.staging.dir", "writer.output.dir", "writer.fs.uri",
+      "writer.partitioner.class", "writer._internal.partition.path", "writer.final.output.file.paths",
+      "writer.records.written", "writer.bytes.written", "source.class", "source.entity", "fork.branches",
+      "job.commit.policy", "publish.data.at.job.level", "workunit.retry.policy", "extract.primary.key.fields",
+      "extract.full.run.time", "extract.is.full", "extract.extract.id", "extract.table.type", "extract.namespace",
+      "extract.table.name", "dataset.urn", "task.failure.exception", "task.retries", "task.startTimeMillis",
+      "workunit.low.water.mark", "workunit.high.water.mark", "workunit.state.actual.high.water.mark",
+      "workunit.state.runtime.high.water.mark", "workunit.working.state", "SUCCESSFUL", "COMMITTED", "FAILED",
+      "job.name", "job.id", "task.id", "job_", "task_").getBytes(StandardCharsets.UTF_8);
+
+  /**
+   * Wrap an {@link OutputStream} so that bytes written to the returned stream are encoded with this codec. Closing
+   * the returned stream finishes the encoding and closes {@code out}.
+   */
+  public abstract OutputStream encode(OutputStream out) throws IOException;
+
+  /**
+   * Wrap an {@link InputStream} containing a value written by any {@link StateCodec} so that reads return the
+   * decoded bytes.
+   *
+   * @throws IOException if the value was written with a newer version of the {@link #COMPACT} codec
+   */
+  public static InputStream decode(InputStream in) throws IOException {
+    PushbackInputStream pushbackIn = new PushbackInputStream(in, COMPACT_HEADER.length);
+    byte[] header = new byte[COMPACT_HEADER.length];
+    int length = 0;
+    int read;
+    while (length < header.length && (read = pushbackIn.read(header, length, header.length - length)) != -1) {
+      length += read;
+    }
+
+    if (length == header.length && header[0] == COMPACT_HEADER[0] && header[1] == COMPACT_HEADER[1]
+        && header[2] == COMPACT_HEADER[2]) {
+      if (header[3] != COMPACT_VERSION) {
+        throw new IOException("Unsupported compact state codec version " + header[3]);
+      }
+      Inflater inflater = new Inflater(true);
+      inflater.setDictionary(COMPACT_DICTIONARY);
+      return new InflaterInputStream(pushbackIn, inflater) {
+        @Override
+        public void close() throws IOException {
+          try {
+            super.close();
+          } finally {
+            inflater.end();
+          }
+        }
+      };
+    }
+
+    pushbackIn.unread(header, 0, length);
+    return StreamUtils.isCompressed(header) ? new GZIPInputStream(pushbackIn) : pushbackIn;
+  }
+
+  /**
+   * Resolve the codec from {@link ConfigurationKeys#STATE_STORE_VALUE_CODEC_KEY}, falling back to
+   * {@link ConfigurationKeys#STATE_STORE_COMPRESSED_VALUES_KEY} when it is not set.
+   */
+  public static StateCodec fromConfig(Config config) {
+    if (config.hasPath(ConfigurationKeys.STATE_STORE_VALUE_CODEC_KEY)) {
+      return valueOf(config.getString(ConfigurationKeys.STATE_STORE_VALUE_CODEC_KEY).toUpperCase());
+    }
+    return ConfigUtils.getBoolean(config, ConfigurationKeys.STATE_STORE_COMPRESSED_VALUES_KEY,
+        ConfigurationKeys.DEFAULT_STATE_STORE_COMPRESSED_VALUES) ? GZIP : NONE;
+  }
+}
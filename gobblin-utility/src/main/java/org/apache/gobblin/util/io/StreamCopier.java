@@ -18,18 +18,29 @@
 package org.apache.gobblin.util.io;
 
 import java.io.Closeable;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
+import org.slf4j.Logger;
+
 import com.codahale.metrics.Meter;
+import com.google.common.base.Optional;
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.Uninterruptibles;
 
+import org.apache.gobblin.util.ExecutorsUtils;
 import org.apache.gobblin.util.limiter.Limiter;
 
 
@@ -41,6 +52,30 @@ public class StreamCopier {
 
   private static final int KB = 1024;
   public static final int DEFAULT_BUFFER_SIZE = 32 * KB;
+  public static final int DEFAULT_MAX_BUFFER_SIZE = 4 * KB * KB;
+
+  /**
+   * Strategies to copy bytes from the input to the output.
+   */
+  public enum CopyStrategy {
+    /** Alternately read into and write from a single direct buffer, in the calling thread. */
+    DEFAULT,
+    /**
+     * Use {@link FileChannel#transferTo} if the input is a {@link FileChannel}, i.e. a local {@link FileInputStream} or
+     * a {@link FileChannel} given directly. Otherwise, including Hadoop file system streams even for local files, read
+     * into one of two direct buffers in a separate thread while the other one is written, doubling the size of the
+     * buffers, up to the max buffer size, as long as it increases the copy throughput.
+     */
+    HIGH_THROUGHPUT
+  }
+
+  // Number of buffers copied between two throughput measurements when adapting the buffer size
+  private static final int BUFFERS_PER_THROUGHPUT_SAMPLE = 16;
+  // Minimum throughput increase for the buffer size to keep growing
+  private static final double MIN_THROUGHPUT_GAIN = 1.1;
+  private static final Object END_OF_INPUT = new Object();
+  // Handed to the reader thread instead of an empty buffer to make it stop reading
+  private static final ByteBuffer STOP_READING = ByteBuffer.allocate(0);
 
   private final ReadableByteChannel inputChannel;
   private final WritableByteChannel outputChannel;
@@ -48,6 +83,8 @@ public class StreamCopier {
   private final Long maxBytes;
   private int bufferSize = DEFAULT_BUFFER_SIZE;
   private Meter copySpeedMeter;
+  private CopyStrategy copyStrategy = CopyStrategy.DEFAULT;
+  private int maxBufferSize = DEFAULT_MAX_BUFFER_SIZE;
 
   private boolean closeChannelsOnComplete = false;
   private volatile boolean copied = false;
@@ -57,7 +94,7 @@ public class StreamCopier {
   }
 
   public StreamCopier(InputStream inputStream, OutputStream outputStream, Long maxBytes) {
-    this(Channels.newChannel(inputStream), Channels.newChannel(outputStream), maxBytes);
+    this(newChannel(inputStream), newChannel(outputStream), maxBytes);
   }
 
   public StreamCopier(ReadableByteChannel inputChannel, WritableByteChannel outputChannel) {
@@ -78,6 +115,22 @@ public class StreamCopier {
     return this;
   }
 
+  /**
+   * Set the {@link CopyStrategy} used to copy.
+   */
+  public StreamCopier withCopyStrategy(CopyStrategy copyStrategy) {
+    this.copyStrategy = copyStrategy;
+    return this;
+  }
+
+  /**
+   * Set the size in bytes up to which {@link CopyStrategy#HIGH_THROUGHPUT} may grow the buffers used to copy.
+   */
+  public StreamCopier withMaxBufferSize(int maxBufferSize) {
+    this.maxBufferSize = maxBufferSize;
+    return this;
+  }
+
   /**
    * Set a {@link Meter} where copy speed will be reported.
    */
@@ -108,48 +161,208 @@ public class StreamCopier {
     this.copied = true;
 
     try {
-      long numBytes = 0;
-      long totalBytes = 0;
+      if (this.copyStrategy == CopyStrategy.HIGH_THROUGHPUT) {
+        return this.inputChannel instanceof FileChannel ? transferFromFileChannel((FileChannel) this.inputChannel)
+            : copyDoubleBuffered();
+      }
+      return copyWithSingleBuffer();
+    } finally {
+      if (this.closeChannelsOnComplete) {
+        this.inputChannel.close();
+        this.outputChannel.close();
+      }
+    }
+  }
 
-      final ByteBuffer buffer = ByteBuffer.allocateDirect(this.bufferSize);
-      // Only keep copying if we've read less than maxBytes (if maxBytes exists)
-      while ((this.maxBytes == null || this.maxBytes > totalBytes) &&
-          (numBytes = fillBufferFromInputChannel(buffer)) != -1) {
-        totalBytes += numBytes;
-        // flip the buffer to be written
-        buffer.flip();
+  private long copyWithSingleBuffer() throws IOException {
+    long numBytes = 0;
+    long totalBytes = 0;
+
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(this.bufferSize);
+    // Only keep copying if we've read less than maxBytes (if maxBytes exists)
+    while ((this.maxBytes == null || this.maxBytes > totalBytes) &&
+        (numBytes = fillBufferFromInputChannel(buffer)) != -1) {
+      totalBytes += numBytes;
+      // flip the buffer to be written
+      buffer.flip();
+
+      // If we've read more than maxBytes, discard enough bytes to only write maxBytes.
+      if (this.maxBytes != null && totalBytes > this.maxBytes) {
+        buffer.limit(buffer.limit() - (int) (totalBytes - this.maxBytes));
+        totalBytes = this.maxBytes;
+      }
+
+      this.outputChannel.write(buffer);
+      // Clear if empty
+      buffer.compact();
+      if (this.copySpeedMeter != null) {
+        this.copySpeedMeter.mark(numBytes);
+      }
+    }
+    // Done writing, now flip to read again
+    buffer.flip();
+    // check that buffer is fully written.
+    while (buffer.hasRemaining()) {
+      this.outputChannel.write(buffer);
+    }
+
+    return totalBytes;
+  }
+
+  private long fillBufferFromInputChannel(ByteBuffer buffer) throws IOException {
+    return this.inputChannel.read(buffer);
+  }
 
-        // If we've read more than maxBytes, discard enough bytes to only write maxBytes.
-        if (this.maxBytes != null && totalBytes > this.maxBytes) {
-          buffer.limit(buffer.limit() - (int) (totalBytes - this.maxBytes));
-          totalBytes = this.maxBytes;
+  /**
+   * Let the operating system copy from the input {@link FileChannel}, without going through user space buffers where
+   * possible.
+   */
+  private long transferFromFileChannel(FileChannel fileChannel) throws IOException {
+    long position = fileChannel.position();
+    long end = this.maxBytes == null ? fileChannel.size() : Math.min(fileChannel.size(), position + this.maxBytes);
+    long totalBytes = 0;
+    while (position < end) {
+      long numBytes = fileChannel.transferTo(position, Math.min(end - position, this.maxBufferSize), this.outputChannel);
+      if (numBytes <= 0) {
+        break;
+      }
+      position += numBytes;
+      totalBytes += numBytes;
+      if (this.copySpeedMeter != null) {
+        this.copySpeedMeter.mark(numBytes);
+      }
+    }
+    fileChannel.position(position);
+    return totalBytes;
+  }
+
+  /**
+   * Read into one of two buffers in a separate thread while the other one is written in the calling thread.
+   */
+  private long copyDoubleBuffered() throws IOException {
+    // Holds empty buffers, then STOP_READING if the copy fails
+    BlockingQueue<ByteBuffer> emptyBuffers = new ArrayBlockingQueue<>(3);
+    // Holds filled buffers, then either END_OF_INPUT or the exception which failed the read
+    BlockingQueue<Object> filledBuffers = new ArrayBlockingQueue<>(3);
+    emptyBuffers.add(ByteBuffer.allocateDirect(this.bufferSize));
+    emptyBuffers.add(ByteBuffer.allocateDirect(this.bufferSize));
+
+    Thread reader = ExecutorsUtils.newDaemonThreadFactory(Optional.<Logger>absent(),
+        Optional.of("StreamCopier-reader-%d")).newThread(() -> readIntoBuffers(emptyBuffers, filledBuffers));
+    reader.start();
+
+    boolean readerDone = false;
+    long totalBytes = 0;
+    try {
+      while (true) {
+        Object filled = filledBuffers.take();
+        if (filled == END_OF_INPUT) {
+          readerDone = true;
+          return totalBytes;
+        }
+        if (filled instanceof Throwable) {
+          readerDone = true;
+          Throwables.propagateIfPossible((Throwable) filled, IOException.class);
+          throw new IOException((Throwable) filled);
         }
 
-        this.outputChannel.write(buffer);
-        // Clear if empty
-        buffer.compact();
+        ByteBuffer buffer = (ByteBuffer) filled;
+        buffer.flip();
+        int numBytes = buffer.remaining();
+        while (buffer.hasRemaining()) {
+          this.outputChannel.write(buffer);
+        }
+        totalBytes += numBytes;
         if (this.copySpeedMeter != null) {
           this.copySpeedMeter.mark(numBytes);
         }
+        buffer.clear();
+        emptyBuffers.put(buffer);
       }
-      // Done writing, now flip to read again
-      buffer.flip();
-      // check that buffer is fully written.
-      while (buffer.hasRemaining()) {
-        this.outputChannel.write(buffer);
+    } catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while copying.", ie);
+    } finally {
+      if (!readerDone) {
+        // Interrupting the reader would close channels created by Channels.newChannel(InputStream), and with them the
+        // caller's input stream. Ask it to stop instead, and wait for its current read to complete.
+        emptyBuffers.offer(STOP_READING);
+        Uninterruptibles.joinUninterruptibly(reader);
       }
+    }
+  }
 
-      return totalBytes;
-    } finally {
-      if (this.closeChannelsOnComplete) {
-        this.inputChannel.close();
-        this.outputChannel.close();
+  private void readIntoBuffers(BlockingQueue<ByteBuffer> emptyBuffers, BlockingQueue<Object> filledBuffers) {
+    try {
+      long remainingBytes = this.maxBytes == null ? Long.MAX_VALUE : this.maxBytes;
+      int targetBufferSize = this.bufferSize;
+      boolean growing = targetBufferSize < this.maxBufferSize;
+      double lastThroughput = 0;
+      long sampleStartNanos = System.nanoTime();
+      long sampleBytes = 0;
+      int sampleBuffers = 0;
+      boolean endOfInput = false;
+
+      while (!endOfInput && remainingBytes > 0) {
+        ByteBuffer buffer = emptyBuffers.take();
+        if (buffer == STOP_READING) {
+          return;
+        }
+        if (buffer.capacity() < targetBufferSize) {
+          buffer = ByteBuffer.allocateDirect(targetBufferSize);
+        }
+        if (buffer.capacity() > remainingBytes) {
+          buffer.limit((int) remainingBytes);
+        }
+
+        // Fill the buffer entirely so that each write is as large as possible
+        while (buffer.hasRemaining()) {
+          if (this.inputChannel.read(buffer) < 0) {
+            endOfInput = true;
+            break;
+          }
+        }
+        remainingBytes -= buffer.position();
+        sampleBytes += buffer.position();
+        if (buffer.position() > 0) {
+          filledBuffers.put(buffer);
+        }
+
+        if (growing && ++sampleBuffers == BUFFERS_PER_THROUGHPUT_SAMPLE) {
+          double throughput = (double) sampleBytes / Math.max(System.nanoTime() - sampleStartNanos, 1);
+          if (throughput > lastThroughput * MIN_THROUGHPUT_GAIN) {
+            lastThroughput = throughput;
+            targetBufferSize = (int) Math.min(2L * targetBufferSize, this.maxBufferSize);
+            growing = targetBufferSize < this.maxBufferSize;
+          } else {
+            growing = false;
+          }
+          sampleStartNanos = System.nanoTime();
+          sampleBytes = 0;
+          sampleBuffers = 0;
+        }
       }
+      filledBuffers.put(END_OF_INPUT);
+    } catch (InterruptedException ie) {
+      // Only the copier thread hands buffers to this thread, and it never interrupts it
+      Thread.currentThread().interrupt();
+    } catch (Throwable t) {
+      // The writer is either waiting for a filled buffer or done, so there is room for the failure
+      filledBuffers.offer(t);
     }
   }
 
-  private long fillBufferFromInputChannel(ByteBuffer buffer) throws IOException {
-    return this.inputChannel.read(buffer);
+  /**
+   * Use the {@link FileChannel} of file streams so that they can be transferred from by {@link CopyStrategy#HIGH_THROUGHPUT}.
+   */
+  private static ReadableByteChannel newChannel(InputStream inputStream) {
+    return inputStream instanceof FileInputStream ? ((FileInputStream) inputStream).getChannel()
+        : Channels.newChannel(inputStream);
+  }
+
+  private static WritableByteChannel newChannel(OutputStream outputStream) {
+    return outputStream instanceof FileOutputStream ? ((FileOutputStream) outputStream).getChannel()
+        : Channels.newChannel(outputStream);
   }
 
   /**
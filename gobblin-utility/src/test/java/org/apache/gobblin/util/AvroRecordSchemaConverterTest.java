@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.util.Utf8;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class AvroRecordSchemaConverterTest {
+
+  private static final Schema ADDRESS_V1 = SchemaBuilder.record("Address").namespace("test").fields()
+      .requiredString("street")
+      .requiredInt("number")
+      .endRecord();
+
+  private static final Schema ADDRESS_V2 = SchemaBuilder.record("Address").namespace("test").fields()
+      .requiredString("street")
+      .requiredLong("number")
+      .name("zip").type().stringType().stringDefault("00000")
+      .endRecord();
+
+  private static final Schema COLOR = SchemaBuilder.enumeration("Color").namespace("test").symbols("RED", "GREEN");
+
+  private static final Schema COLOR_V2 =
+      SchemaBuilder.enumeration("Color").namespace("test").symbols("RED", "GREEN", "BLUE");
+
+  private static final Schema ID = SchemaBuilder.fixed("Id").namespace("test").size(4);
+
+  private static final Schema WRITER_SCHEMA = SchemaBuilder.record("User").namespace("test").fields()
+      .requiredString("name")
+      .requiredInt("age")
+      .name("score").type().floatType().noDefault()
+      .name("email").type().optional().stringType()
+      .name("removed").type().stringType().noDefault()
+      .name("color").type(COLOR).noDefault()
+      .name("id").type(ID).noDefault()
+      .requiredBytes("payload")
+      .name("address").type(ADDRESS_V1).noDefault()
+      .name("previousAddresses").type().array().items(ADDRESS_V1).noDefault()
+      .name("attributes").type().map().values().intType().noDefault()
+      .endRecord();
+
+  private static final Schema READER_SCHEMA = SchemaBuilder.record("User").namespace("test").fields()
+      .name("email").type().optional().stringType()
+      .requiredString("name")
+      .requiredLong("age")
+      .name("score").type().doubleType().noDefault()
+      .name("color").type(COLOR_V2).noDefault()
+      .name("id").type(ID).noDefault()
+      .requiredBytes("payload")
+      .name("address").type().unionOf().nullType().and().type(ADDRESS_V2).endUnion().nullDefault()
+      .name("previousAddresses").type().array().items(ADDRESS_V2).noDefault()
+      .name("attributes").type().map().values().longType().noDefault()
+      .name("country").type().stringType().stringDefault("US")
+      .name("tags").type().array().items().stringType().arrayDefault(Arrays.asList("a", "b"))
+      .endRecord();
+
+  @Test
+  public void testConvertMatchesDatumReader() throws Exception {
+    GenericRecord record = newUser("alice", "alice@example.com");
+
+    Assert.assertTrue(AvroRecordSchemaConverter.isInMemoryPlan(
+        AvroRecordSchemaConverter.compilePlan(WRITER_SCHEMA, READER_SCHEMA)));
+
+    GenericRecord converted = AvroRecordSchemaConverter.convert(record, READER_SCHEMA);
+    Assert.assertEquals(converted.getSchema(), READER_SCHEMA);
+    Assert.assertEquals(converted, convertWithDatumReader(record, READER_SCHEMA));
+    Assert.assertEquals(converted.get("age"), 30L);
+    Assert.assertEquals(converted.get("name"), new Utf8("alice"));
+    Assert.assertEquals(((GenericRecord) converted.get("address")).get("zip"), new Utf8("00000"));
+
+    // Null branch of a union
+    record = newUser("bob", null);
+    Assert.assertEquals(AvroRecordSchemaConverter.convert(record, READER_SCHEMA),
+        convertWithDatumReader(record, READER_SCHEMA));
+  }
+
+  @Test
+  public void testConvertedRecordDoesNotShareMutableValues() throws Exception {
+    GenericRecord record = newUser("alice", "alice@example.com");
+    GenericRecord first = AvroRecordSchemaConverter.convert(record, READER_SCHEMA);
+    GenericRecord second = AvroRecordSchemaConverter.convert(record, READER_SCHEMA);
+
+    ((ByteBuffer) record.get("payload")).put(0, (byte) 9);
+    ((GenericData.Array<Object>) first.get("tags")).add(new Utf8("c"));
+
+    Assert.assertEquals(((ByteBuffer) first.get("payload")).get(0), (byte) 1);
+    Assert.assertEquals(((GenericData.Array<?>) second.get("tags")).size(), 2);
+  }
+
+  @Test
+  public void testRecursiveSchema() throws Exception {
+    Schema writer = new Schema.Parser().parse("{\"type\": \"record\", \"name\": \"Node\", \"fields\": ["
+        + "{\"name\": \"value\", \"type\": \"int\"},"
+        + "{\"name\": \"next\", \"type\": [\"null\", \"Node\"], \"default\": null}]}");
+    Schema reader = new Schema.Parser().parse("{\"type\": \"record\", \"name\": \"Node\", \"fields\": ["
+        + "{\"name\": \"value\", \"type\": \"long\"},"
+        + "{\"name\": \"next\", \"type\": [\"null\", \"Node\"], \"default\": null}]}");
+
+    GenericRecord tail = new GenericData.Record(writer);
+    tail.put("value", 2);
+    GenericRecord head = new GenericData.Record(writer);
+    head.put("value", 1);
+    head.put("next", tail);
+
+    Assert.assertTrue(AvroRecordSchemaConverter.isInMemoryPlan(AvroRecordSchemaConverter.compilePlan(writer, reader)));
+    GenericRecord converted = AvroRecordSchemaConverter.convert(head, reader);
+    Assert.assertEquals(converted, convertWithDatumReader(head, reader));
+    Assert.assertEquals(((GenericRecord) converted.get("next")).get("value"), 2L);
+  }
+
+  @Test
+  public void testFallbackToDatumReader() throws Exception {
+    // string to bytes promotion is not covered by the in-memory plan
+    Schema writer = SchemaBuilder.record("Fallback").fields().requiredString("value").endRecord();
+    Schema reader = SchemaBuilder.record("Fallback").fields().requiredBytes("value").endRecord();
+    Assert.assertFalse(AvroRecordSchemaConverter.isInMemoryPlan(AvroRecordSchemaConverter.compilePlan(writer, reader)));
+
+    GenericRecord record = new GenericData.Record(writer);
+    record.put("value", "abc");
+    GenericRecord converted = AvroRecordSchemaConverter.convert(record, reader);
+    Assert.assertEquals(converted.get("value"), ByteBuffer.wrap("abc".getBytes("UTF-8")));
+  }
+
+  @Test
+  public void testIdenticalSchemaReturnsInputRecord() throws Exception {
+    GenericRecord record = newUser("alice", null);
+    Schema copy = new Schema.Parser().parse(WRITER_SCHEMA.toString());
+    Assert.assertSame(AvroRecordSchemaConverter.convert(record, WRITER_SCHEMA), record);
+    Assert.assertSame(AvroRecordSchemaConverter.convert(record, copy), record);
+  }
+
+  @Test(expectedExceptions = IOException.class)
+  public void testIncompatibleSchema() throws Exception {
+    Schema reader = SchemaBuilder.record("User").namespace("test").fields().requiredString("missing").endRecord();
+    AvroRecordSchemaConverter.convert(newUser("alice", null), reader);
+  }
+
+  private static GenericRecord newUser(String name, String email) {
+    GenericRecord address = new GenericData.Record(ADDRESS_V1);
+    address.put("street", "Main St");
+    address.put("number", 1);
+
+    Map<String, Integer> attributes = new HashMap<>();
+    attributes.put("logins", 7);
+
+    GenericRecord record = new GenericData.Record(WRITER_SCHEMA);
+    record.put("name", name);
+    record.put("age", 30);
+    record.put("score", 1.5f);
+    record.put("email", email);
+    record.put("removed", "gone");
+    record.put("color", new GenericData.EnumSymbol(COLOR, "GREEN"));
+    record.put("id", new GenericData.Fixed(ID, new byte[]{1, 2, 3, 4}));
+    record.put("payload", ByteBuffer.wrap(new byte[]{1, 2, 3}));
+    record.put("address", address);
+    record.put("previousAddresses",
+        new GenericData.Array<>(WRITER_SCHEMA.getField("previousAddresses").schema(), Arrays.asList(address)));
+    record.put("attributes", attributes);
+    return record;
+  }
+
+  private static GenericRecord convertWithDatumReader(GenericRecord record, Schema newSchema) throws IOException {
+    return new GenericDatumReader<GenericRecord>(record.getSchema(), newSchema)
+        .read(null, DecoderFactory.get().binaryDecoder(AvroUtils.recordToByteArray(record), null));
+  }
+}
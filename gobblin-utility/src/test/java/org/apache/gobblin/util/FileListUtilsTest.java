@@ -32,6 +32,8 @@ import org.testng.annotations.Test;
 
 import com.google.common.collect.Sets;
 
+import org.apache.gobblin.util.filesystem.ParallelFileListingIterator;
+
 
 /**
  * Unit tests for the job configuration file monitor in {@link org.apache.gobblin.util.FileListUtils}.
@@ -251,6 +253,68 @@ public class FileListUtilsTest {
     }
   }
 
+  @Test
+  public void testListFilesToCopyAtPathInParallel() throws IOException {
+    FileSystem localFs = FileSystem.getLocal(new Configuration());
+    Path baseDir = new Path(FILE_UTILS_TEST_DIR, "fileListTestDir5");
+    try {
+      if (localFs.exists(baseDir)) {
+        localFs.delete(baseDir, true);
+      }
+      // baseDir ____ 1.avro
+      //        |____ emptyDir
+      //        |____ subDir ____ 2.avro
+      //                    |____ part.avsc
+      //                    |____ subDir2 ____ part2.avsc
+      localFs.mkdirs(baseDir);
+      localFs.create(new Path(baseDir, "1.avro")).close();
+      localFs.mkdirs(new Path(baseDir, "emptyDir"));
+      Path subDir = new Path(baseDir, "subDir");
+      localFs.mkdirs(subDir);
+      localFs.create(new Path(subDir, "2.avro")).close();
+      localFs.create(new Path(subDir, "part.avsc")).close();
+      Path subDir2 = new Path(subDir, "subDir2");
+      localFs.mkdirs(subDir2);
+      localFs.create(new Path(subDir2, "part2.avsc")).close();
+
+      PathFilter avroFilter = path -> path.getName().endsWith(".avro");
+      for (boolean includeEmptyDirectories : new boolean[] { true, false }) {
+        Set<String> expectedFileNames = getFileNames(
+            FileListUtils.listFilesToCopyAtPath(localFs, baseDir, avroFilter, false, includeEmptyDirectories));
+        Assert.assertEquals(getFileNames(
+            FileListUtils.listFilesToCopyAtPath(localFs, baseDir, avroFilter, false, includeEmptyDirectories, 3, false)),
+            expectedFileNames);
+      }
+      Assert.assertEquals(getFileNames(
+          FileListUtils.listFilesToCopyAtPath(localFs, baseDir, avroFilter, false, true, 3, false)),
+          Sets.newHashSet("1.avro", "emptyDir", "2.avro", "subDir2"));
+      Assert.assertEquals(getFileNames(
+          FileListUtils.listFilesToCopyAtPath(localFs, baseDir, avroFilter, false, false, 3, true)),
+          Sets.newHashSet("1.avro", "2.avro"));
+
+      try (ParallelFileListingIterator iterator = FileListUtils.listFilesToCopyAtPathIterator(localFs, baseDir,
+          FileListUtils.NO_OP_PATH_FILTER, false, false, 2, false)) {
+        Set<String> fileNames = Sets.newHashSet();
+        while (iterator.hasNext()) {
+          fileNames.add(iterator.next().getPath().getName());
+        }
+        Assert.assertEquals(fileNames, Sets.newHashSet("1.avro", "2.avro", "part.avsc", "part2.avsc"));
+        Assert.assertEquals(iterator.getDirectoriesListed().getCount(), 4);
+        Assert.assertEquals(iterator.getFilesListed().getCount(), 4);
+      }
+    } finally {
+      localFs.delete(baseDir, true);
+    }
+  }
+
+  private static Set<String> getFileNames(List<FileStatus> files) {
+    Set<String> fileNames = Sets.newHashSet();
+    for (FileStatus file : files) {
+      fileNames.add(file.getPath().getName());
+    }
+    return fileNames;
+  }
+
   @Test
   public void testGetAnyNonHiddenFile() throws IOException {
     final String file1 = "test1";
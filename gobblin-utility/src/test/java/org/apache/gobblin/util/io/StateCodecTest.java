@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.util.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.google.common.collect.ImmutableMap;
+import com.typesafe.config.ConfigFactory;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import org.apache.gobblin.configuration.ConfigurationKeys;
+import org.apache.gobblin.configuration.State;
+
+
+@Test
+public class StateCodecTest {
+
+  @Test
+  public void testRoundTrip() throws IOException {
+    State state = createState();
+    for (StateCodec codec : StateCodec.values()) {
+      Assert.assertEquals(decode(encode(state, codec)).getProperties(), state.getProperties(), codec.name());
+    }
+  }
+
+  @Test
+  public void testCompactIsSmallerThanGzip() throws IOException {
+    State state = createState();
+    Assert.assertTrue(encode(state, StateCodec.COMPACT).length < encode(state, StateCodec.GZIP).length);
+  }
+
+  @Test
+  public void testDecodeLegacyValues() throws IOException {
+    State state = createState();
+
+    ByteArrayOutputStream plain = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(plain)) {
+      state.write(out);
+    }
+    Assert.assertEquals(decode(plain.toByteArray()).getProperties(), state.getProperties());
+
+    ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(gzipped))) {
+      state.write(out);
+    }
+    Assert.assertEquals(decode(gzipped.toByteArray()).getProperties(), state.getProperties());
+  }
+
+  @Test
+  public void testDecodeShortValues() throws IOException {
+    try (InputStream in = StateCodec.decode(new ByteArrayInputStream(new byte[0]))) {
+      Assert.assertEquals(in.read(), -1);
+    }
+    try (InputStream in = StateCodec.decode(new ByteArrayInputStream(new byte[] {1, 2}))) {
+      Assert.assertEquals(in.read(), 1);
+      Assert.assertEquals(in.read(), 2);
+      Assert.assertEquals(in.read(), -1);
+    }
+  }
+
+  @Test(expectedExceptions = IOException.class)
+  public void testUnknownCompactVersion() throws IOException {
+    byte[] bytes = encode(createState(), StateCodec.COMPACT);
+    bytes[3] = 2;
+    StateCodec.decode(new ByteArrayInputStream(bytes));
+  }
+
+  @Test
+  public void testFromConfig() {
+    Assert.assertEquals(StateCodec.fromConfig(ConfigFactory.empty()), StateCodec.GZIP);
+    Assert.assertEquals(StateCodec.fromConfig(ConfigFactory.parseMap(
+        ImmutableMap.of(ConfigurationKeys.STATE_STORE_COMPRESSED_VALUES_KEY, "false"))), StateCodec.NONE);
+    Assert.assertEquals(StateCodec.fromConfig(ConfigFactory.parseMap(
+        ImmutableMap.of(ConfigurationKeys.STATE_STORE_COMPRESSED_VALUES_KEY, "false",
+            ConfigurationKeys.STATE_STORE_VALUE_CODEC_KEY, "compact"))), StateCodec.COMPACT);
+  }
+
+  private static State createState() {
+    State state = new State();
+    state.setProp(ConfigurationKeys.JOB_ID_KEY, "job_TestJob_1700000000000");
+    state.setProp(ConfigurationKeys.TASK_ID_KEY, "task_TestJob_1700000000000_0");
+    state.setProp(ConfigurationKeys.JOB_NAME_KEY, "TestJob");
+    state.setProp(ConfigurationKeys.EXTRACT_TABLE_NAME_KEY, "table");
+    state.setProp(ConfigurationKeys.EXTRACT_NAMESPACE_NAME_KEY, "namespace");
+    state.setProp(ConfigurationKeys.WORK_UNIT_WORKING_STATE_KEY, "COMMITTED");
+    state.setProp(ConfigurationKeys.WORK_UNIT_LOW_WATER_MARK_KEY, 0L);
+    state.setProp(ConfigurationKeys.WORK_UNIT_HIGH_WATER_MARK_KEY, 100L);
+    return state;
+  }
+
+  private static byte[] encode(State state, StateCodec codec) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(codec.encode(bytes))) {
+      state.write(out);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static State decode(byte[] bytes) throws IOException {
+    State state = new State();
+    try (DataInputStream in = new DataInputStream(StateCodec.decode(new ByteArrayInputStream(bytes)))) {
+      state.readFields(in);
+    }
+    return state;
+  }
+}
@@ -19,6 +19,14 @@ package org.apache.gobblin.util.io;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -26,6 +34,7 @@ import org.testng.annotations.Test;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
 import com.google.common.base.Charsets;
+import com.google.common.io.Files;
 
 
 public class StreamCopierTest {
@@ -69,6 +78,84 @@ public class StreamCopierTest {
         testString.substring(0, (int) maxBytes));
   }
 
+  @Test
+  public void testHighThroughputCopy() throws Exception {
+    byte[] bytes = new byte[100000];
+    new Random(1).nextBytes(bytes);
+    Meter meter = new MetricRegistry().meter("my.meter");
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    long numBytes = new StreamCopier(new ByteArrayInputStream(bytes), outputStream).withBufferSize(100)
+        .withMaxBufferSize(1000).withCopyStrategy(StreamCopier.CopyStrategy.HIGH_THROUGHPUT)
+        .withCopySpeedMeter(meter).copy();
+
+    Assert.assertEquals(numBytes, bytes.length);
+    Assert.assertEquals(outputStream.toByteArray(), bytes);
+    Assert.assertEquals(meter.getCount(), bytes.length);
+
+    // Limited to maxBytes
+    outputStream = new ByteArrayOutputStream();
+    numBytes = new StreamCopier(new ByteArrayInputStream(bytes), outputStream, 12345L).withBufferSize(100)
+        .withCopyStrategy(StreamCopier.CopyStrategy.HIGH_THROUGHPUT).copy();
+
+    Assert.assertEquals(numBytes, 12345L);
+    Assert.assertEquals(outputStream.toByteArray(), Arrays.copyOf(bytes, 12345));
+  }
+
+  @Test
+  public void testHighThroughputCopyFailureLeavesInputOpen() throws Exception {
+    byte[] bytes = new byte[100000];
+    new Random(1).nextBytes(bytes);
+    AtomicBoolean inputClosed = new AtomicBoolean(false);
+    InputStream inputStream = new ByteArrayInputStream(bytes) {
+      @Override
+      public void close() {
+        inputClosed.set(true);
+      }
+    };
+    OutputStream outputStream = new OutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        throw new IOException("Failed write");
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        throw new IOException("Failed write");
+      }
+    };
+
+    try {
+      new StreamCopier(inputStream, outputStream).withBufferSize(100)
+          .withCopyStrategy(StreamCopier.CopyStrategy.HIGH_THROUGHPUT).copy();
+      Assert.fail("The copy should fail");
+    } catch (IOException ioe) {
+      Assert.assertEquals(ioe.getMessage(), "Failed write");
+    }
+    // The reader thread stopped without closing the caller's stream
+    Assert.assertFalse(inputClosed.get());
+    Assert.assertTrue(inputStream.read() >= 0);
+  }
+
+  @Test
+  public void testHighThroughputCopyFromFile() throws Exception {
+    byte[] bytes = new byte[100000];
+    new Random(1).nextBytes(bytes);
+    File file = File.createTempFile("StreamCopierTest", null);
+    file.deleteOnExit();
+    Files.write(bytes, file);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    try (FileInputStream inputStream = new FileInputStream(file)) {
+      long numBytes = new StreamCopier(inputStream, outputStream, 54321L).withMaxBufferSize(1000)
+          .withCopyStrategy(StreamCopier.CopyStrategy.HIGH_THROUGHPUT).copy();
+      Assert.assertEquals(numBytes, 54321L);
+      // The stream is positioned after the copied bytes
+      Assert.assertEquals(inputStream.getChannel().position(), 54321L);
+    }
+    Assert.assertEquals(outputStream.toByteArray(), Arrays.copyOf(bytes, 54321));
+  }
+
   @Test
   public void testCopyMeter() throws Exception {
     String testString = "This is a string";